@@ -0,0 +1,42 @@
+package com.tomato.remember.application.wsvideo.code;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * VideoCallFlowState.canTransitionTo 전체 상태 조합 벤치마크 (9 x 9 = 81 회/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VideoCallFlowStateBenchmark {
+
+    private final VideoCallFlowState[] states = VideoCallFlowState.values();
+
+    @Benchmark
+    public void canTransitionToAllPairs(Blackhole blackhole) {
+        for (VideoCallFlowState from : states) {
+            for (VideoCallFlowState to : states) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean canTransitionToHotPath() {
+        // 실제 통화에서 가장 자주 호출되는 전환
+        return VideoCallFlowState.PROCESSING.canTransitionTo(VideoCallFlowState.RESPONSE_PLAYING);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * 벤치마크용 인메모리 RedisTemplate
+ * - 네트워크 왕복을 제외하고 직렬화/역직렬화 비용만 측정하기 위해 get/set/delete 만 맵으로 대체
+ */
+public class InMemoryRedisTemplate extends RedisTemplate<String, Object> {
+
+    private final Map<String, Object> store = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = (ValueOperations<String, Object>) Proxy.newProxyInstance(
+        ValueOperations.class.getClassLoader(),
+        new Class<?>[]{ValueOperations.class},
+        (proxy, method, args) -> switch (method.getName()) {
+            case "get" -> store.get((String) args[0]);
+            case "set" -> {
+                store.put((String) args[0], args[1]);
+                yield null;
+            }
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+
+    public void put(String key, Object value) {
+        store.put(key, value);
+    }
+
+    @Override
+    public ValueOperations<String, Object> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return store.remove(key) != null;
+    }
+
+    @Override
+    public Long delete(Collection<String> keys) {
+        return keys.stream().filter(key -> store.remove(key) != null).count();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 연결 팩토리 없이 사용
+    }
+}
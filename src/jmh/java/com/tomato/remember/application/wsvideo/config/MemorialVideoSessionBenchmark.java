@@ -0,0 +1,82 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
+import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MemorialVideoSessionManager 세션 직렬화/역직렬화 벤치마크
+ * - saveSession: JSON 직렬화 (+ RECORDING/PROCESSING/RESPONSE_PLAYING 상태의 저장 직후 검증 비용)
+ * - getSession: JSON 문자열 → 세션 역직렬화
+ * - convertLinkedHashMapToSession: 기존 LinkedHashMap 데이터 변환 폴백 (직렬화 → 역직렬화 → 재저장)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemorialVideoSessionBenchmark {
+
+    private static final String SESSION_KEY = "bench-session-key";
+    private static final String REDIS_KEY = "memorial:video:session:" + SESSION_KEY;
+
+    @Param({"WAITING", "PROCESSING"})
+    private VideoCallFlowState state;
+
+    private InMemoryRedisTemplate redisTemplate;
+    private MemorialVideoSessionManager sessionManager;
+    private MemorialVideoSession session;
+    private LinkedHashMap<String, Object> legacyMap;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        redisTemplate = new InMemoryRedisTemplate();
+        sessionManager = new MemorialVideoSessionManager(redisTemplate,
+            new VideoCallMetrics(new SimpleMeterRegistry()));
+
+        session = MemorialVideoSession.createNew(SESSION_KEY, "엄마", 1L, 1L);
+        session.setFlowState(state);
+        sessionManager.saveSession(session);
+
+        // 과거 RedisTemplate 기본 직렬화로 저장된 데이터 형태 재현 (동적 계산 필드 포함)
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        legacyMap = mapper.convertValue(session, LinkedHashMap.class);
+    }
+
+    @Benchmark
+    public MemorialVideoSession saveSession() {
+        sessionManager.saveSession(session);
+        return session;
+    }
+
+    @Benchmark
+    public MemorialVideoSession getSession() {
+        return sessionManager.getSession(SESSION_KEY);
+    }
+
+    @Benchmark
+    public MemorialVideoSession convertLinkedHashMapFallback() {
+        return sessionManager.convertLinkedHashMapToSession(SESSION_KEY, legacyMap, REDIS_KEY);
+    }
+}
@@ -0,0 +1,62 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * MemorialVideoWebSocketHandler.handleTextMessage 의 수신 메시지 파싱 벤치마크
+ * - 핸들러와 동일하게 Spring 기본 ObjectMapper 로 Map 파싱 후 type/sessionKey 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebSocketMessageParseBenchmark {
+
+    @Param({"HEARTBEAT_RESPONSE", "CLIENT_STATE_CHANGE", "DEVICE_INFO"})
+    private String messageType;
+
+    private ObjectMapper objectMapper;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = switch (messageType) {
+            case "HEARTBEAT_RESPONSE" -> """
+                {"type":"HEARTBEAT_RESPONSE","sessionKey":"bench-session-key","timestamp":1735689600000}""";
+            case "CLIENT_STATE_CHANGE" -> """
+                {"type":"CLIENT_STATE_CHANGE","sessionKey":"bench-session-key","newState":"RECORDING",\
+                "reason":"USER_ACTION","timestamp":1735689600000}""";
+            default -> """
+                {"type":"DEVICE_INFO","sessionKey":"bench-session-key","deviceType":"IOS",\
+                "deviceId":"0f8fad5b-d9cb-469f-a165-70867728950e",\
+                "userAgent":"Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15",\
+                "screen":{"width":1179,"height":2556,"pixelRatio":3},"timestamp":1735689600000}""";
+        };
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object parse() throws Exception {
+        Map<String, Object> messageData = objectMapper.readValue(payload, Map.class);
+        String type = (String) messageData.get("type");
+        String sessionKey = (String) messageData.get("sessionKey");
+        return type.length() + sessionKey.length() > 0 ? messageData : null;
+    }
+}
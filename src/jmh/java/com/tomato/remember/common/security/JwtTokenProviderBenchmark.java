@@ -0,0 +1,67 @@
+package com.tomato.remember.common.security;
+
+import com.tomato.remember.application.member.entity.Member;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtTokenProvider 회원 토큰 검증/클레임 추출 벤치마크
+ * - WebSocket 인증/토큰 갱신과 모든 인증 요청 필터에서 호출되는 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    // 벤치마크 전용 키 (HS256 최소 길이 이상)
+    private static final String ADMIN_SECRET = "jmh-benchmark-admin-secret-key-0123456789abcdef";
+    private static final String MEMBER_SECRET = "jmh-benchmark-member-secret-key-0123456789abcdef";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String memberAccessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(ADMIN_SECRET, MEMBER_SECRET,
+            TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(14), TimeUnit.DAYS.toMillis(30));
+
+        Member member = Member.builder()
+            .id(1L)
+            .userKey("bench-user-key")
+            .email("bench@tomatoremember.com")
+            .build();
+        memberAccessToken = jwtTokenProvider.createMemberAccessToken(member);
+    }
+
+    @Benchmark
+    public boolean validateMemberToken() {
+        return jwtTokenProvider.validateMemberToken(memberAccessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> getMemberClaims() {
+        return jwtTokenProvider.getMemberClaims(memberAccessToken);
+    }
+
+    @Benchmark
+    public Object validateAndExtract() {
+        // WebSocket AUTH 처리와 동일한 순서 (검증 후 클레임 추출 - 서명 검증 2회)
+        if (!jwtTokenProvider.validateMemberToken(memberAccessToken)) {
+            return null;
+        }
+        return jwtTokenProvider.getMemberClaims(memberAccessToken).get("memberId");
+    }
+}
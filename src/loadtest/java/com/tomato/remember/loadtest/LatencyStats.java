@@ -0,0 +1,53 @@
+package com.tomato.remember.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태 전환 구간별 지연 시간 집계 (p50/p99/max)
+ */
+public class LatencyStats {
+
+    private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+    private int failures;
+
+    public synchronized void record(String transition, long nanos) {
+        samples.computeIfAbsent(transition, key -> new ArrayList<>()).add(nanos);
+    }
+
+    public synchronized void recordFailure() {
+        failures++;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    public synchronized String report(long elapsedNanos, int completedCycles) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-34s %8s %10s %10s %10s%n", "transition", "count", "p50(ms)", "p99(ms)", "max(ms)"));
+        samples.forEach((transition, values) -> {
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            sb.append(String.format("%-34s %8d %10.1f %10.1f %10.1f%n", transition, sorted.size(),
+                toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.99)),
+                toMillis(sorted.get(sorted.size() - 1))));
+        });
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        sb.append(String.format("completed cycles: %d, failures: %d, elapsed: %.1fs, throughput: %.2f cycles/s%n",
+            completedCycles, failures, seconds, completedCycles / seconds));
+        return sb.toString();
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
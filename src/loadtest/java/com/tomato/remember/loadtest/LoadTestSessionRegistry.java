@@ -0,0 +1,25 @@
+package com.tomato.remember.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 세션 → 회원 액세스 토큰 매핑
+ * - 실제 AI 서버처럼 콜백 시 세션 소유자 권한이 필요하므로 스텁이 여기서 토큰을 조회
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestSessionRegistry {
+
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    public void register(String sessionKey, String accessToken) {
+        tokens.put(sessionKey, accessToken);
+    }
+
+    public String getToken(String sessionKey) {
+        return tokens.get(sessionKey);
+    }
+}
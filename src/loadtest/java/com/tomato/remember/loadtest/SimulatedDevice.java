@@ -0,0 +1,211 @@
+package com.tomato.remember.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 영상통화 단말 1대 시뮬레이션
+ * - REST 세션 생성 → WebSocket AUTH → (RECORDING → 업로드/PROCESSING → 콜백/RESPONSE_PLAYING → 재생 종료/WAITING) 반복
+ * - 서버가 보내는 STATE_TRANSITION 메시지 수신 시점까지를 구간 지연 시간으로 기록
+ */
+public class SimulatedDevice {
+
+    private static final Duration STATE_TIMEOUT = Duration.ofSeconds(30);
+    private static final byte[] FAKE_VIDEO = new byte[64 * 1024];
+
+    private final int index;
+    private final String baseUrl;
+    private final String wsBaseUrl;
+    private final long memberId;
+    private final String accessToken;
+    private final LoadTestSessionRegistry sessionRegistry;
+    private final LatencyStats stats;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<String> stateEvents = new LinkedBlockingQueue<>();
+    private final StringBuilder partial = new StringBuilder();
+    private String sessionKey;
+    private WebSocket webSocket;
+
+    public SimulatedDevice(int index, int port, long memberId, String accessToken,
+                           LoadTestSessionRegistry sessionRegistry, LatencyStats stats,
+                           HttpClient httpClient, ObjectMapper objectMapper) {
+        this.index = index;
+        this.baseUrl = "http://localhost:" + port;
+        this.wsBaseUrl = "ws://localhost:" + port;
+        this.memberId = memberId;
+        this.accessToken = accessToken;
+        this.sessionRegistry = sessionRegistry;
+        this.stats = stats;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 통화 시뮬레이션 실행 - 완료한 사이클 수 반환
+     */
+    public int run(int cycles) {
+        int completed = 0;
+        try {
+            connect();
+            for (int i = 0; i < cycles; i++) {
+                runCycle();
+                completed++;
+            }
+        } catch (Exception e) {
+            stats.recordFailure();
+            System.err.printf("device-%d 실패 (세션: %s, 완료 %d회): %s%n", index, sessionKey, completed, e.getMessage());
+        } finally {
+            if (webSocket != null) {
+                webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+            }
+        }
+        return completed;
+    }
+
+    private void connect() throws Exception {
+        long start = System.nanoTime();
+        Map<String, Object> body = Map.of(
+            "contactName", "부하테스트",
+            "contactKey", "default",
+            "memorialId", 1L,
+            "callerId", memberId,
+            "deviceType", "WEB",
+            "deviceId", "loadtest-device-" + index
+        );
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/ws-video/create-session"))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("세션 생성 실패: HTTP " + response.statusCode());
+        }
+        sessionKey = extractSessionKey(objectMapper.readValue(response.body(), Map.class));
+        sessionRegistry.register(sessionKey, accessToken);
+        stats.record("create-session", System.nanoTime() - start);
+
+        start = System.nanoTime();
+        webSocket = httpClient.newWebSocketBuilder()
+            .buildAsync(URI.create(wsBaseUrl + "/ws/memorial-video/web/" + sessionKey), new Listener())
+            .get(10, TimeUnit.SECONDS);
+        send(Map.of("type", "AUTH", "token", accessToken, "sessionKey", sessionKey, "deviceType", "WEB"));
+        awaitState("WAITING");
+        stats.record("AUTH -> WAITING", System.nanoTime() - start);
+    }
+
+    private void runCycle() throws Exception {
+        long start = System.nanoTime();
+        send(Map.of("type", "CLIENT_STATE_CHANGE", "sessionKey", sessionKey,
+            "newState", "RECORDING", "reason", "USER_ACTION"));
+        awaitState("RECORDING");
+        stats.record("WAITING -> RECORDING", System.nanoTime() - start);
+
+        start = System.nanoTime();
+        upload();
+        awaitState("PROCESSING");
+        long processingAt = System.nanoTime();
+        stats.record("RECORDING -> PROCESSING (upload)", processingAt - start);
+
+        awaitState("RESPONSE_PLAYING");
+        stats.record("PROCESSING -> RESPONSE_PLAYING", System.nanoTime() - processingAt);
+
+        start = System.nanoTime();
+        send(Map.of("type", "RESPONSE_VIDEO_EVENT", "sessionKey", sessionKey, "eventType", "ended"));
+        awaitState("WAITING");
+        stats.record("RESPONSE_PLAYING -> WAITING", System.nanoTime() - start);
+    }
+
+    private void upload() throws Exception {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"video\"; filename=\"recording.webm\"\r\n"
+            + "Content-Type: video/webm\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"contactKey\"\r\n\r\ndefault\r\n"
+            + "--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[head.length + FAKE_VIDEO.length + tail.length];
+        System.arraycopy(head, 0, payload, 0, head.length);
+        System.arraycopy(FAKE_VIDEO, 0, payload, head.length, FAKE_VIDEO.length);
+        System.arraycopy(tail, 0, payload, head.length + FAKE_VIDEO.length, tail.length);
+
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/ws-video/process/" + sessionKey))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("영상 업로드 실패: HTTP " + response.statusCode());
+        }
+    }
+
+    private void send(Map<String, Object> message) throws Exception {
+        webSocket.sendText(objectMapper.writeValueAsString(message), true).get(5, TimeUnit.SECONDS);
+    }
+
+    private void awaitState(String expected) throws Exception {
+        long deadline = System.nanoTime() + STATE_TIMEOUT.toNanos();
+        while (true) {
+            String state = stateEvents.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (state == null) {
+                throw new TimeoutException(expected + " 상태 전환 대기 시간 초과");
+            }
+            if (expected.equals(state)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String extractSessionKey(Map<String, Object> body) {
+        Object response = body.get("response");
+        if (response instanceof Map) {
+            return (String) ((Map<String, Object>) response).get("sessionKey");
+        }
+        return (String) body.get("sessionKey");
+    }
+
+    private class Listener implements WebSocket.Listener {
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                handle(partial.toString());
+                partial.setLength(0);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handle(String payload) {
+            try {
+                Map<String, Object> message = objectMapper.readValue(payload, Map.class);
+                if ("STATE_TRANSITION".equals(message.get("type"))) {
+                    stateEvents.offer(String.valueOf(message.get("newState")));
+                }
+            } catch (Exception ignored) {
+                // 상태 전환 외 메시지 파싱 실패는 무시
+            }
+        }
+    }
+}
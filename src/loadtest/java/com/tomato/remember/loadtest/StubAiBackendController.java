@@ -0,0 +1,80 @@
+package com.tomato.remember.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * /downvideo-v2 AI 서버 스텁
+ * - 요청은 즉시 200 응답, callback-delay-ms 후 /api/ws-video/callback/{sessionKey} 로 응답영상 URL 콜백
+ * - 공개 API 경로(/api/video/**) 아래에 두어 CSRF/인증 필터를 거치지 않음
+ */
+@RestController
+@Profile("loadtest")
+public class StubAiBackendController {
+
+    private static final Logger log = LoggerFactory.getLogger(StubAiBackendController.class);
+
+    private final LoadTestSessionRegistry sessionRegistry;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
+    private final AtomicLong callbackFailures = new AtomicLong();
+
+    @Value("${server.port}")
+    private int serverPort;
+
+    @Value("${loadtest.callback-delay-ms:500}")
+    private long callbackDelayMs;
+
+    public StubAiBackendController(LoadTestSessionRegistry sessionRegistry) {
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @PostMapping("/api/video/loadtest-stub/downvideo-v2")
+    public ResponseEntity<Void> downVideo(@RequestBody Map<String, Object> request) {
+        String sessionKey = (String) request.get("sessionKey");
+        scheduler.schedule(() -> callback(sessionKey), callbackDelayMs, TimeUnit.MILLISECONDS);
+        return ResponseEntity.ok().build();
+    }
+
+    public long getCallbackFailures() {
+        return callbackFailures.get();
+    }
+
+    private void callback(String sessionKey) {
+        try {
+            String body = "{\"videoUrl\":\"http://localhost:" + serverPort + "/uploads/loadtest/" + sessionKey + ".mp4\"}";
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + serverPort + "/api/ws-video/callback/" + sessionKey))
+                .header("Authorization", "Bearer " + sessionRegistry.getToken(sessionKey))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                callbackFailures.incrementAndGet();
+                log.warn("스텁 콜백 실패 - 세션: {}, 상태: {}", sessionKey, response.statusCode());
+            }
+        } catch (Exception e) {
+            callbackFailures.incrementAndGet();
+            log.warn("스텁 콜백 오류 - 세션: {}, 오류: {}", sessionKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.tomato.remember.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tomato.remember.RememberApplication;
+import com.tomato.remember.application.member.entity.Member;
+import com.tomato.remember.application.member.repository.MemberRepository;
+import com.tomato.remember.common.security.JwtTokenProvider;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+/**
+ * 영상통화 흐름 부하 테스트 진입점
+ * - 임베디드 Redis + H2(MariaDB 모드) + AI 서버 스텁으로 애플리케이션을 같은 프로세스에서 기동
+ * - devices 개의 단말을 동시에 접속시켜 cycles 회씩 WAITING→RECORDING→PROCESSING→RESPONSE_PLAYING→WAITING 반복
+ * - 구간별 p50/p99 지연 시간과 처리량(사이클/초) 출력
+ *
+ * 실행: ./gradlew loadTest -Pdevices=200 -Pcycles=5 -PcallbackDelayMs=500
+ */
+public class VideoCallLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int devices = Integer.parseInt(options.getOrDefault("devices", "50"));
+        int cycles = Integer.parseInt(options.getOrDefault("cycles", "3"));
+        long callbackDelayMs = Long.parseLong(options.getOrDefault("callbackDelayMs", "500"));
+
+        int redisPort = freePort();
+        int serverPort = freePort();
+
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(RememberApplication.class)
+                .profiles("loadtest")
+                .properties(
+                    "server.port=" + serverPort,
+                    "loadtest.redis-port=" + redisPort,
+                    "loadtest.callback-delay-ms=" + callbackDelayMs)
+                .run();
+
+            System.out.printf("부하 테스트 시작 - 단말: %d, 사이클: %d, AI 콜백 지연: %dms, 포트: %d%n",
+                devices, cycles, callbackDelayMs, serverPort);
+            System.out.println(run(context, serverPort, devices, cycles));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redisServer.stop();
+        }
+    }
+
+    private static String run(ConfigurableApplicationContext context, int port, int devices, int cycles)
+        throws Exception {
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        LoadTestSessionRegistry sessionRegistry = context.getBean(LoadTestSessionRegistry.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        LatencyStats stats = new LatencyStats();
+
+        List<SimulatedDevice> simulated = new ArrayList<>(devices);
+        for (int i = 0; i < devices; i++) {
+            Member member = memberRepository.save(Member.builder()
+                .userKey("loadtest-" + i)
+                .name("부하테스트" + i)
+                .email("loadtest" + i + "@tomatoremember.com")
+                .inviteCode(String.format("LT%08d", i))
+                .build());
+            simulated.add(new SimulatedDevice(i, port, member.getId(),
+                jwtTokenProvider.createMemberAccessToken(member),
+                sessionRegistry, stats, httpClient, objectMapper));
+        }
+
+        long start = System.nanoTime();
+        int completed = 0;
+        // 단말마다 블로킹 대기가 많으므로 가상 스레드 사용
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>(devices);
+            for (SimulatedDevice device : simulated) {
+                results.add(executor.submit(() -> device.run(cycles)));
+            }
+            for (Future<Integer> result : results) {
+                completed += result.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long callbackFailures = context.getBean(StubAiBackendController.class).getCallbackFailures();
+        return stats.report(elapsed, completed) + "AI 스텁 콜백 실패: " + callbackFailures + "건";
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            if (idx > 0) {
+                options.put(arg.substring(0, idx), arg.substring(idx + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
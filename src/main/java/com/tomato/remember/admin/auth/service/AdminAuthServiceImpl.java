@@ -8,12 +8,14 @@ import com.tomato.remember.admin.security.AdminUserDetails;
 import com.tomato.remember.admin.security.AdminUserDetailsService;
 import com.tomato.remember.admin.user.code.AdminRole;
 import com.tomato.remember.admin.user.code.AdminStatus;
+import com.tomato.remember.admin.user.dto.AdminUserListRequest;
 import com.tomato.remember.admin.user.entity.Admin;
 import com.tomato.remember.admin.user.repository.AdminRepository;
 import com.tomato.remember.common.security.JwtTokenProvider;
 import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.exception.APIException;
 import com.tomato.remember.common.exception.UnAuthorizationException;
+import com.tomato.remember.common.util.CountCache;
 import com.tomato.remember.common.util.UserDeviceInfoUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -35,6 +37,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
     private final AdminUserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final AdminRepository adminRepository;
+    private final CountCache countCache;
 
     @Override
     @Transactional
@@ -98,6 +101,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
             .status(AdminStatus.INACTIVE)
             .lastAccessAt(LocalDateTime.now())
             .build());
+        countCache.evict(AdminUserListRequest.COUNT_CACHE_PREFIX);
 
 //        String accessToken = jwtProvider.createAccessTokenForAdmin(saved);
 //        String refreshToken = jwtProvider.createRefreshTokenForAdmin(saved, false);
@@ -0,0 +1,39 @@
+package com.tomato.remember.admin.cache.controller;
+
+import com.tomato.remember.common.dto.ResponseDTO;
+import com.tomato.remember.common.util.PageRenderCache;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 화면 렌더링 캐시 API
+ * 정적 페이지 문구/약관 변경 등 템플릿 버전 변경 없이 반영해야 할 때 명시적으로 무효화
+ */
+@RestController
+@RequestMapping("/admin/api/cache/render")
+@RequiredArgsConstructor
+public class AdminRenderCacheRestController {
+
+    private final PageRenderCache pageRenderCache;
+
+    @GetMapping
+    public ResponseDTO<Map<String, Object>> getStats() {
+        return ResponseDTO.ok(pageRenderCache.getStats());
+    }
+
+    /**
+     * view 지정 시 해당 뷰 이름으로 시작하는 캐시만, 미지정 시 전체 무효화
+     */
+    @DeleteMapping
+    public ResponseDTO<Map<String, Object>> evict(@RequestParam(required = false) String view) {
+        int evicted = view != null && !view.isBlank()
+            ? pageRenderCache.evict(view)
+            : pageRenderCache.evictAll();
+        return ResponseDTO.ok(Map.of("evicted", evicted));
+    }
+}
@@ -0,0 +1,52 @@
+package com.tomato.remember.admin.stats.controller;
+
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsCondition;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsSummary;
+import com.tomato.remember.application.wsvideo.service.VideoCallStatsService;
+import com.tomato.remember.common.dto.ResponseDTO;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 영상통화 통계 API (사전 집계 버킷 기반)
+ */
+@RestController
+@RequestMapping("/admin/api/stats/video-calls")
+@RequiredArgsConstructor
+public class AdminVideoCallStatsRestController {
+
+    private final VideoCallStatsService videoCallStatsService;
+
+    @GetMapping("/summary")
+    public ResponseDTO<VideoCallStatsSummary> getSummary(@ModelAttribute VideoCallStatsCondition condition) {
+        return ResponseDTO.ok(videoCallStatsService.getSummary(condition));
+    }
+
+    @GetMapping("/series")
+    public ResponseDTO<List<VideoCallStatsSummary>> getTimeSeries(
+        @ModelAttribute VideoCallStatsCondition condition,
+        @RequestParam(defaultValue = "DAY") StatsGranularity granularity) {
+        return ResponseDTO.ok(videoCallStatsService.getTimeSeries(condition, granularity));
+    }
+
+    /**
+     * 기간 재집계 - SUPER_ADMIN 전용 (SecurityConfig), 기간은 app.memorial-video.stats.rebuild-max-days 이내
+     */
+    @PostMapping("/rebuild")
+    public ResponseDTO<Map<String, Object>> rebuild(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        int buckets = videoCallStatsService.rebuild(from, to);
+        return ResponseDTO.ok(Map.of("buckets", buckets));
+    }
+}
@@ -16,9 +16,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -86,6 +86,8 @@ public class AdminUserController {
         // 이전/다음 페이지 여부
         model.addAttribute("hasPrevious", page > 0);
         model.addAttribute("hasNext", page < totalPages - 1);
+        // 다음 페이지는 keyset 커서로 이동 (깊은 페이지에서도 offset 스캔 없음)
+        model.addAttribute("nextCursor", appUserList.getNextCursor());
 
         // 페이지 제목 및 활성 메뉴 설정
         model.addAttribute("searchRequest", request);
@@ -107,14 +109,14 @@ public class AdminUserController {
         Model model) {
         AppUserResponse userResponse = appUserService.getAppUserDetail(id);
         // 첫 페이지 로그인 기록만 가져오기 (10개)
-        Page<MemberLoginHistory> loginHistory = appUserService.getAppUserLoginHistory(id, 0, 10);
+        Slice<MemberLoginHistory> loginHistory = appUserService.getAppUserLoginHistory(id, 0, 10);
 
         // 첫 페이지 활동 내역도 가져오기 (옵션)
 //        Page<UserActivityResponse> userActivities = appUserService.getUserActivities(id, 0, 10);
 
         model.addAttribute("user", userResponse);
         model.addAttribute("loginHistoryList", loginHistory.getContent());
-        model.addAttribute("hasMoreLoginHistory", loginHistory.getTotalElements() > 10);
+        model.addAttribute("hasMoreLoginHistory", loginHistory.hasNext());
 
         model.addAttribute("pageTitle", "앱 유저관리 - NaraSarang Admin");
         model.addAttribute("activeMenu", "users");
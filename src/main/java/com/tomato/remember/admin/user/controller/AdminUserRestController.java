@@ -13,7 +13,7 @@ import com.tomato.remember.common.dto.ResponseDTO;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -78,9 +78,9 @@ public class AdminUserRestController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size) {
 
-        Page<MemberLoginHistory> loginHistory = appUserService.getAppUserLoginHistory(id, page,
+        Slice<MemberLoginHistory> loginHistory = appUserService.getAppUserLoginHistory(id, page,
             size);
-        boolean hasMore = loginHistory.getTotalElements() > (size * (page + 1));
+        boolean hasMore = loginHistory.hasNext();
 
         Map<String, Object> response = new HashMap<>();
         response.put("history", loginHistory.getContent());
@@ -8,6 +8,7 @@ import com.tomato.remember.admin.user.code.AppUserSortType;
 import com.tomato.remember.admin.user.code.UserSearchType;
 import com.tomato.remember.application.member.entity.QMember;
 import com.tomato.remember.common.code.MemberStatus;
+import com.tomato.remember.common.dto.KeysetCursor;
 import com.tomato.remember.common.interfaces.SearchTypeRequest;
 import com.tomato.remember.common.util.DateUtils;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -38,6 +39,9 @@ import java.time.format.DateTimeParseException;
 @ToString
 public class AppUserListRequest implements SearchTypeRequest {
 
+    // count 캐시 키 접두사 - 이 목록의 건수를 바꾸는 쓰기 경로에서 CountCache.evict 에 사용
+    public static final String COUNT_CACHE_PREFIX = "AppUserListRequest:";
+
     //프론트에서 넘길 검색 필드 타입 (예: BOARD_ID 등)
     @Schema(description = "검색 항목")
     private UserSearchType searchType;
@@ -66,6 +70,10 @@ public class AppUserListRequest implements SearchTypeRequest {
     @Schema(description = "날짜 범위 (yyyy-MM-dd ~ yyyy-MM-dd)")
     private String dateRange; // 프론트에서 'dateRange' 파라미터로 전달
 
+    @Schema(description = "다음 페이지 커서 (keyset 페이징, 없으면 offset 페이징)")
+    @ToString.Exclude
+    private String cursor;
+
     // 날짜 형식 지정
     @Hidden
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -175,6 +183,31 @@ public class AppUserListRequest implements SearchTypeRequest {
         return st.order(dir);
     }
 
+    @Hidden
+    public Order getSortDirectionOrDefault() {
+        return this.sortDirection != null ? this.sortDirection : Order.DESC;
+    }
+
+    /**
+     * keyset 페이징 요청 여부 - 커서가 있으면 offset 대신 seek 조건으로 조회
+     * 커서는 (createdAt, id) 기준이므로 최신순 정렬에서만 사용
+     */
+    @Hidden
+    public KeysetCursor getKeysetCursor() {
+        if (sortType != null && sortType != AppUserSortType.LATEST) {
+            return null;
+        }
+        return KeysetCursor.decode(cursor);
+    }
+
+    /**
+     * count 캐시 키 - 커서/페이지와 무관하게 검색 조건만으로 구성
+     */
+    @Hidden
+    public String getCountCacheKey() {
+        return COUNT_CACHE_PREFIX + this;
+    }
+
     @Hidden
     public BooleanExpression getSearchCondition() {
         if (searchType == null || searchText == null || searchText.isBlank()) {
@@ -3,6 +3,7 @@ package com.tomato.remember.admin.user.repository;
 import com.tomato.remember.application.auth.entity.MemberLoginHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -16,4 +17,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface AppUserLoginHistoryRepository extends JpaRepository<MemberLoginHistory, Long> {
 
     Page<MemberLoginHistory> findByMemberId(long id, Pageable pageable);
+
+    /**
+     * (member_id, created_at) 인덱스 범위 스캔 + count 쿼리 없이 다음 페이지 여부만 확인
+     */
+    Slice<MemberLoginHistory> findSliceByMemberIdOrderByCreatedAtDesc(long id, Pageable pageable);
 }
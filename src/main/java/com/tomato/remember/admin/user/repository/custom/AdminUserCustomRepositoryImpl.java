@@ -1,6 +1,7 @@
 package com.tomato.remember.admin.user.repository.custom;
 
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.QBean;
@@ -10,7 +11,10 @@ import com.tomato.remember.admin.security.AdminUserDetails;
 import com.tomato.remember.admin.user.dto.AdminUserListRequest;
 import com.tomato.remember.admin.user.dto.AdminUserResponse;
 import com.tomato.remember.admin.user.entity.QAdmin;
+import com.tomato.remember.common.dto.KeysetCursor;
 import com.tomato.remember.common.dto.ListDTO;
+import com.tomato.remember.common.util.CountCache;
+import com.tomato.remember.common.util.QueryUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
@@ -28,6 +32,7 @@ import java.util.List;
 public class AdminUserCustomRepositoryImpl implements AdminUserCustomRepository {
 
     private final JPAQueryFactory query;
+    private final CountCache countCache;
 
     @Override
     public ListDTO<AdminUserResponse> getAdminUserList(AdminUserListRequest request,
@@ -50,16 +55,28 @@ public class AdminUserCustomRepositoryImpl implements AdminUserCustomRepository
                 .from(admin)
                 .where(condition);
 
-        List<AdminUserResponse> adminUserList = query
+        // 전체 건수는 검색 조건별로 짧게 캐시 (페이지 이동마다 count 재실행 방지)
+        long total = countCache.get(request.getCountCacheKey(), countQuery::fetchOne);
+
+        // keyset 페이징: 커서가 있으면 offset 없이 마지막 (createdAt, id) 이후부터 조회
+        KeysetCursor cursor = request.getKeysetCursor();
+        Order direction = request.getSortDirectionOrDefault();
+
+        JPAQuery<AdminUserResponse> listQuery = query
                 .select(getAdminUserFields(admin))
                 .from(admin)
-                .where(condition)
-                .orderBy(request.getSortOrder())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .where(condition, QueryUtil.keysetAfter(admin.createdAt, admin.id, direction, cursor))
+                .orderBy(QueryUtil.keysetOrders(admin.createdAt, admin.id, direction));
+
+        if (cursor == null) {
+            listQuery.offset(pageable.getOffset());
+        }
+
+        // pageSize + 1 건 조회 후 초과분으로 다음 페이지 커서 생성
+        List<AdminUserResponse> adminUserList = QueryUtil.keysetLimit(listQuery, pageable).fetch();
 
-        return ListDTO.of(countQuery, adminUserList, pageable);
+        return ListDTO.ofKeyset(adminUserList, total, pageable,
+                row -> new KeysetCursor(row.getCreateAt(), row.getAdminId()));
     }
 
     public QBean<AdminUserResponse> getAdminUserFields(QAdmin admin){
@@ -73,8 +90,8 @@ public class AdminUserCustomRepositoryImpl implements AdminUserCustomRepository
                 admin.role,
                 admin.status,
                 admin.lastAccessAt,
-                admin.createdAt,
-                admin.updatedAt
+                admin.createdAt.as("createAt"),
+                admin.updatedAt.as("updateAt")
         );
     }
 }
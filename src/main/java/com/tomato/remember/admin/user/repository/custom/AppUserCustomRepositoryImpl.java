@@ -1,6 +1,7 @@
 package com.tomato.remember.admin.user.repository.custom;
 
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.QBean;
@@ -10,7 +11,10 @@ import com.tomato.remember.admin.security.AdminUserDetails;
 import com.tomato.remember.admin.user.dto.AppUserListRequest;
 import com.tomato.remember.admin.user.dto.AppUserResponse;
 import com.tomato.remember.application.member.entity.QMember;
+import com.tomato.remember.common.dto.KeysetCursor;
 import com.tomato.remember.common.dto.ListDTO;
+import com.tomato.remember.common.util.CountCache;
+import com.tomato.remember.common.util.QueryUtil;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +31,7 @@ import org.springframework.data.domain.Pageable;
 public class AppUserCustomRepositoryImpl implements AppUserCustomRepository {
 
     private final JPAQueryFactory query;
-
+    private final CountCache countCache;
 
     @Override
     public ListDTO<AppUserResponse> getAppUserList(AdminUserDetails user,
@@ -52,17 +56,29 @@ public class AppUserCustomRepositoryImpl implements AppUserCustomRepository {
                 .from(member)
                 .where(condition);
 
-        List<AppUserResponse> appUserList = query
+        // 전체 건수는 검색 조건별로 짧게 캐시 (페이지 이동마다 count 재실행 방지)
+        long total = countCache.get(request.getCountCacheKey(), countQuery::fetchOne);
+
+        // keyset 페이징: 커서가 있으면 offset 없이 마지막 (createdAt, id) 이후부터 조회
+        KeysetCursor cursor = request.getKeysetCursor();
+        Order direction = request.getSortDirectionOrDefault();
+
+        JPAQuery<AppUserResponse> listQuery = query
             .select(getAppUserFields(member, inviter))
             .from(member)
             .leftJoin(member.inviter, inviter)
-            .where(condition)
-            .orderBy(request.getSortOrder())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+            .where(condition, QueryUtil.keysetAfter(member.createdAt, member.id, direction, cursor))
+            .orderBy(QueryUtil.keysetOrders(member.createdAt, member.id, direction));
+
+        if (cursor == null) {
+            listQuery.offset(pageable.getOffset());
+        }
+
+        // pageSize + 1 건 조회 후 초과분으로 다음 페이지 커서 생성
+        List<AppUserResponse> appUserList = QueryUtil.keysetLimit(listQuery, pageable).fetch();
 
-        return ListDTO.of(countQuery, appUserList, pageable);
+        return ListDTO.ofKeyset(appUserList, total, pageable,
+            row -> new KeysetCursor(row.getCreatedAt(), row.getUserId()));
     }
 
     private QBean<AppUserResponse> getAppUserFields(QMember member, QMember inviter) {
@@ -13,6 +13,7 @@ import com.tomato.remember.admin.user.repository.AuthorityHistoryRepository;
 import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.dto.ListDTO;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.util.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -34,8 +35,10 @@ public class AdminUserServiceImpl implements AdminUserService {
 
     private final AdminUserRepository adminUserRepository;
     private final AuthorityHistoryRepository authorityHistoryRepository;
+    private final CountCache countCache;
 
     @Override
+    @Transactional(readOnly = true)
     public ListDTO<AdminUserResponse> getAdminUserList(AdminUserDetails user,
         AdminUserListRequest request, Pageable pageable) {
         return adminUserRepository.getAdminUserList(request, user, pageable);
@@ -64,6 +67,7 @@ public class AdminUserServiceImpl implements AdminUserService {
             .createdBy(userDetails.getId())
             .build());
 
+        countCache.evict(AdminUserListRequest.COUNT_CACHE_PREFIX);
         return admin.convertAdminUserResponse();
     }
 
@@ -104,6 +108,7 @@ public class AdminUserServiceImpl implements AdminUserService {
             .createdBy(userDetails.getId())
             .build());
 
+        countCache.evict(AdminUserListRequest.COUNT_CACHE_PREFIX);
         return admin.convertAdminUserResponse();
     }
 
@@ -126,6 +131,7 @@ public class AdminUserServiceImpl implements AdminUserService {
             .createdBy(userDetails.getId())
             .build());
 
+        countCache.evict(AdminUserListRequest.COUNT_CACHE_PREFIX);
         return admin.convertAdminUserResponse();
     }
 }
@@ -7,8 +7,8 @@ import com.tomato.remember.admin.user.dto.UserActivityListResponse;
 import com.tomato.remember.admin.user.dto.UserUpdateRequest;
 import com.tomato.remember.application.auth.entity.MemberLoginHistory;
 import com.tomato.remember.common.dto.ListDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * @author : MinjaeKim
@@ -26,7 +26,7 @@ public interface AppUserService {
 
     AppUserResponse getAppUserDetail(long id);
 
-    Page<MemberLoginHistory> getAppUserLoginHistory(long id, int page, int size);
+    Slice<MemberLoginHistory> getAppUserLoginHistory(long id, int page, int size);
 
     UserActivityListResponse getUserActivities(Long id, int page, int size, String type);
 }
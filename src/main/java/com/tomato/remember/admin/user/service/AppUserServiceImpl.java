@@ -24,10 +24,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +52,7 @@ public class AppUserServiceImpl implements AppUserService {
     private final AppUserLoginHistoryRepository historyRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public ListDTO<AppUserResponse> getAppUserList(AdminUserDetails user,
         AppUserListRequest request, Pageable pageable) {
         return appUserRepository.getAppUserList(user, request, pageable);
@@ -93,6 +93,7 @@ public class AppUserServiceImpl implements AppUserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AppUserResponse getAppUserDetail(long id) {
         Member member = appUserRepository.findById(id)
             .orElseThrow(()->new APIException(ResponseStatus.USER_NOT_EXIST));
@@ -101,11 +102,13 @@ public class AppUserServiceImpl implements AppUserService {
     }
 
     @Override
-    public Page<MemberLoginHistory> getAppUserLoginHistory(long id, int page, int size) {
+    @Transactional(readOnly = true)
+    public Slice<MemberLoginHistory> getAppUserLoginHistory(long id, int page, int size) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        // 정렬은 메서드명(OrderByCreatedAtDesc)으로 고정 → (member_id, created_at) 인덱스 사용
+        Pageable pageable = PageRequest.of(page, size);
 
-        return historyRepository.findByMemberId(id, pageable);
+        return historyRepository.findSliceByMemberIdOrderByCreatedAtDesc(id, pageable);
     }
 
     @Override
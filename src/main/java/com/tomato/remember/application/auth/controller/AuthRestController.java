@@ -92,7 +92,7 @@ public class AuthRestController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
     })
     @PostMapping("/login")
-    public ResponseDTO<AuthResponseDTO> login(
+    public Mono<ResponseDTO<AuthResponseDTO>> login(
             @Valid @RequestBody AuthRequestDTO req,
             @Parameter(hidden = true) HttpServletRequest servletRequest,
             @Parameter(hidden = true) HttpServletResponse servletResponse
@@ -103,37 +103,33 @@ public class AuthRestController {
         // 현재 쿠키 상태 로깅 (로그인 전)
         cookieUtil.logCookieStatus(servletRequest);
 
-        try {
-            // 기존 비즈니스 로직 유지 (One-ID → DB 순서)
-            AuthResponseDTO authResponse = authService.loginProcess(req, servletRequest);
-
-            log.info("API login successful for member: {} (ID: {})",
-                    authResponse.getMember().getName(), authResponse.getMember().getId());
-
-            // 모바일 뷰에서 사용할 수 있도록 쿠키에도 토큰 설정
-            log.debug("Setting tokens in cookies for mobile view compatibility");
-            cookieUtil.setMemberTokensWithSync(servletResponse,
-                    authResponse.getAccessToken(),
-                    authResponse.getRefreshToken());
-
-            // 쿠키 설정 후 상태 확인을 위한 로깅
-            log.debug("Tokens set in response cookies. Client should verify cookie receipt.");
-
-            return ResponseDTO.ok(authResponse);
-
-        } catch (Exception e) {
-            log.error("API login failed for phone: {}, error: {}", req.getPhoneNumber(), e.getMessage());
-
-            // 로그인 실패 시 쿠키 정리
-            try {
-                cookieUtil.clearMemberTokenCookies(servletResponse);
-                log.debug("Cleared any existing cookies after login failure");
-            } catch (Exception clearEx) {
-                log.warn("Failed to clear cookies after login failure", clearEx);
-            }
-
-            throw e;
-        }
+        // 기존 비즈니스 로직 유지 (One-ID → DB 순서), 요청 스레드는 외부 인증을 기다리지 않음
+        return authService.loginProcess(req, servletRequest)
+                .doOnNext(authResponse -> {
+                    log.info("API login successful for member: {} (ID: {})",
+                            authResponse.getMember().getName(), authResponse.getMember().getId());
+
+                    // 모바일 뷰에서 사용할 수 있도록 쿠키에도 토큰 설정
+                    log.debug("Setting tokens in cookies for mobile view compatibility");
+                    cookieUtil.setMemberTokensWithSync(servletResponse,
+                            authResponse.getAccessToken(),
+                            authResponse.getRefreshToken());
+
+                    // 쿠키 설정 후 상태 확인을 위한 로깅
+                    log.debug("Tokens set in response cookies. Client should verify cookie receipt.");
+                })
+                .doOnError(e -> {
+                    log.error("API login failed for phone: {}, error: {}", req.getPhoneNumber(), e.getMessage());
+
+                    // 로그인 실패 시 쿠키 정리
+                    try {
+                        cookieUtil.clearMemberTokenCookies(servletResponse);
+                        log.debug("Cleared any existing cookies after login failure");
+                    } catch (Exception clearEx) {
+                        log.warn("Failed to clear cookies after login failure", clearEx);
+                    }
+                })
+                .map(ResponseDTO::ok);
     }
 
     @Operation(
@@ -28,6 +28,7 @@ import org.hibernate.annotations.Comment;
     name = "t_member_login_history",
     indexes = {
         @Index(name = "idx01_t_member_login_history_created_at", columnList = "created_at"), // 최신순 정렬용// 조회수 기반 핫 마커 계산용
+        @Index(name = "idx02_t_member_login_history_member_created", columnList = "member_id, created_at"), // 회원별 최신순 조회용
     }
 )
 @Getter
@@ -6,6 +6,7 @@ import com.tomato.remember.application.member.dto.MemberDTO;
 import com.tomato.remember.application.oneld.dto.OneIdResponse;
 import com.tomato.remember.application.security.MemberUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
+import reactor.core.publisher.Mono;
 
 /**
  * @author : MinjaeKim
@@ -27,5 +28,5 @@ public interface AuthService {
 
     void delete(MemberUserDetails userDetails, HttpServletRequest request);
 
-    AuthResponseDTO loginProcess(AuthRequestDTO req, HttpServletRequest servletRequest);
+    Mono<AuthResponseDTO> loginProcess(AuthRequestDTO req, HttpServletRequest servletRequest);
 }
@@ -1,11 +1,11 @@
 package com.tomato.remember.application.auth.service;
 
+import com.tomato.remember.admin.user.dto.AppUserListRequest;
 import com.tomato.remember.application.auth.code.LoginType;
 import com.tomato.remember.application.auth.dto.AuthRequestDTO;
 import com.tomato.remember.application.auth.dto.AuthResponseDTO;
 import com.tomato.remember.application.auth.entity.MemberLoginHistory;
 import com.tomato.remember.application.auth.entity.RefreshToken;
-import com.tomato.remember.application.auth.repository.MemberLoginHistoryRepository;
 import com.tomato.remember.application.auth.repository.RefreshTokenRepository;
 import com.tomato.remember.application.member.dto.MemberDTO;
 import com.tomato.remember.application.oneld.dto.OneIdResponse;
@@ -20,6 +20,7 @@ import com.tomato.remember.common.security.JwtTokenProvider;
 import com.tomato.remember.application.security.MemberUserDetails;
 import com.tomato.remember.common.code.MemberRole;
 import com.tomato.remember.common.code.MemberStatus;
+import com.tomato.remember.common.util.CountCache;
 import com.tomato.remember.common.util.InviteCodeGenerator;
 import com.tomato.remember.common.util.UserDeviceInfoUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -51,45 +54,51 @@ public class AuthServiceImpl implements AuthService {
 
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final MemberLoginHistoryRepository loginHistoryRepository;
+    private final LoginHistoryAppender loginHistoryAppender;
     private final TomatoAuthService tomatoAuthService;
+    private final LoginPipelineExecutor loginPipelineExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final CountCache countCache;
 
     /**
      * 로그인 처리 프로세스 (새로운 JWT 시스템 적용)
-     * 1. One-ID 로그인 시도
-     * 2. 성공 시 -> DB 사용자 생성/조회 후 회원용 JWT 토큰 발급
-     * 3. 실패 시 -> DB에서 전화번호로 찾아서 로그인 처리
+     * 1. One-ID 로그인 시도 (트랜잭션/커넥션 없이 논블로킹 호출)
+     * 2. 성공 시 -> 짧은 트랜잭션에서 DB 사용자 생성/조회 후 회원용 JWT 토큰 발급
+     * 3. 실패 시 -> DB에서 전화번호로 찾아 BCrypt 검증 (트랜잭션 밖) 후 짧은 트랜잭션에서 토큰 저장
+     * 동시 로그인 수는 LoginPipelineExecutor 로 제한되며, 트랜잭션은 회원 upsert/토큰/기록 쓰기 구간에만 열림
      */
     @Override
-    @Transactional
-    public AuthResponseDTO loginProcess(AuthRequestDTO authRequest, HttpServletRequest servletRequest) {
+    public Mono<AuthResponseDTO> loginProcess(AuthRequestDTO authRequest, HttpServletRequest servletRequest) {
         log.info("Login process started for phone: {}", authRequest.getPhoneNumber());
 
-        try {
-            // 1. One-ID 로그인 시도
-            OneIdResponse oneIdResponse = tomatoAuthService.authenticate(
-                    authRequest.getPhoneNumber(),
-                    authRequest.getPassword()
-            ).block();
-
-            if (oneIdResponse != null && oneIdResponse.isResult()) {
-                log.info("One-ID login successful for phone: {}", authRequest.getPhoneNumber());
-                // One-ID 로그인 성공 -> 기존 로직 처리
-                return createToken(oneIdResponse, authRequest, servletRequest);
-            }
-        } catch (Exception e) {
-            log.warn("One-ID 로그인 실패, DB 로그인 시도: {}", e.getMessage());
-        }
+        // 요청 객체는 요청 스레드에서만 읽고, 이후 단계에는 추출한 값만 전달
+        LoginClientInfo clientInfo = LoginClientInfo.from(servletRequest);
 
-        // 2. One-ID 로그인 실패 시 DB에서 전화번호로 찾아서 로그인 처리
-        log.info("Attempting DB login for phone: {}", authRequest.getPhoneNumber());
-        return processDbLogin(authRequest, servletRequest);
+        Mono<AuthResponseDTO> pipeline = tomatoAuthService.authenticate(
+                        authRequest.getPhoneNumber(),
+                        authRequest.getPassword())
+                .onErrorResume(e -> {
+                    log.warn("One-ID 로그인 실패, DB 로그인 시도: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .filter(OneIdResponse::isResult)
+                .flatMap(oneIdResponse -> {
+                    log.info("One-ID login successful for phone: {}", authRequest.getPhoneNumber());
+                    return loginPipelineExecutor.blocking(() -> transactionTemplate.execute(status ->
+                            issueOneIdLogin(oneIdResponse, authRequest, clientInfo)));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("Attempting DB login for phone: {}", authRequest.getPhoneNumber());
+                    return loginPipelineExecutor.blocking(() -> processDbLogin(authRequest, clientInfo));
+                }));
+
+        return loginPipelineExecutor.limit(pipeline);
     }
 
     /**
-     * DB 로그인 처리 (One-ID 실패 시) - 새로운 JWT 토큰 적용
+     * DB 로그인 처리 (One-ID 실패 시) - 조회/BCrypt 검증은 트랜잭션 밖, 토큰 저장만 트랜잭션 안
      */
-    private AuthResponseDTO processDbLogin(AuthRequestDTO authRequest, HttpServletRequest servletRequest) {
+    private AuthResponseDTO processDbLogin(AuthRequestDTO authRequest, LoginClientInfo clientInfo) {
         // 전화번호로 사용자 찾기
         Optional<Member> memberOpt = memberRepository.findByPhoneNumber(authRequest.getPhoneNumber());
 
@@ -98,40 +107,53 @@ public class AuthServiceImpl implements AuthService {
             throw new APIException(ResponseStatus.UNAUTHORIZED_ONE_ID);
         }
 
-        Member member = memberOpt.get();
+        Member found = memberOpt.get();
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(authRequest.getPassword(), member.getPassword())) {
-            log.warn("Password mismatch for member: {}", member.getId());
+        // 비밀번호 확인 (커넥션 미점유 상태에서 수행)
+        if (!passwordEncoder.matches(authRequest.getPassword(), found.getPassword())) {
+            log.warn("Password mismatch for member: {}", found.getId());
             throw new APIException(ResponseStatus.UNAUTHORIZED_ONE_ID);
         }
 
-        // 마지막 접속시간 업데이트
-        member.setLastAccessAt();
+        return transactionTemplate.execute(status -> {
+            Member member = memberRepository.findById(found.getId())
+                    .orElseThrow(() -> new APIException(ResponseStatus.UNAUTHORIZED_ONE_ID));
 
-        // 새로운 JWT 토큰 생성 (회원용)
-        String accessToken = tokenProvider.createMemberAccessToken(member);
-        String refreshToken = tokenProvider.createMemberRefreshToken(member, authRequest.isAutoLogin());
+            // 마지막 접속시간 업데이트
+            member.setLastAccessAt();
 
-        // Refresh Token 저장
-        saveRefreshToken(member, refreshToken, servletRequest);
+            // 새로운 JWT 토큰 생성 (회원용)
+            String accessToken = tokenProvider.createMemberAccessToken(member);
+            String refreshToken = tokenProvider.createMemberRefreshToken(member, authRequest.isAutoLogin());
 
-        // 로그인 기록 저장
-        saveLoginHistory(member, servletRequest, LoginType.LOGIN);
+            // Refresh Token 저장
+            saveRefreshToken(member, refreshToken, clientInfo);
 
-        log.info("DB login successful for member: {} (ID: {})", member.getName(), member.getId());
+            // 로그인 기록 저장
+            saveLoginHistory(member, clientInfo, LoginType.LOGIN);
 
-        return AuthResponseDTO.builder()
-                .token(accessToken)
-                .refreshToken(refreshToken)
-                .member(member.convertDTO())
-                .build();
+            log.info("DB login successful for member: {} (ID: {})", member.getName(), member.getId());
+
+            return AuthResponseDTO.builder()
+                    .token(accessToken)
+                    .refreshToken(refreshToken)
+                    .member(member.convertDTO())
+                    .build();
+        });
     }
 
     @Override
     @Transactional
     public AuthResponseDTO createToken(OneIdResponse resp, AuthRequestDTO authRequest,
                                        HttpServletRequest servletRequest) {
+        return issueOneIdLogin(resp, authRequest, LoginClientInfo.from(servletRequest));
+    }
+
+    /**
+     * One-ID 인증 결과로 회원 생성/갱신 후 토큰 발급 (호출 측 트랜잭션 안에서 실행)
+     */
+    private AuthResponseDTO issueOneIdLogin(OneIdResponse resp, AuthRequestDTO authRequest,
+                                            LoginClientInfo clientInfo) {
         String userKey = resp.getValue().getUserKey();
 
         // 프로필 이미지 URL 가공: 특정 호스트/포트 부분이 포함된 경우 잘라내기
@@ -160,6 +182,7 @@ public class AuthServiceImpl implements AuthService {
                             .name(resp.getValue().getName())
                             .profileImg(profileImg)
                             .build();
+                    countCache.evict(AppUserListRequest.COUNT_CACHE_PREFIX);
                     return memberRepository.save(m);
                 });
 
@@ -175,10 +198,10 @@ public class AuthServiceImpl implements AuthService {
         String refreshToken = tokenProvider.createMemberRefreshToken(member, authRequest.isAutoLogin());
 
         // Refresh Token 저장
-        saveRefreshToken(member, refreshToken, servletRequest);
+        saveRefreshToken(member, refreshToken, clientInfo);
 
         // 로그인 기록 저장
-        saveLoginHistory(member, servletRequest, LoginType.LOGIN);
+        saveLoginHistory(member, clientInfo, LoginType.LOGIN);
 
         log.info("One-ID token creation successful for member: {} (ID: {})", member.getName(), member.getId());
 
@@ -192,17 +215,16 @@ public class AuthServiceImpl implements AuthService {
     /**
      * Refresh Token 저장 (새로운 JWT 시스템용)
      */
-    private void saveRefreshToken(Member member, String refreshToken, HttpServletRequest servletRequest) {
+    private void saveRefreshToken(Member member, String refreshToken, LoginClientInfo clientInfo) {
         LocalDateTime expiryDate = tokenProvider.getExpirationDate(refreshToken);
-        String userAgent = UserDeviceInfoUtil.getUserAgent(servletRequest.getHeader("User-Agent"));
 
         refreshTokenRepository.save(RefreshToken.builder()
                 .member(member)
                 .refreshToken(refreshToken)
                 .expiryDate(expiryDate)
-                .ipAddress(UserDeviceInfoUtil.getClientIp(servletRequest))
-                .deviceType(UserDeviceInfoUtil.getDeviceType(userAgent))
-                .userAgent(userAgent)
+                .ipAddress(clientInfo.ipAddress())
+                .deviceType(clientInfo.deviceType())
+                .userAgent(clientInfo.userAgent())
                 .lastUsedAt(LocalDateTime.now())
                 .build());
 
@@ -210,20 +232,32 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 로그인 기록 저장
+     * 로그인 기록 저장 (요청 정보만 추출해서 비동기 배치 큐에 적재)
      */
-    private void saveLoginHistory(Member member, HttpServletRequest servletRequest, LoginType loginType) {
-        String userAgent = UserDeviceInfoUtil.getUserAgent(servletRequest.getHeader("User-Agent"));
-
-        loginHistoryRepository.save(MemberLoginHistory.builder()
+    private void saveLoginHistory(Member member, LoginClientInfo clientInfo, LoginType loginType) {
+        loginHistoryAppender.append(MemberLoginHistory.builder()
                 .memberId(member.getId())
                 .type(loginType)
-                .userAgent(userAgent)
-                .ipAddress(UserDeviceInfoUtil.getClientIp(servletRequest))
-                .deviceType(UserDeviceInfoUtil.getDeviceType(userAgent))
+                .userAgent(clientInfo.userAgent())
+                .ipAddress(clientInfo.ipAddress())
+                .deviceType(clientInfo.deviceType())
                 .build());
 
-        log.debug("Login history saved for member: {} (ID: {}), type: {}", member.getName(), member.getId(), loginType);
+        log.debug("Login history queued for member: {} (ID: {}), type: {}", member.getName(), member.getId(), loginType);
+    }
+
+    /**
+     * 로그인 요청 클라이언트 정보 (요청 스레드 밖에서도 안전하게 쓰도록 미리 추출)
+     */
+    private record LoginClientInfo(String userAgent, String ipAddress, String deviceType) {
+
+        static LoginClientInfo from(HttpServletRequest servletRequest) {
+            String userAgent = UserDeviceInfoUtil.getUserAgent(servletRequest.getHeader("User-Agent"));
+            return new LoginClientInfo(
+                    userAgent,
+                    UserDeviceInfoUtil.getClientIp(servletRequest),
+                    UserDeviceInfoUtil.getDeviceType(userAgent));
+        }
     }
 
     /**
@@ -261,7 +295,7 @@ public class AuthServiceImpl implements AuthService {
         refreshTokenRepository.save(token);
 
         // 로그인 기록 저장
-        saveLoginHistory(member, servletRequest, LoginType.REFRESH);
+        saveLoginHistory(member, LoginClientInfo.from(servletRequest), LoginType.REFRESH);
 
         log.info("Token refresh successful for member: {} (ID: {})", member.getName(), member.getId());
 
@@ -0,0 +1,97 @@
+package com.tomato.remember.application.auth.service;
+
+import com.tomato.remember.application.auth.entity.MemberLoginHistory;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 기록 비동기 배치 저장
+ * - 로그인/토큰갱신 요청 스레드는 메모리 큐에 넣기만 하고 바로 반환 (감사 INSERT 가 로그인 지연에 포함되지 않음)
+ * - 스케줄러가 주기적으로 큐를 비우며 JDBC batch insert 로 한 번에 저장
+ * - 큐가 가득 차면 기록을 버리고 경고 로그만 남김 (로그인 자체는 실패시키지 않음)
+ */
+@Slf4j
+@Component
+public class LoginHistoryAppender {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO t_member_login_history " +
+        "(member_id, type, ip_address, device_type, user_agent, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<MemberLoginHistory> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @Value("${app.login-history.batch-size:500}")
+    private int batchSize;
+
+    public LoginHistoryAppender(JdbcTemplate jdbcTemplate,
+                                @Value("${app.login-history.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 로그인 기록 적재 (non-blocking)
+     */
+    public void append(MemberLoginHistory history) {
+        if (!queue.offer(history)) {
+            long dropped = droppedCount.incrementAndGet();
+            log.warn("로그인 기록 큐 가득 참 - 기록 누락: memberId={}, 누적 누락 {}건", history.getMemberId(), dropped);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-history.flush-interval-ms:1000}")
+    public void flush() {
+        List<MemberLoginHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("로그인 기록 큐 종료 flush - 대기 {}건", queue.size());
+        flush();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void writeBatch(List<MemberLoginHistory> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, history) -> {
+                Timestamp createdAt = Timestamp.valueOf(
+                    history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now());
+                ps.setLong(1, history.getMemberId());
+                ps.setString(2, history.getType() != null ? history.getType().name() : null);
+                ps.setString(3, history.getIpAddress());
+                ps.setString(4, history.getDeviceType());
+                ps.setString(5, history.getUserAgent());
+                ps.setTimestamp(6, createdAt);
+                ps.setTimestamp(7, createdAt);
+            });
+            log.debug("로그인 기록 배치 저장 완료: {}건", batch.size());
+        } catch (Exception e) {
+            log.error("로그인 기록 배치 저장 실패: {}건 누락", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tomato.remember.application.auth.service;
+
+import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.exception.APIException;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 로그인 파이프라인 실행기
+ * - 동시 로그인 수를 세마포어로 제한하고, 한도 초과 시 대기 없이 즉시 거절 (One-ID 지연이 요청 적체로 번지지 않음)
+ * - BCrypt 검증, 짧은 DB 쓰기 같은 블로킹 구간은 가상 스레드에서 실행 (요청/이벤트 루프 스레드 점유 없음)
+ */
+@Slf4j
+@Component
+public class LoginPipelineExecutor {
+
+    private final Semaphore permits;
+    private final ExecutorService virtualThreads;
+    private final Scheduler scheduler;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public LoginPipelineExecutor(@Value("${app.auth.login.max-concurrent:64}") int maxConcurrent) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+        this.virtualThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("login-", 0).factory());
+        this.scheduler = Schedulers.fromExecutorService(virtualThreads, "login");
+    }
+
+    /**
+     * 동시 실행 한도 내에서 파이프라인 실행 (구독 종료/취소 시 허가 반환)
+     */
+    public <T> Mono<T> limit(Mono<T> pipeline) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                long rejected = rejectedCount.incrementAndGet();
+                log.warn("Login rejected - concurrency limit reached (rejected total: {})", rejected);
+                return Mono.error(new APIException(ResponseStatus.LOGIN_BUSY));
+            }
+            return pipeline.doFinally(signal -> permits.release());
+        });
+    }
+
+    /**
+     * 블로킹 작업을 가상 스레드에서 실행
+     */
+    public <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(scheduler);
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+        virtualThreads.shutdown();
+    }
+}
@@ -0,0 +1,34 @@
+package com.tomato.remember.application.family.code;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이메일 발송 대기열(outbox) 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailOutboxStatus {
+    /**
+     * 발송 대기 (재시도 대기 포함)
+     */
+    PENDING("PENDING", "발송 대기"),
+
+    /**
+     * 디스패처가 선점하여 발송 중
+     */
+    SENDING("SENDING", "발송 중"),
+
+    /**
+     * 발송 완료
+     */
+    SENT("SENT", "발송 완료"),
+
+    /**
+     * 최대 재시도 초과로 발송 포기
+     */
+    FAILED("FAILED", "발송 실패");
+
+    private final String code;
+    private final String displayName;
+}
@@ -53,7 +53,7 @@ public class FamilyController {
             FamilyPageData pageData = familyService.getFamilyPageData(member, memorialId);
 
             // 모델에 데이터만 설정
-            model.addAttribute("currentUser", member);
+            model.addAttribute("currentUser", member.convertDTO());
             model.addAttribute("memorials", pageData.getMemorials());
             model.addAttribute("selectedMemorial", pageData.getSelectedMemorial());
             model.addAttribute("familyMembers", pageData.getFamilyMembers());
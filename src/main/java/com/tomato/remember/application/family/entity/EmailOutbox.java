@@ -0,0 +1,107 @@
+package com.tomato.remember.application.family.entity;
+
+import com.tomato.remember.application.family.code.EmailOutboxStatus;
+import com.tomato.remember.common.audit.Audit;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열(outbox) 엔티티
+ * - 업무 트랜잭션 안에서 발송할 메일을 저장만 하고, 실제 SMTP 발송은 EmailOutboxDispatcher 가 비동기로 처리
+ * - 업무 데이터와 같은 트랜잭션으로 커밋되므로 롤백된 초대의 메일은 발송되지 않음
+ */
+@Table(
+    name = "t_email_outbox",
+    indexes = {
+        @Index(name = "idx01_t_email_outbox", columnList = "status, next_attempt_at"),
+        @Index(name = "idx02_t_email_outbox", columnList = "claim_token")
+    }
+)
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox extends Audit {
+
+    @Comment("메일 유형 (예: FAMILY_INVITE)")
+    @Column(nullable = false, length = 30, name = "mail_type")
+    private String mailType;
+
+    @Comment("연관 데이터 식별자 (예: 초대 토큰 ID)")
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Comment("수신자 이메일")
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Comment("메일 제목")
+    @Column(nullable = false, length = 300)
+    private String subject;
+
+    @Comment("메일 본문 (HTML)")
+    @Lob
+    @Column(nullable = false, name = "html_content", columnDefinition = "LONGTEXT")
+    private String htmlContent;
+
+    @Comment("발송 상태")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Comment("발송 시도 횟수")
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Comment("다음 발송 시도 가능 시각")
+    @Column(nullable = false, name = "next_attempt_at")
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Comment("발송 선점 토큰 (다중 인스턴스 중복 발송 방지)")
+    @Column(length = 40, name = "claim_token")
+    private String claimToken;
+
+    @Comment("마지막 오류 메시지")
+    @Column(length = 500, name = "last_error")
+    private String lastError;
+
+    @Comment("발송 완료 일시")
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 발송 성공 처리
+     */
+    public void markSent() {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+        this.claimToken = null;
+    }
+
+    /**
+     * 발송 실패 처리 - 최대 횟수 미만이면 backoff 후 재시도 대기, 초과 시 FAILED
+     */
+    public void markFailed(String error, int maxAttempts, long backoffSeconds) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.claimToken = null;
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+        } else {
+            this.status = EmailOutboxStatus.PENDING;
+            this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+        }
+    }
+}
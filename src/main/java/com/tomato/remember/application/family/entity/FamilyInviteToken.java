@@ -29,7 +29,8 @@ import java.util.UUID;
         @Index(name = "idx03_t_family_invite_token", columnList = "inviter_id"),
         @Index(name = "idx04_t_family_invite_token", columnList = "status"),
         @Index(name = "idx05_t_family_invite_token", columnList = "expires_at"),
-        @Index(name = "idx06_t_family_invite_token", columnList = "contact")
+        @Index(name = "idx06_t_family_invite_token", columnList = "contact"),
+        @Index(name = "idx07_t_family_invite_token", columnList = "status, expires_at")
     }
 )
 @Getter
@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
                 @Index(name = "idx02_t_family_member", columnList = "member_id, invite_status"),
                 @Index(name = "idx03_t_family_member", columnList = "invited_by_id"),
                 @Index(name = "idx04_t_family_member", columnList = "relationship"),
-                @Index(name = "idx05_t_family_member", columnList = "created_at")
+                @Index(name = "idx05_t_family_member", columnList = "created_at"),
+                @Index(name = "idx06_t_family_member", columnList = "invite_status, created_at")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk01_t_family_member", columnNames = {"memorial_id", "member_id"})
@@ -0,0 +1,58 @@
+package com.tomato.remember.application.family.repository;
+
+import com.tomato.remember.application.family.code.EmailOutboxStatus;
+import com.tomato.remember.application.family.entity.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이메일 발송 대기열 레포지토리
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 가능한 대기 메일 ID 조회 (status, next_attempt_at 인덱스 사용)
+     */
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt ASC")
+    List<Long> findDispatchableIds(@Param("status") EmailOutboxStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    /**
+     * 대기 메일 선점 - 다른 인스턴스가 먼저 선점한 행은 status 조건으로 제외됨
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox e SET e.status = :sending, e.claimToken = :claimToken, e.updatedAt = :now " +
+        "WHERE e.id IN :ids AND e.status = :pending")
+    int claim(@Param("ids") List<Long> ids,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now,
+              @Param("pending") EmailOutboxStatus pending,
+              @Param("sending") EmailOutboxStatus sending);
+
+    /**
+     * 선점 토큰으로 이번 회차에 발송할 메일 조회
+     */
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    /**
+     * 발송 도중 인스턴스가 종료되어 SENDING 으로 남은 메일을 대기 상태로 복구
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox e SET e.status = :pending, e.claimToken = null " +
+        "WHERE e.status = :sending AND e.updatedAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("pending") EmailOutboxStatus pending,
+                     @Param("sending") EmailOutboxStatus sending);
+}
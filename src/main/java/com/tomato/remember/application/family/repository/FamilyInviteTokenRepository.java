@@ -4,6 +4,7 @@ import com.tomato.remember.application.family.code.InviteStatus;
 import com.tomato.remember.application.family.entity.FamilyInviteToken;
 import com.tomato.remember.application.memorial.entity.Memorial;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,7 +27,8 @@ public interface FamilyInviteTokenRepository extends JpaRepository<FamilyInviteT
     /**
      * 사용 가능한 토큰 조회 (PENDING 상태 + 만료되지 않음)
      */
-    @Query("SELECT t FROM FamilyInviteToken t WHERE t.token = :token AND t.status = 'PENDING' AND t.expiresAt > :now")
+    @Query("SELECT t FROM FamilyInviteToken t JOIN FETCH t.inviter JOIN FETCH t.memorial " +
+           "WHERE t.token = :token AND t.status = 'PENDING' AND t.expiresAt > :now")
     Optional<FamilyInviteToken> findUsableToken(@Param("token") String token, @Param("now") LocalDateTime now);
 
     /**
@@ -35,6 +37,14 @@ public interface FamilyInviteTokenRepository extends JpaRepository<FamilyInviteT
     @Query("SELECT t FROM FamilyInviteToken t WHERE t.status = 'PENDING' AND t.expiresAt < :now")
     List<FamilyInviteToken> findExpiredTokens(@Param("now") LocalDateTime now);
 
+    /**
+     * 만료 토큰 일괄 만료 처리 (chunk 단위, idx07 범위 스캔)
+     */
+    @Modifying
+    @Query(value = "UPDATE t_family_invite_token SET status = 'EXPIRED', updated_at = :now " +
+        "WHERE status = 'PENDING' AND expires_at < :now LIMIT :limit", nativeQuery = true)
+    int expirePendingTokens(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
     /**
      * 특정 메모리얼과 연락처의 대기 중인 토큰 조회
      */
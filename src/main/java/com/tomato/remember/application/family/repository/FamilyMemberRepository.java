@@ -10,6 +10,7 @@ import com.tomato.remember.application.memorial.entity.Memorial;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -158,6 +159,16 @@ public interface FamilyMemberRepository extends JpaRepository<FamilyMember, Long
     @Query("SELECT fm FROM FamilyMember fm WHERE fm.inviteStatus = 'PENDING' AND fm.createdAt < :expireTime")
     List<FamilyMember> findExpiredInvitations(@Param("expireTime") LocalDateTime expireTime);
 
+    /**
+     * 기간 지난 대기 초대 일괄 만료 처리 (chunk 단위, idx06 범위 스캔)
+     */
+    @Modifying
+    @Query(value = "UPDATE t_family_member SET invite_status = 'EXPIRED', expired_at = :now, updated_at = :now " +
+        "WHERE invite_status = 'PENDING' AND created_at < :expireTime LIMIT :limit", nativeQuery = true)
+    int expirePendingInvitations(@Param("expireTime") LocalDateTime expireTime,
+                                 @Param("now") LocalDateTime now,
+                                 @Param("limit") int limit);
+
     /**
      * 특정 소유자의 메모리얼 수 조회
      */
@@ -0,0 +1,187 @@
+package com.tomato.remember.application.family.service;
+
+import com.tomato.remember.application.family.code.EmailOutboxStatus;
+import com.tomato.remember.application.family.entity.EmailOutbox;
+import com.tomato.remember.application.family.repository.EmailOutboxRepository;
+import com.tomato.remember.common.util.StringUtil;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 outbox 디스패처
+ * - 주기적으로 발송 대기 메일을 선점(claim)한 뒤 트랜잭션 밖에서 SMTP 발송
+ * - JavaMailSender.send(MimeMessage...) 로 한 회차의 메일을 하나의 인증된 Transport 연결로 일괄 발송
+ * - 실패한 메일은 지수 backoff 후 재시도, 최대 횟수 초과 시 FAILED 처리
+ * - SMTP 발송은 전용 스레드에서 수행 (느린 SMTP 서버가 공용 @Scheduled 스레드를 막지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender mailSender;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.mail.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.mail.outbox.stale-sending-minutes:10}")
+    private long staleSendingMinutes;
+
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mail-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이전 회차가 아직 발송 중이면 다음 회차는 건너뜀
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.dispatch-interval-ms:2000}")
+    public void dispatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> {
+                try {
+                    dispatchBatch();
+                } catch (Exception e) {
+                    log.error("메일 outbox 발송 회차 처리 실패", e);
+                } finally {
+                    dispatching.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            dispatching.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+        try {
+            dispatchExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = emailOutboxRepository.findDispatchableIds(
+            EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = emailOutboxRepository.claim(
+            ids, claimToken, now, EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+        if (claimed == 0) {
+            return;
+        }
+
+        List<EmailOutbox> outboxes = emailOutboxRepository.findByClaimToken(claimToken);
+        send(outboxes);
+        emailOutboxRepository.saveAll(outboxes);
+    }
+
+    /**
+     * 발송 도중 종료된 인스턴스가 남긴 SENDING 메일 복구
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.stale-check-interval-ms:60000}")
+    public void releaseStale() {
+        int released = emailOutboxRepository.releaseStale(
+            LocalDateTime.now().minusMinutes(staleSendingMinutes),
+            EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+        if (released > 0) {
+            log.warn("발송 중 상태로 남은 메일 {}건 재시도 대기로 복구", released);
+        }
+    }
+
+    private void send(List<EmailOutbox> outboxes) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox outbox : outboxes) {
+            try {
+                messages.put(emailService.createMimeMessage(
+                    outbox.getRecipient(), outbox.getSubject(), outbox.getHtmlContent()), outbox);
+            } catch (Exception e) {
+                // 주소 형식 오류 등은 재시도해도 성공할 수 없으므로 바로 실패 처리
+                outbox.markFailed(e.getMessage(), 1, 0);
+                log.error("메일 메시지 생성 실패 - outboxId: {}, 수신자: {}",
+                    outbox.getId(), StringUtil.maskContact(outbox.getRecipient()), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failed.putAll(e.getFailedMessages());
+        } catch (MailException e) {
+            // 인증 실패 등 연결 단위 오류는 회차 전체 실패
+            messages.keySet().forEach(message -> failed.put(message, e));
+        }
+
+        List<EmailOutbox> retried = new ArrayList<>();
+        messages.forEach((message, outbox) -> {
+            Exception error = failed.get(message);
+            if (error == null) {
+                outbox.markSent();
+            } else {
+                outbox.markFailed(error.getMessage(), maxAttempts, backoffSeconds(outbox.getAttempts()));
+                retried.add(outbox);
+            }
+        });
+
+        log.info("메일 outbox 발송 완료 - 성공: {}건, 실패: {}건", messages.size() - retried.size(), retried.size());
+        for (EmailOutbox outbox : retried) {
+            log.warn("메일 발송 실패 - outboxId: {}, 수신자: {}, 시도: {}회, 상태: {}, 오류: {}",
+                outbox.getId(), StringUtil.maskContact(outbox.getRecipient()),
+                outbox.getAttempts(), outbox.getStatus(), outbox.getLastError());
+        }
+    }
+
+    /**
+     * 시도 횟수에 따른 지수 backoff (base * 2^attempts, 최대값 제한)
+     */
+    private long backoffSeconds(int attempts) {
+        int shift = Math.min(attempts, 20);
+        return Math.min(backoffBaseSeconds << shift, backoffMaxSeconds);
+    }
+}
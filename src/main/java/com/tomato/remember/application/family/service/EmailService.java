@@ -1,10 +1,13 @@
 package com.tomato.remember.application.family.service;
 
+import com.tomato.remember.application.family.entity.EmailOutbox;
 import com.tomato.remember.application.family.entity.FamilyInviteToken;
+import com.tomato.remember.application.family.repository.EmailOutboxRepository;
 import com.tomato.remember.application.member.entity.Member;
 import com.tomato.remember.application.memorial.entity.Memorial;
 import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.util.EmailTemplateRenderer;
 import com.tomato.remember.common.util.StringUtil;
 import java.io.UnsupportedEncodingException;
 import lombok.RequiredArgsConstructor;
@@ -12,10 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import jakarta.mail.MessagingException;
@@ -32,8 +33,11 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class EmailService {
 
+    private static final String MAIL_TYPE_FAMILY_INVITE = "FAMILY_INVITE";
+
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     @Value("${spring.mail.from:noreply@tomatoremember.com}")
     private String fromEmail;
@@ -45,57 +49,40 @@ public class EmailService {
     private String appName;
 
     /**
-     * 가족 초대 이메일 발송
+     * 가족 초대 이메일 발송 대기열 등록
+     * - 호출한 업무 트랜잭션 안에서 본문을 렌더링해 outbox 에 저장만 함 (SMTP 연결 없음)
+     * - 실제 발송은 EmailOutboxDispatcher 가 커밋 이후 비동기로 처리
      */
-    public void sendFamilyInviteEmail(FamilyInviteToken inviteToken) {
-        log.info("가족 초대 이메일 발송 시작 - 토큰: {}, 수신자: {}",
+    public void enqueueFamilyInviteEmail(FamilyInviteToken inviteToken) {
+        String subject = createInviteSubject(inviteToken);
+        String htmlContent = createInviteHtmlContent(inviteToken);
+
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .mailType(MAIL_TYPE_FAMILY_INVITE)
+                .referenceId(inviteToken.getId())
+                .recipient(inviteToken.getContact())
+                .subject(subject)
+                .htmlContent(htmlContent)
+                .build());
+
+        log.info("가족 초대 이메일 발송 대기열 등록 - 토큰: {}, 수신자: {}",
                 StringUtil.maskToken(inviteToken.getToken()),
                 StringUtil.maskContact(inviteToken.getContact()));
-
-        try {
-            // 1. 연결 테스트
-            testMailConnection();
-
-            // 2. 이메일 내용 생성
-            String subject = createInviteSubject(inviteToken);
-            String htmlContent = createInviteHtmlContent(inviteToken);
-
-            // 3. 이메일 전송
-            sendHtmlEmail(inviteToken.getContact(), subject, htmlContent);
-
-            log.info("가족 초대 이메일 발송 완료 - 토큰: {}, 수신자: {}",
-                    StringUtil.maskToken(inviteToken.getToken()),
-                    StringUtil.maskContact(inviteToken.getContact()));
-
-        } catch (APIException e) {
-            // APIException은 그대로 전파
-            throw e;
-        } catch (Exception e) {
-            log.error("가족 초대 이메일 발송 실패 - 토큰: {}, 수신자: {}, 오류: {}",
-                    StringUtil.maskToken(inviteToken.getToken()),
-                    StringUtil.maskContact(inviteToken.getContact()),
-                    e.getMessage(), e);
-
-            // 상세한 오류 정보 제공
-            String errorMessage = getDetailedErrorMessage(e);
-            throw new APIException(ResponseStatus.FAMILY_INVITE_EMAIL_FAILED);
-        }
     }
 
     /**
-     * 메일 연결 테스트
+     * outbox 메일을 MimeMessage 로 변환 (디스패처의 일괄 발송용)
      */
-    private void testMailConnection() {
-        try {
-            if (mailSender instanceof JavaMailSenderImpl) {
-                JavaMailSenderImpl sender = (JavaMailSenderImpl) mailSender;
-                sender.testConnection();
-                log.info("메일 서버 연결 테스트 성공");
-            }
-        } catch (Exception e) {
-            log.error("메일 서버 연결 테스트 실패: {}", e.getMessage());
-            throw new APIException(ResponseStatus.FAMILY_INVITE_EMAIL_FAILED);
-        }
+    public MimeMessage createMimeMessage(String to, String subject, String htmlContent)
+        throws MessagingException, UnsupportedEncodingException {
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail, appName);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+        return message;
     }
 
     /**
@@ -148,8 +135,7 @@ public class EmailService {
             // 메모리얼 정보
             Memorial memorial = inviteToken.getMemorial();
 
-            // 디버깅 로그 추가
-            log.info("이메일 템플릿 변수 설정 - 메모리얼: name={}, nickname={}, 관계={}",
+            log.debug("이메일 템플릿 변수 설정 - 메모리얼: name={}, nickname={}, 관계={}",
                     memorial.getName(), memorial.getNickname(), inviteToken.getRelationshipDisplayName());
 
             // 템플릿 변수 설정 (null 체크 강화)
@@ -164,12 +150,12 @@ public class EmailService {
             context.setVariable("expiresAt", formatExpirationDate(inviteToken));
             context.setVariable("remainingHours", inviteToken.getRemainingHours());
 
-            // 템플릿 처리
-            String htmlContent = templateEngine.process("email/family-invite", context);
+            // 템플릿 처리 (사전 파싱/캐시된 이메일 전용 엔진)
+            String htmlContent = emailTemplateRenderer.render("family-invite", context);
 
-            // 생성된 HTML 내용 로그 (처음 500자만)
-            log.info("생성된 HTML 내용 미리보기: {}",
-                    StringUtil.truncate(htmlContent, 500));
+            if (log.isDebugEnabled()) {
+                log.debug("생성된 HTML 내용 미리보기: {}", StringUtil.truncate(htmlContent, 500));
+            }
 
             return htmlContent;
 
@@ -349,35 +335,4 @@ public class EmailService {
                 appDomain
             );
     }
-
-    /**
-     * 상세한 오류 메시지 생성
-     */
-    private String getDetailedErrorMessage(Exception e) {
-        String message = e.getMessage();
-
-        if (message == null) {
-            return "알 수 없는 오류가 발생했습니다.";
-        }
-
-        // 일반적인 오류 패턴 분석
-        if (message.contains("Connection timed out") || message.contains("연결하지 못했거나")) {
-            return "메일 서버 연결 시간 초과 - 네트워크 또는 방화벽 설정을 확인해주세요.";
-        }
-
-        if (message.contains("Authentication failed") || message.contains("인증")) {
-            return "메일 서버 인증 실패 - 사용자명/비밀번호 또는 앱 비밀번호를 확인해주세요.";
-        }
-
-        if (message.contains("SSL") || message.contains("TLS")) {
-            return "SSL/TLS 연결 오류 - 메일 서버 보안 설정을 확인해주세요.";
-        }
-
-        if (message.contains("Invalid Addresses") || message.contains("주소")) {
-            return "잘못된 이메일 주소 - 발송자 또는 수신자 이메일을 확인해주세요.";
-        }
-
-        // 원본 메시지 반환 (StringUtil.truncate 사용)
-        return StringUtil.truncate(message, 100);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.tomato.remember.application.family.service;
+
+import com.tomato.remember.application.family.repository.FamilyInviteTokenRepository;
+import com.tomato.remember.application.family.repository.FamilyMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가족 초대 일괄 만료 작업
+ * - 엔티티를 읽어 한 건씩 UPDATE 하는 대신 UPDATE ... LIMIT n 을 chunk 단위로 반복
+ * - chunk 마다 별도 트랜잭션으로 커밋하므로 잠금 범위와 트랜잭션 크기가 적체량과 무관하게 일정
+ * - 처리 건수와 소요 시간은 family.invite.expired / family.invite.expiry 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class FamilyInviteExpiryJob {
+
+    private final FamilyInviteTokenRepository inviteTokenRepository;
+    private final FamilyMemberRepository familyMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter expiredTokenCounter;
+    private final Counter expiredInvitationCounter;
+    private final Timer expiryTimer;
+
+    @Value("${app.family-invite.expiry.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.family-invite.expiry.max-chunks:100}")
+    private int maxChunks;
+
+    @Value("${app.family-invite.expiry.pending-invitation-days:7}")
+    private long pendingInvitationDays;
+
+    public FamilyInviteExpiryJob(FamilyInviteTokenRepository inviteTokenRepository,
+                                 FamilyMemberRepository familyMemberRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.inviteTokenRepository = inviteTokenRepository;
+        this.familyMemberRepository = familyMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiredTokenCounter = Counter.builder("family.invite.expired")
+            .tag("target", "token")
+            .description("일괄 만료 처리된 초대 건수")
+            .register(meterRegistry);
+        this.expiredInvitationCounter = Counter.builder("family.invite.expired")
+            .tag("target", "family_member")
+            .description("일괄 만료 처리된 초대 건수")
+            .register(meterRegistry);
+        this.expiryTimer = Timer.builder("family.invite.expiry")
+            .description("초대 일괄 만료 작업 소요 시간")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.family-invite.expiry.cron:0 */10 * * * *}")
+    public void run() {
+        expiryTimer.record(this::expireAll);
+    }
+
+    /**
+     * 초대 토큰 + 대기 중 가족 초대 만료 처리
+     */
+    public void expireAll() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int tokens = expireInChunks(() -> inviteTokenRepository.expirePendingTokens(now, chunkSize));
+        expiredTokenCounter.increment(tokens);
+
+        LocalDateTime expireTime = now.minusDays(pendingInvitationDays);
+        int invitations = expireInChunks(
+            () -> familyMemberRepository.expirePendingInvitations(expireTime, now, chunkSize));
+        expiredInvitationCounter.increment(invitations);
+
+        if (tokens > 0 || invitations > 0) {
+            log.info("초대 일괄 만료 처리 완료 - 토큰: {}건, 가족 초대: {}건", tokens, invitations);
+        }
+    }
+
+    private int expireInChunks(IntSupplier chunk) {
+        int total = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            Integer updated = transactionTemplate.execute(status -> chunk.getAsInt());
+            int count = updated != null ? updated : 0;
+            total += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -368,8 +368,8 @@ public class FamilyInviteService {
      */
     private FamilyInviteResponse processEmailInvite(FamilyInviteToken inviteToken, FamilyInviteRequest request) {
         try {
-            // 기존 EmailService 메서드 활용
-            emailService.sendFamilyInviteEmail(inviteToken);
+            // 같은 트랜잭션으로 outbox 에 저장 - SMTP 발송은 EmailOutboxDispatcher 가 비동기 처리
+            emailService.enqueueFamilyInviteEmail(inviteToken);
 
             return FamilyInviteResponse.forEmail(
                     StringUtil.maskContact(inviteToken.getContact()),
@@ -452,34 +452,6 @@ public class FamilyInviteService {
         return cleanContact.equals(cleanInviterPhone);
     }
 
-    /**
-     * 만료된 토큰 정리 (스케줄러에서 호출)
-     */
-    @Transactional
-    public void cleanupExpiredTokens() {
-        log.info("만료된 초대 토큰 정리 시작");
-
-        try {
-            List<FamilyInviteToken> expiredTokens = inviteTokenRepository.findExpiredTokens(LocalDateTime.now());
-
-            int processedCount = 0;
-            for (FamilyInviteToken token : expiredTokens) {
-                token.expire();
-                processedCount++;
-            }
-
-            if (processedCount > 0) {
-                inviteTokenRepository.saveAll(expiredTokens);
-            }
-
-            log.info("만료된 초대 토큰 정리 완료 - 처리된 토큰 수: {}", processedCount);
-
-        } catch (Exception e) {
-            log.error("만료된 토큰 정리 중 오류 발생", e);
-            // 스케줄러에서 호출되므로 예외를 던지지 않고 로그만 남김
-        }
-    }
-
     // ===== 백워드 호환성을 위한 추가 메서드들 =====
 
     /**
@@ -204,48 +204,30 @@ public class FamilyService {
         List<FamilyMemberResponse> result = new ArrayList<>();
 
         try {
-            //  1. 내가 소유한 메모리얼들 조회 (디버깅 강화)
+            //  1. 내가 소유한 메모리얼들 조회
             List<Memorial> myMemorials = memorialService.findByOwner(member);
-            log.info("디버깅: 소유한 메모리얼 수: {} (사용자: {})", myMemorials.size(), member.getId());
+            log.debug("소유한 메모리얼 수: {} (사용자: {})", myMemorials.size(), member.getId());
 
             for (Memorial memorial : myMemorials) {
-                log.info("디버깅: 메모리얼 처리 중 - ID: {}, 이름: {}, 소유자: {}",
-                    memorial.getId(), memorial.getName(), memorial.getOwner().getId());
-
                 try {
                     FamilyMemberResponse myInfo = createOwnerAsFamilyMember(memorial, member);
                     result.add(myInfo);
-                    log.info("✅ 소유자 정보 추가 완료: 메모리얼={}, 소유자={}",
-                        memorial.getId(), myInfo.getMember().getName());
                 } catch (Exception e) {
                     log.error("❌ 소유자 정보 생성 실패: 메모리얼={}", memorial.getId(), e);
                 }
             }
 
-            //  2. 초대된 가족 구성원들 추가 (디버깅 강화)
+            //  2. 초대된 가족 구성원들 추가
             List<FamilyMember> familyMembers = familyMemberRepository.findAllAccessibleFamilyMembers(member);
-            log.info("디버깅: 초대된 가족 구성원 수: {} (사용자: {})", familyMembers.size(), member.getId());
-
             List<FamilyMemberResponse> invitedMembers = familyMembers.stream()
-                .map(fm -> {
-                    log.debug("디버깅: 초대받은 구성원 - ID: {}, 이름: {}, 메모리얼: {}",
-                        fm.getId(), fm.getMember().getName(), fm.getMemorial().getId());
-                    return FamilyMemberResponse.from(fm);
-                })
+                .map(FamilyMemberResponse::from)
                 .collect(Collectors.toList());
 
             result.addAll(invitedMembers);
 
-            log.info("🎯 SSR용 전체 가족 구성원 조회 완료 - 사용자: {}, 총 구성원 수: {} (소유자: {}, 초대된 구성원: {})",
+            log.debug("🎯 SSR용 전체 가족 구성원 조회 완료 - 사용자: {}, 총 구성원 수: {} (소유자: {}, 초대된 구성원: {})",
                 member.getId(), result.size(), myMemorials.size(), invitedMembers.size());
 
-            //  3. 결과 상세 로깅
-            for (FamilyMemberResponse familyMemberResponse : result) {
-                log.debug("📋 결과 구성원: ID={}, 이름={}, 관계={}, 메모리얼={}",
-                    familyMemberResponse.getId(), familyMemberResponse.getMember().getName(),
-                    familyMemberResponse.getRelationship(), familyMemberResponse.getMemorial().getId());
-            }
-
         } catch (Exception e) {
             log.error("❌ 가족 구성원 조회 중 오류 발생 - 사용자: {}", member.getId(), e);
             // 오류가 발생해도 빈 리스트라도 반환
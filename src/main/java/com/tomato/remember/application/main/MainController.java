@@ -8,7 +8,8 @@ import com.tomato.remember.application.security.MemberUserDetails;
 import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.dto.ListDTO;
 import com.tomato.remember.common.exception.APIException;
-import jakarta.servlet.http.HttpServletRequest;
+import com.tomato.remember.common.util.PageRenderCache;
+import java.util.Locale;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.View;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +37,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class MainController {
 
     private final MemorialService memorialService;
+    private final PageRenderCache pageRenderCache;
     // private final SubscriptionService subscriptionService;  // 나중에 구현
     // private final PaymentService paymentService;  // 나중에 구현
 
@@ -132,18 +135,20 @@ public class MainController {
 
     /**
      * 메인 홈페이지
-     * 로그인 전: 서비스 소개 + 안내 페이지
-     * 로그인 후: 메모리얼 대시보드
+     * 로그인 전: 서비스 소개 + 안내 페이지 (렌더링 결과 전체 캐시)
+     * 로그인 후: 메모리얼 대시보드 (사용자별 영역만 렌더링, 정적 영역은 프래그먼트 캐시)
      */
     @GetMapping("/mobile/home")
-    public String homePage(@AuthenticationPrincipal MemberUserDetails userDetails,
-                          Model model,
-                          HttpServletRequest request) {
+    public View homePage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
+        log.info("Main Page Access - User: {}",
+            userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        try {
-            log.info("Main Page Access - User: {}",
-                userDetails != null ? userDetails.getMember().getName() : "Anonymous");
+        return pageRenderCache.page("mobile/main/main", locale, userDetails == null,
+            model -> setupHomePageData(model, userDetails));
+    }
 
+    private void setupHomePageData(Model model, MemberUserDetails userDetails) {
+        try {
             // 기본 페이지 정보 설정
             setupBasicPageInfo(model);
 
@@ -157,13 +162,10 @@ public class MainController {
             // 공통 설정
             setupCommonData(model);
 
-            return "mobile/main/main";
-
         } catch (Exception e) {
             log.error("Main page error", e);
             // 에러 발생 시 기본 설정으로 폴백
             setupFallbackData(model);
-            return "mobile/main/main";
         }
     }
 
@@ -294,162 +296,114 @@ public class MainController {
      * About 페이지
      */
     @GetMapping("/mobile/about")
-    public String aboutPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View aboutPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("About Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "서비스 소개 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/main/about";
+        return staticPage("mobile/main/about", "서비스 소개 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * Contact 페이지
      */
     @GetMapping("/mobile/support/contact")
-    public String contactPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View contactPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Contact Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "문의하기 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/support/contact";
+        return staticPage("mobile/support/contact", "문의하기 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 도움말 페이지
      */
     @GetMapping("/mobile/support/help")
-    public String helpPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View helpPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Help Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "도움말 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/support/help";
+        return staticPage("mobile/support/help", "도움말 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * FAQ 페이지
      */
     @GetMapping("/mobile/support/faq")
-    public String faqPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View faqPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("FAQ Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "자주 묻는 질문 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/support/faq";
+        return staticPage("mobile/support/faq", "자주 묻는 질문 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 3개월 무료체험 페이지
      */
     @GetMapping("/mobile/experience")
-    public String experiencePage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View experiencePage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Experience Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "3개월 무료체험 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/experience/trial";
+        return staticPage("mobile/experience/trial", "3개월 무료체험 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 개인정보처리방침
      */
     @GetMapping("/mobile/privacy")
-    public String privacyPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View privacyPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Privacy Policy Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "개인정보처리방침 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/terms/privacy";
+        return staticPage("mobile/terms/privacy", "개인정보처리방침 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 서비스 약관
      */
     @GetMapping("/mobile/terms")
-    public String termsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View termsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Terms of Service Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "서비스 약관 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/terms/service";
+        return staticPage("mobile/terms/service", "서비스 약관 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 이용약관
      */
     @GetMapping("/mobile/terms/service")
-    public String serviceTermsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View serviceTermsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Service Terms Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "이용약관 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
-
-        setupCommonData(model);
-
-        return "mobile/terms/service";
+        return staticPage("mobile/terms/service", "이용약관 - 토마토리멤버", userDetails, locale);
     }
 
     /**
      * 개인정보처리방침 (상세)
      */
     @GetMapping("/mobile/terms/privacy")
-    public String privacyTermsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Model model) {
+    public View privacyTermsPage(@AuthenticationPrincipal MemberUserDetails userDetails, Locale locale) {
         log.info("Privacy Terms Page Access - User: {}",
             userDetails != null ? userDetails.getMember().getName() : "Anonymous");
 
-        model.addAttribute("pageTitle", "개인정보처리방침 - 토마토리멤버");
-        model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
-        model.addAttribute("isLoggedIn", userDetails != null);
+        return staticPage("mobile/terms/privacy", "개인정보처리방침 - 토마토리멤버", userDetails, locale);
+    }
 
-        setupCommonData(model);
+    /**
+     * 정적 콘텐츠 페이지 (소개/약관/고객지원 등)
+     * 비로그인 요청은 렌더링 결과를 그대로 재사용하고, 로그인 요청은 사용자 정보와 함께 렌더링
+     */
+    private View staticPage(String viewName, String pageTitle, MemberUserDetails userDetails, Locale locale) {
+        return pageRenderCache.page(viewName, locale, userDetails == null, model -> {
+            model.addAttribute("pageTitle", pageTitle);
+            model.addAttribute("appName", "토마토리멤버");
+            model.addAttribute("currentUser", userDetails != null ? userDetails.getMember().convertDTO() : null);
+            model.addAttribute("isLoggedIn", userDetails != null);
 
-        return "mobile/terms/privacy";
+            setupCommonData(model);
+        });
     }
 
     /**
@@ -462,7 +416,7 @@ public class MainController {
 
         model.addAttribute("pageTitle", "페이지를 찾을 수 없습니다 - 토마토리멤버");
         model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
+        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember().convertDTO() : null);
         model.addAttribute("isLoggedIn", userDetails != null);
 
         setupUrlInfo(model);
@@ -480,7 +434,7 @@ public class MainController {
 
         model.addAttribute("pageTitle", "서버 오류 - 토마토리멤버");
         model.addAttribute("appName", "토마토리멤버");
-        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember() : null);
+        model.addAttribute("currentUser", userDetails != null ? userDetails.getMember().convertDTO() : null);
         model.addAttribute("isLoggedIn", userDetails != null);
 
         setupUrlInfo(model);
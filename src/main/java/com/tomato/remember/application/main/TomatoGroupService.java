@@ -0,0 +1,198 @@
+package com.tomato.remember.application.main;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tomato.remember.common.config.CacheConfig;
+import com.tomato.remember.common.config.LoadingCacheRegistrar;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 토마토 그룹 데이터 조회 서비스
+ * - 원본 JSON 은 tomato-group 캐시(refreshAfterWrite)에 보관, 정리/검증은 적재 시 1회만 수행
+ * - 갱신 주기가 지나면 기존 데이터를 즉시 반환하고 백그라운드에서 1회만 원본 API 호출 (요청 몰림 없음)
+ * - 원본 API 장애로 적재가 실패해도 마지막 정상 데이터가 있으면 그대로 응답
+ */
+@Slf4j
+@Service
+public class TomatoGroupService {
+
+    private static final String CACHE_KEY = "tomato_group";
+
+    // 토마토 원본 API URL
+    private static final String TOMATO_API_URL = "https://tomato.etomato.com/tomatogroup_20250423.json";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoadingCache<String, TomatoGroupData> cache;
+
+    // 캐시 만료/무효화 이후 원본 API 장애 시 사용할 마지막 정상 데이터
+    private volatile TomatoGroupData lastKnownGood;
+
+    public TomatoGroupService(RestTemplateBuilder restTemplateBuilder,
+                              ObjectMapper objectMapper,
+                              LoadingCacheRegistrar loadingCacheRegistrar,
+                              @Value("${app.tomato-group.timeout-seconds:5}") long timeoutSeconds) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(Duration.ofSeconds(timeoutSeconds))
+            .setReadTimeout(Duration.ofSeconds(timeoutSeconds))
+            .build();
+        this.objectMapper = objectMapper;
+        this.cache = loadingCacheRegistrar.register(CacheConfig.TOMATO_GROUP, key -> load());
+    }
+
+    /**
+     * 토마토 그룹 데이터 (캐시 우선)
+     */
+    public TomatoGroupData getGroup() {
+        try {
+            return cache.get(CACHE_KEY);
+        } catch (RuntimeException e) {
+            TomatoGroupData fallback = lastKnownGood;
+            if (fallback == null) {
+                throw e;
+            }
+            log.warn("⚠️ 토마토 원본 API 적재 실패 - 마지막 정상 데이터 반환 ({}): {}",
+                fallback.getFetchedAt(), e.getMessage());
+            return fallback;
+        }
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 원본 API 재호출, 실패하면 마지막 정상 데이터 사용)
+     */
+    public void evict() {
+        cache.invalidateAll();
+    }
+
+    public TomatoGroupData getCachedGroup() {
+        return cache.getIfPresent(CACHE_KEY);
+    }
+
+    public TomatoGroupData getLastKnownGood() {
+        return lastKnownGood;
+    }
+
+    /**
+     * 원본 API 응답 그대로 조회 (상태 확인용, 캐시 미사용)
+     */
+    public String fetchRaw() {
+        return restTemplate.getForObject(TOMATO_API_URL, String.class);
+    }
+
+    private TomatoGroupData load() {
+        log.info("🌐 토마토 원본 API 호출: {}", TOMATO_API_URL);
+        String rawResponse = fetchRaw();
+
+        if (rawResponse == null || rawResponse.isEmpty()) {
+            throw new RuntimeException("토마토 API에서 빈 응답 수신");
+        }
+
+        // 문자 정리 (BOM 및 특수문자 완전 제거)
+        String cleanResponse = cleanJsonResponse(rawResponse);
+        log.info("🔧 응답 정리 완료: {} → {} bytes", rawResponse.length(), cleanResponse.length());
+
+        // JSON 유효성 검증 및 토마토 그룹 데이터 검증
+        JsonNode tomatogroupNode = validateAndParseJson(cleanResponse).get("tomatogroup");
+        if (tomatogroupNode == null || !tomatogroupNode.isArray() || tomatogroupNode.size() == 0) {
+            throw new RuntimeException("토마토 그룹 데이터가 비어있음");
+        }
+
+        log.info("✅ 토마토 데이터 검증 완료: {}개 앱", tomatogroupNode.size());
+
+        TomatoGroupData data = new TomatoGroupData(cleanResponse, tomatogroupNode.size(), LocalDateTime.now());
+        lastKnownGood = data;
+        return data;
+    }
+
+    /**
+     * JSON 응답 정리 (BOM 및 특수문자 제거)
+     */
+    private String cleanJsonResponse(String rawResponse) {
+        String cleaned = rawResponse;
+
+        // 1. UTF-8 BOM 제거 (0xFEFF)
+        if (cleaned.startsWith("\uFEFF")) {
+            cleaned = cleaned.substring(1);
+            log.debug("🔧 UTF-8 BOM 제거");
+        }
+
+        // 2. UTF-16 BOM 제거 (0xFFFE)
+        if (cleaned.startsWith("\uFFFE")) {
+            cleaned = cleaned.substring(1);
+            log.debug("🔧 UTF-16 BOM 제거");
+        }
+
+        // 3. 기타 제어 문자 제거
+        cleaned = cleaned.replaceAll("[\u0000-\u001F\u007F-\u009F]", "");
+
+        // 4. 앞뒤 공백 제거
+        cleaned = cleaned.trim();
+
+        // 5. 기본 JSON 구조 확인
+        if (!cleaned.startsWith("{") && !cleaned.startsWith("[")) {
+            throw new RuntimeException("JSON이 올바른 구조로 시작하지 않음");
+        }
+
+        return cleaned;
+    }
+
+    /**
+     * JSON 파싱 및 유효성 검증
+     */
+    private JsonNode validateAndParseJson(String jsonString) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(jsonString);
+
+            if (jsonNode == null) {
+                throw new RuntimeException("JSON 파싱 결과가 null");
+            }
+
+            if (!jsonNode.has("tomatogroup")) {
+                throw new RuntimeException("tomatogroup 필드가 없음");
+            }
+
+            return jsonNode;
+
+        } catch (Exception e) {
+            log.error("❌ JSON 파싱 오류: {}", e.getMessage());
+            log.error("📄 문제가 된 JSON (처음 500자): {}",
+                jsonString.substring(0, Math.min(jsonString.length(), 500)));
+
+            // 문자 코드 분석
+            if (jsonString.length() > 0) {
+                char firstChar = jsonString.charAt(0);
+                log.error("첫 번째 문자 분석: '{}' (Unicode: U+{})",
+                    firstChar, String.format("%04X", (int) firstChar));
+            }
+
+            throw new RuntimeException("JSON 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 정리/검증이 끝난 토마토 그룹 데이터
+     */
+    public static class TomatoGroupData {
+
+        private final String json;
+        private final int appCount;
+        private final LocalDateTime fetchedAt;
+
+        public TomatoGroupData(String json, int appCount, LocalDateTime fetchedAt) {
+            this.json = json;
+            this.appCount = appCount;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public String getJson() { return json; }
+        public int getAppCount() { return appCount; }
+        public LocalDateTime getFetchedAt() { return fetchedAt; }
+    }
+}
@@ -6,6 +6,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
 
+import java.time.LocalDateTime;
+
 /**
  * 회원 AI 프로필 이미지 엔티티
  * - 영상통화용 AI 학습을 위한 프로필 사진 관리
@@ -15,7 +17,8 @@ import org.hibernate.annotations.Comment;
     name = "t_member_ai_profile_image",
     indexes = {
         @Index(name = "idx01_t_member_ai_profile_image", columnList = "member_id, sort_order"),
-        @Index(name = "idx02_t_member_ai_profile_image", columnList = "created_at")
+        @Index(name = "idx02_t_member_ai_profile_image", columnList = "created_at"),
+        @Index(name = "idx03_t_member_ai_profile_image", columnList = "face_checked_at, created_at")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk01_t_member_ai_profile_image", columnNames = {"member_id", "sort_order"})
@@ -65,6 +68,10 @@ public class MemberAiProfileImage extends Audit {
     @Builder.Default
     private Boolean aiProcessed = false;
 
+    @Comment("얼굴 인식 결과 반영 일시 (NULL 이면 아직 인식 전 - 누락 작업 재등록 기준)")
+    @Column(name = "face_checked_at")
+    private LocalDateTime faceCheckedAt;
+
     // ===== 헬퍼 메서드 =====
 
     /**
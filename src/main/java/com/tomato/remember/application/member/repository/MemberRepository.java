@@ -5,6 +5,7 @@ import com.tomato.remember.common.code.MemberRole;
 import com.tomato.remember.common.code.MemberStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,8 +26,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 상태별 조회 메서드
     Optional<Member> findByUserKeyAndStatus(String userKey, MemberStatus status);
+    // 인증 주체(MemberUserDetails) 로딩용: open-in-view 없이도 프로필 이미지 접근이 가능하도록 함께 조회
+    @EntityGraph(attributePaths = {"profileImages"})
     Optional<Member> findByUserKeyAndStatusNot(String userKey, MemberStatus status);
     Optional<Member> findByIdAndStatus(Long id, MemberStatus status);
+    @EntityGraph(attributePaths = {"profileImages"})
     Optional<Member> findByIdAndStatusNot(Long id, MemberStatus status);
     Optional<Member> findByPhoneNumberAndStatus(String phoneNumber, MemberStatus status);
     Optional<Member> findByPhoneNumberAndStatusNot(String phoneNumber, MemberStatus status);
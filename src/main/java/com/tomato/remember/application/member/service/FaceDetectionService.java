@@ -1,91 +1,288 @@
 package com.tomato.remember.application.member.service;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.tomato.remember.application.member.entity.Member;
 import com.tomato.remember.application.member.entity.MemberAiProfileImage;
-import com.tomato.remember.application.member.repository.MemberAiProfileImageRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
 
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 얼굴 인식 API 연동 서비스 (간단 버전)
+ * 얼굴 인식 API 연동 서비스 (비동기 배치 버전)
+ * - 프로필 저장 트랜잭션은 작업을 큐에 넣기만 하고 바로 반환 (커밋 이후 적재, GPU 서버 응답을 기다리지 않음)
+ * - 같은 회원이 처리 전에 다시 요청하면 최신 이미지 목록으로 교체 (회원당 대기 작업 1건)
+ * - 스케줄러가 여러 회원의 이미지를 한 번의 API 요청으로 묶어 전송하고, 동시 요청 수는 세마포어로 제한
+ * - 결과는 (회원 ID, 이미지 순서) 맵으로 매칭 후 JDBC batch update 로 한 번에 반영
+ *   (이미지 URL 조건을 함께 걸어 처리 중 교체된 이미지는 덮어쓰지 않음)
+ * - 큐가 가득 차 누락되거나 종료 시 남은 작업은 face_checked_at 이 비어 있는 채로 남으므로,
+ *   일정 시간이 지난 미인식 회원을 주기적으로 다시 큐에 넣음 (API 실패 건의 재시도도 겸함)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class FaceDetectionService {
 
+    private static final String UPDATE_SQL =
+        "UPDATE t_member_ai_profile_image SET ai_processed = ?, face_checked_at = ?, updated_at = ? " +
+        "WHERE id = ? AND image_url = ?";
+
+    // 인식 전 이미지가 오래 남은 회원(이미지 5장)의 현재 이미지 목록 - 오래된 순으로 최대 N명
+    private static final String STALE_JOBS_SQL =
+        "SELECT img.member_id, img.id, img.sort_order, img.image_url " +
+        "FROM t_member_ai_profile_image img " +
+        "JOIN (SELECT s.member_id FROM t_member_ai_profile_image s " +
+        "      WHERE s.face_checked_at IS NULL AND s.created_at < ? " +
+        "      GROUP BY s.member_id " +
+        "      HAVING (SELECT COUNT(*) FROM t_member_ai_profile_image c WHERE c.member_id = s.member_id) = 5 " +
+        "      ORDER BY MIN(s.created_at) LIMIT ?) stale ON stale.member_id = img.member_id " +
+        "ORDER BY img.member_id, img.sort_order";
+
+    private static final int REQUIRED_IMAGE_COUNT = 5;
+
     private final WebClient webClient;
-    private final MemberAiProfileImageRepository profileImageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, FaceDetectionJob> pendingJobs = new ConcurrentHashMap<>();
+    private final BlockingQueue<Long> queue;
+    private final Semaphore inFlightRequests;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
 
     @Value("${face.detection.api.url:http://192.168.20.64:8082/api/detectfaces}")
     private String faceDetectionApiUrl;
 
+    @Value("${face.detection.batch.max-members-per-request:4}")
+    private int maxMembersPerRequest;
+
+    @Value("${face.detection.api.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Value("${face.detection.recovery.stale-minutes:10}")
+    private long staleMinutes;
+
+    public FaceDetectionService(WebClient webClient,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${face.detection.batch.queue-capacity:1000}") int queueCapacity,
+                                @Value("${face.detection.batch.max-concurrent-requests:2}") int maxConcurrentRequests) {
+        this.webClient = webClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlightRequests = new Semaphore(Math.max(1, maxConcurrentRequests));
+    }
+
     /**
-     * 얼굴 인식 처리
+     * 얼굴 인식 요청 (non-blocking)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 큐에 넣어, 배치 update 가 커밋 전 데이터를 보지 않도록 함
      */
-    public void processProfileImages(Member member) {
-        log.info("얼굴 인식 처리 시작 - 회원 ID: {}", member.getId());
+    public void processProfileImages(Long memberId, List<MemberAiProfileImage> profileImages) {
+        if (profileImages.size() != REQUIRED_IMAGE_COUNT) {
+            log.warn("프로필 이미지가 5장이 아닙니다 - 회원 ID: {}, 이미지 수: {}",
+                memberId, profileImages.size());
+            return;
+        }
+
+        FaceDetectionJob job = new FaceDetectionJob(memberId, profileImages.stream()
+            .map(img -> new ImageRef(img.getId(), img.getSortOrder(), img.getImageUrl()))
+            .toList());
 
-        try {
-            List<MemberAiProfileImage> profileImages =
-                profileImageRepository.findByMemberOrderBySortOrderAsc(member);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(job);
+                }
+            });
+        } else {
+            enqueue(job);
+        }
+    }
 
-            if (profileImages.size() != 5) {
-                log.warn("프로필 이미지가 5장이 아닙니다 - 회원 ID: {}, 이미지 수: {}",
-                    member.getId(), profileImages.size());
+    private void enqueue(FaceDetectionJob job) {
+        // 이미 대기 중인 회원이면 작업만 교체 (큐 순서는 유지)
+        if (pendingJobs.put(job.memberId(), job) != null) {
+            log.debug("얼굴 인식 대기 작업 교체 - 회원 ID: {}", job.memberId());
+            return;
+        }
+        if (!queue.offer(job.memberId())) {
+            pendingJobs.remove(job.memberId());
+            long dropped = droppedCount.incrementAndGet();
+            log.warn("얼굴 인식 큐 가득 참 - 요청 누락(재등록 대상): memberId={}, 누적 누락 {}건", job.memberId(), dropped);
+            return;
+        }
+        log.info("얼굴 인식 작업 등록 - 회원 ID: {}, 대기 {}건", job.memberId(), queue.size());
+    }
+
+    /**
+     * 대기 작업을 묶어 전송 (동시 요청 한도 내에서만 꺼내므로 큐에 남은 작업은 다음 회차에 처리)
+     */
+    @Scheduled(fixedDelayString = "${face.detection.batch.flush-interval-ms:1000}")
+    public void flush() {
+        while (!queue.isEmpty() && inFlightRequests.tryAcquire()) {
+            List<FaceDetectionJob> batch = drainBatch();
+            if (batch.isEmpty()) {
+                inFlightRequests.release();
                 return;
             }
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * 누락 작업 재등록 - 큐 누락, 종료 시 미처리, API 실패로 인식 결과가 반영되지 않은 회원을 다시 큐에 넣음
+     * (큐 남은 자리만큼만 조회하고, 여러 노드가 같은 회원을 넣어도 결과 반영은 멱등)
+     */
+    @Scheduled(initialDelayString = "${face.detection.recovery.initial-delay-ms:60000}",
+               fixedDelayString = "${face.detection.recovery.interval-ms:300000}")
+    public void requeueStaleJobs() {
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusMinutes(staleMinutes));
+        Map<Long, List<ImageRef>> imagesByMember = new LinkedHashMap<>();
+        jdbcTemplate.query(STALE_JOBS_SQL, rs -> {
+            imagesByMember.computeIfAbsent(rs.getLong("member_id"), id -> new ArrayList<>())
+                .add(new ImageRef(rs.getLong("id"), rs.getInt("sort_order"), rs.getString("image_url")));
+        }, threshold, capacity);
+
+        if (imagesByMember.isEmpty()) {
+            return;
+        }
+        log.warn("얼굴 인식 누락 작업 재등록 - 회원 {}명 ({}분 이상 미인식)", imagesByMember.size(), staleMinutes);
+        imagesByMember.forEach((memberId, images) -> enqueue(new FaceDetectionJob(memberId, images)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!queue.isEmpty()) {
+            log.warn("얼굴 인식 큐 종료 - 미처리 {}건 (재기동 후 재등록 작업이 다시 처리)", queue.size());
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private List<FaceDetectionJob> drainBatch() {
+        List<Long> memberIds = new ArrayList<>(maxMembersPerRequest);
+        queue.drainTo(memberIds, Math.max(1, maxMembersPerRequest));
+
+        List<FaceDetectionJob> batch = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            FaceDetectionJob job = pendingJobs.remove(memberId);
+            if (job != null) {
+                batch.add(job);
+            }
+        }
+        return batch;
+    }
 
-            // API 요청 데이터 구성
-            FaceDetectionRequest request = FaceDetectionRequest.builder()
-                .images(profileImages.stream()
+    private void dispatch(List<FaceDetectionJob> batch) {
+        FaceDetectionRequest request = FaceDetectionRequest.builder()
+            .images(batch.stream()
+                .flatMap(job -> job.images().stream()
                     .map(img -> FaceDetectionImageData.builder()
-                        .imageIdx(img.getSortOrder())
-                        .memberId(member.getId())
-                        .image(img.getImageUrl())
-                        .build())
-                    .collect(Collectors.toList()))
-                .build();
-
-            // API 호출
-            FaceDetectionApiResponse response = webClient
-                .post()
-                .uri(faceDetectionApiUrl)
-                .header("Content-Type", "application/json")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(FaceDetectionApiResponse.class)
-                .timeout(Duration.ofSeconds(30))
-                .block();
-
-            if (response != null && response.isResult()) {
-                // 결과 처리
-                response.getData().getResults().forEach(result -> {
-                    profileImages.stream()
-                        .filter(img -> img.getSortOrder().equals(result.getImageIdx()))
-                        .findFirst()
-                        .ifPresent(img -> {
-                            img.setAiProcessed(result.isDetectFace());
-                            profileImageRepository.save(img);
-                            log.info("얼굴 인식 결과 업데이트 - 순서: {}, 결과: {}",
-                                result.getImageIdx(), result.isDetectFace());
-                        });
+                        .imageIdx(img.sortOrder())
+                        .memberId(job.memberId())
+                        .image(img.imageUrl())
+                        .build()))
+                .toList())
+            .build();
+
+        log.info("얼굴 인식 API 요청 - 회원 {}명, 이미지 {}장", batch.size(), request.getImages().size());
+
+        webClient
+            .post()
+            .uri(faceDetectionApiUrl)
+            .header("Content-Type", "application/json")
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(FaceDetectionApiResponse.class)
+            .timeout(Duration.ofSeconds(timeoutSeconds))
+            // 결과 반영은 JDBC 블로킹 호출이므로 이벤트 루프가 아닌 별도 스레드에서 수행
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(response -> applyResults(batch, response))
+            .doFinally(signal -> inFlightRequests.release())
+            .subscribe(
+                response -> { },
+                e -> {
+                    failedCount.addAndGet(batch.size());
+                    log.error("얼굴 인식 처리 실패 - 회원 ID: {}",
+                        batch.stream().map(FaceDetectionJob::memberId).toList(), e);
                 });
+    }
+
+    private void applyResults(List<FaceDetectionJob> batch, FaceDetectionApiResponse response) {
+        if (response == null || !response.isResult() || response.getData() == null
+            || response.getData().getResults() == null) {
+            log.warn("얼굴 인식 API 실패 응답 - code: {}, message: {}",
+                response != null ? response.getCode() : null, response != null ? response.getMessage() : null);
+            failedCount.addAndGet(batch.size());
+            return;
+        }
+
+        Map<String, ImageRef> imagesByKey = new HashMap<>();
+        for (FaceDetectionJob job : batch) {
+            for (ImageRef img : job.images()) {
+                imagesByKey.put(resultKey(job.memberId(), img.sortOrder()), img);
+            }
+        }
+
+        List<Object[]> updates = new ArrayList<>(imagesByKey.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (FaceDetectionResultData result : response.getData().getResults()) {
+            // 응답에 회원 ID 가 없으면 단일 회원 요청일 때만 매칭 가능
+            Long memberId = result.getMemberId() != null ? result.getMemberId()
+                : batch.size() == 1 ? batch.get(0).memberId() : null;
+            ImageRef img = imagesByKey.get(resultKey(memberId, result.getImageIdx()));
+            if (img == null) {
+                log.warn("얼굴 인식 결과 매칭 실패 - 회원 ID: {}, 순서: {}", memberId, result.getImageIdx());
+                continue;
             }
+            updates.add(new Object[]{result.isDetectFace(), now, now, img.id(), img.imageUrl()});
+        }
 
-        } catch (Exception e) {
-            log.error("얼굴 인식 처리 실패 - 회원 ID: {}", member.getId(), e);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
         }
+        log.info("얼굴 인식 결과 반영 완료 - 회원 {}명, 이미지 {}장", batch.size(), updates.size());
+    }
+
+    private static String resultKey(Long memberId, Integer sortOrder) {
+        return memberId + ":" + sortOrder;
+    }
+
+    private record FaceDetectionJob(Long memberId, List<ImageRef> images) {
+    }
+
+    private record ImageRef(Long id, Integer sortOrder, String imageUrl) {
     }
 
     // DTO 클래스들
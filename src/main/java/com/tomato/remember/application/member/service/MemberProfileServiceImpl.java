@@ -60,15 +60,15 @@ public class MemberProfileServiceImpl implements MemberProfileService {
         // 3. 저장
         Member updatedMember = memberRepository.save(member);
 
-        // 4. 🔥 프로필 이미지가 5장 완성되면 얼굴 인식 처리 (간단 버전)
+        // 4. 최종 이미지 정보 다시 조회
+        List<MemberAiProfileImage> finalImages = profileImageRepository.findByMemberOrderBySortOrderAsc(updatedMember);
+
+        // 5. 🔥 프로필 이미지가 5장 완성되면 얼굴 인식 요청 (커밋 후 비동기 배치 처리, 결과는 별도 반영)
         if (imageResult.getFinalImageCount() == 5) {
-            log.info("프로필 이미지 5장 완성 - 얼굴 인식 처리 시작");
-            faceDetectionService.processProfileImages(updatedMember);
+            log.info("프로필 이미지 5장 완성 - 얼굴 인식 작업 등록");
+            faceDetectionService.processProfileImages(updatedMember.getId(), finalImages);
         }
 
-        // 5. 최종 이미지 정보 다시 조회 (얼굴 인식 결과 포함)
-        List<MemberAiProfileImage> finalImages = profileImageRepository.findByMemberOrderBySortOrderAsc(updatedMember);
-
         List<ProfileImageDTO> finalImageDTOs = finalImages.stream()
         .map(img -> ProfileImageDTO.builder()
             .sortOrder(img.getSortOrder())
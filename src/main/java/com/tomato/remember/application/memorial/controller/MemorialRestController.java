@@ -5,10 +5,17 @@ import com.tomato.remember.application.memorial.service.MemorialQuestionService;
 import com.tomato.remember.application.memorial.service.MemorialService;
 import com.tomato.remember.application.member.entity.Member;
 import com.tomato.remember.application.security.MemberUserDetails;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStartRequest;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStatusResponse;
+import com.tomato.remember.application.upload.service.ChunkedUploadService;
 import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.code.StorageCategory;
+import com.tomato.remember.common.dto.DirectUploadRequest;
+import com.tomato.remember.common.dto.DirectUploadResponse;
 import com.tomato.remember.common.dto.ListDTO;
 import com.tomato.remember.common.dto.ResponseDTO;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.util.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -42,6 +49,8 @@ public class MemorialRestController {
 
     private final MemorialService memorialService;
     private final MemorialQuestionService memorialQuestionService;
+    private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * 메모리얼 등록
@@ -49,7 +58,7 @@ public class MemorialRestController {
      * @param memorialData 메모리얼 기본 정보 (JSON)
      * @param profileImages 프로필 이미지 파일들 (5장 필수)
      * @param voiceFiles 음성 파일들 (3개 필수)
-     * @param videoFile 영상 파일 (1개 필수)
+     * @param videoFile 영상 파일 (1개 필수, memorialData.videoUploadKey 로 직접 업로드한 경우 생략)
      * @param userDetails 현재 로그인된 사용자
      * @return 메모리얼 등록 결과
      */
@@ -65,7 +74,7 @@ public class MemorialRestController {
             @RequestPart("memorialData") @Valid MemorialCreateRequestDTO memorialData,
             @RequestPart("profileImages") List<MultipartFile> profileImages,
             @RequestPart("voiceFiles") List<MultipartFile> voiceFiles,
-            @RequestPart("videoFile") MultipartFile videoFile,
+            @RequestPart(value = "videoFile", required = false) MultipartFile videoFile,
             @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails) {
 
         Member member = userDetails.getMember();
@@ -74,7 +83,7 @@ public class MemorialRestController {
 
         try {
             // 1. 파일 개수 유효성 검사
-            validateFileCount(profileImages, voiceFiles, videoFile);
+            validateFileCount(profileImages, voiceFiles, videoFile, memorialData.hasVideoUploadKey());
 
             // 2. 동적 질문 답변 유효성 검사
             validateQuestionAnswers(memorialData.getQuestionAnswers());
@@ -98,6 +107,58 @@ public class MemorialRestController {
         }
     }
 
+    /**
+     * 메모리얼 영상 직접 업로드 URL 발급
+     * - 클라이언트는 발급된 URL 로 스토리지에 직접 PUT 한 뒤, 메모리얼 생성 시 memorialData.videoUploadKey 로 완료를 알림
+     * - direct=false 응답이면 기존처럼 videoFile 파트로 업로드
+     *
+     * @param request 원본 파일명 / 크기
+     * @param userDetails 현재 로그인된 사용자
+     * @return 업로드 URL 과 객체 키
+     */
+    @Operation(summary = "메모리얼 영상 직접 업로드 URL 발급", description = "대용량 영상을 앱 서버를 거치지 않고 스토리지에 직접 업로드할 수 있는 사전 서명 URL 을 발급합니다.")
+    @SecurityRequirement(name = "BearerAuth")
+    @PostMapping("/uploads/video")
+    public ResponseDTO<DirectUploadResponse> presignVideoUpload(
+            @RequestBody @Valid DirectUploadRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new APIException(ResponseStatus.UNAUTHORIZED);
+        }
+
+        Member member = userDetails.getMember();
+        return ResponseDTO.ok(fileStorageService.presignVideoUpload(
+                StorageCategory.MEMORIAL, member.getId(), request.getFileName(), request.getSize()));
+    }
+
+    /**
+     * 메모리얼 영상 분할 업로드 시작
+     * - 조각은 /api/uploads/chunked/{uploadId}/chunks/{index} 로 전송 (끊기면 빠진 조각만 재전송)
+     * - 마지막 조각 수신 후 변환/저장이 끝나면 상태 조회의 resultKey 를 memorialData.videoUploadKey 로 전달
+     *
+     * @param request 원본 파일명 / 전체 크기
+     * @param userDetails 현재 로그인된 사용자
+     * @return 업로드 ID, 조각 크기, 조각 수
+     */
+    @Operation(summary = "메모리얼 영상 분할 업로드 시작", description = "불안정한 네트워크에서도 이어 올릴 수 있도록 영상을 고정 크기 조각으로 나눠 업로드합니다.")
+    @SecurityRequirement(name = "BearerAuth")
+    @PostMapping("/uploads/video/chunked")
+    public ResponseDTO<ChunkedUploadStatusResponse> startChunkedVideoUpload(
+            @RequestBody @Valid ChunkedUploadStartRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new APIException(ResponseStatus.UNAUTHORIZED);
+        }
+
+        Long memberId = userDetails.getMember().getId();
+        String fileName = request.getFileName();
+        fileStorageService.validateVideoFileName(fileName);
+        return ResponseDTO.ok(chunkedUploadService.start(memberId, fileName, request.getSize(),
+                assembled -> fileStorageService.storeUploadedVideo(assembled, fileName, StorageCategory.MEMORIAL, memberId)));
+    }
+
     /**
      * 사용자의 메모리얼 목록 조회
      *
@@ -251,7 +312,8 @@ public class MemorialRestController {
      */
     private void validateFileCount(List<MultipartFile> profileImages,
                                    List<MultipartFile> voiceFiles,
-                                   MultipartFile videoFile) {
+                                   MultipartFile videoFile,
+                                   boolean directVideo) {
 
         // 프로필 이미지 검사
         if (profileImages == null || profileImages.size() != 5) {
@@ -263,8 +325,8 @@ public class MemorialRestController {
             throw new IllegalArgumentException("음성 파일은 정확히 3개가 필요합니다.");
         }
 
-        // 영상 파일 검사
-        if (videoFile == null || videoFile.isEmpty()) {
+        // 영상 파일 검사 (직접 업로드한 경우 완료 처리 시 검증)
+        if (!directVideo && (videoFile == null || videoFile.isEmpty())) {
             throw new IllegalArgumentException("영상 파일은 1개가 필요합니다.");
         }
 
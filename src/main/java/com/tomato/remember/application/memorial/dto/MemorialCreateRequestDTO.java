@@ -62,6 +62,11 @@ public class MemorialCreateRequestDTO {
     @Builder.Default
     private Boolean isPublic = false;
 
+    /**
+     * 사전 서명 URL 로 직접 업로드한 영상 키 (있으면 videoFile 파트 생략)
+     */
+    private String videoUploadKey;
+
     // ===== 헬퍼 메서드 =====
 
     /**
@@ -110,6 +115,13 @@ public class MemorialCreateRequestDTO {
                 .count();
     }
 
+    /**
+     * 직접 업로드한 영상 키 존재 여부
+     */
+    public boolean hasVideoUploadKey() {
+        return videoUploadKey != null && !videoUploadKey.isBlank();
+    }
+
     /**
      * 답변 유효성 검사
      */
@@ -5,6 +5,7 @@ import com.tomato.remember.application.memorial.entity.Memorial;
 import com.tomato.remember.application.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,6 +25,8 @@ public interface MemorialRepository extends JpaRepository<Memorial, Long> {
      */
     Page<Memorial> findByOwnerOrderByCreatedAtDesc(Member owner, Pageable pageable);
 
+    // 가족 관리 화면이 가족 구성원 수를 표시하므로 함께 조회 (open-in-view 없이 렌더링)
+    @EntityGraph(attributePaths = {"owner", "familyMembers"})
     List<Memorial> findByOwnerOrderByCreatedAtDesc(Member owner);
 
     /**
@@ -96,6 +99,7 @@ public interface MemorialRepository extends JpaRepository<Memorial, Long> {
         "       AND fm.memorialAccess = true " +
         "       AND m.status = 'ACTIVE') " +
         "ORDER BY m.createdAt DESC")
+    @EntityGraph(attributePaths = {"owner"})
     Page<Memorial> findAccessibleMemorialsByMember(@Param("member") Member member, Pageable pageable);
 
     /**
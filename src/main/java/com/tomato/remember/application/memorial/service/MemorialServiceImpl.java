@@ -19,10 +19,12 @@ import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.code.StorageCategory;
 import com.tomato.remember.common.dto.ListDTO;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.storage.StoredObject;
 import com.tomato.remember.common.util.FileStorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -82,8 +84,10 @@ public class MemorialServiceImpl implements MemorialService {
             // 5. 음성 파일 처리
             uploadedFileUrls.addAll(processVoiceFiles(memorial, voiceFiles, member.getId()));
 
-            // 6. 영상 파일 처리
-            uploadedFileUrls.add(processVideoFile(memorial, videoFile, member.getId()));
+            // 6. 영상 파일 처리 (직접 업로드한 경우 완료 처리)
+            uploadedFileUrls.add(memorialData.hasVideoUploadKey()
+                ? processUploadedVideoFile(memorial, memorialData.getVideoUploadKey(), member.getId())
+                : processVideoFile(memorial, videoFile, member.getId()));
 
             // 7. 메모리얼 저장
             Memorial savedMemorial = memorialRepository.save(memorial);
@@ -157,7 +161,7 @@ public class MemorialServiceImpl implements MemorialService {
         }
 
         // 파일 검증
-        validateFileCount(profileImages, voiceFiles, videoFile);
+        validateFileCount(profileImages, voiceFiles, videoFile, memorialData.hasVideoUploadKey());
 
         // 질문 답변 검증
         validateQuestionAnswers(memorialData.getQuestionAnswers());
@@ -539,6 +543,27 @@ public class MemorialServiceImpl implements MemorialService {
         }
     }
 
+    /**
+     * 사전 서명 URL 로 직접 업로드된 영상 완료 처리 (본인 키인지 확인 후 필요 시 MP4 변환)
+     */
+    private String processUploadedVideoFile(Memorial memorial, String uploadKey, Long memberId) {
+        if (!fileStorageService.isUploadKeyOf(uploadKey, StorageCategory.MEMORIAL, memberId)) {
+            throw new APIException("올바르지 않은 업로드 키입니다.", ResponseStatus.FILE_ACCESS_DENIED);
+        }
+
+        String relativePath = fileStorageService.completeVideoUpload(uploadKey);
+        StoredObject stored = fileStorageService.getUploadedObject(relativePath);
+        String fileUrl = fileStorageService.toAbsoluteUrl(relativePath);
+
+        MemorialFile memorialFile = MemorialFile.createVideoFile(
+            memorial, fileUrl, FilenameUtils.getName(uploadKey), stored.size(), stored.contentType());
+
+        memorial.addFile(memorialFile);
+
+        log.info("직접 업로드 영상 처리 완료 - 키: {}, URL: {}", uploadKey, fileUrl);
+        return fileUrl;
+    }
+
     // 기존 DTO 변환 메서드들도 그대로 유지
     private MemorialListResponseDTO convertToListResponseDTO(Memorial memorial, boolean hasRequiredProfileImages, Member currentUser) {
         boolean isOwner = memorial.getOwner().getId().equals(currentUser.getId());
@@ -629,7 +654,8 @@ public class MemorialServiceImpl implements MemorialService {
 
     private void validateFileCount(List<MultipartFile> profileImages,
                                    List<MultipartFile> voiceFiles,
-                                   MultipartFile videoFile) {
+                                   MultipartFile videoFile,
+                                   boolean directVideo) {
 
         if (profileImages == null || profileImages.size() != 5) {
             throw new IllegalArgumentException("프로필 이미지는 정확히 5장이 필요합니다.");
@@ -639,7 +665,7 @@ public class MemorialServiceImpl implements MemorialService {
             throw new IllegalArgumentException("음성 파일은 정확히 3개가 필요합니다.");
         }
 
-        if (videoFile == null || videoFile.isEmpty()) {
+        if (!directVideo && (videoFile == null || videoFile.isEmpty())) {
             throw new IllegalArgumentException("영상 파일은 1개가 필요합니다.");
         }
 
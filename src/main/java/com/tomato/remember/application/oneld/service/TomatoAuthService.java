@@ -23,6 +23,8 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Service
 @Slf4j
 public class TomatoAuthService {
@@ -60,13 +62,19 @@ public class TomatoAuthService {
     @Value("${one-id.endpoints.password-reset}")
     private String passwordReset;
 
+    // 로그인/가입 호출 타임아웃 (One-ID 지연이 요청 스레드/커넥션 점유로 번지지 않도록 제한)
+    @Value("${one-id.timeout-seconds:5}")
+    private int timeoutSeconds;
+
     private final WebClient webClient;
 
-    public TomatoAuthService(@Value("${one-id.base-url}") String baseUrl) {
+    public TomatoAuthService(@Value("${one-id.base-url}") String baseUrl,
+                             @Value("${one-id.logging.sample-rate:1.0}") double logSampleRate,
+                             @Value("${one-id.logging.max-body-preview-bytes:2048}") int maxBodyPreviewBytes) {
         this.webClient = WebClient.builder()
             .baseUrl(baseUrl)
-            .filter(WebClientLoggingFilter.logRequest())   // 요청 로깅
-            .filter(WebClientLoggingFilter.logResponseBody())  // 응답 로깅
+            // DEBUG 일 때만 요청/응답 로깅 (그 외에는 응답 바디를 건드리지 않음)
+            .filter(WebClientLoggingFilter.logExchange(logSampleRate, maxBodyPreviewBytes))
             .build();
     }
 
@@ -94,7 +102,8 @@ public class TomatoAuthService {
                 HttpStatusCode::is5xxServerError,
                 clientResp -> Mono.error(
                     new APIException("One-ID 서버 오류", ResponseStatus.INTERNAL_SERVER_ERROR)))
-            .bodyToMono(OneIdResponse.class);
+            .bodyToMono(OneIdResponse.class)
+            .timeout(Duration.ofSeconds(timeoutSeconds));
     }
 
     public Mono<OneIdResponse> sendSmsCert(AuthRequestDTO req) {
@@ -189,9 +198,10 @@ public class TomatoAuthService {
             .onStatus(HttpStatusCode::is5xxServerError,
                 resp -> Mono.error(
                     new APIException("One-ID 서버 오류", ResponseStatus.INTERNAL_SERVER_ERROR)))
-            .bodyToMono(OneIdResponse.class);
+            .bodyToMono(OneIdResponse.class)
+            .timeout(Duration.ofSeconds(timeoutSeconds));
 
-        // 블록해서 OneIdResponse 객체를 동기적으로 리턴
+        // 블록해서 OneIdResponse 객체를 동기적으로 리턴 (호출 측에 트랜잭션 없음, 타임아웃으로 대기 상한)
         return mono.block();
     }
 
@@ -11,6 +11,11 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 회원 인증 주체 조회
+ * - readOnly 트랜잭션은 읽기 전용 복제본으로 라우팅되므로, 가입/로그인 직후 복제 지연으로 인증이 실패하지 않도록
+ *   이 서비스의 조회는 모두 일반 트랜잭션(Writer)으로 처리
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,7 +24,7 @@ public class MemberUserDetailsService implements UserDetailsService {
     private final MemberRepository memberRepository;
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", username);
 
@@ -33,7 +38,7 @@ public class MemberUserDetailsService implements UserDetailsService {
         return new MemberUserDetails(member);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserById(Long memberId) throws UsernameNotFoundException {
         log.debug("Loading user by ID: {}", memberId);
 
@@ -47,7 +52,7 @@ public class MemberUserDetailsService implements UserDetailsService {
         return new MemberUserDetails(member);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserByPhoneNumber(String phoneNumber) throws UsernameNotFoundException {
         log.debug("Loading user by phone number: {}", phoneNumber);
 
@@ -61,7 +66,7 @@ public class MemberUserDetailsService implements UserDetailsService {
         return new MemberUserDetails(member);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserByEmail(String email) throws UsernameNotFoundException {
         log.debug("Loading user by email: {}", email);
 
@@ -76,38 +81,38 @@ public class MemberUserDetailsService implements UserDetailsService {
     }
 
     // 사용자 상태 확인 메서드들
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isUserActive(String userKey) {
         return memberRepository.findByUserKeyAndStatusNot(userKey, MemberStatus.DELETED)
             .map(member -> member.getStatus() == MemberStatus.ACTIVE)
             .orElse(false);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isUserBlocked(String userKey) {
         return memberRepository.findByUserKeyAndStatusNot(userKey, MemberStatus.DELETED)
             .map(member -> member.getStatus() == MemberStatus.BLOCKED)
             .orElse(false);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isUserDeleted(String userKey) {
         return memberRepository.findByUserKey(userKey)
             .map(member -> member.getStatus() == MemberStatus.DELETED)
             .orElse(false);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean existsByUserKey(String userKey) {
         return memberRepository.existsByUserKeyAndStatusNot(userKey, MemberStatus.DELETED);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean existsByPhoneNumber(String phoneNumber) {
         return memberRepository.existsByPhoneNumberAndStatusNot(phoneNumber, MemberStatus.DELETED);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean existsByEmail(String email) {
         return memberRepository.existsByEmailAndStatusNot(email, MemberStatus.DELETED);
     }
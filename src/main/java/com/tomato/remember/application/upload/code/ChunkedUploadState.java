@@ -0,0 +1,32 @@
+package com.tomato.remember.application.upload.code;
+
+/**
+ * 분할 업로드 상태
+ */
+public enum ChunkedUploadState {
+
+    /**
+     * 조각 수신 중
+     */
+    UPLOADING,
+
+    /**
+     * 모든 조각 수신 - 후처리(변환/스토리지 저장) 중
+     */
+    PROCESSING,
+
+    /**
+     * 후처리 완료 (resultKey 사용 가능)
+     */
+    COMPLETED,
+
+    /**
+     * 후처리 실패
+     */
+    FAILED,
+
+    /**
+     * 취소 또는 만료
+     */
+    ABORTED
+}
@@ -0,0 +1,97 @@
+package com.tomato.remember.application.upload.controller;
+
+import com.tomato.remember.application.security.MemberUserDetails;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStatusResponse;
+import com.tomato.remember.application.upload.service.ChunkedUploadService;
+import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.dto.ResponseDTO;
+import com.tomato.remember.common.exception.APIException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 분할 업로드 공통 API (조각 전송 / 상태 조회 / 취소)
+ * - 업로드 시작은 용도별 API 에서 수행 (메모리얼 영상: /api/memorials/uploads/video/chunked,
+ *   영상통화 녹화: /api/ws-video/process/{sessionKey}/chunked)
+ * - 조각 본문은 multipart 가 아닌 원본 바이트 (application/octet-stream)
+ */
+@Tag(name = "Chunked Upload API", description = "분할(재개 가능) 업로드 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/uploads/chunked")
+@RequiredArgsConstructor
+public class ChunkedUploadRestController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 조각 전송 - 순서 무관, 병렬 전송 가능, 같은 조각 재전송은 무시
+     *
+     * @param uploadId 업로드 ID
+     * @param index 조각 번호 (0부터)
+     * @param checksum 조각 본문의 SHA-256 (hex)
+     */
+    @Operation(summary = "조각 전송", description = "고정 크기 조각을 전송합니다. 마지막 조각을 제외한 모든 조각은 chunkSize 와 같아야 합니다.")
+    @SecurityRequirement(name = "BearerAuth")
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseDTO<ChunkedUploadStatusResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader("X-Chunk-Sha256") String checksum,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails,
+            HttpServletRequest request) throws IOException {
+
+        Long memberId = requireMemberId(userDetails);
+        return ResponseDTO.ok(chunkedUploadService.writeChunk(
+                uploadId, memberId, index, checksum, request.getInputStream()));
+    }
+
+    /**
+     * 업로드 상태 조회 - 재개 시 missingChunks 만 다시 전송, 완료 시 resultKey 확인
+     */
+    @Operation(summary = "분할 업로드 상태 조회")
+    @SecurityRequirement(name = "BearerAuth")
+    @GetMapping("/{uploadId}")
+    public ResponseDTO<ChunkedUploadStatusResponse> getStatus(
+            @PathVariable String uploadId,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+        return ResponseDTO.ok(chunkedUploadService.getStatus(uploadId, requireMemberId(userDetails)));
+    }
+
+    /**
+     * 업로드 취소
+     */
+    @Operation(summary = "분할 업로드 취소")
+    @SecurityRequirement(name = "BearerAuth")
+    @DeleteMapping("/{uploadId}")
+    public ResponseDTO<Void> abort(
+            @PathVariable String uploadId,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+        chunkedUploadService.abort(uploadId, requireMemberId(userDetails));
+        return ResponseDTO.ok();
+    }
+
+    private Long requireMemberId(MemberUserDetails userDetails) {
+        if (userDetails == null) {
+            throw new APIException(ResponseStatus.UNAUTHORIZED);
+        }
+        return userDetails.getMember().getId();
+    }
+}
@@ -0,0 +1,25 @@
+package com.tomato.remember.application.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 시작 요청
+ */
+@Data
+@NoArgsConstructor
+public class ChunkedUploadStartRequest {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    private String fileName;
+
+    @Positive(message = "파일 크기가 올바르지 않습니다")
+    private long size;
+
+    /**
+     * 영상통화 녹화 전용 - 응답 영상 대상 (없으면 기본값)
+     */
+    private String contactKey;
+}
@@ -0,0 +1,28 @@
+package com.tomato.remember.application.upload.dto;
+
+import com.tomato.remember.application.upload.code.ChunkedUploadState;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 분할 업로드 상태 응답
+ * - 재개 시 missingChunks 만 다시 보내면 됨 (순서 무관, 병렬 전송 가능)
+ * - state=COMPLETED 이면 resultKey 로 후속 요청 (예: 메모리얼 생성 시 videoUploadKey)
+ */
+@Data
+@Builder
+public class ChunkedUploadStatusResponse {
+
+    private final String uploadId;
+    private final ChunkedUploadState state;
+    private final long size;
+    private final int chunkSize;
+    private final int totalChunks;
+    private final int receivedChunks;
+    private final List<Integer> missingChunks;
+    private final String resultKey;
+    private final String error;
+    private final Instant expiresAt;
+}
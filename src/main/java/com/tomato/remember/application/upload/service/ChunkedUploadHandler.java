@@ -0,0 +1,13 @@
+package com.tomato.remember.application.upload.service;
+
+import java.nio.file.Path;
+
+/**
+ * 분할 업로드 완료 처리기 - 마지막 조각이 도착하면 조립된 파일로 호출 (별도 가상 스레드)
+ * 반환값은 상태 조회 시 resultKey 로 내려감 (보통 스토리지 상대 경로)
+ */
+@FunctionalInterface
+public interface ChunkedUploadHandler {
+
+    String complete(Path assembledFile) throws Exception;
+}
@@ -0,0 +1,478 @@
+package com.tomato.remember.application.upload.service;
+
+import com.tomato.remember.application.upload.code.ChunkedUploadState;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStatusResponse;
+import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.exception.APIException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분할(재개 가능) 업로드
+ * - 업로드 세션마다 전체 크기의 작업 파일을 만들고, 고정 크기 조각을 FileChannel 위치 지정 쓰기로 바로 제자리에 기록
+ *   → 조각 순서 무관, 병렬 전송 가능, 별도 병합 단계 없음
+ * - 조각마다 SHA-256 체크섬 검증, 이미 받은 조각의 재전송은 본문을 읽지 않고 현재 상태만 응답
+ * - 마지막 조각이 도착하면 완료 처리기(변환/스토리지 저장)를 가상 스레드에서 바로 시작
+ * - 세션은 노드 메모리에 보관 (같은 업로드의 요청은 같은 노드로 라우팅되어야 함), 만료 세션은 주기적으로 정리
+ * - 후처리에도 제한 시간을 두어 멈춘 처리기가 세션을 계속 붙잡지 않도록 함
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, ChunkedUpload> uploads = new ConcurrentHashMap<>();
+    // 회원별 조각 수신 중(UPLOADING) 업로드 수 - compute 로 확인과 증가를 원자적으로 처리
+    private final Map<Long, Integer> activeByOwner = new ConcurrentHashMap<>();
+    private final ExecutorService completionExecutor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("chunked-upload-", 0).factory());
+
+    private final Path workDir;
+    private final int chunkSize;
+    private final long maxUploadBytes;
+    private final Duration sessionTtl;
+    private final Duration processingTimeout;
+    private final int maxActivePerOwner;
+
+    public ChunkedUploadService(
+        @Value("${app.upload.chunked.work-dir:${java.io.tmpdir}/remember-chunks}") String workDir,
+        @Value("${app.upload.chunked.chunk-size-bytes:8388608}") int chunkSize,
+        @Value("${app.upload.chunked.max-upload-bytes:524288000}") long maxUploadBytes,
+        @Value("${app.upload.chunked.session-ttl-minutes:1440}") long sessionTtlMinutes,
+        @Value("${app.upload.chunked.max-active-per-owner:3}") int maxActivePerOwner,
+        @Value("${app.upload.chunked.processing-timeout-minutes:30}") long processingTimeoutMinutes) throws IOException {
+        this.workDir = Files.createDirectories(Paths.get(workDir).toAbsolutePath().normalize());
+        this.chunkSize = chunkSize;
+        this.maxUploadBytes = maxUploadBytes;
+        this.sessionTtl = Duration.ofMinutes(sessionTtlMinutes);
+        this.processingTimeout = Duration.ofMinutes(processingTimeoutMinutes);
+        this.maxActivePerOwner = maxActivePerOwner;
+        log.info("분할 업로드 작업 디렉토리: {}, 조각 크기: {} bytes", this.workDir, chunkSize);
+    }
+
+    /**
+     * 분할 업로드 시작
+     *
+     * @param ownerId  업로드 소유자 (회원 ID) - 조각 전송/조회/취소 시 확인
+     * @param fileName 원본 파일명
+     * @param size     전체 크기
+     * @param handler  모든 조각 수신 후 실행할 완료 처리기
+     */
+    public ChunkedUploadStatusResponse start(Long ownerId, String fileName, long size, ChunkedUploadHandler handler) {
+        if (size <= 0) {
+            throw new APIException("파일 크기가 올바르지 않습니다.", ResponseStatus.BAD_REQUEST);
+        }
+        if (size > maxUploadBytes) {
+            throw new APIException("파일 크기는 " + (maxUploadBytes / (1024 * 1024)) + "MB 이하여야 합니다.",
+                ResponseStatus.FILE_SIZE_EXCEEDED);
+        }
+
+        acquireSlot(ownerId);
+
+        String uploadId = UUID.randomUUID().toString().replace("-", "");
+        Path file = workDir.resolve(uploadId + ".part");
+        int totalChunks = (int) ((size + chunkSize - 1) / chunkSize);
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            // 마지막 바이트를 먼저 써서 전체 크기를 확보 (어떤 조각이 먼저 와도 위치가 고정됨)
+            channel.write(ByteBuffer.allocate(1), size - 1);
+        } catch (IOException e) {
+            releaseSlot(ownerId);
+            deleteQuietly(file);
+            log.error("분할 업로드 작업 파일 생성 실패 - 경로: {}", file, e);
+            throw new APIException("업로드를 시작할 수 없습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
+        }
+
+        ChunkedUpload upload = new ChunkedUpload(uploadId, ownerId, FilenameUtils.getName(fileName), size,
+            totalChunks, file, channel, handler, Instant.now().plus(sessionTtl));
+        uploads.put(uploadId, upload);
+
+        log.info("분할 업로드 시작 - ID: {}, 소유자: {}, 파일: {}, 크기: {}, 조각 수: {}",
+            uploadId, ownerId, upload.fileName, size, totalChunks);
+        return toResponse(upload);
+    }
+
+    /**
+     * 조각 수신 - 위치 지정 쓰기 + 체크섬 검증
+     *
+     * @param index    조각 번호 (0부터)
+     * @param checksum 조각 본문의 SHA-256 (hex)
+     */
+    public ChunkedUploadStatusResponse writeChunk(String uploadId, Long ownerId, int index, String checksum,
+                                                  InputStream body) {
+        ChunkedUpload upload = require(uploadId, ownerId);
+
+        if (index < 0 || index >= upload.totalChunks) {
+            throw new APIException("조각 번호가 범위를 벗어났습니다: " + index, ResponseStatus.UPLOAD_CHUNK_INVALID);
+        }
+        if (checksum == null || checksum.isBlank()) {
+            throw new APIException("조각 체크섬(X-Chunk-Sha256)이 필요합니다.", ResponseStatus.UPLOAD_CHUNK_INVALID);
+        }
+
+        // 재전송된 조각 - 이미 기록됐거나 다른 요청이 기록 중이면 본문을 읽지 않고 현재 상태만 응답
+        // (기록 중인 요청이 실패하면 missingChunks 에 남으므로 클라이언트가 다시 보냄)
+        if (!upload.tryClaim(index)) {
+            log.debug("이미 수신했거나 수신 중인 조각 재전송 - ID: {}, 조각: {}", uploadId, index);
+            return toResponse(upload);
+        }
+
+        boolean accepted = false;
+        try {
+            if (upload.state != ChunkedUploadState.UPLOADING) {
+                throw new APIException(ResponseStatus.UPLOAD_SESSION_CLOSED);
+            }
+
+            long position = (long) index * chunkSize;
+            long expectedLength = Math.min(chunkSize, upload.size - position);
+            String actual = writeAt(upload, position, expectedLength, body);
+
+            if (!actual.equalsIgnoreCase(checksum.trim())) {
+                log.warn("조각 체크섬 불일치 - ID: {}, 조각: {}, 기대: {}, 실제: {}", uploadId, index, checksum, actual);
+                throw new APIException(ResponseStatus.UPLOAD_CHUNK_CHECKSUM_MISMATCH);
+            }
+            accepted = true;
+        } finally {
+            if (!accepted) {
+                upload.releaseClaim(index);
+            }
+        }
+
+        if (upload.markReceived(index)) {
+            releaseSlot(upload.ownerId);
+            upload.expiresAt = Instant.now().plus(processingTimeout);
+            completeAsync(upload);
+        } else if (upload.state == ChunkedUploadState.UPLOADING) {
+            upload.expiresAt = Instant.now().plus(sessionTtl);
+        }
+        return toResponse(upload);
+    }
+
+    /**
+     * 업로드 상태 조회 (재개 시 빠진 조각 확인, 완료 후 결과 키 확인)
+     */
+    public ChunkedUploadStatusResponse getStatus(String uploadId, Long ownerId) {
+        return toResponse(require(uploadId, ownerId));
+    }
+
+    /**
+     * 업로드 취소 - 작업 파일 삭제
+     */
+    public void abort(String uploadId, Long ownerId) {
+        ChunkedUpload upload = require(uploadId, ownerId);
+        if (upload.state == ChunkedUploadState.PROCESSING) {
+            throw new APIException("후처리 중인 업로드는 취소할 수 없습니다.", ResponseStatus.UPLOAD_SESSION_CLOSED);
+        }
+        discard(upload);
+        log.info("분할 업로드 취소 - ID: {}", uploadId);
+    }
+
+    /**
+     * 만료 세션 정리 - 후처리 중인 세션은 제한 시간을 넘기면 처리기를 중단하고 실패 처리
+     */
+    @Scheduled(fixedDelayString = "${app.upload.chunked.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        Instant now = Instant.now();
+        uploads.values().stream()
+            .filter(upload -> upload.expiresAt.isBefore(now))
+            .toList()
+            .forEach(upload -> {
+                if (upload.failIfProcessing("후처리 시간 초과")) {
+                    Future<?> completion = upload.completion;
+                    if (completion != null) {
+                        completion.cancel(true);
+                    }
+                    log.warn("후처리 시간 초과로 분할 업로드 정리 - ID: {}", upload.uploadId);
+                }
+                discard(upload);
+                log.info("만료된 분할 업로드 정리 - ID: {}, 상태: {}", upload.uploadId, upload.state);
+            });
+    }
+
+    /**
+     * 회원별 진행 중 업로드 수 확인 + 증가 (한도 초과 시 증가하지 않고 예외)
+     */
+    private void acquireSlot(Long ownerId) {
+        activeByOwner.compute(ownerId, (key, active) -> {
+            int current = active != null ? active : 0;
+            if (current >= maxActivePerOwner) {
+                throw new APIException("진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요.",
+                    ResponseStatus.TOO_MANY_FILES);
+            }
+            return current + 1;
+        });
+    }
+
+    private void releaseSlot(Long ownerId) {
+        activeByOwner.computeIfPresent(ownerId, (key, active) -> active > 1 ? active - 1 : null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+        uploads.values().forEach(upload -> closeQuietly(upload));
+    }
+
+    private ChunkedUpload require(String uploadId, Long ownerId) {
+        ChunkedUpload upload = uploadId == null ? null : uploads.get(uploadId);
+        // 다른 사용자의 업로드는 존재 여부도 드러내지 않음
+        if (upload == null || !upload.ownerId.equals(ownerId)) {
+            throw new APIException(ResponseStatus.UPLOAD_SESSION_NOT_FOUND);
+        }
+        return upload;
+    }
+
+    /**
+     * 조각 본문을 position 부터 기록하면서 SHA-256 계산 (본문을 메모리에 통째로 올리지 않음)
+     */
+    private String writeAt(ChunkedUpload upload, long position, long expectedLength, InputStream body) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+
+        try {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new APIException("조각 크기가 올바르지 않습니다. 기대: " + expectedLength + " bytes",
+                        ResponseStatus.UPLOAD_CHUNK_INVALID);
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    written += upload.channel.write(chunk, position + written);
+                }
+            }
+        } catch (IOException e) {
+            if (!upload.channel.isOpen()) {
+                throw new APIException(ResponseStatus.UPLOAD_SESSION_CLOSED);
+            }
+            log.warn("조각 수신 실패 - ID: {}, 위치: {}, 수신: {} bytes", upload.uploadId, position, written, e);
+            throw new APIException("조각 수신에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
+        }
+
+        if (written != expectedLength) {
+            throw new APIException("조각 크기가 올바르지 않습니다. 기대: " + expectedLength + " bytes, 수신: " + written
+                + " bytes", ResponseStatus.UPLOAD_CHUNK_INVALID);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 모든 조각 수신 - 디스크 동기화 후 완료 처리기 실행 (녹화는 여기서 바로 변환 시작)
+     */
+    private void completeAsync(ChunkedUpload upload) {
+        log.info("분할 업로드 수신 완료 - ID: {}, 후처리 시작", upload.uploadId);
+        upload.completion = completionExecutor.submit(() -> {
+            long startNanos = System.nanoTime();
+            try {
+                upload.channel.force(true);
+                upload.channel.close();
+
+                String resultKey = upload.handler.complete(upload.file);
+                upload.finish(ChunkedUploadState.COMPLETED, resultKey, null);
+                upload.expiresAt = Instant.now().plus(sessionTtl); // 결과 조회 가능 기간
+                log.info("분할 업로드 후처리 완료 - ID: {}, 결과: {} ({}ms)",
+                    upload.uploadId, resultKey, (System.nanoTime() - startNanos) / 1_000_000);
+            } catch (Exception e) {
+                upload.finish(ChunkedUploadState.FAILED, null, e.getMessage());
+                upload.expiresAt = Instant.now().plus(sessionTtl);
+                log.error("분할 업로드 후처리 실패 - ID: {}", upload.uploadId, e);
+            } finally {
+                deleteQuietly(upload.file);
+            }
+        });
+    }
+
+    private void discard(ChunkedUpload upload) {
+        uploads.remove(upload.uploadId);
+        if (upload.abortIfUploading()) {
+            releaseSlot(upload.ownerId);
+        }
+        closeQuietly(upload);
+        deleteQuietly(upload.file);
+    }
+
+    private ChunkedUploadStatusResponse toResponse(ChunkedUpload upload) {
+        List<Integer> missing = new ArrayList<>();
+        int received;
+        synchronized (upload) {
+            for (int i = upload.received.nextClearBit(0); i < upload.totalChunks; i = upload.received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+            received = upload.received.cardinality();
+        }
+
+        return ChunkedUploadStatusResponse.builder()
+            .uploadId(upload.uploadId)
+            .state(upload.state)
+            .size(upload.size)
+            .chunkSize(chunkSize)
+            .totalChunks(upload.totalChunks)
+            .receivedChunks(received)
+            .missingChunks(missing)
+            .resultKey(upload.resultKey)
+            .error(upload.error)
+            .expiresAt(upload.expiresAt)
+            .build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static void closeQuietly(ChunkedUpload upload) {
+        try {
+            upload.channel.close();
+        } catch (IOException e) {
+            log.debug("작업 파일 닫기 실패 (무시됨) - ID: {}", upload.uploadId);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("작업 파일 삭제 실패 - 경로: {}", file);
+        }
+    }
+
+    /**
+     * 업로드 세션 상태 (조각 수신 비트맵 + 작업 파일 채널)
+     */
+    private static final class ChunkedUpload {
+
+        private final String uploadId;
+        private final Long ownerId;
+        private final String fileName;
+        private final long size;
+        private final int totalChunks;
+        private final Path file;
+        private final FileChannel channel;
+        private final ChunkedUploadHandler handler;
+        private final BitSet received;
+        private final BitSet writing;
+
+        private volatile ChunkedUploadState state = ChunkedUploadState.UPLOADING;
+        private volatile Instant expiresAt;
+        private volatile String resultKey;
+        private volatile String error;
+        private volatile Future<?> completion;
+
+        private ChunkedUpload(String uploadId, Long ownerId, String fileName, long size, int totalChunks,
+                              Path file, FileChannel channel, ChunkedUploadHandler handler, Instant expiresAt) {
+            this.uploadId = uploadId;
+            this.ownerId = ownerId;
+            this.fileName = fileName;
+            this.size = size;
+            this.totalChunks = totalChunks;
+            this.file = file;
+            this.channel = channel;
+            this.handler = handler;
+            this.received = new BitSet(totalChunks);
+            this.writing = new BitSet(totalChunks);
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * 조각 기록 선점 - 이미 받았거나 다른 요청이 기록 중이면 false
+         * (같은 조각을 동시에 쓰다 체크섬이 틀린 쪽이 정상 기록을 덮어쓰는 것을 방지)
+         */
+        private synchronized boolean tryClaim(int index) {
+            if (received.get(index) || writing.get(index)) {
+                return false;
+            }
+            writing.set(index);
+            return true;
+        }
+
+        private synchronized void releaseClaim(int index) {
+            writing.clear(index);
+        }
+
+        /**
+         * 조각 수신 표시 - 이번 조각으로 전체 수신이 끝났으면 true (한 번만)
+         */
+        private synchronized boolean markReceived(int index) {
+            writing.clear(index);
+            received.set(index);
+            if (state == ChunkedUploadState.UPLOADING && received.cardinality() == totalChunks) {
+                state = ChunkedUploadState.PROCESSING;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 후처리 결과 기록 - 시간 초과로 이미 실패 처리된 경우 늦게 끝난 결과는 무시
+         */
+        private synchronized void finish(ChunkedUploadState state, String resultKey, String error) {
+            if (this.state != ChunkedUploadState.PROCESSING) {
+                return;
+            }
+            this.state = state;
+            this.resultKey = resultKey;
+            this.error = error;
+        }
+
+        /**
+         * 조각 수신 중이면 취소 상태로 전환 - 전환했으면 true (한 번만)
+         */
+        private synchronized boolean abortIfUploading() {
+            if (state != ChunkedUploadState.UPLOADING) {
+                return false;
+            }
+            state = ChunkedUploadState.ABORTED;
+            return true;
+        }
+
+        /**
+         * 후처리 중이면 실패 상태로 전환 - 전환했으면 true
+         */
+        private synchronized boolean failIfProcessing(String reason) {
+            if (state != ChunkedUploadState.PROCESSING) {
+                return false;
+            }
+            state = ChunkedUploadState.FAILED;
+            error = reason;
+            return true;
+        }
+    }
+}
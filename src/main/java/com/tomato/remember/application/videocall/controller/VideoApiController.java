@@ -1,42 +1,49 @@
-// VideoApiController.java - 3시간 TTL + SessionStorage 지원 버전
+// VideoApiController.java - SSE 전송 계층 (세션은 Redis 공통 저장소 사용)
 
 package com.tomato.remember.application.videocall.controller;
 
-import com.tomato.remember.application.security.MemberUserDetails;
-import com.tomato.remember.application.videocall.dto.VideoCallFeedbackRequestDTO;
-import com.tomato.remember.application.videocall.dto.VideoCallFeedbackResponseDTO;
-import com.tomato.remember.application.videocall.entity.VideoCallSampleReview;
 import com.tomato.remember.application.videocall.service.ExternalVideoApiService;
-import com.tomato.remember.application.videocall.service.VideoCallSampleReviewService;
-import com.tomato.remember.common.code.ResponseStatus;
-import com.tomato.remember.common.dto.ResponseDTO;
+import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
+import com.tomato.remember.application.wsvideo.config.MemorialVideoSessionManager;
+import com.tomato.remember.application.wsvideo.config.VideoSseTransport;
+import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import com.tomato.remember.application.wsvideo.service.VideoSessionNotifier;
+import com.tomato.remember.common.dto.DirectUploadRequest;
+import com.tomato.remember.common.dto.DirectUploadResponse;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
 import com.tomato.remember.common.util.FileStorageService;
-import jakarta.validation.Valid;
-import java.time.Duration;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
+/**
+ * SSE 기반 영상통화 API
+ * - 세션은 WebSocket 경로와 같은 Redis 저장소(MemorialVideoSessionManager)에 저장 → 노드 재시작 후에도 재연결 가능
+ * - SSE 연결은 VideoSseTransport, 하트비트/만료 정리는 VideoSessionNotifier 공통 스케줄에서 처리
+ * - 응답 영상 도착 시 연결이 없으면 세션에 보류해 두었다가 재연결 시 전달
+ * - 비회원 경로이므로 세션 생성 시 발급한 세션 토큰(X-Video-Session-Token 헤더 또는 sessionToken 파라미터)으로 소유자 확인,
+ *   SSE 로 생성된 세션만 다룸 (WebSocket 세션은 /api/ws-video 에서 회원 인증으로 처리)
+ * - 외부 API 응답 콜백(/send-response)은 공유 비밀값(X-Callback-Secret 헤더)으로 확인
+ *   (ExternalVideoApiService 가 처리 요청에 같은 헤더를 실어 보내고 외부 API 가 콜백에 돌려줌)
+ */
 @Slf4j
 @RestController
 @RequestMapping("/api/video")
@@ -44,90 +51,27 @@ import java.util.concurrent.Executors;
 @RequiredArgsConstructor
 public class VideoApiController {
 
+    private static final String PENDING_RESPONSE = "pendingResponse";
+    private static final String TRANSPORT = "transport";
+    private static final String OWNER_TOKEN_HASH = "ownerTokenHash";
+    private static final String SESSION_TOKEN_HEADER = "X-Video-Session-Token";
+    private static final String SESSION_TOKEN_PARAM = "sessionToken";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final FileStorageService fileStorageService;
 
     private final ExternalVideoApiService externalVideoApiService;
 
-    // 키 기반 SSE 연결 관리
-    private final Map<String, SseEmitter> sseEmitters = new ConcurrentHashMap<>();
-    private final Map<String, VideoCallSession> activeSessions = new ConcurrentHashMap<>();
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
-
-    // 비디오 콜 세션 정보 (3시간 TTL 지원)
-    public static class VideoCallSession {
-
-        private String sessionKey;
-        private String contactName;
-        private LocalDateTime createdAt;
-        private LocalDateTime lastActivity;
-        private String status; // WAITING, PROCESSING, COMPLETED, ERROR, CLEANUP
-        private String savedFilePath;
-
-        // 3시간 TTL
-        private static final long SESSION_TTL_HOURS = 3;
-
-        public VideoCallSession(String sessionKey, String contactName) {
-            this.sessionKey = sessionKey;
-            this.contactName = contactName;
-            this.createdAt = LocalDateTime.now();
-            this.lastActivity = LocalDateTime.now();
-            this.status = "WAITING";
-        }
-
-        public boolean isExpired() {
-            return lastActivity.isBefore(LocalDateTime.now().minusHours(SESSION_TTL_HOURS));
-        }
-
-        public void updateActivity() {
-            this.lastActivity = LocalDateTime.now();
-        }
-
-        public long getAgeInMinutes() {
-            return Duration.between(createdAt, LocalDateTime.now()).toMinutes();
-        }
-
-        public long getInactiveMinutes() {
-            return Duration.between(lastActivity, LocalDateTime.now()).toMinutes();
-        }
-
-        public double getRemainingHours() {
-            long activeMinutes = Duration.between(lastActivity, LocalDateTime.now()).toMinutes();
-            return Math.max(0, SESSION_TTL_HOURS - (activeMinutes / 60.0));
-        }
-
-        // getters and setters
-        public String getSessionKey() {
-            return sessionKey;
-        }
-
-        public String getContactName() {
-            return contactName;
-        }
-
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
-
-        public LocalDateTime getLastActivity() {
-            return lastActivity;
-        }
+    private final MemorialVideoSessionManager sessionManager;
 
-        public String getStatus() {
-            return status;
-        }
+    private final VideoSseTransport sseTransport;
 
-        public void setStatus(String status) {
-            this.status = status;
-        }
+    private final VideoSessionNotifier sessionNotifier;
 
-        public String getSavedFilePath() {
-            return savedFilePath;
-        }
+    private final VideoCallMetrics videoCallMetrics;
 
-        public void setSavedFilePath(String savedFilePath) {
-            this.savedFilePath = savedFilePath;
-        }
-    }
+    @Value("${app.memorial-video.sse.callback-secret:}")
+    private String callbackSecret;
 
     /**
      * 1. 비디오 콜 세션 생성 API
@@ -140,20 +84,24 @@ public class VideoApiController {
                 contactName = "Unknown";
             }
 
-            String sessionKey = generateUniqueSessionKey();
-            VideoCallSession session = new VideoCallSession(sessionKey, contactName);
-            activeSessions.put(sessionKey, session);
+            MemorialVideoSession session = sessionManager.createSession(contactName, null, null);
+            String sessionToken = generateSessionToken();
+            session.addMetadata(TRANSPORT, sseTransport.getName());
+            session.addMetadata(OWNER_TOKEN_HASH, sha256Hex(sessionToken));
+            updateFlowState(session, VideoCallFlowState.WAITING);
 
-            log.info("새 비디오 콜 세션 생성: {} (연락처: {}, TTL: 3시간)", sessionKey, contactName);
+            log.info("새 비디오 콜 세션 생성: {} (연락처: {}, TTL: {}초)",
+                session.getSessionKey(), contactName, MemorialVideoSession.getTtlSeconds());
 
             return ResponseEntity.ok(Map.of(
                 "status", Map.of("code", "OK_0000", "message", "세션 생성 완료"),
                 "response", Map.of(
-                    "sessionKey", sessionKey,
+                    "sessionKey", session.getSessionKey(),
+                    "sessionToken", sessionToken,
                     "contactName", contactName,
                     "createdAt", session.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                    "ttlHours", 3,
-                    "maxInactiveMinutes", 180
+                    "ttlHours", getTtlHours(),
+                    "maxInactiveMinutes", MemorialVideoSession.getTtlSeconds() / 60
                 )
             ));
 
@@ -167,90 +115,57 @@ public class VideoApiController {
     }
 
     /**
-     * 2. 키 기반 SSE 스트림 연결 API (3시간 TTL 지원)
+     * 2. 키 기반 SSE 스트림 연결 API
      */
     @GetMapping(value = "/stream/{sessionKey}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
-    log.info("SSE 연결 요청: {}", sessionKey);
+    public SseEmitter streamBySessionKey(@PathVariable String sessionKey,
+                                         @RequestParam(value = SESSION_TOKEN_PARAM, required = false) String sessionToken) {
+        log.info("SSE 연결 요청: {}", sessionKey);
 
-    VideoCallSession session = activeSessions.get(sessionKey);
-    if (session == null) {
-        log.warn("유효하지 않은 세션 키: {}", sessionKey);
-        return createErrorEmitter("유효하지 않은 세션 키입니다.");
-    }
-
-    // 세션 만료 확인
-    if (session.isExpired()) {
-        log.warn("만료된 세션 키: {} (생성: {}, 마지막활동: {})",
-            sessionKey, session.getCreatedAt(), session.getLastActivity());
-
-        activeSessions.remove(sessionKey);
-        sseEmitters.remove(sessionKey);
-
-        return createErrorEmitter("세션이 만료되었습니다. 새로 시작해주세요.");
-    }
-
-    // 🔧 기존 SSE 연결 정리 (재연결 시)
-    SseEmitter existingEmitter = sseEmitters.get(sessionKey);
-    if (existingEmitter != null) {
-        log.info("🔄 기존 SSE 연결 정리 후 재연결: {}", sessionKey);
-        try {
-            existingEmitter.complete();
-        } catch (Exception e) {
-            log.debug("기존 SSE 정리 중 예외 (무시됨): {}", e.getMessage());
+        MemorialVideoSession session = sessionManager.getSession(sessionKey);
+        if (!isOwnedSseSession(session, sessionToken)) {
+            log.warn("SSE 연결 거절 - 세션 토큰 불일치 또는 SSE 세션 아님: {}", sessionKey);
+            return createErrorEmitter("세션에 접근할 권한이 없습니다.");
+        }
+        if (session.isExpired()) {
+            log.warn("유효하지 않거나 만료된 세션 키: {}", sessionKey);
+            return createErrorEmitter("세션이 만료되었거나 유효하지 않습니다. 새로 시작해주세요.");
         }
-        sseEmitters.remove(sessionKey);
-    }
-
-    // 세션 활동 시간 업데이트
-    session.updateActivity();
 
-    // 새 SSE 연결 생성
-    SseEmitter emitter = new SseEmitter(0L);
-    sseEmitters.put(sessionKey, emitter);
+        SseEmitter emitter = new SseEmitter(0L);
+        boolean reconnected = sseTransport.connect(sessionKey, emitter);
+        sessionManager.touchSessionTtl(sessionKey);
 
-    // 연결 완료 이벤트 전송
-    try {
+        // 연결 완료 이벤트 전송
         Map<String, Object> connectedData = new HashMap<>();
+        connectedData.put("type", "CONNECTED");
         connectedData.put("message", "SSE 연결 완료");
         connectedData.put("sessionKey", sessionKey);
         connectedData.put("contactName", session.getContactName());
         connectedData.put("timestamp", System.currentTimeMillis());
         connectedData.put("sessionAge", session.getAgeInMinutes());
-        connectedData.put("remainingHours", session.getRemainingHours());
+        connectedData.put("remainingHours", getRemainingHours(session));
         connectedData.put("keepAlive", true);
-        connectedData.put("reconnected", existingEmitter != null); // 재연결 여부 표시
-
-        emitter.send(SseEmitter.event()
-            .name("connected")
-            .data(connectedData));
-
-        log.info("✅ SSE 연결 성공: {} (재연결: {})", sessionKey, existingEmitter != null);
+        connectedData.put("reconnected", reconnected || session.getReconnectCount() > 0);
 
-    } catch (IOException e) {
-        log.error("연결 완료 이벤트 전송 실패", e);
-        sseEmitters.remove(sessionKey);
-        return createErrorEmitter("연결 이벤트 전송 실패");
-    }
-
-    // 🔧 개선된 연결 상태 관리
-    emitter.onCompletion(() -> {
-        sseEmitters.remove(sessionKey);
-        log.info("SSE 연결 완료됨: {} (세션은 유지)", sessionKey);
-    });
+        if (!sseTransport.deliver(sessionKey, connectedData)) {
+            log.error("연결 완료 이벤트 전송 실패: {}", sessionKey);
+            return createErrorEmitter("연결 이벤트 전송 실패");
+        }
 
-    emitter.onTimeout(() -> {
-        sseEmitters.remove(sessionKey);
-        log.warn("SSE 연결 타임아웃: {} (세션은 유지)", sessionKey);
-    });
+        log.info("✅ SSE 연결 성공: {} (재연결: {})", sessionKey, reconnected);
 
-    emitter.onError((ex) -> {
-        sseEmitters.remove(sessionKey);
-        log.error("SSE 연결 오류: {} (세션은 유지) - 오류: {}", sessionKey, ex.getMessage());
-    });
+        // 연결이 없는 동안 도착한 응답 영상 전달 (다른 노드/재시작 이후 재연결 포함)
+        if (Boolean.TRUE.equals(session.getMetadata(PENDING_RESPONSE)) && session.getResponseVideoUrl() != null) {
+            if (sseTransport.deliver(sessionKey, createResponseMessage(session))) {
+                session.addMetadata(PENDING_RESPONSE, false);
+                sessionManager.saveSession(session);
+                log.info("🎬 보류된 응답 영상 전달: {}", sessionKey);
+            }
+        }
 
-    return emitter;
-}
+        return emitter;
+    }
 
     /**
      * 3. 키 기반 영상 업로드 API
@@ -259,46 +174,110 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
     public ResponseEntity<?> processVideoWithKey(
         @PathVariable String sessionKey,
         @RequestParam(value = "contactKey", required = false, defaultValue = "kimgeuntae") String contactKey,
-        @RequestParam("video") MultipartFile videoFile) {
-        try {
+        @RequestParam("video") MultipartFile videoFile,
+        @RequestHeader(value = SESSION_TOKEN_HEADER, required = false) String sessionToken) {
 
-            log.info("비디오 처리 요청 - 세션: {},대상: {}, 파일크기: {}",
-                sessionKey,
-                contactKey,
-                videoFile.getSize());
+        log.info("비디오 처리 요청 - 세션: {},대상: {}, 파일크기: {}",
+            sessionKey,
+            contactKey,
+            videoFile.getSize());
 
-            // 세션 키 유효성 검증
-            VideoCallSession session = activeSessions.get(sessionKey);
-            if (session == null) {
-                return ResponseEntity.status(400).body(Map.of(
-                    "status", Map.of("code", "ERR_4000", "message", "유효하지 않은 세션 키입니다.")
-                ));
+        return processRecording(sessionKey, sessionToken, contactKey, videoFile.getOriginalFilename(),
+            () -> fileStorageService.uploadVideoCallRecording(videoFile, sessionKey));
+    }
+
+    /**
+     * 3-1. 녹화 파일 직접 업로드 URL 발급 API
+     * - 스토리지가 사전 서명 업로드를 지원하면 클라이언트가 직접 PUT 후 /complete 로 완료 통지
+     * - direct=false 면 기존 multipart 업로드(/process/{sessionKey}) 사용
+     */
+    @PostMapping("/process/{sessionKey}/upload-url")
+    public ResponseEntity<?> createRecordingUploadUrl(
+        @PathVariable String sessionKey,
+        @RequestBody DirectUploadRequest request,
+        @RequestHeader(value = SESSION_TOKEN_HEADER, required = false) String sessionToken) {
+        try {
+            ResponseEntity<?> invalid = checkSession(sessionKey, sessionToken);
+            if (invalid != null) {
+                return invalid;
             }
 
-            // 세션 만료 확인
-            if (session.isExpired()) {
-                activeSessions.remove(sessionKey);
-                sseEmitters.remove(sessionKey);
-                return ResponseEntity.status(410).body(Map.of(
-                    "status", Map.of("code", "ERR_4100", "message", "세션이 만료되었습니다.")
-                ));
+            DirectUploadResponse upload = fileStorageService.presignVideoCallUpload(
+                sessionKey, request.getFileName(), request.getSize());
+
+            return ResponseEntity.ok(Map.of(
+                "status", Map.of("code", "OK_0000", "message", "업로드 URL 발급 완료"),
+                "response", upload
+            ));
+
+        } catch (APIException e) {
+            log.warn("녹화 업로드 URL 발급 거절 - 세션: {}, 사유: {}", sessionKey, e.getMessage());
+            return ResponseEntity.status(400).body(Map.of(
+                "status", Map.of("code", "ERR_4000", "message", e.getMessage())
+            ));
+        }
+    }
+
+    /**
+     * 3-2. 녹화 파일 직접 업로드 완료 통지 API (이후 처리는 multipart 업로드와 동일)
+     */
+    @PostMapping("/process/{sessionKey}/complete")
+    public ResponseEntity<?> completeRecordingUpload(
+        @PathVariable String sessionKey,
+        @RequestBody Map<String, Object> request,
+        @RequestHeader(value = SESSION_TOKEN_HEADER, required = false) String sessionToken) {
+
+        String key = (String) request.get("key");
+        String contactKey = (String) request.getOrDefault("contactKey", "kimgeuntae");
+
+        log.info("녹화 직접 업로드 완료 통지 - 세션: {}, 대상: {}, 키: {}", sessionKey, contactKey, key);
+
+        // 소유자 확인을 키 검증보다 먼저 (남의 세션 키로 업로드 키 형식 탐색 방지)
+        ResponseEntity<?> invalid = checkSession(sessionKey, sessionToken);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        if (! fileStorageService.isVideoCallUploadKeyOf(key, sessionKey)) {
+            return ResponseEntity.status(400).body(Map.of(
+                "status", Map.of("code", "ERR_4000", "message", "유효하지 않은 업로드 키입니다.")
+            ));
+        }
+
+        return processRecording(sessionKey, sessionToken, contactKey, key,
+            () -> fileStorageService.completeVideoCallRecording(key, sessionKey));
+    }
+
+    /**
+     * 녹화 파일 저장 후 외부 API 전송 (multipart 업로드 / 직접 업로드 완료 공통)
+     */
+    private ResponseEntity<?> processRecording(String sessionKey, String sessionToken, String contactKey,
+                                               String fileName, Supplier<String> storeRecording) {
+        try {
+            // 세션 키 유효성 / 소유자 / 만료 확인
+            ResponseEntity<?> invalid = checkSession(sessionKey, sessionToken);
+            if (invalid != null) {
+                return invalid;
             }
 
-            // 세션 상태 및 활동 시간 업데이트
-            session.setStatus("PROCESSING");
-            session.updateActivity();
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
 
             log.info("영상 처리 시작 - 세션: {} (나이: {}분), 파일: {}",
-                sessionKey, session.getAgeInMinutes(), videoFile.getOriginalFilename());
+                sessionKey, session.getAgeInMinutes(), fileName);
 
             // 파일 저장 및 변환
-            String savedFilePath = fileStorageService.uploadVideoCallRecording(videoFile, sessionKey);
+            String savedFilePath = storeRecording.get();
             session.setSavedFilePath(savedFilePath);
+            session.addMetadata(PENDING_RESPONSE, false);
+            videoCallMetrics.markUploaded(session);
+            updateFlowState(session, VideoCallFlowState.PROCESSING);
 
             log.info("파일 저장 완료 - 세션: {}, 경로: {}", sessionKey, savedFilePath);
 
-            // 즉시 200 OK 응답
-            ResponseEntity<?> response = ResponseEntity.ok(Map.of(
+            // 외부 API 호출 (WebClient 비동기 - 별도 스레드 풀 불필요)
+            processVideoAsyncWithExternalApi(sessionKey, savedFilePath, contactKey);
+
+            return ResponseEntity.ok(Map.of(
                 "status", Map.of("code", "OK_0000", "message", "영상 업로드 완료"),
                 "response", Map.of(
                     "sessionKey", sessionKey,
@@ -306,23 +285,16 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
                     "contactName", session.getContactName(),
                     "status", "UPLOADED",
                     "sessionAge", session.getAgeInMinutes(),
-                    "remainingHours", session.getRemainingHours()
+                    "remainingHours", getRemainingHours(session)
                 )
             ));
 
-            // 백그라운드에서 외부 API 호출
-            executorService.submit(() -> {
-                processVideoAsyncWithExternalApi(sessionKey, savedFilePath, contactKey);
-            });
-
-            return response;
-
         } catch (Exception e) {
             log.error("영상 처리 실패 - 세션: {}", sessionKey, e);
 
-            VideoCallSession session = activeSessions.get(sessionKey);
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
             if (session != null) {
-                session.setStatus("ERROR");
+                updateFlowState(session, VideoCallFlowState.ERROR);
             }
 
             return ResponseEntity.status(500).body(Map.of(
@@ -332,21 +304,58 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
         }
     }
 
+    /**
+     * 세션 유효성 확인 - 정상이면 null, 아니면 오류 응답 (만료 세션은 정리)
+     */
+    private ResponseEntity<?> checkSession(String sessionKey, String sessionToken) {
+        MemorialVideoSession session = sessionManager.getSession(sessionKey);
+        if (session == null) {
+            return ResponseEntity.status(400).body(Map.of(
+                "status", Map.of("code", "ERR_4000", "message", "유효하지 않은 세션 키입니다.")
+            ));
+        }
+
+        if (!isOwnedSseSession(session, sessionToken)) {
+            log.warn("🔒 SSE 세션 접근 거절 - 세션: {}", sessionKey);
+            return createForbiddenResponse();
+        }
+
+        if (session.isExpired()) {
+            sessionManager.deleteSession(sessionKey);
+            sseTransport.disconnect(sessionKey);
+            return ResponseEntity.status(410).body(Map.of(
+                "status", Map.of("code", "ERR_4100", "message", "세션이 만료되었습니다.")
+            ));
+        }
+        return null;
+    }
+
     /**
      * 4. 외부 API에서 콜백으로 응답 영상 전송받는 API
      */
     @PostMapping("/send-response/{sessionKey}")
     public ResponseEntity<?> sendResponseToUser(
         @PathVariable String sessionKey,
-        @RequestBody Map<String, Object> responseData) {
+        @RequestBody Map<String, Object> responseData,
+        @RequestHeader(value = ExternalVideoApiService.CALLBACK_SECRET_HEADER, required = false) String secret) {
         try {
+            if (!isValidCallbackSecret(secret)) {
+                log.warn("🔒 응답 영상 콜백 거절 - 공유 비밀값 불일치: {}", sessionKey);
+                return createForbiddenResponse();
+            }
+
             String responseVideoUrl = (String) responseData.get("videoUrl");
+            if (responseVideoUrl == null || responseVideoUrl.isBlank()) {
+                return ResponseEntity.status(400).body(Map.of(
+                    "status", Map.of("code", "ERR_4000", "message", "videoUrl 이 필요합니다")
+                ));
+            }
 
             log.info("응답 영상 수신 - 세션: {}, URL: {}", sessionKey, responseVideoUrl);
 
-            // 세션 유효성 확인
-            VideoCallSession session = activeSessions.get(sessionKey);
-            if (session == null) {
+            // 세션 유효성 확인 (SSE 로 생성된 세션만 - WebSocket 세션은 /api/ws-video/callback 사용)
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
+            if (session == null || !isSseSession(session)) {
                 return ResponseEntity.status(404).body(Map.of(
                     "status", Map.of("code", "ERR_4040", "message", "세션을 찾을 수 없습니다")
                 ));
@@ -354,53 +363,34 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
 
             // 세션 만료 확인
             if (session.isExpired()) {
-                activeSessions.remove(sessionKey);
-                sseEmitters.remove(sessionKey);
+                sessionManager.deleteSession(sessionKey);
+                sseTransport.disconnect(sessionKey);
                 return ResponseEntity.status(410).body(Map.of(
                     "status", Map.of("code", "ERR_4100", "message", "세션이 만료되었습니다")
                 ));
             }
 
-            // 세션 활동 시간 업데이트
-            session.updateActivity();
-
-            // SSE로 응답 전송
-            SseEmitter emitter = sseEmitters.get(sessionKey);
-            if (emitter != null) {
-                // SSE 전송 데이터 구성
-                Map<String, Object> sseData = new HashMap<>();
-                sseData.put("videoUrl", responseVideoUrl);
-                sseData.put("sessionKey", sessionKey);
-                sseData.put("contactName", session.getContactName());
-                sseData.put("timestamp", System.currentTimeMillis());
-                sseData.put("sessionAge", session.getAgeInMinutes());
-                sseData.put("remainingHours", session.getRemainingHours());
-
-                emitter.send(SseEmitter.event()
-                    .name("response")
-                    .data(sseData));
-
-                // 세션 상태 업데이트
-                session.setStatus("COMPLETED");
-
-                log.info("응답 영상 전송 완료 - 세션: {} (나이: {}분)", sessionKey, session.getAgeInMinutes());
-
-                // 응답 데이터 구성
-                Map<String, Object> responseResult = new HashMap<>();
-                responseResult.put("sessionKey", sessionKey);
-                responseResult.put("sessionAge", session.getAgeInMinutes());
-                responseResult.put("remainingHours", session.getRemainingHours());
-
-                return ResponseEntity.ok(Map.of(
-                    "status", Map.of("code", "OK_0000", "message", "응답 전송 완료"),
-                    "response", responseResult
-                ));
-            } else {
-                log.warn("연결된 SSE를 찾을 수 없음 - 세션: {}", sessionKey);
-                return ResponseEntity.status(404).body(Map.of(
-                    "status", Map.of("code", "ERR_4040", "message", "연결된 세션을 찾을 수 없습니다")
-                ));
-            }
+            session.setResponseVideoUrl(responseVideoUrl);
+            videoCallMetrics.markCallbackReceived(session);
+
+            // 이 노드에 연결이 있으면 즉시 전송, 없으면 재연결 시 전달하도록 보류
+            boolean delivered = sessionNotifier.notify(sessionKey, createResponseMessage(session));
+            session.addMetadata(PENDING_RESPONSE, !delivered);
+            updateFlowState(session, VideoCallFlowState.RESPONSE_PLAYING);
+
+            log.info("응답 영상 {} - 세션: {} (나이: {}분)",
+                delivered ? "전송 완료" : "보류 (연결 없음)", sessionKey, session.getAgeInMinutes());
+
+            Map<String, Object> responseResult = new HashMap<>();
+            responseResult.put("sessionKey", sessionKey);
+            responseResult.put("delivered", delivered);
+            responseResult.put("sessionAge", session.getAgeInMinutes());
+            responseResult.put("remainingHours", getRemainingHours(session));
+
+            return ResponseEntity.ok(Map.of(
+                "status", Map.of("code", "OK_0000", "message", delivered ? "응답 전송 완료" : "응답 보류 (재연결 시 전달)"),
+                "response", responseResult
+            ));
 
         } catch (Exception e) {
             log.error("응답 전송 실패 - 세션: {}", sessionKey, e);
@@ -414,11 +404,12 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
     // ==================== 상태 조회 API들 ====================
 
     /**
-     * 세션 상태 조회 (3시간 TTL 정보 포함)
+     * 세션 상태 조회 (TTL 정보 포함)
      */
     @GetMapping("/session/{sessionKey}")
-    public ResponseEntity<?> getSessionStatus(@PathVariable String sessionKey) {
-        VideoCallSession session = activeSessions.get(sessionKey);
+    public ResponseEntity<?> getSessionStatus(@PathVariable String sessionKey,
+                                              @RequestHeader(value = SESSION_TOKEN_HEADER, required = false) String sessionToken) {
+        MemorialVideoSession session = sessionManager.getSession(sessionKey);
 
         if (session == null) {
             return ResponseEntity.status(404).body(Map.of(
@@ -426,22 +417,23 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
             ));
         }
 
+        if (!isOwnedSseSession(session, sessionToken)) {
+            return createForbiddenResponse();
+        }
+
         // 세션 만료 확인
         if (session.isExpired()) {
-            // 만료된 세션 즉시 정리
-            activeSessions.remove(sessionKey);
-            sseEmitters.remove(sessionKey);
+            sessionManager.deleteSession(sessionKey);
+            sseTransport.disconnect(sessionKey);
 
             log.info("만료된 세션 정리: {} (생성: {}, 마지막활동: {})",
                 sessionKey, session.getCreatedAt(), session.getLastActivity());
 
-            // 만료된 세션 응답용 Map 생성
             Map<String, Object> expiredResponse = new HashMap<>();
             expiredResponse.put("sessionKey", sessionKey);
             expiredResponse.put("expired", true);
             expiredResponse.put("createdAt", session.getCreatedAt());
             expiredResponse.put("lastActivity", session.getLastActivity());
-            expiredResponse.put("inactiveMinutes", session.getInactiveMinutes());
 
             return ResponseEntity.status(410).body(Map.of(
                 "status", Map.of("code", "ERR_4100", "message", "세션이 만료되었습니다"),
@@ -449,25 +441,21 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
             ));
         }
 
-        // 세션 활동 시간 업데이트
-        session.updateActivity();
-
-        boolean isConnected = sseEmitters.containsKey(sessionKey);
+        sessionManager.touchSessionTtl(sessionKey);
 
-        // 📦 HashMap을 사용하여 응답 데이터 구성
         Map<String, Object> sessionResponse = new HashMap<>();
         sessionResponse.put("sessionKey", sessionKey);
         sessionResponse.put("contactName", session.getContactName());
         sessionResponse.put("status", session.getStatus());
+        sessionResponse.put("flowState", session.getFlowState());
         sessionResponse.put("createdAt", session.getCreatedAt());
         sessionResponse.put("lastActivity", session.getLastActivity());
         sessionResponse.put("ageInMinutes", session.getAgeInMinutes());
-        sessionResponse.put("inactiveMinutes", session.getInactiveMinutes());
-        sessionResponse.put("remainingHours", session.getRemainingHours());
-        sessionResponse.put("isExpired", session.isExpired());
-        sessionResponse.put("isConnected", isConnected);
+        sessionResponse.put("remainingHours", getRemainingHours(session));
+        sessionResponse.put("isExpired", false);
+        sessionResponse.put("isConnected", sseTransport.isConnected(sessionKey));
         sessionResponse.put("savedFilePath", session.getSavedFilePath());
-        sessionResponse.put("ttlHours", 3);
+        sessionResponse.put("ttlHours", getTtlHours());
 
         return ResponseEntity.ok(Map.of(
             "status", Map.of("code", "OK_0000", "message", "세션 조회 완료"),
@@ -475,42 +463,6 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
         ));
     }
 
-    /**
-     * 활성 세션 목록 조회
-     */
-    @GetMapping("/sessions")
-    public ResponseEntity<?> getActiveSessions() {
-        // 만료된 세션 사전 정리
-        cleanupExpiredSessionsNow();
-
-        // 세션 목록 구성
-        List<Map<String, Object>> sessionList = activeSessions.values().stream()
-            .map(session -> {
-                Map<String, Object> sessionInfo = new HashMap<>();
-                sessionInfo.put("sessionKey", session.getSessionKey());
-                sessionInfo.put("contactName", session.getContactName());
-                sessionInfo.put("status", session.getStatus());
-                sessionInfo.put("ageInMinutes", session.getAgeInMinutes());
-                sessionInfo.put("remainingHours", session.getRemainingHours());
-                sessionInfo.put("isExpired", session.isExpired());
-                sessionInfo.put("isConnected", sseEmitters.containsKey(session.getSessionKey()));
-                return sessionInfo;
-            })
-            .toList();
-
-        // 응답 데이터 구성
-        Map<String, Object> responseData = new HashMap<>();
-        responseData.put("totalSessions", activeSessions.size());
-        responseData.put("connectedSessions", sseEmitters.size());
-        responseData.put("ttlHours", 3);
-        responseData.put("sessions", sessionList);
-
-        return ResponseEntity.ok(Map.of(
-            "status", Map.of("code", "OK_0000", "message", "활성 세션 목록"),
-            "response", responseData
-        ));
-    }
-
     /**
      * 외부 API 상태 조회
      */
@@ -538,414 +490,228 @@ public SseEmitter streamBySessionKey(@PathVariable String sessionKey) {
         }
     }
 
-    // ==================== Private Methods ====================
-
     /**
-     * 유니크한 세션 키 생성
+     * SSE 연결 상태 확인 API (이 노드 기준)
      */
-    private String generateUniqueSessionKey() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-        return "VC_" + timestamp + "_" + uuid;
-    }
+    @GetMapping("/sse-status")
+    public ResponseEntity<?> getSseStatus() {
+        Map<String, Object> statusInfo = new HashMap<>();
 
-    /**
-     * 에러 SSE 이미터 생성
-     */
-    private SseEmitter createErrorEmitter(String errorMessage) {
-        SseEmitter errorEmitter = new SseEmitter(1000L);
-        try {
-            errorEmitter.send(SseEmitter.event()
-                .name("error")
-                .data(Map.of(
-                    "error", errorMessage,
-                    "timestamp", System.currentTimeMillis()
-                )));
-            errorEmitter.complete();
-        } catch (IOException e) {
-            log.error("SSE 에러 전송 실패", e);
+        for (String sessionKey : sseTransport.getConnectedSessionKeys()) {
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
+
+            Map<String, Object> sessionStatus = new HashMap<>();
+            sessionStatus.put("hasSession", session != null);
+            sessionStatus.put("sessionStatus", session != null ? session.getStatus() : "NO_SESSION");
+            sessionStatus.put("createdAt", session != null ? session.getCreatedAt().toString() : "UNKNOWN");
+            sessionStatus.put("lastActivity", session != null ? session.getLastActivity().toString() : "UNKNOWN");
+            sessionStatus.put("ageInMinutes", session != null ? session.getAgeInMinutes() : 0);
+            sessionStatus.put("remainingHours", session != null ? getRemainingHours(session) : 0);
+            sessionStatus.put("isExpired", session == null || session.isExpired());
+
+            statusInfo.put(sessionKey, sessionStatus);
         }
-        return errorEmitter;
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("totalSseConnections", sseTransport.getConnectionCount());
+        responseData.put("ttlHours", getTtlHours());
+        responseData.put("connections", statusInfo);
+        responseData.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.ok(Map.of(
+            "status", Map.of("code", "OK_0000", "message", "SSE 연결 상태 조회 완료"),
+            "response", responseData
+        ));
     }
 
     /**
-     * 외부 API 비동기 호출
+     * 클라이언트 세션 정리 API
      */
-    private void processVideoAsyncWithExternalApi(String sessionKey, String savedFilePath, String contactKey) {
+    @PostMapping("/session/{sessionKey}/cleanup")
+    public ResponseEntity<?> cleanupSession(@PathVariable String sessionKey,
+                                            @RequestParam(value = SESSION_TOKEN_PARAM, required = false) String sessionToken) {
         try {
-            log.info("외부 API 비동기 처리 시작 - 세션: {}", sessionKey);
+            log.info("🧹 세션 정리 요청 - 세션: {}", sessionKey);
 
-            VideoCallSession session = activeSessions.get(sessionKey);
-            if (session == null) {
-                log.error("세션을 찾을 수 없음 - 세션: {}", sessionKey);
-                return;
+            // 세션은 TTL 만료까지 유지 (재접속 시 같은 키로 재사용 가능)
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
+            if (session != null && !isOwnedSseSession(session, sessionToken)) {
+                return createForbiddenResponse();
             }
 
-            // 세션 만료 확인
-            if (session.isExpired()) {
-                log.warn("만료된 세션 - 외부 API 호출 중단: {}", sessionKey);
-                return;
+            sseTransport.disconnect(sessionKey);
+            if (session != null) {
+                log.info("SSE 연결 정리 완료 - 세션: {} (나이: {}분)", sessionKey, session.getAgeInMinutes());
             }
 
-            // 세션 활동 시간 업데이트
-            session.updateActivity();
-
-            // 외부 API 호출
-            externalVideoApiService.sendVideoToExternalApiAsync(
-                sessionKey,
-                savedFilePath,
-                contactKey,
-                // 성공 콜백
-                (response) -> {
-                    log.info("✅ 외부 API 전송 완료 - 세션: {}, 상태: {}",
-                        sessionKey, response.getStatusCode());
-
-                    VideoCallSession currentSession = activeSessions.get(sessionKey);
-                    if (currentSession != null) {
-                        currentSession.setStatus("PROCESSING_EXTERNAL");
-                        currentSession.updateActivity();
-                    }
-                },
-                // 실패 콜백
-                (error) -> {
-                    log.error("❌ 외부 API 전송 실패 - 세션: {}", sessionKey, error);
-
-                    VideoCallSession currentSession = activeSessions.get(sessionKey);
-                    if (currentSession != null) {
-                        currentSession.setStatus("ERROR");
-                    }
-
-                    sendErrorToSession(sessionKey, "외부 API 전송 실패: " + error.getMessage());
-                }
-            );
+            return ResponseEntity.ok(Map.of(
+                "status", Map.of("code", "OK_0000", "message", "세션 정리 완료"),
+                "response", Map.of(
+                    "sessionKey", sessionKey,
+                    "timestamp", System.currentTimeMillis()
+                )
+            ));
 
         } catch (Exception e) {
-            log.error("비동기 영상 처리 오류 - 세션: {}", sessionKey, e);
-            sendErrorToSession(sessionKey, "영상 처리 중 오류 발생: " + e.getMessage());
+            log.error("세션 정리 실패 - 세션: {}", sessionKey, e);
+            return ResponseEntity.status(500).body(Map.of(
+                "status", Map.of("code", "ERR_5000", "message", "세션 정리 실패"),
+                "error", e.getMessage()
+            ));
         }
     }
 
-    /**
-     * 특정 세션에 오류 전송
-     */
-    private void sendErrorToSession(String sessionKey, String errorMessage) {
-        SseEmitter emitter = sseEmitters.get(sessionKey);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("error")
-                    .data(Map.of(
-                        "error", errorMessage,
-                        "sessionKey", sessionKey,
-                        "timestamp", System.currentTimeMillis()
-                    )));
-
-                VideoCallSession session = activeSessions.get(sessionKey);
-                if (session != null) {
-                    session.setStatus("ERROR");
-                }
-
-            } catch (IOException e) {
-                log.error("에러 전송 실패 - 세션: {}", sessionKey, e);
-                sseEmitters.remove(sessionKey);
-            }
-        }
-    }
+    // ==================== Private Methods ====================
 
     /**
-     * 즉시 만료된 세션 정리
+     * SSE 경로 상태 갱신 (녹화 단계 알림이 없는 경로라 전환 규칙 검증 없이 저장)
      */
-    private void cleanupExpiredSessionsNow() {
-        int removedSessions = 0;
-        int removedSSE = 0;
-
-        var sessionIterator = activeSessions.entrySet().iterator();
-        while (sessionIterator.hasNext()) {
-            var entry = sessionIterator.next();
-            VideoCallSession session = entry.getValue();
-            String sessionKey = entry.getKey();
-
-            if (session.isExpired()) {
-                sessionIterator.remove();
-                removedSessions++;
-
-                // 관련 SSE 연결도 정리
-                SseEmitter emitter = sseEmitters.remove(sessionKey);
-                if (emitter != null) {
-                    try {
-                        emitter.complete();
-                        removedSSE++;
-                    } catch (Exception e) {
-                        log.debug("SSE 정리 중 예외 (무시됨): {}", e.getMessage());
-                    }
-                }
-
-                log.info("만료된 세션 즉시 정리: {} (생성: {}, 마지막활동: {}, 비활성: {}분)",
-                    sessionKey, session.getCreatedAt(), session.getLastActivity(), session.getInactiveMinutes());
-            }
-        }
-
-        if (removedSessions > 0) {
-            log.info("즉시 세션 정리 완료 - 세션: {}, SSE: {}", removedSessions, removedSSE);
+    private void updateFlowState(MemorialVideoSession session, VideoCallFlowState state) {
+        VideoCallFlowState previousState = session.getFlowState();
+        LocalDateTime previousChange = session.getLastStateChange();
+        session.setFlowState(state);
+        session.setLastStateChange(LocalDateTime.now());
+        if (previousState != state) {
+            videoCallMetrics.recordStateTransition(session, previousState, previousChange, false);
         }
+        session.updateActivity();
+        sessionManager.saveSession(session);
     }
 
-    // ==================== 스케줄링 작업들 ====================
+    private Map<String, Object> createResponseMessage(MemorialVideoSession session) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "RESPONSE_VIDEO");
+        message.put("videoUrl", session.getResponseVideoUrl());
+        message.put("sessionKey", session.getSessionKey());
+        message.put("contactName", session.getContactName());
+        message.put("timestamp", System.currentTimeMillis());
+        message.put("sessionAge", session.getAgeInMinutes());
+        message.put("remainingHours", getRemainingHours(session));
+        return message;
+    }
 
     /**
-     * SSE 하트비트 전송 (20초마다)
+     * SSE 경로로 생성된 세션인지 (WebSocket 세션은 이 컨트롤러에서 다루지 않음)
      */
-    @Scheduled(fixedRate = 20000)
-public void sendHeartbeat() {
-    if (sseEmitters.isEmpty()) {
-        return;
+    private boolean isSseSession(MemorialVideoSession session) {
+        return sseTransport.getName().equals(session.getMetadata(TRANSPORT));
     }
 
-    log.debug("💓 하트비트 전송 시작 - 연결된 세션: {}", sseEmitters.size());
-
-    // 🔧 ConcurrentModificationException 방지를 위한 복사본 생성
-    Map<String, SseEmitter> emittersCopy = new HashMap<>(sseEmitters);
-    List<String> disconnectedSessions = new ArrayList<>();
-
-    emittersCopy.forEach((sessionKey, emitter) -> {
-        try {
-            // 세션 활동 시간 업데이트
-            VideoCallSession session = activeSessions.get(sessionKey);
-            if (session != null) {
-                session.updateActivity();
-            }
-
-            // 🔧 하트비트 전송 전 연결 상태 확인
-            if (isEmitterClosed(emitter)) {
-                log.warn("💔 이미 닫힌 SSE 연결 감지: {}", sessionKey);
-                disconnectedSessions.add(sessionKey);
-                return;
-            }
-
-            emitter.send(SseEmitter.event()
-                .name("heartbeat")
-                .data(Map.of(
-                    "timestamp", System.currentTimeMillis(),
-                    "sessionKey", sessionKey,
-                    "message", "connection_alive",
-                    "serverTime", LocalDateTime.now().toString(),
-                    "sessionAge", session != null ? session.getAgeInMinutes() : 0,
-                    "remainingHours", session != null ? session.getRemainingHours() : 0
-                )));
-
-            log.debug("💓 하트비트 전송 성공: {} (나이: {}분)", sessionKey,
-                session != null ? session.getAgeInMinutes() : 0);
-
-        } catch (IOException e) {
-            log.warn("💔 하트비트 전송 실패 - 연결 중단됨: {} (오류: {})", sessionKey, e.getMessage());
-            disconnectedSessions.add(sessionKey);
-        } catch (IllegalStateException e) {
-            log.warn("💔 하트비트 전송 실패 - SSE 상태 이상: {} (오류: {})", sessionKey, e.getMessage());
-            disconnectedSessions.add(sessionKey);
-        } catch (Exception e) {
-            log.error("💔 하트비트 전송 중 예상치 못한 오류: {} (오류: {})", sessionKey, e.getMessage());
-            disconnectedSessions.add(sessionKey);
-        }
-    });
-
-    // 🔧 연결이 끊어진 세션들 정리
-    disconnectedSessions.forEach(sessionKey -> {
-        sseEmitters.remove(sessionKey);
-        log.info("🗑️ 연결 끊어진 SSE 정리: {}", sessionKey);
-
-        // ✅ 중요: 세션은 유지 (재연결 가능하도록)
-        VideoCallSession session = activeSessions.get(sessionKey);
-        if (session != null) {
-            log.info("🔄 세션 {} SSE 연결 끊김 (재연결 가능, 나이: {}분)",
-                sessionKey, session.getAgeInMinutes());
+    /**
+     * SSE 세션 + 세션 생성 시 발급한 토큰 일치 여부 (해시 비교)
+     */
+    private boolean isOwnedSseSession(MemorialVideoSession session, String sessionToken) {
+        if (session == null || !isSseSession(session) || sessionToken == null || sessionToken.isBlank()) {
+            return false;
         }
-    });
-
-    log.debug("💓 하트비트 전송 완료 - 활성 연결: {}, 정리된 연결: {}",
-        sseEmitters.size(), disconnectedSessions.size());
-}
-
-// 🔧 SSE 연결 상태 확인 헬퍼 메서드
-private boolean isEmitterClosed(SseEmitter emitter) {
-    try {
-        // 빈 이벤트로 연결 상태 테스트
-        emitter.send(SseEmitter.event().name("ping").data(""));
-        return false;
-    } catch (Exception e) {
-        return true;
+        Object expected = session.getMetadata(OWNER_TOKEN_HASH);
+        return expected instanceof String hash && constantTimeEquals(hash, sha256Hex(sessionToken));
     }
-}
 
     /**
-     * 만료된 세션 정리 (10분마다)
+     * 외부 API 콜백 공유 비밀값 확인 - 설정되지 않았으면 모든 콜백 거절
      */
-    @Scheduled(fixedRate = 600000) // 10분마다
-    public void cleanupExpiredSessions() {
-        log.info("🧹 만료된 세션 정리 시작 (TTL: 3시간)");
-
-        int removedSessions = 0;
-        int removedSSE = 0;
-
-        // 1. 만료된 세션 정리
-        var sessionIterator = activeSessions.entrySet().iterator();
-        while (sessionIterator.hasNext()) {
-            var entry = sessionIterator.next();
-            VideoCallSession session = entry.getValue();
-            String sessionKey = entry.getKey();
+    private boolean isValidCallbackSecret(String secret) {
+        if (callbackSecret == null || callbackSecret.isBlank()) {
+            log.error("VIDEO_CALLBACK_SECRET 미설정 - 응답 영상 콜백을 받을 수 없습니다");
+            return false;
+        }
+        return secret != null && constantTimeEquals(callbackSecret, secret);
+    }
 
-            if (session.isExpired()) {
-                sessionIterator.remove();
-                removedSessions++;
-
-                // 관련 SSE 연결도 정리
-                SseEmitter emitter = sseEmitters.remove(sessionKey);
-                if (emitter != null) {
-                    try {
-                        emitter.complete();
-                        removedSSE++;
-                    } catch (Exception e) {
-                        log.debug("SSE 정리 중 예외 (무시됨): {}", e.getMessage());
-                    }
-                }
+    private static String generateSessionToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 
-                log.info("🗑️ 만료된 세션 정리: {} (생성: {}, 마지막활동: {}, 비활성: {}분)",
-                    sessionKey, session.getCreatedAt(), session.getLastActivity(), session.getInactiveMinutes());
-            }
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
         }
+    }
 
-        // 2. 고아 SSE 연결 정리
-        var sseIterator = sseEmitters.entrySet().iterator();
-        while (sseIterator.hasNext()) {
-            var entry = sseIterator.next();
-            String sessionKey = entry.getKey();
-
-            if (! activeSessions.containsKey(sessionKey)) {
-                try {
-                    entry.getValue().complete();
-                    sseIterator.remove();
-                    removedSSE++;
-                    log.info("🗑️ 고아 SSE 연결 정리: {}", sessionKey);
-                } catch (Exception e) {
-                    log.debug("고아 SSE 정리 중 예외 (무시됨): {}", e.getMessage());
-                    sseIterator.remove();
-                }
-            }
-        }
+    private static boolean constantTimeEquals(String expected, String actual) {
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
 
-        if (removedSessions > 0 || removedSSE > 0) {
-            log.info("✅ 세션 정리 완료 - 세션: {}, SSE: {}, 남은 세션: {}, 활성 SSE: {}",
-                removedSessions, removedSSE, activeSessions.size(), sseEmitters.size());
-        }
+    private static ResponseEntity<?> createForbiddenResponse() {
+        return ResponseEntity.status(403).body(Map.of(
+            "status", Map.of("code", "AUTH_4030", "message", "해당 세션에 접근할 권한이 없습니다")
+        ));
     }
 
-    /**
-     * 연결 상태 모니터링 (5분마다)
-     */
-    @Scheduled(fixedRate = 300000) // 5분마다
-    public void monitorConnections() {
-        log.debug("연결 상태 모니터링 시작");
-
-        int totalSessions = activeSessions.size();
-        int activeSseConnections = sseEmitters.size();
-        int expiredSessions = (int) activeSessions.values().stream()
-            .filter(VideoCallSession::isExpired)
-            .count();
-
-        if (totalSessions > 0 || activeSseConnections > 0) {
-            log.info("📊 연결 상태 - 전체 세션: {}, 만료 세션: {}, 활성 SSE: {}",
-                totalSessions, expiredSessions, activeSseConnections);
-        }
+    private static double getTtlHours() {
+        return MemorialVideoSession.getTtlSeconds() / 3600.0;
+    }
 
-        // 세션 나이 분석
-        activeSessions.values().forEach(session -> {
-            if (session.getAgeInMinutes() > 60) { // 1시간 이상
-                log.debug("🕐 장기 세션: {} (나이: {}분, 남은시간: {:.1f}시간)",
-                    session.getSessionKey(), session.getAgeInMinutes(), session.getRemainingHours());
-            }
-        });
+    private static double getRemainingHours(MemorialVideoSession session) {
+        return session.getRemainingTtlSeconds() / 3600.0;
     }
 
     /**
-     * SSE 연결 상태 확인 API
+     * 에러 SSE 이미터 생성
      */
-    @GetMapping("/sse-status")
-    public ResponseEntity<?> getSseStatus() {
-        Map<String, Object> statusInfo = new HashMap<>();
-
-        sseEmitters.forEach((sessionKey, emitter) -> {
-            VideoCallSession session = activeSessions.get(sessionKey);
-
-            // 각 세션의 상태 정보 구성
-            Map<String, Object> sessionStatus = new HashMap<>();
-            sessionStatus.put("hasSession", session != null);
-            sessionStatus.put("sessionStatus", session != null ? session.getStatus() : "NO_SESSION");
-            sessionStatus.put("createdAt", session != null ? session.getCreatedAt().toString() : "UNKNOWN");
-            sessionStatus.put("lastActivity", session != null ? session.getLastActivity().toString() : "UNKNOWN");
-            sessionStatus.put("ageInMinutes", session != null ? session.getAgeInMinutes() : 0);
-            sessionStatus.put("remainingHours", session != null ? session.getRemainingHours() : 0);
-            sessionStatus.put("isExpired", session != null ? session.isExpired() : true);
-            sessionStatus.put("connectionTime", System.currentTimeMillis());
-
-            statusInfo.put(sessionKey, sessionStatus);
-        });
-
-        // 응답 데이터 구성
-        Map<String, Object> responseData = new HashMap<>();
-        responseData.put("totalSseConnections", sseEmitters.size());
-        responseData.put("totalSessions", activeSessions.size());
-        responseData.put("ttlHours", 3);
-        responseData.put("connections", statusInfo);
-        responseData.put("timestamp", System.currentTimeMillis());
-
-        return ResponseEntity.ok(Map.of(
-            "status", Map.of("code", "OK_0000", "message", "SSE 연결 상태 조회 완료"),
-            "response", responseData
-        ));
+    private SseEmitter createErrorEmitter(String errorMessage) {
+        SseEmitter errorEmitter = new SseEmitter(1000L);
+        try {
+            errorEmitter.send(SseEmitter.event()
+                .name("error")
+                .data(Map.of(
+                    "error", errorMessage,
+                    "timestamp", System.currentTimeMillis()
+                )));
+            errorEmitter.complete();
+        } catch (IOException e) {
+            log.error("SSE 에러 전송 실패", e);
+        }
+        return errorEmitter;
     }
 
     /**
-     * 클라이언트 세션 정리 API
+     * 외부 API 비동기 호출
      */
-    @PostMapping("/session/{sessionKey}/cleanup")
-    public ResponseEntity<?> cleanupSession(@PathVariable String sessionKey) {
+    private void processVideoAsyncWithExternalApi(String sessionKey, String savedFilePath, String contactKey) {
         try {
-            log.info("🧹 세션 정리 요청 - 세션: {}", sessionKey);
+            log.info("외부 API 비동기 처리 시작 - 세션: {}", sessionKey);
 
-            // SSE 연결 정리
-            SseEmitter emitter = sseEmitters.remove(sessionKey);
-            if (emitter != null) {
-                try {
-                    emitter.complete();
-                    log.info("SSE 연결 정리 완료 - 세션: {}", sessionKey);
-                } catch (Exception e) {
-                    log.debug("SSE 정리 중 예외 (무시됨): {}", e.getMessage());
+            externalVideoApiService.sendVideoToExternalApiAsync(
+                sessionKey,
+                savedFilePath,
+                contactKey,
+                // 성공 콜백
+                (response) -> log.info("✅ 외부 API 전송 완료 - 세션: {}, 상태: {}",
+                    sessionKey, response.getStatusCode()),
+                // 실패 콜백
+                (error) -> {
+                    log.error("❌ 외부 API 전송 실패 - 세션: {}", sessionKey, error);
+                    sendErrorToSession(sessionKey, "외부 API 전송 실패: " + error.getMessage());
                 }
-            }
-
-            // 세션 정보 조회 후 상태 업데이트
-            VideoCallSession session = activeSessions.get(sessionKey);
-            if (session != null) {
-                session.setStatus("CLEANUP");
-                log.info("세션 상태를 CLEANUP으로 변경 - 세션: {} (나이: {}분)",
-                    sessionKey, session.getAgeInMinutes());
-            }
-
-            return ResponseEntity.ok(Map.of(
-                "status", Map.of("code", "OK_0000", "message", "세션 정리 완료"),
-                "response", Map.of(
-                    "sessionKey", sessionKey,
-                    "timestamp", System.currentTimeMillis()
-                )
-            ));
+            );
 
         } catch (Exception e) {
-            log.error("세션 정리 실패 - 세션: {}", sessionKey, e);
-            return ResponseEntity.status(500).body(Map.of(
-                "status", Map.of("code", "ERR_5000", "message", "세션 정리 실패"),
-                "error", e.getMessage()
-            ));
+            log.error("비동기 영상 처리 오류 - 세션: {}", sessionKey, e);
+            sendErrorToSession(sessionKey, "영상 처리 중 오류 발생: " + e.getMessage());
         }
     }
 
+    /**
+     * 특정 세션에 오류 전송
+     */
+    private void sendErrorToSession(String sessionKey, String errorMessage) {
+        MemorialVideoSession session = sessionManager.getSession(sessionKey);
+        if (session != null) {
+            updateFlowState(session, VideoCallFlowState.ERROR);
+        }
 
-}
\ No newline at end of file
+        sessionNotifier.notify(sessionKey, Map.of(
+            "type", "ERROR",
+            "error", errorMessage,
+            "sessionKey", sessionKey,
+            "timestamp", System.currentTimeMillis()
+        ));
+    }
+}
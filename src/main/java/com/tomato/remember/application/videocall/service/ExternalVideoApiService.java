@@ -2,6 +2,9 @@
 
 package com.tomato.remember.application.videocall.service;
 
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import com.tomato.remember.common.util.FileStorageService;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,11 +21,14 @@ import java.util.Map;
 
 /**
  * ✅ 단순 전송 방식 - 외부 API로 전송만 하고 콜백 대기
+ * - 처리 요청에 공유 비밀값(X-Callback-Secret 헤더)을 실어 보내고, 외부 API 는 응답 영상 콜백에 같은 헤더를 돌려줌
  */
 @Slf4j
 @Service
 public class ExternalVideoApiService {
 
+    public static final String CALLBACK_SECRET_HEADER = "X-Callback-Secret";
+
     @Autowired
     private WebClient webClient;
 
@@ -35,8 +41,22 @@ public class ExternalVideoApiService {
     @Value("${app.external-api.video.timeout:15}")  // ✅ 짧은 타임아웃
     private int timeoutSeconds;
 
-    @Value("${app.file.base-url:http://localhost:8080}")
-    private String baseUrl;
+    @Value("${app.memorial-video.sse.callback-secret:}")
+    private String callbackSecret;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private VideoCallMetrics videoCallMetrics;
+
+    @PostConstruct
+    public void warnIfCallbackSecretMissing() {
+        if (callbackSecret == null || callbackSecret.isBlank()) {
+            log.warn("⚠️ VIDEO_CALLBACK_SECRET(app.memorial-video.sse.callback-secret) 미설정 - "
+                + "응답 영상 콜백(/api/video/send-response)이 모두 거절됩니다");
+        }
+    }
 
     /**
      * ✅ 단순 전송 방식 - 200 OK만 확인하고 완료
@@ -71,6 +91,7 @@ public class ExternalVideoApiService {
             .retrieve()
             .toBodilessEntity()
             .timeout(Duration.ofSeconds(timeoutSeconds))  // ✅ 설정값 사용
+            .transform(call -> videoCallMetrics.timeExternalApi("video_process", call))
             .doOnSubscribe(subscription ->
                 log.info("🔄 외부 API 요청 시작 - 세션: {}", sessionKey))
             .doOnNext(response ->
@@ -131,6 +152,10 @@ public class ExternalVideoApiService {
         headers.set("User-Agent", "TomatoRemember-VideoCall/1.0");
         headers.set("X-Service", "video-call");
         headers.set("X-Timestamp", String.valueOf(System.currentTimeMillis()));
+        // 콜백 인증용 공유 비밀값 - 외부 API 가 응답 영상 콜백에 그대로 돌려줌
+        if (callbackSecret != null && !callbackSecret.isBlank()) {
+            headers.set(CALLBACK_SECRET_HEADER, callbackSecret);
+        }
     }
 
     private String convertToFullUrl(String relativePath) {
@@ -145,11 +170,8 @@ public class ExternalVideoApiService {
     // ✅ 앞의 / 제거
     String cleanPath = relativePath.startsWith("/") ? relativePath.substring(1) : relativePath;
 
-    // ✅ baseUrl 뒤에 / 있는지 확인
-    String baseUrlClean = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
-
-    // ✅ 항상 /uploads/ 경로 포함하여 생성
-    return String.format("%s/uploads/%s", baseUrlClean, cleanPath);
+    // ✅ 스토리지 공개 URL (로컬: {base-url}/uploads/..., S3: 버킷/CDN 주소)
+    return fileStorageService.toAbsoluteUrl(cleanPath);
 }
 
     private Mono<ResponseEntity<Void>> handleApiError(Throwable error) {
@@ -0,0 +1,27 @@
+package com.tomato.remember.application.wsvideo.code;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영상통화 통계 집계 단위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatsGranularity {
+    HOUR("시간별", ChronoUnit.HOURS, "%Y-%m-%d %H:00:00"),
+    DAY("일별", ChronoUnit.DAYS, "%Y-%m-%d 00:00:00");
+
+    private final String displayName;
+    private final ChronoUnit unit;
+    private final String sqlBucketFormat;   // MariaDB DATE_FORMAT 버킷 포맷
+
+    /**
+     * 시각을 집계 버킷 시작 시각으로 절삭
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
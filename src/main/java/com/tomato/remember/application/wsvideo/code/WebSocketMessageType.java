@@ -70,6 +70,9 @@ public enum WebSocketMessageType {
     PLAY_RESPONSE_VIDEO("응답영상 재생 지시", "응답영상을 재생하도록 지시"),
     STOP_RESPONSE_VIDEO("응답영상 중지 지시", "응답영상을 중지하도록 지시"),
 
+    PREFETCH_MANIFEST("프리페치 목록", "대기영상/다음 영상을 미리 캐시하도록 목록 전달"),
+    RESPONSE_VIDEO_PREFETCH("응답영상 사전 알림", "생성 중인 응답영상 URL을 미리 알려 다운로드 시작"),
+
     // === 진행 상황 ===
     PROCESSING_PROGRESS("처리 진행 상황", "AI 처리 진행 상황 알림"),
     UPLOAD_PROGRESS("업로드 진행 상황", "파일 업로드 진행 상황"),
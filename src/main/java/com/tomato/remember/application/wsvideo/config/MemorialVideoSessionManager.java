@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
 import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
 import java.util.LinkedHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -31,6 +33,7 @@ import org.springframework.stereotype.Component;
 public class MemorialVideoSessionManager {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final VideoCallMetrics videoCallMetrics;
 
     private static final String SESSION_KEY_PREFIX = "memorial:video:session:";
     private static final String SOCKET_MAPPING_PREFIX = "memorial:video:socket:";
@@ -83,19 +86,18 @@ public class MemorialVideoSessionManager {
             // JSON 문자열로 직렬화하여 저장
             String jsonValue = objectMapper.writeValueAsString(session);
 
-            redisTemplate.opsForValue().set(
-                key,
-                jsonValue,  // JSON 문자열로 저장
-                MemorialVideoSession.getTtlSeconds(),
-                TimeUnit.SECONDS
-            );
+            redis("save", () -> {
+                redisTemplate.opsForValue().set(
+                    key,
+                    jsonValue,  // JSON 문자열로 저장
+                    MemorialVideoSession.getTtlSeconds(),
+                    TimeUnit.SECONDS
+                );
+                return null;
+            });
 
             log.debug("💾 세션 저장 (JSON): {} (TTL: {}초)", session.getSessionKey(), MemorialVideoSession.getTtlSeconds());
 
-            if (shouldVerifyStateChange(session.getFlowState())) {
-                verifySessionState(session.getSessionKey(), session.getFlowState());
-            }
-
         } catch (Exception e) {
             log.error("❌ 세션 저장 실패: {} - {}", session.getSessionKey(), e.getMessage());
             // 폴백: 기존 방식으로 저장
@@ -108,43 +110,6 @@ public class MemorialVideoSessionManager {
         }
     }
 
-    //상태 변경 검증이 필요한지 확인
-    private boolean shouldVerifyStateChange(VideoCallFlowState state) {
-        // 중요한 상태들만 즉시 검증
-        return state == VideoCallFlowState.RECORDING ||
-               state == VideoCallFlowState.PROCESSING ||
-               state == VideoCallFlowState.RESPONSE_PLAYING;
-    }
-
-    /**
-     * 세션 상태 즉시 검증
-     */
-    private void verifySessionState(String sessionKey, VideoCallFlowState expectedState) {
-        try {
-            // 50ms 후 검증 (Redis 쓰기 완료 대기)
-            Thread.sleep(50);
-
-            MemorialVideoSession verifySession = getSession(sessionKey, true);
-            if (verifySession == null) {
-                log.error("❌ 상태 검증 실패 - 세션 조회 불가: {}", sessionKey);
-                return;
-            }
-
-            if (verifySession.getFlowState() != expectedState) {
-                log.error("❌ 상태 검증 실패 - 세션: {}, 예상: {}, 실제: {}",
-                         sessionKey, expectedState, verifySession.getFlowState());
-            } else {
-                log.debug("✅ 상태 검증 성공 - 세션: {}, 상태: {}", sessionKey, expectedState);
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("⚠️ 상태 검증 중 인터럽트: {}", sessionKey);
-        } catch (Exception e) {
-            log.warn("⚠️ 상태 검증 중 오류: {} - {}", sessionKey, e.getMessage());
-        }
-    }
-
     /**
      * 세션 조회 - 강화된 타입 안전성
      */
@@ -161,9 +126,9 @@ public class MemorialVideoSessionManager {
             if (forceRefresh) {
                 log.debug("🔄 강제 새로고침 모드: {}", sessionKey);
                 // Redis에서 직접 조회하여 캐시 무시
-                sessionObj = redisTemplate.opsForValue().get(key);
+                sessionObj = redis("get", () -> redisTemplate.opsForValue().get(key));
             } else {
-                sessionObj = redisTemplate.opsForValue().get(key);
+                sessionObj = redis("get", () -> redisTemplate.opsForValue().get(key));
             }
 
             if (sessionObj == null) {
@@ -257,9 +222,9 @@ public class MemorialVideoSessionManager {
     }
 
     /**
-     * LinkedHashMap을 MemorialVideoSession으로 안전하게 변환
+     * LinkedHashMap을 MemorialVideoSession으로 안전하게 변환 (JMH 벤치마크에서 직접 호출하므로 package-private)
      */
-    private MemorialVideoSession convertLinkedHashMapToSession(String sessionKey, LinkedHashMap<?, ?> mapData, String redisKey) {
+    MemorialVideoSession convertLinkedHashMapToSession(String sessionKey, LinkedHashMap<?, ?> mapData, String redisKey) {
         try {
             // LinkedHashMap에서 불필요한 필드 제거
             LinkedHashMap<String, Object> cleanedMap = new LinkedHashMap<>();
@@ -366,26 +331,12 @@ public class MemorialVideoSessionManager {
     }
 
     /**
-     * 세션 TTL 갱신
+     * 세션 TTL만 갱신 (세션 값을 다시 쓰지 않아 동시 상태 전환을 덮어쓰지 않음)
      */
-    public boolean extendSessionTtl(String sessionKey) {
-        String key = SESSION_KEY_PREFIX + sessionKey;
-
-        MemorialVideoSession session = getSession(sessionKey);
-        if (session != null) {
-            session.updateActivity();
-
-            // Redis TTL 갱신
-            redisTemplate.expire(key, MemorialVideoSession.getTtlSeconds(), TimeUnit.SECONDS);
-
-            // 세션 데이터도 업데이트 (JSON 문자열로)
-            saveSession(session);
-
-            log.debug("⏰ TTL 갱신: {} (남은 시간: {}초)", sessionKey, session.getRemainingTtlSeconds());
-            return true;
-        }
-
-        return false;
+    public boolean touchSessionTtl(String sessionKey) {
+        Boolean extended = redis("expire", () -> redisTemplate.expire(
+            SESSION_KEY_PREFIX + sessionKey, MemorialVideoSession.getTtlSeconds(), TimeUnit.SECONDS));
+        return Boolean.TRUE.equals(extended);
     }
 
     /**
@@ -401,13 +352,7 @@ public class MemorialVideoSessionManager {
             TimeUnit.SECONDS
         );
 
-        // 세션에도 소켓 ID 업데이트
-        MemorialVideoSession session = getSession(sessionKey);
-        if (session != null) {
-            session.setWebSocketConnection(socketId);
-            saveSession(session);
-        }
-
+        // 세션의 소켓 ID 는 VideoCallFlowManager.updateSession 으로 갱신 (세션 값 덮어쓰기 방지)
         log.debug("🔗 소켓 매핑: {} → {}", socketId, sessionKey);
     }
 
@@ -426,17 +371,10 @@ public class MemorialVideoSessionManager {
         String sessionKey = getSessionKeyBySocketId(socketId);
 
         if (sessionKey != null) {
-            // 소켓 매핑 제거
+            // 소켓 매핑 제거 (세션의 소켓 정보는 VideoCallFlowManager.updateSession 으로 정리)
             redisTemplate.delete(SOCKET_MAPPING_PREFIX + socketId);
 
-            // 세션에서 소켓 정보 제거
-            MemorialVideoSession session = getSession(sessionKey);
-            if (session != null) {
-                session.clearWebSocketConnection();
-                saveSession(session);
-
-                log.debug("🔌 소켓 연결 해제: {} (세션: {})", socketId, sessionKey);
-            }
+            log.debug("🔌 소켓 연결 해제: {} (세션: {})", socketId, sessionKey);
         }
     }
 
@@ -453,7 +391,7 @@ public class MemorialVideoSessionManager {
             }
 
             // 세션 삭제
-            redisTemplate.delete(SESSION_KEY_PREFIX + sessionKey);
+            redis("delete", () -> redisTemplate.delete(SESSION_KEY_PREFIX + sessionKey));
 
             log.info("🗑️ 세션 명시적 삭제: {} (나이: {}분)", sessionKey, session.getAgeInMinutes());
         }
@@ -463,7 +401,7 @@ public class MemorialVideoSessionManager {
      * 활성 세션 목록 조회
      */
     public Set<MemorialVideoSession> getActiveSessions() {
-        Set<String> keys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
+        Set<String> keys = redis("keys", () -> redisTemplate.keys(SESSION_KEY_PREFIX + "*"));
 
         if (keys == null || keys.isEmpty()) {
             return Set.of();
@@ -511,7 +449,7 @@ public class MemorialVideoSessionManager {
      * 만료된 세션 수동 정리 (스케줄링용)
      */
     public int cleanupExpiredSessions() {
-        Set<String> allKeys = redisTemplate.keys(SESSION_KEY_PREFIX + "*");
+        Set<String> allKeys = redis("keys", () -> redisTemplate.keys(SESSION_KEY_PREFIX + "*"));
         int cleanedCount = 0;
 
         if (allKeys != null) {
@@ -541,6 +479,21 @@ public class MemorialVideoSessionManager {
         return cleanedCount;
     }
 
+    /**
+     * Redis 작업 시간 기록 (video.session.redis, op 태그)
+     */
+    private <T> T redis(String op, Supplier<T> operation) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = operation.get();
+            success = true;
+            return result;
+        } finally {
+            videoCallMetrics.recordRedis(op, startNanos, success);
+        }
+    }
+
     /**
      * 유니크한 세션 키 생성
      */
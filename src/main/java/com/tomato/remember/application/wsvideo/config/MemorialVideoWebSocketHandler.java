@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tomato.remember.application.wsvideo.code.DeviceType;
 import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
 import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
 import com.tomato.remember.common.security.JwtTokenProvider;
 import com.tomato.remember.application.wsvideo.service.MultiDeviceManager;
 import com.tomato.remember.application.wsvideo.service.VideoCallFlowManager;
@@ -24,20 +25,24 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Memorial Video Call WebSocket 핸들러 - 기존 JwtTokenProvider 사용 인터셉터에서 1차 인증 후, 핸들러에서 2차 검증 수행
  */
 @Slf4j
 @Component
-public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
+public class MemorialVideoWebSocketHandler extends TextWebSocketHandler implements VideoSessionTransport {
 
     private final MemorialVideoSessionManager sessionManager;
     private final ObjectMapper objectMapper;
     private final VideoCallFlowManager flowManager;
     private final MultiDeviceManager deviceManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VideoSocketSender videoSocketSender;
 
     // 활성 웹소켓 연결 관리 (메모리 내)
     private final Map<String, WebSocketSession> activeConnections = new ConcurrentHashMap<>();
@@ -51,13 +56,17 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
         ObjectMapper objectMapper,
         @Lazy VideoCallFlowManager flowManager,
         @Lazy MultiDeviceManager deviceManager,
-        JwtTokenProvider jwtTokenProvider
+        JwtTokenProvider jwtTokenProvider,
+        VideoSocketSender videoSocketSender,
+        VideoCallMetrics videoCallMetrics
     ) {
         this.sessionManager = sessionManager;
         this.objectMapper = objectMapper;
         this.flowManager = flowManager;
         this.deviceManager = deviceManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.videoSocketSender = videoSocketSender;
+        videoCallMetrics.registerConnections("websocket", activeConnections);
     }
 
     @Override
@@ -72,9 +81,10 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             // 기존 연결 정리 (재연결 시)
             cleanupExistingConnection(sessionKey);
 
-            // 새 연결 등록
-            activeConnections.put(socket.getId(), socket);
+            // 새 연결 등록 (송신 버퍼 decorator 로 감싸서 보관)
+            activeConnections.put(socket.getId(), videoSocketSender.register(socket));
             sessionManager.mapSocketToSession(socket.getId(), sessionKey);
+            flowManager.updateSession(sessionKey, session -> session.setWebSocketConnection(socket.getId()));
 
             // 🔒 인증 타임아웃 설정 (5초)
             scheduleAuthTimeout(socket);
@@ -105,7 +115,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
                 if (! isAuthenticated && socket.isOpen()) {
                     log.warn("⏰ 인증 타임아웃: {} (5초 내 인증 실패)", sessionKey);
                     sendErrorMessage(socket, "AUTH_TIMEOUT", "인증 시간이 초과되었습니다");
-                    socket.close(CloseStatus.POLICY_VIOLATION.withReason("Authentication timeout"));
+                    videoSocketSender.closeAfterFlush(socket, CloseStatus.POLICY_VIOLATION.withReason("Authentication timeout"));
                 } else if (isAuthenticated) {
                     log.debug("✅ 인증 완료된 연결 - 타임아웃 불필요: {}", sessionKey);
                 } else {
@@ -238,7 +248,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             if (token == null || token.trim().isEmpty()) {
                 log.warn("🔒 AUTH 실패: 토큰 누락 - SessionKey: {}", sessionKey);
                 sendErrorMessage(socket, "TOKEN_MISSING", "토큰이 제공되지 않았습니다");
-                socket.close(CloseStatus.NOT_ACCEPTABLE);
+                videoSocketSender.closeAfterFlush(socket, CloseStatus.NOT_ACCEPTABLE);
                 return;
             }
 
@@ -246,7 +256,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             if (messageSessionKey != null && ! sessionKey.equals(messageSessionKey)) {
                 log.warn("🔒 AUTH 실패: 세션키 불일치 - URL: {}, Message: {}", sessionKey, messageSessionKey);
                 sendErrorMessage(socket, "SESSION_KEY_MISMATCH", "세션키가 일치하지 않습니다");
-                socket.close(CloseStatus.NOT_ACCEPTABLE);
+                videoSocketSender.closeAfterFlush(socket, CloseStatus.NOT_ACCEPTABLE);
                 return;
             }
 
@@ -254,7 +264,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             if (! jwtTokenProvider.validateMemberToken(token)) {
                 log.warn("🔒 AUTH 실패: 토큰 검증 실패 - SessionKey: {}", sessionKey);
                 sendErrorMessage(socket, "TOKEN_INVALID", "유효하지 않은 토큰입니다");
-                socket.close(CloseStatus.NOT_ACCEPTABLE);
+                videoSocketSender.closeAfterFlush(socket, CloseStatus.NOT_ACCEPTABLE);
                 return;
             }
 
@@ -270,7 +280,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             if (! validateSessionAccess(sessionKey, memberId)) {
                 log.warn("🔒 AUTH 실패: 세션 접근 권한 없음 - SessionKey: {}, MemberId: {}", sessionKey, memberId);
                 sendErrorMessage(socket, "SESSION_ACCESS_DENIED", "해당 세션에 접근할 권한이 없습니다");
-                socket.close(CloseStatus.NOT_ACCEPTABLE);
+                videoSocketSender.closeAfterFlush(socket, CloseStatus.NOT_ACCEPTABLE);
                 return;
             }
 
@@ -291,18 +301,19 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             cancelAuthTimeout(socket);
             log.info("✅ 인증 타임아웃 취소 완료");
 
-            // 8. 세션 업데이트
-            MemorialVideoSession session = sessionManager.getSession(sessionKey);
-            if (session != null) {
+            // 8. 세션 업데이트 (메일박스에서 처리 - 진행 중인 상태 전환을 덮어쓰지 않음)
+            DeviceType deviceType = parseDeviceType(deviceTypeStr);
+            flowManager.updateSession(sessionKey, session -> {
                 session.setWebSocketConnection(socket.getId());
                 // 디바이스 정보 업데이트
-                DeviceType deviceType = parseDeviceType(deviceTypeStr);
                 session.setDeviceInfo(deviceType, socket.getId(), true);
-                sessionManager.saveSession(session);
-                log.info("✅ 세션 정보 업데이트 완료");
-            } else {
-                log.warn("⚠️ 세션 업데이트 실패: 세션을 찾을 수 없음 - {}", sessionKey);
-            }
+            }).thenAccept(updated -> {
+                if (updated) {
+                    log.info("✅ 세션 정보 업데이트 완료");
+                } else {
+                    log.warn("⚠️ 세션 업데이트 실패: 세션을 찾을 수 없음 - {}", sessionKey);
+                }
+            });
 
             // 9. 인증 성공 응답
             Map<String, Object> response = Map.of(
@@ -326,7 +337,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
         } catch (Exception e) {
             log.error("❌ AUTH 메시지 처리 중 오류: {} - {}", sessionKey, e.getMessage(), e);
             sendErrorMessage(socket, "AUTH_PROCESSING_ERROR", "인증 처리 중 오류가 발생했습니다");
-            socket.close(CloseStatus.SERVER_ERROR);
+            videoSocketSender.closeAfterFlush(socket, CloseStatus.SERVER_ERROR);
         }
     }
 
@@ -436,150 +447,61 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 세션 접근 권한 검증 (초상세 디버깅 버전)
+     * 세션 접근 권한 검증
+     * 정상 경로에서는 로그를 남기지 않고, 거부 사유만 WARN 으로 기록 (상세 상태는 DEBUG 활성 시에만)
      */
     private boolean validateSessionAccess(String sessionKey, Long memberId) {
-        log.info("validateSessionAccess 시작 - sessionKey: {}, memberId: {}", sessionKey, memberId);
+        if (sessionKey == null || sessionKey.trim().isEmpty()) {
+            log.warn("🔒 세션키가 비어있음");
+            return false;
+        }
+        if (memberId == null) {
+            log.warn("🔒 회원ID가 null");
+            return false;
+        }
 
         try {
-            // 1. 기본 파라미터 검증
-            log.debug("  Step 1: 파라미터 검증");
-            if (sessionKey == null || sessionKey.trim().isEmpty()) {
-                log.warn("🔒 세션키가 비어있음");
-                return false;
-            }
-            log.debug("  ✅ sessionKey 정상: {}", sessionKey);
-
-            if (memberId == null) {
-                log.warn("🔒 회원ID가 null");
-                return false;
-            }
-            log.debug("  ✅ memberId 정상: {}", memberId);
-
-            // 2. 세션 조회
-            log.debug("  Step 2: 세션 조회 시작");
-            MemorialVideoSession session = null;
-            try {
-                session = sessionManager.getSession(sessionKey);
-                log.debug("  ✅ sessionManager.getSession() 완료");
-            } catch (Exception sessionGetError) {
-                log.error("❌ sessionManager.getSession() 실패", sessionGetError);
-                return false;
-            }
-
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
             if (session == null) {
                 log.warn("🔒 세션이 존재하지 않음 - SessionKey: {}", sessionKey);
                 return false;
             }
-            log.debug("  ✅ 세션 조회 성공: {}", session.getClass().getSimpleName());
 
-            // 3. 세션 기본 정보 로깅
-            log.debug("  Step 3: 세션 정보 검증");
-            try {
-                log.debug("    세션키: {}", session.getSessionKey());
-                log.debug("    연락처: {}", session.getContactName());
-                log.debug("    상태: {}", session.getStatus());
-                log.debug("    생성시간: {}", session.getCreatedAt());
-                log.debug("    마지막활동: {}", session.getLastActivity());
-            } catch (Exception infoError) {
-                log.error("❌ 세션 기본 정보 조회 실패", infoError);
-                return false;
+            if (log.isDebugEnabled()) {
+                log.debug("세션 접근 검증 - SessionKey: {}, 상태: {}, FlowState: {}, 생성: {}, 마지막활동: {}",
+                    sessionKey, session.getStatus(), session.getFlowState(),
+                    session.getCreatedAt(), session.getLastActivity());
             }
 
-            // 4. FlowState 검증
-            log.debug("  Step 4: FlowState 검증");
-            try {
-                VideoCallFlowState flowState = session.getFlowState();
-                log.debug("    FlowState: {}", flowState);
-            } catch (Exception flowStateError) {
-                log.error("❌ FlowState 조회 실패", flowStateError);
+            LocalDateTime createdAt = session.getCreatedAt();
+            if (createdAt == null) {
+                log.warn("🔒 세션의 createdAt이 null - SessionKey: {}", sessionKey);
                 return false;
             }
 
-            // 5. 세션 만료 체크 (매우 세분화)
-            log.debug("  Step 5: 만료 체크 시작");
-            try {
-                // 5-1. createdAt 먼저 체크
-                LocalDateTime createdAt = session.getCreatedAt();
-                log.debug("    createdAt: {}", createdAt);
-
-                if (createdAt == null) {
-                    log.warn("🔒 세션의 createdAt이 null - SessionKey: {}", sessionKey);
-                    return false;
-                }
-
-                // 5-2. 현재 시간 체크
-                LocalDateTime now = LocalDateTime.now();
-                log.debug("    현재시간: {}", now);
-
-                // 5-3. 시간 차이 계산
-                long ageMinutes = ChronoUnit.MINUTES.between(createdAt, now);
-                log.debug("    세션 나이: {}분", ageMinutes);
-
-                // 5-4. TTL 체크
-                long ttlMinutes = MemorialVideoSession.getTtlSeconds() / 60;
-                log.debug("    TTL 제한: {}분", ttlMinutes);
-
-                boolean expired = ageMinutes > ttlMinutes;
-                log.debug("    만료 여부: {}", expired);
-
-                if (expired) {
-                    log.warn("🔒 세션이 만료됨 - SessionKey: {}, Age: {}분", sessionKey, ageMinutes);
-                    return false;
-                }
-
-            } catch (Exception expireCheckError) {
-                log.error("❌ 세션 만료 체크 중 오류 - SessionKey: {}", sessionKey, expireCheckError);
-                return false;
-            }
-            log.debug("  ✅ 만료 체크 완료");
-
-            // 6. callerId 체크 (매우 세분화)
-            log.debug("  Step 6: callerId 체크 시작");
-            Long sessionCallerId = null;
-            try {
-                sessionCallerId = session.getCallerId();
-                log.debug("    session.getCallerId(): {}", sessionCallerId);
-                log.debug("    sessionCallerId 타입: {}",
-                    sessionCallerId != null ? sessionCallerId.getClass().getName() : "null");
-            } catch (Exception callerIdGetError) {
-                log.error("❌ session.getCallerId() 호출 실패", callerIdGetError);
+            long ageMinutes = ChronoUnit.MINUTES.between(createdAt, LocalDateTime.now());
+            if (ageMinutes > MemorialVideoSession.getTtlSeconds() / 60) {
+                log.warn("🔒 세션이 만료됨 - SessionKey: {}, Age: {}분", sessionKey, ageMinutes);
                 return false;
             }
 
+            Long sessionCallerId = session.getCallerId();
             if (sessionCallerId == null) {
                 log.warn("🔒 세션의 호출자 ID가 null - SessionKey: {}", sessionKey);
                 return false;
             }
-            log.debug("  ✅ sessionCallerId 정상: {}", sessionCallerId);
-
-            // 7. 회원ID 일치 확인 (매우 세분화)
-            log.debug("  Step 7: 회원ID 일치 확인");
-            log.debug("    토큰 memberId: {} (타입: {})", memberId, memberId.getClass().getName());
-            log.debug("    세션 callerId: {} (타입: {})", sessionCallerId, sessionCallerId.getClass().getName());
 
-            boolean idsMatch = false;
-            try {
-                idsMatch = memberId.equals(sessionCallerId);
-                log.debug("    equals() 결과: {}", idsMatch);
-            } catch (Exception equalsError) {
-                log.error("❌ memberId.equals() 호출 실패", equalsError);
-                return false;
-            }
-
-            if (! idsMatch) {
+            if (! memberId.equals(sessionCallerId)) {
                 log.warn("🔒 세션 소유권 불일치 - SessionKey: {}, 토큰회원ID: {}, 세션회원ID: {}",
                     sessionKey, memberId, sessionCallerId);
                 return false;
             }
 
-            log.info("✅ 세션 접근 권한 검증 성공 - SessionKey: {}, 회원ID: {}", sessionKey, memberId);
+            log.debug("✅ 세션 접근 권한 검증 성공 - SessionKey: {}, 회원ID: {}", sessionKey, memberId);
             return true;
 
         } catch (Exception e) {
-            log.error("❌ validateSessionAccess 최상위 예외 발생 - SessionKey: {}, MemberId: {}", sessionKey, memberId, e);
-            // 스택 트레이스도 출력
-            log.error("❌ Stack trace:", e);
+            log.error("❌ validateSessionAccess 예외 발생 - SessionKey: {}, MemberId: {}", sessionKey, memberId, e);
             return false;
         }
     }
@@ -616,8 +538,9 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
                 return;
             }
 
+            // 응답용 사본과 저장본(메일박스) 모두 반영
             session.handleReconnect(socket.getId());
-            sessionManager.saveSession(session);
+            flowManager.updateSession(sessionKey, current -> current.handleReconnect(socket.getId()));
             sessionRecovered = true;
             log.info("🔄 인증된 세션 복구: {} (재연결 횟수: {}, 회원ID: {})",
                 sessionKey, session.getReconnectCount(), authenticatedMemberId);
@@ -629,7 +552,7 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             }
 
             session.setWebSocketConnection(socket.getId());
-            sessionManager.saveSession(session);
+            flowManager.updateSession(sessionKey, current -> current.setWebSocketConnection(socket.getId()));
         }
 
         // 연결 완료 응답
@@ -653,26 +576,27 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
 
     // 기존 메서드들 (변경사항 없음)
     private void handleHeartbeatResponse(String sessionKey, Map<String, Object> messageData) {
-        boolean extended = sessionManager.extendSessionTtl(sessionKey);
-        if (extended) {
-            log.debug("💓 인증된 하트비트 응답 처리: {} (TTL 갱신)", sessionKey);
-        } else {
-            log.warn("💔 하트비트 응답 실패: {} (세션 없음)", sessionKey);
-        }
+        // 활동 시간 갱신 + 저장 시 TTL 재설정 (메일박스에서 처리)
+        flowManager.updateSession(sessionKey, MemorialVideoSession::updateActivity).thenAccept(extended -> {
+            if (extended) {
+                log.debug("💓 인증된 하트비트 응답 처리: {} (TTL 갱신)", sessionKey);
+            } else {
+                log.warn("💔 하트비트 응답 실패: {} (세션 없음)", sessionKey);
+            }
+        });
     }
 
     private void handleVideoUploadComplete(String sessionKey, Map<String, Object> messageData) {
         String filePath = (String) messageData.get("filePath");
 
-        MemorialVideoSession session = sessionManager.getSession(sessionKey);
-        if (session != null) {
-            session.setSavedFilePath(filePath);
-            sessionManager.saveSession(session);
-            log.info("📤 업로드 완료: {} ({})", sessionKey, filePath);
-
-            // 업로드 완료되면 외부 API 호출은 별도 서비스에서 처리
-            // 여기서는 상태만 유지 (PROCESSING 상태 계속)
-        }
+        // 업로드 완료되면 외부 API 호출은 별도 서비스에서 처리
+        // 여기서는 상태만 유지 (PROCESSING 상태 계속)
+        flowManager.updateSession(sessionKey, session -> session.setSavedFilePath(filePath))
+            .thenAccept(updated -> {
+                if (updated) {
+                    log.info("📤 업로드 완료: {} ({})", sessionKey, filePath);
+                }
+            });
     }
 
     private void handleDisconnectMessage(String sessionKey, Map<String, Object> messageData) throws Exception {
@@ -684,10 +608,10 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
 
             if ("USER_ACTION".equals(reason)) {
                 sessionManager.deleteSession(sessionKey);
+                flowManager.cleanupSession(sessionKey);
                 log.info("🚪 인증된 사용자 종료: {} (사유: {})", sessionKey, reason);
             } else {
-                session.clearWebSocketConnection();
-                sessionManager.saveSession(session);
+                flowManager.updateSession(sessionKey, MemorialVideoSession::clearWebSocketConnection);
                 log.info("🔄 인증된 연결 해제: {} (사유: {}, 세션 유지)", sessionKey, reason);
             }
 
@@ -717,14 +641,14 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
                 return;
             }
 
-            boolean success = flowManager.transitionToState(sessionKey, newState);
-
-            if (success) {
-                log.info("🔄 클라이언트 상태 변경 성공: {} -> {} (사유: {})", sessionKey, newState, reason);
-            } else {
-                log.warn("❌ 클라이언트 상태 변경 실패: {} -> {} (사유: {})", sessionKey, newState, reason);
-                sendErrorMessage(getSocketBySessionKey(sessionKey), "INVALID_STATE_TRANSITION", "잘못된 상태 전환입니다");
-            }
+            flowManager.transitionToState(sessionKey, newState).thenAccept(success -> {
+                if (success) {
+                    log.info("🔄 클라이언트 상태 변경 성공: {} -> {} (사유: {})", sessionKey, newState, reason);
+                } else {
+                    log.warn("❌ 클라이언트 상태 변경 실패: {} -> {} (사유: {})", sessionKey, newState, reason);
+                    sendErrorMessage(getSocketBySessionKey(sessionKey), "INVALID_STATE_TRANSITION", "잘못된 상태 전환입니다");
+                }
+            });
         } catch (IllegalArgumentException e) {
             log.error("❌ 잘못된 상태값: {}", newStateStr);
             sendErrorMessage(getSocketBySessionKey(sessionKey), "INVALID_STATE", "잘못된 상태값입니다");
@@ -775,16 +699,16 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
         String deviceId = (String) messageData.get("deviceId");
         String deviceTypeStr = (String) messageData.get("deviceType");
 
-        MemorialVideoSession session = sessionManager.getSession(sessionKey);
-        if (session != null) {
+        flowManager.updateSession(sessionKey, session -> {
             session.addMetadata("clientDeviceId", deviceId);
             session.addMetadata("clientDeviceType", deviceTypeStr);
             session.addMetadata("userAgent", messageData.get("userAgent"));
             session.addMetadata("screenResolution", messageData.get("screenResolution"));
-            sessionManager.saveSession(session);
-
-            log.info("📱 디바이스 정보 업데이트: {} (ID: {}, 타입: {})", sessionKey, deviceId, deviceTypeStr);
-        }
+        }).thenAccept(updated -> {
+            if (updated) {
+                log.info("📱 디바이스 정보 업데이트: {} (ID: {}, 타입: {})", sessionKey, deviceId, deviceTypeStr);
+            }
+        });
     }
 
     private void handleRecordingStarted(String sessionKey, Map<String, Object> messageData) {
@@ -825,6 +749,16 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
     }
 
     public void sendMessageToSession(String sessionKey, Map<String, Object> message) {
+        deliver(sessionKey, message);
+    }
+
+    @Override
+    public String getName() {
+        return "WEBSOCKET";
+    }
+
+    @Override
+    public boolean deliver(String sessionKey, Map<String, Object> message) {
         MemorialVideoSession session = sessionManager.getSession(sessionKey);
 
         if (session != null && session.isConnected()) {
@@ -834,24 +768,45 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
                 try {
                     sendMessage(socket, message);
                     log.debug("📤 세션 메시지 전송: {} (타입: {})", sessionKey, message.get("type"));
+                    return true;
                 } catch (Exception e) {
                     log.error("❌ 세션 메시지 전송 실패: {} (오류: {})", sessionKey, e.getMessage());
                 }
             }
         }
+        return false;
+    }
+
+    /**
+     * 인증 완료된 열린 소켓의 세션 키 목록
+     */
+    @Override
+    public Set<String> getConnectedSessionKeys() {
+        return activeConnections.values().stream()
+            .filter(WebSocketSession::isOpen)
+            .filter(socket -> Boolean.TRUE.equals(socket.getAttributes().get("authenticated")))
+            .map(socket -> (String) socket.getAttributes().get("sessionKey"))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void disconnect(String sessionKey) {
+        activeConnections.values().stream()
+            .filter(socket -> sessionKey.equals(socket.getAttributes().get("sessionKey")))
+            .forEach(socket -> {
+                log.info("🧹 만료된 세션 연결 종료: {} (SocketId: {})", sessionKey, socket.getId());
+                videoSocketSender.closeAfterFlush(socket, CloseStatus.GOING_AWAY.withReason("Session expired"));
+            });
     }
 
     public void sendResponseVideo(String sessionKey, String videoUrl) {
         MemorialVideoSession session = sessionManager.getSession(sessionKey);
 
         if (session != null) {
-            // 직접 응답 URL 설정
-            session.setResponseVideoUrl(videoUrl);
-
-            // 상태 전환은 VideoCallFlowManager에서 처리
-            flowManager.transitionToState(sessionKey, VideoCallFlowState.RESPONSE_PLAYING);
-
-            sessionManager.saveSession(session);
+            // 응답 URL 은 상태 전환과 같은 메일박스 작업에서 함께 저장 (VideoCallFlowManager에서 처리)
+            flowManager.transitionToState(sessionKey, VideoCallFlowState.RESPONSE_PLAYING, null,
+                current -> current.setResponseVideoUrl(videoUrl));
 
             Map<String, Object> message = Map.of(
                 "type", "RESPONSE_VIDEO",
@@ -875,9 +830,16 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
             socket.getId(), status.getCode(), sessionKey, memberId);
 
         activeConnections.remove(socket.getId());
+        videoSocketSender.unregister(socket.getId());
 
         if (sessionKey != null) {
             sessionManager.unmapSocket(socket.getId());
+            // 그 사이 재연결된 새 소켓 정보는 지우지 않음
+            flowManager.updateSession(sessionKey, current -> {
+                if (socket.getId().equals(current.getSocketId())) {
+                    current.clearWebSocketConnection();
+                }
+            });
 
             if (status.getCode() != CloseStatus.NORMAL.getCode()) {
                 log.info("🔄 비정상 종료 - 세션 유지: {} (재연결 가능)", sessionKey);
@@ -910,10 +872,13 @@ public class MemorialVideoWebSocketHandler extends TextWebSocketHandler {
         return activeConnections.size();
     }
 
+    /**
+     * 비동기 송신 - 소켓별 송신 버퍼에 넣고 바로 반환 (느린 클라이언트가 호출 스레드를 막지 않음)
+     */
     private void sendMessage(WebSocketSession socket, Map<String, Object> message) throws Exception {
-        if (socket.isOpen()) {
+        if (socket != null && socket.isOpen()) {
             String jsonMessage = objectMapper.writeValueAsString(message);
-            socket.sendMessage(new TextMessage(jsonMessage));
+            videoSocketSender.send(socket, String.valueOf(message.get("type")), jsonMessage);
         }
     }
 
@@ -0,0 +1,32 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 영상통화 세션 알림 전송 계층 (WebSocket / SSE)
+ * - 세션 상태는 Redis(MemorialVideoSessionManager) 하나에만 두고, 전송 계층은 이 노드에 붙은 연결만 관리
+ * - 알림 발송과 하트비트/정리 스케줄은 VideoSessionNotifier 에서 전송 계층 공통으로 수행
+ */
+public interface VideoSessionTransport {
+
+    /**
+     * 전송 계층 이름 (로그/모니터링용)
+     */
+    String getName();
+
+    /**
+     * 이 노드에 세션 연결이 있으면 메시지 전송 후 true, 연결이 없거나 전송 실패 시 false
+     */
+    boolean deliver(String sessionKey, Map<String, Object> message);
+
+    /**
+     * 이 노드에 연결된 세션 키 목록
+     */
+    Set<String> getConnectedSessionKeys();
+
+    /**
+     * 세션 연결 종료 (Redis 세션이 만료/삭제된 경우)
+     */
+    void disconnect(String sessionKey);
+}
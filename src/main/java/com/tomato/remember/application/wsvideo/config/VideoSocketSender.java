@@ -0,0 +1,315 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import com.tomato.remember.application.wsvideo.code.WebSocketMessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+/**
+ * 영상통화 WebSocket 송신 버퍼
+ * - 등록된 소켓마다 송신 큐(lane)를 두고, 호출 스레드(스케줄러, 외부 API 콜백, flow manager)는 큐에 넣기만 하고 즉시 반환
+ * - 큐는 송신 풀 스레드가 소켓당 한 번에 하나씩 비우므로 같은 소켓의 메시지 순서가 보장되고 느린 소켓은 풀 스레드 하나만 점유
+ * - 대기 바이트(size-limit-bytes) 또는 가장 오래된 메시지 대기 시간(time-limit-ms) 초과 시 overflow-strategy 적용
+ *   (TERMINATE: 느린 클라이언트 종료, DROP: 오래된 메시지 폐기)
+ * - 적체 중에는 하트비트/진행률처럼 최신 값만 의미 있는 메시지를 큐에 넣지 않음
+ * - 실제 소켓은 ConcurrentWebSocketSessionDecorator 로 감싸 큐 밖의 직접 송신(close 등)과도 동시 전송 충돌이 없도록 함
+ */
+@Slf4j
+@Component
+public class VideoSocketSender {
+
+    private static final Set<String> DROPPABLE_TYPES = Set.of(
+        WebSocketMessageType.HEARTBEAT.name(),
+        WebSocketMessageType.PROCESSING_PROGRESS.name()
+    );
+
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    private final OverflowStrategy overflowStrategy;
+    private final ExecutorService senderPool;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+    private final Counter terminatedCounter;
+
+    public VideoSocketSender(@Value("${app.memorial-video.send-buffer.time-limit-ms:5000}") int sendTimeLimitMs,
+                             @Value("${app.memorial-video.send-buffer.size-limit-bytes:65536}") int bufferSizeLimit,
+                             @Value("${app.memorial-video.send-buffer.overflow-strategy:TERMINATE}") OverflowStrategy overflowStrategy,
+                             @Value("${app.memorial-video.send-buffer.sender-threads:16}") int senderThreads,
+                             MeterRegistry meterRegistry) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowStrategy = overflowStrategy;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.senderPool = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "video-ws-send-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("video.ws.send.queue.bytes", this, VideoSocketSender::totalQueuedBytes)
+            .description("전체 소켓 송신 대기 바이트")
+            .register(meterRegistry);
+        Gauge.builder("video.ws.send.queue.max.bytes", this, VideoSocketSender::maxQueuedBytes)
+            .description("소켓별 송신 대기 바이트 최대값")
+            .register(meterRegistry);
+        Gauge.builder("video.ws.send.queue.messages", this, VideoSocketSender::totalQueuedMessages)
+            .description("전체 소켓 송신 대기 메시지 수")
+            .register(meterRegistry);
+        Gauge.builder("video.ws.sockets", lanes, Map::size)
+            .description("송신 큐가 등록된 소켓 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("video.ws.send.dropped")
+            .description("송신 적체로 폐기된 메시지 수")
+            .register(meterRegistry);
+        this.terminatedCounter = Counter.builder("video.ws.send.terminated")
+            .description("송신 제한 초과로 종료된 소켓 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 소켓 등록 - 반환된 decorator 를 연결 관리 맵에 보관
+     */
+    public WebSocketSession register(WebSocketSession socket) {
+        ConcurrentWebSocketSessionDecorator decorated = new ConcurrentWebSocketSessionDecorator(
+            socket, sendTimeLimitMs, bufferSizeLimit, overflowStrategy);
+        lanes.put(socket.getId(), new Lane(decorated));
+        return decorated;
+    }
+
+    public void unregister(String socketId) {
+        Lane lane = lanes.remove(socketId);
+        if (lane != null) {
+            lane.clear();
+        }
+    }
+
+    /**
+     * 비동기 송신 (호출 스레드는 블로킹되지 않음)
+     */
+    public void send(WebSocketSession socket, String messageType, String payload) {
+        Lane lane = lanes.get(socket.getId());
+        if (lane == null || !lane.socket.isOpen()) {
+            return;
+        }
+        if (lane.size() > 0 && DROPPABLE_TYPES.contains(messageType)) {
+            droppedCounter.increment();
+            log.debug("송신 적체 - {} 메시지 생략: socketId={}, 대기={}B", messageType, socket.getId(), lane.bytes.get());
+            return;
+        }
+
+        lane.offer(new Outbound(messageType, new TextMessage(payload), null));
+        if (lane.exceedsLimits()) {
+            handleOverflow(lane);
+        }
+        lane.scheduleDrain();
+    }
+
+    /**
+     * 이미 큐에 넣은 메시지(오류 안내 등)를 보낸 뒤 소켓 종료
+     */
+    public void closeAfterFlush(WebSocketSession socket, CloseStatus status) {
+        Lane lane = lanes.get(socket.getId());
+        if (lane == null) {
+            closeQuietly(socket, status);
+            return;
+        }
+        lane.offer(new Outbound("CLOSE", new TextMessage(""), status));
+        lane.scheduleDrain();
+    }
+
+    private void handleOverflow(Lane lane) {
+        if (overflowStrategy == OverflowStrategy.TERMINATE) {
+            terminatedCounter.increment();
+            log.warn("느린 클라이언트 송신 제한 초과 - 소켓 종료: socketId={}, 대기={}건/{}B",
+                lane.socket.getId(), lane.size(), lane.bytes.get());
+            lanes.remove(lane.socket.getId());
+            lane.clear();
+            // 송신 스레드가 쓰기 중일 수 있으므로 종료도 호출 스레드 밖에서 수행
+            CompletableFuture.runAsync(() -> closeQuietly(lane.socket, CloseStatus.SESSION_NOT_RELIABLE));
+            return;
+        }
+        int dropped = lane.dropOldestUntilWithinLimits();
+        droppedCounter.increment(dropped);
+        log.debug("송신 제한 초과 - 오래된 메시지 {}건 폐기: socketId={}", dropped, lane.socket.getId());
+    }
+
+    private void closeQuietly(WebSocketSession socket, CloseStatus status) {
+        try {
+            if (socket.isOpen()) {
+                socket.close(status);
+            }
+        } catch (Exception ignored) {
+            // 이미 닫히는 중
+        }
+    }
+
+    private double totalQueuedBytes() {
+        long total = 0;
+        for (Lane lane : lanes.values()) {
+            total += lane.bytes.get();
+        }
+        return total;
+    }
+
+    private double maxQueuedBytes() {
+        long max = 0;
+        for (Lane lane : lanes.values()) {
+            max = Math.max(max, lane.bytes.get());
+        }
+        return max;
+    }
+
+    private double totalQueuedMessages() {
+        long total = 0;
+        for (Lane lane : lanes.values()) {
+            total += lane.size();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderPool.shutdown();
+        try {
+            senderPool.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Outbound {
+
+        private final String type;
+        private final TextMessage message;
+        private final CloseStatus closeStatus;
+        private final long enqueuedAt = System.currentTimeMillis();
+
+        private Outbound(String type, TextMessage message, CloseStatus closeStatus) {
+            this.type = type;
+            this.message = message;
+            this.closeStatus = closeStatus;
+        }
+    }
+
+    /**
+     * 소켓별 송신 큐 - drain 작업은 소켓당 동시에 하나만 실행
+     */
+    private class Lane {
+
+        private final ConcurrentWebSocketSessionDecorator socket;
+        private final ConcurrentLinkedQueue<Outbound> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(ConcurrentWebSocketSessionDecorator socket) {
+            this.socket = socket;
+        }
+
+        private int size() {
+            return count.get();
+        }
+
+        private void offer(Outbound outbound) {
+            queue.offer(outbound);
+            count.incrementAndGet();
+            bytes.addAndGet(outbound.message.getPayloadLength());
+        }
+
+        private Outbound poll() {
+            Outbound outbound = queue.poll();
+            if (outbound != null) {
+                count.decrementAndGet();
+                bytes.addAndGet(-outbound.message.getPayloadLength());
+            }
+            return outbound;
+        }
+
+        private boolean exceedsLimits() {
+            if (bytes.get() > bufferSizeLimit) {
+                return true;
+            }
+            Outbound oldest = queue.peek();
+            return oldest != null && System.currentTimeMillis() - oldest.enqueuedAt > sendTimeLimitMs;
+        }
+
+        private int dropOldestUntilWithinLimits() {
+            int dropped = 0;
+            Iterator<Outbound> iterator = queue.iterator();
+            // 가장 최근 메시지 하나는 남김
+            while (exceedsLimits() && count.get() > 1 && iterator.hasNext()) {
+                Outbound outbound = iterator.next();
+                if (outbound.closeStatus == null && queue.remove(outbound)) {
+                    count.decrementAndGet();
+                    bytes.addAndGet(-outbound.message.getPayloadLength());
+                    dropped++;
+                }
+            }
+            return dropped;
+        }
+
+        private void clear() {
+            while (poll() != null) {
+                // 폐기
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senderPool.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Outbound outbound;
+                while ((outbound = poll()) != null) {
+                    if (!socket.isOpen()) {
+                        clear();
+                        return;
+                    }
+                    if (outbound.closeStatus != null) {
+                        clear();
+                        closeQuietly(socket, outbound.closeStatus);
+                        return;
+                    }
+                    try {
+                        socket.sendMessage(outbound.message);
+                    } catch (Exception e) {
+                        log.warn("WebSocket 메시지 전송 실패: socketId={}, type={}, 오류={}",
+                            socket.getId(), outbound.type, e.getMessage());
+                    }
+                }
+            } finally {
+                draining.set(false);
+                // drain 종료 직전에 들어온 메시지 처리
+                if (!queue.isEmpty() && socket.isOpen()) {
+                    scheduleDrain();
+                }
+            }
+        }
+    }
+}
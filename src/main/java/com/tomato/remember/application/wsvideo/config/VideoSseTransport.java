@@ -0,0 +1,127 @@
+package com.tomato.remember.application.wsvideo.config;
+
+import com.tomato.remember.application.wsvideo.code.WebSocketMessageType;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 전송 계층 (기존 /api/video 영상통화 경로)
+ * - 이 노드에 연결된 SseEmitter 만 보관 (세션 상태는 Redis)
+ * - 메시지 type 을 기존 클라이언트가 구독하는 SSE 이벤트명으로 변환해 전송
+ */
+@Slf4j
+@Component
+public class VideoSseTransport implements VideoSessionTransport {
+
+    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    public VideoSseTransport(VideoCallMetrics videoCallMetrics) {
+        videoCallMetrics.registerConnections("sse", emitters);
+    }
+
+    /**
+     * 세션 SSE 연결 등록 (재연결 시 기존 연결 종료)
+     *
+     * @return 기존 연결이 있었는지 여부
+     */
+    public boolean connect(String sessionKey, SseEmitter emitter) {
+        SseEmitter previous = emitters.put(sessionKey, emitter);
+        if (previous != null) {
+            completeQuietly(previous);
+        }
+
+        emitter.onCompletion(() -> {
+            emitters.remove(sessionKey, emitter);
+            log.info("SSE 연결 완료됨: {} (세션은 유지)", sessionKey);
+        });
+        emitter.onTimeout(() -> {
+            emitters.remove(sessionKey, emitter);
+            log.warn("SSE 연결 타임아웃: {} (세션은 유지)", sessionKey);
+        });
+        emitter.onError(ex -> {
+            emitters.remove(sessionKey, emitter);
+            log.warn("SSE 연결 오류: {} (세션은 유지) - 오류: {}", sessionKey, ex.getMessage());
+        });
+
+        return previous != null;
+    }
+
+    @Override
+    public String getName() {
+        return "SSE";
+    }
+
+    @Override
+    public boolean deliver(String sessionKey, Map<String, Object> message) {
+        SseEmitter emitter = emitters.get(sessionKey);
+        if (emitter == null) {
+            return false;
+        }
+
+        try {
+            emitter.send(SseEmitter.event()
+                .name(toEventName(message.get("type")))
+                .data(message));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.warn("💔 SSE 전송 실패 - 연결 정리: {} (오류: {})", sessionKey, e.getMessage());
+            emitters.remove(sessionKey, emitter);
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> getConnectedSessionKeys() {
+        return Set.copyOf(emitters.keySet());
+    }
+
+    @Override
+    public void disconnect(String sessionKey) {
+        SseEmitter emitter = emitters.remove(sessionKey);
+        if (emitter != null) {
+            completeQuietly(emitter);
+        }
+    }
+
+    public boolean isConnected(String sessionKey) {
+        return emitters.containsKey(sessionKey);
+    }
+
+    public int getConnectionCount() {
+        return emitters.size();
+    }
+
+    /**
+     * 메시지 type → 기존 SSE 클라이언트 이벤트명 (connected/heartbeat/response/error)
+     */
+    private String toEventName(Object type) {
+        String typeName = String.valueOf(type);
+        if (WebSocketMessageType.HEARTBEAT.name().equals(typeName)) {
+            return "heartbeat";
+        }
+        if ("RESPONSE_VIDEO".equals(typeName)) {
+            return "response";
+        }
+        if ("ERROR".equals(typeName)) {
+            return "error";
+        }
+        if ("CONNECTED".equals(typeName)) {
+            return "connected";
+        }
+        return typeName;
+    }
+
+    private void completeQuietly(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 정리 중 예외 (무시됨): {}", e.getMessage());
+        }
+    }
+}
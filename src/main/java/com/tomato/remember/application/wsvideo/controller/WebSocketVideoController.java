@@ -2,6 +2,9 @@ package com.tomato.remember.application.wsvideo.controller;
 
 import com.tomato.remember.application.member.entity.Member;
 import com.tomato.remember.application.security.MemberUserDetails;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStartRequest;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStatusResponse;
+import com.tomato.remember.application.upload.service.ChunkedUploadService;
 import com.tomato.remember.application.wsvideo.config.MemorialVideoSessionManager;
 import com.tomato.remember.application.wsvideo.config.MemorialVideoWebSocketHandler;
 import com.tomato.remember.application.wsvideo.dto.CreateSessionRequest;
@@ -13,6 +16,8 @@ import com.tomato.remember.application.wsvideo.code.DeviceType;
 import com.tomato.remember.application.wsvideo.service.MultiDeviceManager;
 import com.tomato.remember.application.wsvideo.service.VideoCallFlowManager;
 import com.tomato.remember.application.wsvideo.service.WaitingVideoService;
+import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
 import com.tomato.remember.common.util.FileStorageService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +28,13 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * WebSocket 기반 영상통화 REST API 컨트롤러 - 인증 보안 강화
@@ -46,6 +54,8 @@ public class WebSocketVideoController {
     private final MultiDeviceManager deviceManager;
     private final ExternalVideoApiService externalVideoApiService;
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final VideoCallMetrics videoCallMetrics;
 
     private final ExecutorService executorService = Executors.newCachedThreadPool();
 
@@ -101,6 +111,7 @@ public class WebSocketVideoController {
             String waitingVideoUrl = waitingVideoService.getWaitingVideoUrl(
                 request.getContactKey(), deviceType);
             session.setWaitingVideoUrl(waitingVideoUrl);
+            session.addMetadata("contactKey", request.getContactKey()); // 프리페치 목록 생성용
 
             // 초기 상태 설정
             session.transitionToState(VideoCallFlowState.INITIALIZING);
@@ -223,32 +234,11 @@ public class WebSocketVideoController {
             }
 
             try {
-                MemorialVideoSession session = sessionManager.getSession(sessionKey);
-
                 log.info("📹 인증된 영상 처리 시작 - 세션: {}, 파일: {}, 대상: {}",
                         sessionKey, videoFile.getOriginalFilename(), contactKey);
 
-                // ✅ 올바른 상태 전환 (PROCESSING만 사용)
-                flowManager.transitionToState(sessionKey, VideoCallFlowState.PROCESSING);
-
-                session = sessionManager.getSession(sessionKey); // 다시 조회로 동기화 확인
-                if (session.getFlowState() != VideoCallFlowState.PROCESSING) {
-                    log.error("상태 동기화 실패 - 예상: PROCESSING, 실제: {}", session.getFlowState());
-                }
-
-                // 파일 저장
-                String savedFilePath = fileStorageService.uploadVideoCallRecording(videoFile, sessionKey);
-                session.setSavedFilePath(savedFilePath);
-
-                // 메타데이터 추가 (필요시)
-                if (session.getMetadata() != null) {
-                    session.addMetadata("contactKey", contactKey);
-                }
-                sessionManager.saveSession(session);
-
-                // 저장 후 다시 한번 검증
-                MemorialVideoSession verifySession = sessionManager.getSession(sessionKey);
-                log.info("상태 검증 - 저장된 상태: {}, 파일경로: {}", verifySession.getFlowState(), verifySession.getSavedFilePath());
+                String savedFilePath = acceptRecording(sessionKey, contactKey,
+                        () -> fileStorageService.uploadVideoCallRecording(videoFile, sessionKey));
 
                 // 즉시 응답
                 Map<String, Object> response = Map.of(
@@ -260,11 +250,6 @@ public class WebSocketVideoController {
                     "authenticatedMemberId", userDetails.getMember().getId()
                 );
 
-                // 백그라운드 처리
-                executorService.submit(() -> {
-                    processVideoAsyncWithWebSocket(sessionKey, savedFilePath, contactKey);
-                });
-
                 return ResponseEntity.ok(Map.of(
                     "status", Map.of("code", "OK_0000", "message", "영상 업로드 완료"),
                     "response", response
@@ -280,16 +265,54 @@ public class WebSocketVideoController {
             }
         }
 
+        /**
+         * 3-1. 녹화 파일 분할 업로드 시작 (세션 소유권 검증)
+         * - 조각은 /api/uploads/chunked/{uploadId}/chunks/{index} 로 전송 (순서 무관, 병렬 가능, 끊기면 빠진 조각만 재전송)
+         * - 마지막 조각이 도착하면 바로 변환을 시작하고, 이후 흐름(외부 API 전송 → 응답 영상)은 일반 업로드와 동일
+         */
+        @PostMapping("/process/{sessionKey}/chunked")
+        public ResponseEntity<?> startChunkedRecordingUpload(@PathVariable String sessionKey,
+                                    @RequestBody ChunkedUploadStartRequest request,
+                                    @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+            if (!validateSessionOwnership(sessionKey, userDetails)) {
+                return createUnauthorizedResponse();
+            }
+
+            String fileName = request.getFileName();
+            String contactKey = request.getContactKey() != null ? request.getContactKey() : "kimgeuntae";
+
+            try {
+                fileStorageService.validateVideoCallRecording(request.getSize(), fileName);
+
+                ChunkedUploadStatusResponse upload = chunkedUploadService.start(
+                        userDetails.getMember().getId(), fileName, request.getSize(),
+                        assembled -> completeChunkedRecording(sessionKey, contactKey, fileName, assembled));
+
+                log.info("📹 녹화 분할 업로드 시작 - 세션: {}, 업로드: {}, 조각 수: {}",
+                        sessionKey, upload.getUploadId(), upload.getTotalChunks());
+
+                return ResponseEntity.ok(Map.of(
+                    "status", Map.of("code", "OK_0000", "message", "분할 업로드 시작"),
+                    "response", upload
+                ));
+
+            } catch (APIException e) {
+                log.warn("녹화 분할 업로드 시작 거절 - 세션: {}, 사유: {}", sessionKey, e.getMessage());
+                return createErrorResponse("ERR_4000", "분할 업로드 시작 실패", e.getMessage());
+            }
+        }
+
         /**
          * 4. 외부 API 콜백 (세션 소유권 검증)
          */
         @PostMapping("/callback/{sessionKey}")
-        public ResponseEntity<?> receiveResponse(@PathVariable String sessionKey,
+        public CompletableFuture<ResponseEntity<?>> receiveResponse(@PathVariable String sessionKey,
                                            @RequestBody Map<String, Object> responseData,
                                            @AuthenticationPrincipal MemberUserDetails userDetails) {
 
         if (!validateSessionOwnership(sessionKey, userDetails)) {
-            return createUnauthorizedResponse();
+            return CompletableFuture.completedFuture(createUnauthorizedResponse());
         }
 
         try {
@@ -301,7 +324,7 @@ public class WebSocketVideoController {
 
             if (session == null) {
                 log.error("❌ 세션 조회 실패: {}", sessionKey);
-                return createErrorResponse("ERR_4040", "세션을 찾을 수 없습니다", "");
+                return CompletableFuture.completedFuture(createErrorResponse("ERR_4040", "세션을 찾을 수 없습니다", ""));
             }
 
             // 🔥 여전히 PROCESSING가 아니면 추가 대기
@@ -319,46 +342,77 @@ public class WebSocketVideoController {
                     if (session != null) {
                         log.warn("🚨 비상 대응: 현재 상태({})에서 강제 진행", session.getFlowState());
                     } else {
-                        return createErrorResponse("ERR_4040", "세션 상태 불일치", "");
+                        return CompletableFuture.completedFuture(createErrorResponse("ERR_4040", "세션 상태 불일치", ""));
                     }
                 }
             }
 
             // 올바른 상태 전환 (RESPONSE_PLAYING 사용)
-            session.setResponseVideoUrl(responseVideoUrl);
-            sessionManager.saveSession(session);
-
-            MemorialVideoSession verifySession = sessionManager.getSession(sessionKey, true);
-            log.info("💾 응답 URL 저장 검증: {} (URL: {})",
-                    verifySession != null ? "성공" : "실패",
-                    verifySession != null ? verifySession.getResponseVideoUrl() : "NULL");
-
+            // 응답 URL 은 전환과 같은 메일박스 작업에서 저장 (메일박스 밖 전체 저장은 워커 상태를 덮어씀)
             // VideoCallFlowManager가 WebSocket 브로드캐스트도 처리
-            boolean success = flowManager.transitionToState(sessionKey, VideoCallFlowState.RESPONSE_PLAYING);
-
-            if (!success) {
-                log.error("❌ RESPONSE_PLAYING 상태 전환 실패");
-                return createErrorResponse("ERR_5000", "상태 전환 실패", "");
-            }
+            // 세션 메일박스 처리 완료 시 응답 (요청 스레드는 대기하지 않음)
+            Long authenticatedMemberId = userDetails.getMember().getId();
+            return flowManager.transitionToState(sessionKey, VideoCallFlowState.RESPONSE_PLAYING, null,
+                    current -> {
+                        current.setResponseVideoUrl(responseVideoUrl);
+                        videoCallMetrics.markCallbackReceived(current);
+                    })
+                .thenApply(success -> {
+                    if (!success) {
+                        log.error("❌ RESPONSE_PLAYING 상태 전환 실패");
+                        return createErrorResponse("ERR_5000", "상태 전환 실패", "");
+                    }
 
-            return ResponseEntity.ok(Map.of(
-                "status", Map.of("code", "OK_0000", "message", "응답영상 전송 완료"),
-                "response", Map.of(
-                    "sessionKey", sessionKey,
-                    "responseVideoUrl", responseVideoUrl,
-                    "currentState", session.getFlowState().name(),
-                    "authenticatedMemberId", userDetails.getMember().getId()
-                )
-            ));
+                    return ResponseEntity.ok(Map.of(
+                        "status", Map.of("code", "OK_0000", "message", "응답영상 전송 완료"),
+                        "response", Map.of(
+                            "sessionKey", sessionKey,
+                            "responseVideoUrl", responseVideoUrl,
+                            "currentState", VideoCallFlowState.RESPONSE_PLAYING.name(),
+                            "authenticatedMemberId", authenticatedMemberId
+                        )
+                    ));
+                });
 
         } catch (Exception e) {
             log.error("❌ 응답영상 콜백 처리 실패 - 세션: {}", sessionKey, e);
             flowManager.transitionToState(sessionKey, VideoCallFlowState.ERROR);
 
-            return createErrorResponse("ERR_5000", "응답영상 처리 실패", e.getMessage());
+            return CompletableFuture.completedFuture(createErrorResponse("ERR_5000", "응답영상 처리 실패", e.getMessage()));
         }
     }
 
+    /**
+     * 4-1. 외부 API 부분 콜백 - 응답영상 URL 사전 알림 (세션 소유권 검증)
+     * 최종 콜백 전에 생성 중인 영상 URL 을 알려주면 클라이언트가 다운로드를 먼저 시작
+     */
+    @PostMapping("/callback/{sessionKey}/partial")
+    public CompletableFuture<ResponseEntity<?>> receivePartialResponse(@PathVariable String sessionKey,
+                                                                     @RequestBody Map<String, Object> responseData,
+                                                                     @AuthenticationPrincipal MemberUserDetails userDetails) {
+
+        if (!validateSessionOwnership(sessionKey, userDetails)) {
+            return CompletableFuture.completedFuture(createUnauthorizedResponse());
+        }
+
+        Object videoUrl = responseData.get("videoUrl");
+        if (!(videoUrl instanceof String partialVideoUrl) || partialVideoUrl.isBlank()) {
+            return CompletableFuture.completedFuture(createErrorResponse("ERR_4000", "videoUrl 이 필요합니다", ""));
+        }
+
+        Long sizeBytes = responseData.get("sizeBytes") instanceof Number size ? size.longValue() : null;
+        log.info("📦 응답영상 부분 콜백 수신 - 세션: {}, URL: {}", sessionKey, partialVideoUrl);
+
+        return flowManager.announceResponseVideo(sessionKey, partialVideoUrl, sizeBytes)
+            .thenApply(announced -> ResponseEntity.ok(Map.of(
+                "status", Map.of("code", "OK_0000", "message", "응답영상 사전 알림 처리 완료"),
+                "response", Map.of(
+                    "sessionKey", sessionKey,
+                    "announced", announced
+                )
+            )));
+    }
+
     /**
      * 5. 세션 상태 조회 (소유권 검증)
      */
@@ -397,8 +451,8 @@ public class WebSocketVideoController {
             ));
         }
 
-        session.updateActivity();
-        sessionManager.saveSession(session);
+        // 활동 시간 갱신은 메일박스에서 처리 (진행 중인 상태 전환을 덮어쓰지 않음)
+        flowManager.updateSession(sessionKey, MemorialVideoSession::updateActivity);
 
         Map<String, Object> sessionResponse = new HashMap<>();
         sessionResponse.put("sessionKey", sessionKey);
@@ -462,6 +516,7 @@ public class WebSocketVideoController {
             // 세션 정리
             deviceManager.cleanupSession(sessionKey);
             sessionManager.deleteSession(sessionKey);
+            flowManager.cleanupSession(sessionKey);
 
             log.info("🧹 인증된 세션 정리 완료 - 세션: {}, 사유: {}, 회원ID: {}",
                     sessionKey, reason, authenticatedMember.getId());
@@ -544,6 +599,51 @@ public class WebSocketVideoController {
     }
 
 
+    /**
+     * 녹화 파일 저장 후 외부 API 처리 시작 (일반 업로드 / 분할 업로드 완료 공통)
+     *
+     * @return 저장된 파일 경로
+     */
+    private String acceptRecording(String sessionKey, String contactKey, Supplier<String> storeRecording) {
+        // ✅ 올바른 상태 전환 (PROCESSING만 사용) - 메일박스에서 처리되며 저장 중 상태 조회/덮어쓰기 없음
+        flowManager.transitionToState(sessionKey, VideoCallFlowState.PROCESSING);
+
+        // 파일 저장
+        String savedFilePath = storeRecording.get();
+
+        // 파일 경로/메타데이터는 PROCESSING 전환 다음 순서로 같은 메일박스에서 저장 (전환 결과를 덮어쓰지 않음)
+        boolean updated = flowManager.updateSession(sessionKey, session -> {
+            session.setSavedFilePath(savedFilePath);
+            session.addMetadata("contactKey", contactKey);
+            videoCallMetrics.markUploaded(session);
+        }).join();
+        if (!updated) {
+            throw new IllegalStateException("세션을 찾을 수 없습니다: " + sessionKey);
+        }
+        log.info("녹화 파일 세션 저장 완료 - 세션: {}, 파일경로: {}", sessionKey, savedFilePath);
+
+        // 백그라운드 처리
+        executorService.submit(() -> {
+            processVideoAsyncWithWebSocket(sessionKey, savedFilePath, contactKey);
+        });
+
+        return savedFilePath;
+    }
+
+    /**
+     * 분할 업로드 완료 처리 - 조립된 녹화 파일을 바로 변환/저장하고 외부 API 처리 시작
+     */
+    private String completeChunkedRecording(String sessionKey, String contactKey, String fileName, Path assembled) {
+        try {
+            log.info("📹 녹화 분할 업로드 수신 완료, 변환 시작 - 세션: {}, 파일: {}", sessionKey, fileName);
+            return acceptRecording(sessionKey, contactKey,
+                    () -> fileStorageService.storeVideoCallRecording(assembled, fileName, sessionKey));
+        } catch (RuntimeException e) {
+            flowManager.transitionToState(sessionKey, VideoCallFlowState.ERROR);
+            throw e;
+        }
+    }
+
     /**
      * 세션 소유권 검증 (공통 메서드)
      */
@@ -186,6 +186,13 @@ public class MemorialVideoSession implements Serializable {
         return this.metadata.get(key);
     }
 
+    /**
+     * 메타데이터 제거
+     */
+    public void removeMetadata(String key) {
+        this.metadata.remove(key);
+    }
+
     /**
      * 세션 나이 (분)
      */
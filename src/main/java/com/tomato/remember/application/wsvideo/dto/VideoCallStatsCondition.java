@@ -0,0 +1,34 @@
+package com.tomato.remember.application.wsvideo.dto;
+
+import com.tomato.remember.application.videocall.code.CallType;
+import com.tomato.remember.application.wsvideo.code.DeviceType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 영상통화 통계 조회 조건
+ * - 기간은 [from, to) 이며 시간 단위로 절삭되어 조회
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VideoCallStatsCondition {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private Long memorialId;
+    private Long callerId;
+    private CallType callType;
+    private DeviceType deviceType;
+}
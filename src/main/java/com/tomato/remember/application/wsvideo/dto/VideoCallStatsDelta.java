@@ -0,0 +1,115 @@
+package com.tomato.remember.application.wsvideo.dto;
+
+import com.tomato.remember.application.videocall.code.CallStatus;
+import com.tomato.remember.application.wsvideo.entity.VideoCall;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 영상통화 집계 버킷 증분값
+ * - 통화 1건 종료 또는 피드백 변경 시 버킷에 더해질 값
+ */
+@Getter
+@Builder
+public class VideoCallStatsDelta {
+
+    private long totalCalls;
+    private long completedCalls;
+    private long failedCalls;
+    private long cancelledCalls;
+    private long durationSumSeconds;
+    private long durationCount;
+    private long longCalls;
+    private long shortCalls;
+    private long aiProcessingSumMs;
+    private long aiProcessingCount;
+    private long networkQualitySum;
+    private long networkQualityCount;
+    private long voiceQualitySum;
+    private long voiceQualityCount;
+    private long highQualityCalls;
+    private long positiveEmotionCalls;
+    private long negativeEmotionCalls;
+    private long satisfactionSum;
+    private long satisfactionCount;
+    private long highSatisfactionCalls;
+
+    /**
+     * 종료된 통화 1건의 증분값
+     */
+    public static VideoCallStatsDelta ofFinishedCall(VideoCall call) {
+        Integer duration = call.getDurationSeconds();
+        Long aiProcessing = call.getAiProcessingTimeMs();
+        Integer network = call.getNetworkQualityScore();
+        Integer voice = call.getVoiceQualityScore();
+        Integer rating = call.getSatisfactionRating();
+
+        return VideoCallStatsDelta.builder()
+            .totalCalls(1)
+            .completedCalls(call.getStatus() == CallStatus.COMPLETED ? 1 : 0)
+            .failedCalls(call.getStatus() == CallStatus.FAILED ? 1 : 0)
+            .cancelledCalls(call.getStatus() == CallStatus.CANCELLED ? 1 : 0)
+            .durationSumSeconds(duration != null ? duration : 0)
+            .durationCount(duration != null ? 1 : 0)
+            .longCalls(call.isLongCall() ? 1 : 0)
+            .shortCalls(call.isShortCall() ? 1 : 0)
+            .aiProcessingSumMs(aiProcessing != null ? aiProcessing : 0)
+            .aiProcessingCount(aiProcessing != null ? 1 : 0)
+            .networkQualitySum(network != null ? network : 0)
+            .networkQualityCount(network != null ? 1 : 0)
+            .voiceQualitySum(voice != null ? voice : 0)
+            .voiceQualityCount(voice != null ? 1 : 0)
+            .highQualityCalls(call.isHighQuality() ? 1 : 0)
+            .positiveEmotionCalls(call.isPositiveEmotion() ? 1 : 0)
+            .negativeEmotionCalls(call.isNegativeEmotion() ? 1 : 0)
+            .satisfactionSum(rating != null ? rating : 0)
+            .satisfactionCount(rating != null ? 1 : 0)
+            .highSatisfactionCalls(call.isGoodFeedback() ? 1 : 0)
+            .build();
+    }
+
+    /**
+     * 통화 종료 후 만족도 평가가 등록/변경된 경우의 증분값 (이전 평가는 차감)
+     */
+    public static VideoCallStatsDelta ofRatingChange(Integer previousRating, Integer newRating) {
+        long sum = (newRating != null ? newRating : 0) - (previousRating != null ? previousRating : 0);
+        long count = (newRating != null ? 1 : 0) - (previousRating != null ? 1 : 0);
+        long high = (newRating != null && newRating >= 4 ? 1 : 0) - (previousRating != null && previousRating >= 4 ? 1 : 0);
+
+        return VideoCallStatsDelta.builder()
+            .satisfactionSum(sum)
+            .satisfactionCount(count)
+            .highSatisfactionCalls(high)
+            .build();
+    }
+
+    /**
+     * 집계 테이블 컬럼명 → 증분값 (upsert 바인딩 순서 유지)
+     */
+    public Map<String, Long> toColumnValues() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("total_calls", totalCalls);
+        values.put("completed_calls", completedCalls);
+        values.put("failed_calls", failedCalls);
+        values.put("cancelled_calls", cancelledCalls);
+        values.put("duration_sum_seconds", durationSumSeconds);
+        values.put("duration_count", durationCount);
+        values.put("long_calls", longCalls);
+        values.put("short_calls", shortCalls);
+        values.put("ai_processing_sum_ms", aiProcessingSumMs);
+        values.put("ai_processing_count", aiProcessingCount);
+        values.put("network_quality_sum", networkQualitySum);
+        values.put("network_quality_count", networkQualityCount);
+        values.put("voice_quality_sum", voiceQualitySum);
+        values.put("voice_quality_count", voiceQualityCount);
+        values.put("high_quality_calls", highQualityCalls);
+        values.put("positive_emotion_calls", positiveEmotionCalls);
+        values.put("negative_emotion_calls", negativeEmotionCalls);
+        values.put("satisfaction_sum", satisfactionSum);
+        values.put("satisfaction_count", satisfactionCount);
+        values.put("high_satisfaction_calls", highSatisfactionCalls);
+        return values;
+    }
+}
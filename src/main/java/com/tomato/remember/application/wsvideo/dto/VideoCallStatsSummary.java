@@ -0,0 +1,99 @@
+package com.tomato.remember.application.wsvideo.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영상통화 통계 요약 (집계 버킷 합산 결과)
+ * - bucketStart 는 시계열 조회 시에만 설정
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VideoCallStatsSummary {
+
+    private LocalDateTime bucketStart;
+
+    private long totalCalls;
+    private long completedCalls;
+    private long failedCalls;
+    private long cancelledCalls;
+    private long longCalls;
+    private long shortCalls;
+    private long highQualityCalls;
+    private long positiveEmotionCalls;
+    private long negativeEmotionCalls;
+    private long highSatisfactionCalls;
+
+    private long durationSumSeconds;
+    private long durationCount;
+    private long aiProcessingSumMs;
+    private long aiProcessingCount;
+    private long networkQualitySum;
+    private long networkQualityCount;
+    private long voiceQualitySum;
+    private long voiceQualityCount;
+    private long satisfactionSum;
+    private long satisfactionCount;
+
+    public static VideoCallStatsSummary empty() {
+        return new VideoCallStatsSummary();
+    }
+
+    /**
+     * 두 요약을 합산 (일별 + 시간별 버킷 조합 시 사용)
+     */
+    public VideoCallStatsSummary merge(VideoCallStatsSummary other) {
+        return VideoCallStatsSummary.builder()
+            .bucketStart(bucketStart)
+            .totalCalls(totalCalls + other.totalCalls)
+            .completedCalls(completedCalls + other.completedCalls)
+            .failedCalls(failedCalls + other.failedCalls)
+            .cancelledCalls(cancelledCalls + other.cancelledCalls)
+            .longCalls(longCalls + other.longCalls)
+            .shortCalls(shortCalls + other.shortCalls)
+            .highQualityCalls(highQualityCalls + other.highQualityCalls)
+            .positiveEmotionCalls(positiveEmotionCalls + other.positiveEmotionCalls)
+            .negativeEmotionCalls(negativeEmotionCalls + other.negativeEmotionCalls)
+            .highSatisfactionCalls(highSatisfactionCalls + other.highSatisfactionCalls)
+            .durationSumSeconds(durationSumSeconds + other.durationSumSeconds)
+            .durationCount(durationCount + other.durationCount)
+            .aiProcessingSumMs(aiProcessingSumMs + other.aiProcessingSumMs)
+            .aiProcessingCount(aiProcessingCount + other.aiProcessingCount)
+            .networkQualitySum(networkQualitySum + other.networkQualitySum)
+            .networkQualityCount(networkQualityCount + other.networkQualityCount)
+            .voiceQualitySum(voiceQualitySum + other.voiceQualitySum)
+            .voiceQualityCount(voiceQualityCount + other.voiceQualityCount)
+            .satisfactionSum(satisfactionSum + other.satisfactionSum)
+            .satisfactionCount(satisfactionCount + other.satisfactionCount)
+            .build();
+    }
+
+    public Double getAverageDurationSeconds() {
+        return average(durationSumSeconds, durationCount);
+    }
+
+    public Double getAverageAiProcessingTimeMs() {
+        return average(aiProcessingSumMs, aiProcessingCount);
+    }
+
+    public Double getAverageNetworkQualityScore() {
+        return average(networkQualitySum, networkQualityCount);
+    }
+
+    public Double getAverageVoiceQualityScore() {
+        return average(voiceQualitySum, voiceQualityCount);
+    }
+
+    public Double getAverageSatisfactionRating() {
+        return average(satisfactionSum, satisfactionCount);
+    }
+
+    private static Double average(long sum, long count) {
+        return count > 0 ? (double) sum / count : null;
+    }
+}
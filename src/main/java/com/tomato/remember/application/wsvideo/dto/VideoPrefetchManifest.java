@@ -0,0 +1,65 @@
+package com.tomato.remember.application.wsvideo.dto;
+
+import com.tomato.remember.application.wsvideo.code.DeviceType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영상 사전 다운로드(프리페치) 목록
+ * WAITING 진입 시 클라이언트에 전달하여 대기영상/다음 영상을 미리 캐시하도록 함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoPrefetchManifest {
+
+    private String contactKey;           // 연락처 키
+    private DeviceType deviceType;       // 대상 디바이스 타입
+    private String assetVersion;         // 자산 버전 (변경 시 클라이언트 캐시 무효화)
+    private List<PrefetchAsset> assets;  // 우선순위 순 자산 목록
+
+    /**
+     * 웹소켓 메시지 본문용 변환
+     */
+    public Map<String, Object> toMessageBody() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("contactKey", contactKey);
+        body.put("deviceType", deviceType != null ? deviceType.name() : null);
+        body.put("assetVersion", assetVersion);
+        body.put("assets", assets.stream().map(PrefetchAsset::toMessageBody).toList());
+        return body;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PrefetchAsset {
+
+        private String role;        // WAITING / WAITING_ALT / FALLBACK / RESPONSE
+        private String url;         // 자산 URL
+        private String cacheKey;    // 클라이언트 캐시 키
+        private String resolution;  // 해상도 (예: 1280x720)
+        private String quality;     // high / medium
+        private Long sizeBytes;     // 파일 크기 (확인 전이면 null)
+        private int priority;       // 낮을수록 먼저 다운로드
+
+        public Map<String, Object> toMessageBody() {
+            Map<String, Object> body = new HashMap<>();
+            body.put("role", role);
+            body.put("url", url);
+            body.put("cacheKey", cacheKey);
+            body.put("resolution", resolution);
+            body.put("quality", quality);
+            body.put("sizeBytes", sizeBytes);
+            body.put("priority", priority);
+            return body;
+        }
+    }
+}
@@ -8,13 +8,20 @@ import com.tomato.remember.application.videocall.code.CallStatus;
 import com.tomato.remember.application.videocall.code.CallType;
 import com.tomato.remember.application.videocall.code.ConversationTopic;
 import com.tomato.remember.application.videocall.code.EmotionType;
+import com.tomato.remember.application.wsvideo.event.VideoCallFinishedEvent;
+import com.tomato.remember.application.wsvideo.event.VideoCallRatingChangedEvent;
 import com.tomato.remember.common.audit.Audit;
 import com.tomato.remember.common.code.QualityLevel;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 @Table(
     name = "t_video_call",
@@ -140,9 +147,17 @@ public class VideoCall extends Audit {
     @JoinColumn(name = "caller_id", nullable = false)
     private Member caller;
 
+    // 통계 집계 이벤트 (VideoCallRepository.save 시 발행 후 비움)
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private List<Object> statsEvents = new ArrayList<>();
+
     // 비즈니스 메서드
     public void setStatus(CallStatus status) {
+        boolean wasFinished = isFinished();
         this.status = status;
+        registerFinishedIfChanged(wasFinished);
     }
 
     public void setCallType(CallType callType) {
@@ -211,22 +226,28 @@ public class VideoCall extends Audit {
     }
 
     public void endCall() {
+        boolean wasFinished = isFinished();
         this.status = CallStatus.COMPLETED;
         this.callEndedAt = LocalDateTime.now();
         if (callStartedAt != null) {
             this.durationSeconds = (int) java.time.Duration.between(callStartedAt, callEndedAt).getSeconds();
         }
+        registerFinishedIfChanged(wasFinished);
     }
 
     public void failCall(String errorMessage) {
+        boolean wasFinished = isFinished();
         this.status = CallStatus.FAILED;
         this.callEndedAt = LocalDateTime.now();
         this.errorMessage = errorMessage;
+        registerFinishedIfChanged(wasFinished);
     }
 
     public void cancelCall() {
+        boolean wasFinished = isFinished();
         this.status = CallStatus.CANCELLED;
         this.callEndedAt = LocalDateTime.now();
+        registerFinishedIfChanged(wasFinished);
     }
 
     public void addConnectionAttempt() {
@@ -234,9 +255,39 @@ public class VideoCall extends Audit {
     }
 
     public void submitFeedback(Integer rating, String feedback, FeedbackCategory category) {
+        Integer previousRating = this.satisfactionRating;
         this.satisfactionRating = rating;
         this.feedback = feedback;
         this.feedbackCategory = category;
+
+        // 종료 전 평가는 종료 시 함께 집계되므로 종료된 통화만 변경분 반영
+        if (isFinished() && !java.util.Objects.equals(previousRating, rating)) {
+            statsEvents.add(new VideoCallRatingChangedEvent(this, previousRating));
+        }
+    }
+
+    /**
+     * 종료(완료/실패/취소) 여부
+     */
+    public boolean isFinished() {
+        return isCompleted() || isFailed() || isCancelled();
+    }
+
+    @DomainEvents
+    Collection<Object> statsEvents() {
+        return List.copyOf(statsEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearStatsEvents() {
+        statsEvents.clear();
+    }
+
+    // 종료 상태로 처음 바뀐 경우만 집계 (종료 → 종료 재설정은 중복 집계하지 않음)
+    private void registerFinishedIfChanged(boolean wasFinished) {
+        if (!wasFinished && isFinished()) {
+            statsEvents.add(new VideoCallFinishedEvent(this));
+        }
     }
 
     public boolean isWaiting() {
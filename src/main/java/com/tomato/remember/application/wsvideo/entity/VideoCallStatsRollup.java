@@ -0,0 +1,144 @@
+package com.tomato.remember.application.wsvideo.entity;
+
+import com.tomato.remember.application.videocall.code.CallType;
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.common.audit.Audit;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 영상통화 사전 집계 (시간별/일별)
+ * - 메모리얼/발신자/통화 유형/디바이스 유형 단위 버킷
+ * - 통화 종료 시 증분 upsert, 대시보드는 t_video_call 대신 버킷 합산으로 조회
+ */
+@Table(
+    name = "t_video_call_stats_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk01_t_video_call_stats_rollup",
+            columnNames = {"granularity", "bucket_start", "memorial_id", "caller_id", "call_type", "device_type"})
+    },
+    indexes = {
+        @Index(name = "idx01_t_video_call_stats_rollup", columnList = "granularity, bucket_start"),
+        @Index(name = "idx02_t_video_call_stats_rollup", columnList = "memorial_id, granularity, bucket_start"),
+        @Index(name = "idx03_t_video_call_stats_rollup", columnList = "caller_id, granularity, bucket_start")
+    }
+)
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoCallStatsRollup extends Audit {
+
+    /** 디바이스 정보가 없는 통화의 device_type 값 (유니크 키에 NULL 사용 불가) */
+    public static final String UNKNOWN_DEVICE = "UNKNOWN";
+
+    @Comment("집계 단위")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatsGranularity granularity;
+
+    @Comment("버킷 시작 시각")
+    @Column(nullable = false, name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Comment("메모리얼 ID")
+    @Column(nullable = false, name = "memorial_id")
+    private Long memorialId;
+
+    @Comment("발신자 ID")
+    @Column(nullable = false, name = "caller_id")
+    private Long callerId;
+
+    @Comment("통화 유형")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, name = "call_type")
+    private CallType callType;
+
+    @Comment("디바이스 유형 (없으면 UNKNOWN)")
+    @Column(nullable = false, length = 20, name = "device_type")
+    private String deviceType;
+
+    @Comment("전체 통화 수")
+    @Column(nullable = false, name = "total_calls")
+    private long totalCalls;
+
+    @Comment("완료 통화 수")
+    @Column(nullable = false, name = "completed_calls")
+    private long completedCalls;
+
+    @Comment("실패 통화 수")
+    @Column(nullable = false, name = "failed_calls")
+    private long failedCalls;
+
+    @Comment("취소 통화 수")
+    @Column(nullable = false, name = "cancelled_calls")
+    private long cancelledCalls;
+
+    @Comment("통화 시간 합계 (초)")
+    @Column(nullable = false, name = "duration_sum_seconds")
+    private long durationSumSeconds;
+
+    @Comment("통화 시간 집계 건수")
+    @Column(nullable = false, name = "duration_count")
+    private long durationCount;
+
+    @Comment("5분 이상 통화 수")
+    @Column(nullable = false, name = "long_calls")
+    private long longCalls;
+
+    @Comment("30초 미만 통화 수")
+    @Column(nullable = false, name = "short_calls")
+    private long shortCalls;
+
+    @Comment("AI 처리 시간 합계 (밀리초)")
+    @Column(nullable = false, name = "ai_processing_sum_ms")
+    private long aiProcessingSumMs;
+
+    @Comment("AI 처리 시간 집계 건수")
+    @Column(nullable = false, name = "ai_processing_count")
+    private long aiProcessingCount;
+
+    @Comment("네트워크 품질 점수 합계")
+    @Column(nullable = false, name = "network_quality_sum")
+    private long networkQualitySum;
+
+    @Comment("네트워크 품질 집계 건수")
+    @Column(nullable = false, name = "network_quality_count")
+    private long networkQualityCount;
+
+    @Comment("음성 품질 점수 합계")
+    @Column(nullable = false, name = "voice_quality_sum")
+    private long voiceQualitySum;
+
+    @Comment("음성 품질 집계 건수")
+    @Column(nullable = false, name = "voice_quality_count")
+    private long voiceQualityCount;
+
+    @Comment("고품질 통화 수")
+    @Column(nullable = false, name = "high_quality_calls")
+    private long highQualityCalls;
+
+    @Comment("긍정 감정 통화 수")
+    @Column(nullable = false, name = "positive_emotion_calls")
+    private long positiveEmotionCalls;
+
+    @Comment("부정 감정 통화 수")
+    @Column(nullable = false, name = "negative_emotion_calls")
+    private long negativeEmotionCalls;
+
+    @Comment("만족도 합계")
+    @Column(nullable = false, name = "satisfaction_sum")
+    private long satisfactionSum;
+
+    @Comment("만족도 집계 건수")
+    @Column(nullable = false, name = "satisfaction_count")
+    private long satisfactionCount;
+
+    @Comment("만족도 4점 이상 통화 수")
+    @Column(nullable = false, name = "high_satisfaction_calls")
+    private long highSatisfactionCalls;
+}
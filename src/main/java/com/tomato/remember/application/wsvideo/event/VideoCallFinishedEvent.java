@@ -0,0 +1,9 @@
+package com.tomato.remember.application.wsvideo.event;
+
+import com.tomato.remember.application.wsvideo.entity.VideoCall;
+
+/**
+ * 영상통화 종료(완료/실패/취소) 이벤트 - VideoCallRepository.save 시 발행
+ */
+public record VideoCallFinishedEvent(VideoCall call) {
+}
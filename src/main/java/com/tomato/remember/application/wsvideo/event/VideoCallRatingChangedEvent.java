@@ -0,0 +1,11 @@
+package com.tomato.remember.application.wsvideo.event;
+
+import com.tomato.remember.application.wsvideo.entity.VideoCall;
+
+/**
+ * 종료된 영상통화의 만족도 평가 등록/변경 이벤트 - VideoCallRepository.save 시 발행
+ *
+ * @param previousRating 변경 전 평가 (없으면 null)
+ */
+public record VideoCallRatingChangedEvent(VideoCall call, Integer previousRating) {
+}
@@ -151,7 +151,7 @@ public interface VideoCallRepository extends JpaRepository<VideoCall, Long> {
     @Query("SELECT v FROM VideoCall v WHERE v.caller = :caller AND v.memorial = :memorial AND v.status = :status")
     Page<VideoCall> findByCallerAndMemorialAndStatus(@Param("caller") Member caller, @Param("memorial") Memorial memorial, @Param("status") CallStatus status, Pageable pageable);
 
-    // 통계 관련 쿼리
+    // 통계 관련 쿼리 (t_video_call 전체 스캔 - 대시보드/통계 화면은 VideoCallStatsService 집계 사용)
     @Query("SELECT COUNT(v) FROM VideoCall v WHERE v.status = :status")
     long countByStatus(@Param("status") CallStatus status);
 
@@ -179,7 +179,7 @@ public interface VideoCallRepository extends JpaRepository<VideoCall, Long> {
     @Query("SELECT COUNT(v) FROM VideoCall v WHERE v.networkQualityScore >= :score AND v.voiceQualityScore >= :score AND v.status = :status")
     long countHighQualityCalls(@Param("score") Integer score, @Param("status") CallStatus status);
 
-    // 평균 통계
+    // 평균 통계 (대시보드/통계 화면은 VideoCallStatsService 집계 사용)
     @Query("SELECT AVG(v.durationSeconds) FROM VideoCall v WHERE v.status = :status AND v.durationSeconds IS NOT NULL")
     Double getAverageDurationByStatus(@Param("status") CallStatus status);
 
@@ -235,7 +235,7 @@ public interface VideoCallRepository extends JpaRepository<VideoCall, Long> {
     @Query("UPDATE VideoCall v SET v.status = :status WHERE v.callStartedAt < :timeout AND v.status IN :inProgressStatuses")
     int updateTimeoutCalls(@Param("timeout") LocalDateTime timeout, @Param("inProgressStatuses") List<CallStatus> inProgressStatuses, @Param("status") CallStatus status);
 
-    // 그룹화된 통계
+    // 그룹화된 통계 (대시보드/통계 화면은 VideoCallStatsService 집계 사용)
     @Query("SELECT v.status, COUNT(v) FROM VideoCall v GROUP BY v.status")
     List<Object[]> countByStatusGrouped();
 
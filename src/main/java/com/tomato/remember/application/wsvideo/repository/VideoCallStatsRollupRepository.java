@@ -0,0 +1,21 @@
+package com.tomato.remember.application.wsvideo.repository;
+
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.application.wsvideo.entity.VideoCallStatsRollup;
+import com.tomato.remember.application.wsvideo.repository.custom.VideoCallStatsRollupRepositoryCustom;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VideoCallStatsRollupRepository extends JpaRepository<VideoCallStatsRollup, Long>,
+    VideoCallStatsRollupRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM VideoCallStatsRollup r WHERE r.granularity = :granularity " +
+        "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBuckets(@Param("granularity") StatsGranularity granularity,
+                      @Param("from") LocalDateTime from,
+                      @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,23 @@
+package com.tomato.remember.application.wsvideo.repository.custom;
+
+import com.tomato.remember.application.videocall.code.CallType;
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsCondition;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsDelta;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface VideoCallStatsRollupRepositoryCustom {
+
+    void upsert(StatsGranularity granularity, LocalDateTime bucketStart, Long memorialId, Long callerId,
+                CallType callType, String deviceType, VideoCallStatsDelta delta);
+
+    int rebuildFromVideoCalls(StatsGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    VideoCallStatsSummary summarize(StatsGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                    VideoCallStatsCondition condition);
+
+    List<VideoCallStatsSummary> timeSeries(StatsGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                           VideoCallStatsCondition condition);
+}
@@ -0,0 +1,226 @@
+package com.tomato.remember.application.wsvideo.repository.custom;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tomato.remember.application.videocall.code.CallStatus;
+import com.tomato.remember.application.videocall.code.CallType;
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsCondition;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsDelta;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsSummary;
+import com.tomato.remember.application.wsvideo.entity.QVideoCallStatsRollup;
+import com.tomato.remember.application.wsvideo.entity.VideoCallStatsRollup;
+import com.tomato.remember.common.code.QualityLevel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoCallStatsRollupRepositoryImpl implements VideoCallStatsRollupRepositoryCustom {
+
+    private static final List<String> COUNTER_COLUMNS = List.copyOf(
+        VideoCallStatsDelta.builder().build().toColumnValues().keySet());
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO t_video_call_stats_rollup " +
+        "(granularity, bucket_start, memorial_id, caller_id, call_type, device_type, " +
+        String.join(", ", COUNTER_COLUMNS) + ", created_at, updated_at) " +
+        "VALUES (:granularity, :bucketStart, :memorialId, :callerId, :callType, :deviceType, " +
+        COUNTER_COLUMNS.stream().map(c -> ":" + c).collect(Collectors.joining(", ")) + ", :now, :now) " +
+        "ON DUPLICATE KEY UPDATE " +
+        COUNTER_COLUMNS.stream().map(c -> c + " = " + c + " + VALUES(" + c + ")").collect(Collectors.joining(", ")) +
+        ", updated_at = VALUES(updated_at)";
+
+    // 종료된 통화 기준 재집계 (증분 누락/보정용) - 버킷 시각은 통화 시작 시각, 없으면 등록 시각
+    private static final String REBUILD_SQL =
+        "INSERT INTO t_video_call_stats_rollup " +
+        "(granularity, bucket_start, memorial_id, caller_id, call_type, device_type, " +
+        String.join(", ", COUNTER_COLUMNS) + ", created_at, updated_at) " +
+        "SELECT :granularity, CAST(DATE_FORMAT(COALESCE(v.call_started_at, v.created_at), :bucketFormat) AS DATETIME), " +
+        "v.memorial_id, v.caller_id, v.call_type, COALESCE(v.device_type, :unknownDevice), " +
+        "COUNT(*), " +
+        "SUM(CASE WHEN v.status = :completed THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN v.status = :failed THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN v.status = :cancelled THEN 1 ELSE 0 END), " +
+        "COALESCE(SUM(v.duration_seconds), 0), COUNT(v.duration_seconds), " +
+        "SUM(CASE WHEN v.duration_seconds > 300 THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN v.duration_seconds < 30 THEN 1 ELSE 0 END), " +
+        "COALESCE(SUM(v.ai_processing_time_ms), 0), COUNT(v.ai_processing_time_ms), " +
+        "COALESCE(SUM(v.network_quality_score), 0), COUNT(v.network_quality_score), " +
+        "COALESCE(SUM(v.voice_quality_score), 0), COUNT(v.voice_quality_score), " +
+        "SUM(CASE WHEN v.network_quality_score >= :highQualityScore THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN v.emotion_analysis IN (:positiveEmotions) THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN v.emotion_analysis IN (:negativeEmotions) THEN 1 ELSE 0 END), " +
+        "COALESCE(SUM(v.satisfaction_rating), 0), COUNT(v.satisfaction_rating), " +
+        "SUM(CASE WHEN v.satisfaction_rating >= 4 THEN 1 ELSE 0 END), " +
+        ":now, :now " +
+        "FROM t_video_call v " +
+        "WHERE v.status IN (:completed, :failed, :cancelled) " +
+        "AND COALESCE(v.call_started_at, v.created_at) >= :from " +
+        "AND COALESCE(v.call_started_at, v.created_at) < :to " +
+        "GROUP BY 2, 3, 4, 5, 6";
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public void upsert(StatsGranularity granularity, LocalDateTime bucketStart, Long memorialId, Long callerId,
+                       CallType callType, String deviceType, VideoCallStatsDelta delta) {
+        Query query = entityManager.createNativeQuery(UPSERT_SQL)
+            .setParameter("granularity", granularity.name())
+            .setParameter("bucketStart", bucketStart)
+            .setParameter("memorialId", memorialId)
+            .setParameter("callerId", callerId)
+            .setParameter("callType", callType.name())
+            .setParameter("deviceType", deviceType)
+            .setParameter("now", LocalDateTime.now());
+
+        for (Map.Entry<String, Long> entry : delta.toColumnValues().entrySet()) {
+            query.setParameter(entry.getKey(), entry.getValue());
+        }
+        query.executeUpdate();
+    }
+
+    @Override
+    public int rebuildFromVideoCalls(StatsGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return entityManager.createNativeQuery(REBUILD_SQL)
+            .setParameter("granularity", granularity.name())
+            .setParameter("bucketFormat", granularity.getSqlBucketFormat())
+            .setParameter("unknownDevice", VideoCallStatsRollup.UNKNOWN_DEVICE)
+            .setParameter("completed", CallStatus.COMPLETED.name())
+            .setParameter("failed", CallStatus.FAILED.name())
+            .setParameter("cancelled", CallStatus.CANCELLED.name())
+            .setParameter("highQualityScore", QualityLevel.GOOD.getThreshold())
+            .setParameter("positiveEmotions", List.of("HAPPY", "EXCITED", "CALM", "GRATEFUL",
+                "HOPEFUL", "PEACEFUL", "PROUD", "RELIEVED"))
+            .setParameter("negativeEmotions", List.of("SAD", "ANGRY", "FEAR", "WORRIED",
+                "LONELY", "DISAPPOINTED"))
+            .setParameter("now", LocalDateTime.now())
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .executeUpdate();
+    }
+
+    @Override
+    public VideoCallStatsSummary summarize(StatsGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                           VideoCallStatsCondition condition) {
+        QVideoCallStatsRollup rollup = QVideoCallStatsRollup.videoCallStatsRollup;
+
+        Tuple tuple = queryFactory
+            .select(sums(rollup))
+            .from(rollup)
+            .where(buildCondition(rollup, granularity, from, to, condition))
+            .fetchOne();
+
+        return tuple != null ? toSummary(tuple, rollup, null) : VideoCallStatsSummary.empty();
+    }
+
+    @Override
+    public List<VideoCallStatsSummary> timeSeries(StatsGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                                  VideoCallStatsCondition condition) {
+        QVideoCallStatsRollup rollup = QVideoCallStatsRollup.videoCallStatsRollup;
+
+        Expression<?>[] sums = sums(rollup);
+        Expression<?>[] select = new Expression<?>[sums.length + 1];
+        select[0] = rollup.bucketStart;
+        System.arraycopy(sums, 0, select, 1, sums.length);
+
+        List<Tuple> tuples = queryFactory
+            .select(select)
+            .from(rollup)
+            .where(buildCondition(rollup, granularity, from, to, condition))
+            .groupBy(rollup.bucketStart)
+            .orderBy(rollup.bucketStart.asc())
+            .fetch();
+
+        List<VideoCallStatsSummary> result = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            result.add(toSummary(tuple, rollup, tuple.get(rollup.bucketStart)));
+        }
+        return result;
+    }
+
+    private BooleanBuilder buildCondition(QVideoCallStatsRollup rollup, StatsGranularity granularity,
+                                          LocalDateTime from, LocalDateTime to, VideoCallStatsCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(rollup.granularity.eq(granularity));
+        builder.and(rollup.bucketStart.goe(from));
+        builder.and(rollup.bucketStart.lt(to));
+
+        if (condition.getMemorialId() != null) {
+            builder.and(rollup.memorialId.eq(condition.getMemorialId()));
+        }
+        if (condition.getCallerId() != null) {
+            builder.and(rollup.callerId.eq(condition.getCallerId()));
+        }
+        if (condition.getCallType() != null) {
+            builder.and(rollup.callType.eq(condition.getCallType()));
+        }
+        if (condition.getDeviceType() != null) {
+            builder.and(rollup.deviceType.eq(condition.getDeviceType().name()));
+        }
+        return builder;
+    }
+
+    private Expression<?>[] sums(QVideoCallStatsRollup rollup) {
+        return counterPaths(rollup).stream()
+            .map(NumberPath::sum)
+            .toArray(Expression<?>[]::new);
+    }
+
+    private List<NumberPath<Long>> counterPaths(QVideoCallStatsRollup rollup) {
+        return List.of(
+            rollup.totalCalls, rollup.completedCalls, rollup.failedCalls, rollup.cancelledCalls,
+            rollup.longCalls, rollup.shortCalls, rollup.highQualityCalls,
+            rollup.positiveEmotionCalls, rollup.negativeEmotionCalls, rollup.highSatisfactionCalls,
+            rollup.durationSumSeconds, rollup.durationCount,
+            rollup.aiProcessingSumMs, rollup.aiProcessingCount,
+            rollup.networkQualitySum, rollup.networkQualityCount,
+            rollup.voiceQualitySum, rollup.voiceQualityCount,
+            rollup.satisfactionSum, rollup.satisfactionCount
+        );
+    }
+
+    private VideoCallStatsSummary toSummary(Tuple tuple, QVideoCallStatsRollup rollup, LocalDateTime bucketStart) {
+        List<NumberPath<Long>> paths = counterPaths(rollup);
+        long[] v = new long[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            Long value = tuple.get(paths.get(i).sum());
+            v[i] = value != null ? value : 0L;
+        }
+
+        return VideoCallStatsSummary.builder()
+            .bucketStart(bucketStart)
+            .totalCalls(v[0])
+            .completedCalls(v[1])
+            .failedCalls(v[2])
+            .cancelledCalls(v[3])
+            .longCalls(v[4])
+            .shortCalls(v[5])
+            .highQualityCalls(v[6])
+            .positiveEmotionCalls(v[7])
+            .negativeEmotionCalls(v[8])
+            .highSatisfactionCalls(v[9])
+            .durationSumSeconds(v[10])
+            .durationCount(v[11])
+            .aiProcessingSumMs(v[12])
+            .aiProcessingCount(v[13])
+            .networkQualitySum(v[14])
+            .networkQualityCount(v[15])
+            .voiceQualitySum(v[16])
+            .voiceQualityCount(v[17])
+            .satisfactionSum(v[18])
+            .satisfactionCount(v[19])
+            .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tomato.remember.application.wsvideo.service;
 
 import com.tomato.remember.application.wsvideo.dto.MemorialVideoResponse;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class MemorialExternalApiService {
 
     private final WebClient webClient;
+    private final VideoCallMetrics videoCallMetrics;
 
     @Value("${app.external-api.memorial.base-url:https://remember.newstomato.com}")
     private String memorialApiBaseUrl;
@@ -70,6 +72,7 @@ public class MemorialExternalApiService {
                 .retrieve()
                 .toEntity(Map.class)
                 .timeout(Duration.ofSeconds(timeoutSeconds))
+                .transform(call -> videoCallMetrics.timeExternalApi("memorial_info", call))
                 .retry(retryCount)
                 .doOnSubscribe(subscription ->
                     log.info("🔄 메모리얼 API 요청 시작 - 회원ID: {}", memberId))
@@ -122,6 +125,7 @@ public class MemorialExternalApiService {
                 .retrieve()
                 .toEntity(Map.class)
                 .timeout(Duration.ofSeconds(timeoutSeconds))
+                .transform(call -> videoCallMetrics.timeExternalApi("memorial_check", call))
                 .retry(1) // 체크는 빠르게
                 .block();
 
@@ -167,6 +171,7 @@ public class MemorialExternalApiService {
             .retrieve()
             .toEntity(Map.class)
             .timeout(Duration.ofSeconds(timeoutSeconds))
+            .transform(call -> videoCallMetrics.timeExternalApi("memorial_info", call))
             .retry(retryCount)
             .map(response -> {
                 if (response.getStatusCode().is2xxSuccessful()) {
@@ -1,7 +1,6 @@
 package com.tomato.remember.application.wsvideo.service;
 
 import com.tomato.remember.application.wsvideo.config.MemorialVideoSessionManager;
-import com.tomato.remember.application.wsvideo.config.MemorialVideoWebSocketHandler;
 import com.tomato.remember.application.wsvideo.code.DeviceType;
 import com.tomato.remember.application.wsvideo.code.WebSocketMessageType;
 import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
@@ -23,17 +22,17 @@ import java.util.concurrent.ConcurrentHashMap;
 public class MultiDeviceManager {
 
     private final MemorialVideoSessionManager sessionManager;
-    private final MemorialVideoWebSocketHandler webSocketHandler;
+    private final VideoSessionNotifier sessionNotifier;
 
     // 세션별 등록된 디바이스 목록 관리
     private final Map<String, Set<DeviceInfo>> sessionDevices = new ConcurrentHashMap<>();
 
     public MultiDeviceManager(
             MemorialVideoSessionManager sessionManager,
-            @Lazy MemorialVideoWebSocketHandler webSocketHandler
+            @Lazy VideoSessionNotifier sessionNotifier
     ) {
         this.sessionManager = sessionManager;
-        this.webSocketHandler = webSocketHandler;
+        this.sessionNotifier = sessionNotifier;
     }
 
     /**
@@ -92,8 +91,8 @@ public class MultiDeviceManager {
                 return;
             }
 
-            // 현재 연결된 WebSocket으로 메시지 전송
-            webSocketHandler.sendMessageToSession(sessionKey, message);
+            // 이 노드에 연결된 전송 계층(WebSocket/SSE)으로 메시지 전송
+            sessionNotifier.notify(sessionKey, message);
 
             // 등록된 디바이스 수 로깅
             Set<DeviceInfo> devices = sessionDevices.get(sessionKey);
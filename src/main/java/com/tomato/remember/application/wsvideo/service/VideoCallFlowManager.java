@@ -4,10 +4,22 @@ import com.tomato.remember.application.wsvideo.config.MemorialVideoSessionManage
 import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
 import com.tomato.remember.application.wsvideo.code.WebSocketMessageType;
 import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import com.tomato.remember.application.wsvideo.dto.VideoPrefetchManifest;
+import com.tomato.remember.application.wsvideo.dto.VideoPrefetchManifest.PrefetchAsset;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -18,57 +30,99 @@ import java.util.concurrent.TimeUnit;
 /**
  * 간소화된 영상통화 상태 전환 관리 서비스
  * 9개 상태만 관리하며 각 상태별 단순한 처리만 수행
+ *
+ * - 세션별 메일박스(단일 작성자)에 전환 요청을 순서대로 쌓고 공용 워커 풀에서 처리 → 락/대기 없음
+ * - 전환 1건당 Redis 조회 1회 + 저장 1회, 결과는 CompletableFuture 로 비동기 통지
+ * - 처리할 요청이 없는 메일박스는 즉시 제거 (종료되지 않은 세션도 누수 없음)
+ * - 세션 필드/메타데이터 변경도 updateSession 또는 전환 시 sessionUpdate 로 메일박스에서 처리해야 함
+ *   (메일박스 밖에서 조회 → 수정 → 전체 저장하면 워커가 저장한 상태를 덮어씀)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class VideoCallFlowManager {
 
     private final MemorialVideoSessionManager sessionManager;
     private final MultiDeviceManager deviceManager;
-
-    private final ConcurrentHashMap<String, ReentrantLock> sessionLocks = new ConcurrentHashMap<>();
+    private final WaitingVideoService waitingVideoService;
+    private final VideoCallMetrics videoCallMetrics;
+    private final ExecutorService workerPool;
+
+    private final ConcurrentHashMap<String, SessionMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public VideoCallFlowManager(MemorialVideoSessionManager sessionManager,
+                                MultiDeviceManager deviceManager,
+                                WaitingVideoService waitingVideoService,
+                                VideoCallMetrics videoCallMetrics,
+                                @Value("${app.memorial-video.flow.worker-threads:8}") int workerThreads) {
+        this.sessionManager = sessionManager;
+        this.deviceManager = deviceManager;
+        this.waitingVideoService = waitingVideoService;
+        this.videoCallMetrics = videoCallMetrics;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(Math.max(1, workerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "video-flow-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     /**
-     * 상태 전환 수행 (기본)
+     * 상태 전환 요청 (기본)
      */
-    public boolean transitionToState(String sessionKey, VideoCallFlowState newState) {
+    public CompletableFuture<Boolean> transitionToState(String sessionKey, VideoCallFlowState newState) {
         return transitionToState(sessionKey, newState, null);
     }
 
     /**
-     * 상태 전환 수행 (추가 데이터 포함)
+     * 상태 전환 요청 (추가 데이터 포함) - 세션 메일박스에 넣고 바로 반환, 처리 결과는 future 로 통지
+     */
+    public CompletableFuture<Boolean> transitionToState(String sessionKey, VideoCallFlowState newState,
+                                                        Map<String, Object> additionalData) {
+        return transitionToState(sessionKey, newState, additionalData, null);
+    }
+
+    /**
+     * 상태 전환 요청 (세션 변경 포함) - 전환이 허용된 경우에만 sessionUpdate 를 적용해 상태와 함께 한 번에 저장
      */
-    public boolean transitionToState(String sessionKey, VideoCallFlowState newState, Map<String, Object> additionalData) {
-        // 세션별 락 획득 (최대 5초 대기)
-        ReentrantLock sessionLock = sessionLocks.computeIfAbsent(sessionKey, k -> new ReentrantLock());
+    public CompletableFuture<Boolean> transitionToState(String sessionKey, VideoCallFlowState newState,
+                                                        Map<String, Object> additionalData,
+                                                        Consumer<MemorialVideoSession> sessionUpdate) {
+        return submit(sessionKey, () -> performStateTransition(sessionKey, newState, additionalData, sessionUpdate));
+    }
 
+    /**
+     * 세션 필드/메타데이터 변경 요청 - 상태 전환과 같은 메일박스에서 최신 세션을 읽어 적용 후 저장
+     */
+    public CompletableFuture<Boolean> updateSession(String sessionKey, Consumer<MemorialVideoSession> update) {
+        return submit(sessionKey, () -> performSessionUpdate(sessionKey, update));
+    }
+
+    private boolean performSessionUpdate(String sessionKey, Consumer<MemorialVideoSession> update) {
         try {
-            boolean lockAcquired = sessionLock.tryLock(5, TimeUnit.SECONDS);
-            if (!lockAcquired) {
-                log.warn("⏰ 상태 전환 락 획득 타임아웃: {} -> {}", sessionKey, newState);
+            MemorialVideoSession session = sessionManager.getSession(sessionKey, true);
+            if (session == null) {
+                log.warn("⚠️ 세션을 찾을 수 없음 - 세션 변경 실패: {}", sessionKey);
                 return false;
             }
 
-            try {
-                return performStateTransition(sessionKey, newState, additionalData);
-            } finally {
-                sessionLock.unlock();
-            }
+            update.accept(session);
+            sessionManager.saveSession(session);
+            return true;
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("❌ 상태 전환 중 인터럽트: {} -> {}", sessionKey, newState);
+        } catch (Exception e) {
+            log.error("❌ 세션 변경 오류 - 세션: {}", sessionKey, e);
             return false;
         }
     }
 
     /**
-     * 🔧 실제 상태 전환 로직 (락 보호 하에서 실행)
+     * 🔧 실제 상태 전환 로직 (세션 메일박스 워커에서 단독 실행)
      */
-    private boolean performStateTransition(String sessionKey, VideoCallFlowState newState, Map<String, Object> additionalData) {
+    private boolean performStateTransition(String sessionKey, VideoCallFlowState newState,
+                                           Map<String, Object> additionalData,
+                                           Consumer<MemorialVideoSession> sessionUpdate) {
         try {
-            // 🔧 강제 새로고침으로 최신 상태 확인
             MemorialVideoSession session = sessionManager.getSession(sessionKey, true);
             if (session == null) {
                 log.warn("⚠️ 세션을 찾을 수 없음 - 상태 전환 실패: {} -> {}", sessionKey, newState);
@@ -76,60 +130,33 @@ public class VideoCallFlowManager {
             }
 
             VideoCallFlowState previousState = session.getFlowState();
+            LocalDateTime previousChange = session.getLastStateChange();
 
-            // 🔧 중복 상태 전환 재확인 (락 내에서)
             if (previousState == newState) {
                 log.info("ℹ️ 이미 동일한 상태 - 전환 불필요: {} ({})", sessionKey, newState);
+                if (sessionUpdate != null) {
+                    sessionUpdate.accept(session);
+                    sessionManager.saveSession(session);
+                }
                 return true; // 이미 원하는 상태이므로 성공으로 처리
             }
 
-            log.info("상태 전환 시도 (락 보호): {} - {} -> {}", sessionKey, previousState, newState);
-
             // 상태 전환 규칙 확인
-            if (!previousState.canTransitionTo(newState)) {
+            if (!previousState.canTransitionTo(newState) || !session.transitionToState(newState)) {
                 log.warn("⚠️ 잘못된 상태 전환 - 세션: {}, {} -> {} (허용되지 않는 전환)",
                         sessionKey, previousState, newState);
                 return false;
             }
 
-            // 상태 전환 시도
-            boolean transitionSuccess = session.transitionToState(newState);
-            if (!transitionSuccess) {
-                log.warn("⚠️ 세션 객체 상태 전환 실패 - 세션: {}, {} -> {}",
-                        sessionKey, previousState, newState);
-                return false;
+            if (sessionUpdate != null) {
+                sessionUpdate.accept(session);
             }
+            videoCallMetrics.recordStateTransition(session, previousState, previousChange, false);
 
-            // 🔧 즉시 저장 및 검증
+            // 같은 세션의 전환은 이 메일박스만 처리하므로 저장 1회로 충분 (재조회 검증 불필요)
             sessionManager.saveSession(session);
 
-            // 🔧 저장 후 즉시 재조회로 동기화 검증 강화
-            MemorialVideoSession verifySession = sessionManager.getSession(sessionKey, true);
-            if (verifySession == null) {
-                log.error("❌ 상태 저장 후 세션 조회 실패: {}", sessionKey);
-                return false;
-            }
-
-            if (verifySession.getFlowState() != newState) {
-                log.error("❌ 상태 저장 후 검증 실패 - 세션: {}, 저장 시도: {}, 실제: {}",
-                         sessionKey, newState, verifySession.getFlowState());
-
-                // 🔧 재시도 로직 (한 번만)
-                log.warn("🔄 상태 동기화 재시도: {} -> {}", sessionKey, newState);
-                session.setFlowState(newState);
-                session.setLastStateChange(java.time.LocalDateTime.now());
-                sessionManager.saveSession(session);
-
-                // 재검증
-                MemorialVideoSession retryVerifySession = sessionManager.getSession(sessionKey, true);
-                if (retryVerifySession == null || retryVerifySession.getFlowState() != newState) {
-                    log.error("❌ 재시도 후에도 상태 동기화 실패: {}", sessionKey);
-                    return false;
-                }
-            }
-
-            log.info("🔄 상태 전환 성공 - 세션: {}, {} -> {} (검증 완료)",
-                    sessionKey, previousState, newState);
+            log.info("🔄 상태 전환 성공 - 세션: {}, {} -> {}", sessionKey, previousState, newState);
 
             // 상태 변경 브로드캐스트
             broadcastStateChange(sessionKey, previousState, newState, additionalData);
@@ -146,21 +173,27 @@ public class VideoCallFlowManager {
     }
 
     /**
-     * 강제 상태 변경 (검증 없이)
+     * 강제 상태 변경 (검증 없이) - 일반 전환과 같은 메일박스에서 순서대로 처리
      */
-    public void forceStateChange(String sessionKey, VideoCallFlowState newState, String reason) {
+    public CompletableFuture<Boolean> forceStateChange(String sessionKey, VideoCallFlowState newState, String reason) {
+        return submit(sessionKey, () -> performForceStateChange(sessionKey, newState, reason));
+    }
+
+    private boolean performForceStateChange(String sessionKey, VideoCallFlowState newState, String reason) {
         try {
             MemorialVideoSession session = sessionManager.getSession(sessionKey);
             if (session == null) {
                 log.warn("⚠️ 강제 상태 변경 실패 - 세션 없음: {}", sessionKey);
-                return;
+                return false;
             }
 
             VideoCallFlowState previousState = session.getFlowState();
+            LocalDateTime previousChange = session.getLastStateChange();
 
             // 강제로 상태 변경 (검증 생략)
             session.setFlowState(newState);
-            session.setLastStateChange(java.time.LocalDateTime.now());
+            session.setLastStateChange(LocalDateTime.now());
+            videoCallMetrics.recordStateTransition(session, previousState, previousChange, true);
             sessionManager.saveSession(session);
 
             log.warn("⚡ 강제 상태 변경 - 세션: {}, {} -> {}, 사유: {}",
@@ -176,9 +209,92 @@ public class VideoCallFlowManager {
 
             // 상태별 처리도 수행
             handleStateActions(sessionKey, newState, session);
+            return true;
 
         } catch (Exception e) {
             log.error("❌ 강제 상태 변경 오류 - 세션: {}", sessionKey, e);
+            return false;
+        }
+    }
+
+    /**
+     * 세션 메일박스에 작업 추가 - 메일박스 생성/추가는 맵의 키 단위 원자 연산으로 처리해 제거와 경합하지 않음
+     */
+    private CompletableFuture<Boolean> submit(String sessionKey, Supplier<Boolean> work) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        SessionMailbox mailbox = mailboxes.compute(sessionKey, (key, existing) -> {
+            SessionMailbox target = existing != null ? existing : new SessionMailbox(key);
+            target.queue.offer(() -> {
+                try {
+                    result.complete(work.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+            return target;
+        });
+        mailbox.schedule();
+        return result;
+    }
+
+    /**
+     * 세션별 단일 작성자 메일박스 - 동시에 하나의 워커만 처리하며 요청 순서 보장
+     */
+    private final class SessionMailbox implements Runnable {
+
+        private static final int BATCH_SIZE = 32;
+
+        private final String sessionKey;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SessionMailbox(String sessionKey) {
+            this.sessionKey = sessionKey;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workerPool.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            // 한 세션이 워커를 독점하지 않도록 배치 단위로 처리 후 재예약
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+                return;
+            }
+
+            // 비어 있으면 제거 (그 사이 추가된 요청이 있으면 유지)
+            mailboxes.computeIfPresent(sessionKey, (key, current) ->
+                current == this && queue.isEmpty() && !scheduled.get() ? null : current);
+        }
+    }
+
+    /**
+     * 처리 대기 중인 세션 메일박스 수 (모니터링용)
+     */
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+        try {
+            workerPool.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -310,6 +426,73 @@ public class VideoCallFlowManager {
             "enableRecordButton", true
         );
         deviceManager.broadcastToAllDevices(sessionKey, message);
+
+        pushPrefetchManifest(sessionKey, session);
+    }
+
+    /**
+     * 프리페치 목록 전송 - 대기 중 다음 영상들을 미리 받아 두도록 함
+     */
+    private void pushPrefetchManifest(String sessionKey, MemorialVideoSession session) {
+        try {
+            Object contactKey = session.getMetadata("contactKey");
+            VideoPrefetchManifest manifest = waitingVideoService.buildPrefetchManifest(
+                contactKey != null ? contactKey.toString() : null, session.getDeviceType());
+
+            Map<String, Object> message = new HashMap<>(manifest.toMessageBody());
+            message.put("type", WebSocketMessageType.PREFETCH_MANIFEST.name());
+            message.put("sessionKey", sessionKey);
+            message.put("timestamp", System.currentTimeMillis());
+            deviceManager.broadcastToAllDevices(sessionKey, message);
+
+        } catch (Exception e) {
+            // 프리페치는 최적화 용도이므로 실패해도 통화 흐름에는 영향 없음
+            log.warn("⚠️ 프리페치 목록 전송 실패 - 세션: {}", sessionKey, e);
+        }
+    }
+
+    /**
+     * 응답영상 사전 알림 (AI 백엔드가 생성 중인 영상 URL 을 먼저 알려준 경우)
+     * 상태는 PROCESSING 그대로 두고 클라이언트가 다운로드를 먼저 시작하도록 함
+     */
+    public CompletableFuture<Boolean> announceResponseVideo(String sessionKey, String videoUrl, Long sizeBytes) {
+        return submit(sessionKey, () -> performAnnounceResponseVideo(sessionKey, videoUrl, sizeBytes));
+    }
+
+    private boolean performAnnounceResponseVideo(String sessionKey, String videoUrl, Long sizeBytes) {
+        try {
+            MemorialVideoSession session = sessionManager.getSession(sessionKey);
+            if (session == null) {
+                log.warn("⚠️ 응답영상 사전 알림 실패 - 세션 없음: {}", sessionKey);
+                return false;
+            }
+
+            if (session.getFlowState() != VideoCallFlowState.PROCESSING) {
+                log.info("ℹ️ 처리 중이 아니므로 응답영상 사전 알림 생략 - 세션: {}, 상태: {}",
+                        sessionKey, session.getFlowState());
+                return false;
+            }
+
+            PrefetchAsset asset = waitingVideoService.buildResponsePrefetchAsset(
+                sessionKey, videoUrl, session.getDeviceType(), sizeBytes);
+
+            session.addMetadata("prefetchedResponseVideoUrl", videoUrl);
+            sessionManager.saveSession(session);
+
+            Map<String, Object> message = new HashMap<>();
+            message.put("type", WebSocketMessageType.RESPONSE_VIDEO_PREFETCH.name());
+            message.put("sessionKey", sessionKey);
+            message.put("asset", asset.toMessageBody());
+            message.put("timestamp", System.currentTimeMillis());
+            deviceManager.broadcastToAllDevices(sessionKey, message);
+
+            log.info("📦 응답영상 사전 알림 - 세션: {}, URL: {}", sessionKey, videoUrl);
+            return true;
+
+        } catch (Exception e) {
+            log.error("❌ 응답영상 사전 알림 오류 - 세션: {}", sessionKey, e);
+            return false;
+        }
     }
 
     /**
@@ -466,14 +649,13 @@ public class VideoCallFlowManager {
         try {
             log.info("🧹 플로우 매니저 세션 정리: {}", sessionKey);
 
-            // 락 제거
-            ReentrantLock removedLock = sessionLocks.remove(sessionKey);
-            if (removedLock != null) {
-                // 혹시 대기 중인 스레드가 있으면 정리
-                if (removedLock.hasQueuedThreads()) {
-                    log.warn("⚠️ 정리 중인 세션에 대기 중인 락 요청 있음: {}", sessionKey);
-                }
-                log.debug("🗑️ 세션 락 제거: {}", sessionKey);
+            // 비어 있는 메일박스만 제거 - 처리 중인 메일박스를 지우면 새 요청이 두 번째 메일박스를 만들어
+            // 한 세션에 워커가 둘 생기므로, 남은 요청은 그대로 처리하게 두고 비면 워커가 스스로 제거함
+            SessionMailbox remaining = mailboxes.computeIfPresent(sessionKey, (key, mailbox) ->
+                mailbox.queue.isEmpty() && !mailbox.scheduled.get() ? null : mailbox);
+            if (remaining != null) {
+                log.info("ℹ️ 처리 중인 세션 메일박스는 작업 완료 후 제거: {} ({}건 대기)",
+                        sessionKey, remaining.queue.size());
             }
 
         } catch (Exception e) {
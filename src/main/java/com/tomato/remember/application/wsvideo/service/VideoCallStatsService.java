@@ -0,0 +1,151 @@
+package com.tomato.remember.application.wsvideo.service;
+
+import com.tomato.remember.application.wsvideo.code.StatsGranularity;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsCondition;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsDelta;
+import com.tomato.remember.application.wsvideo.dto.VideoCallStatsSummary;
+import com.tomato.remember.application.wsvideo.entity.VideoCall;
+import com.tomato.remember.application.wsvideo.entity.VideoCallStatsRollup;
+import com.tomato.remember.application.wsvideo.event.VideoCallFinishedEvent;
+import com.tomato.remember.application.wsvideo.event.VideoCallRatingChangedEvent;
+import com.tomato.remember.application.wsvideo.repository.VideoCallStatsRollupRepository;
+import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.exception.APIException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 영상통화 통계 서비스
+ * - 통화 종료/피드백 등록 시 시간별·일별 집계 버킷에 증분 반영 (호출 측 트랜잭션에 참여)
+ *   VideoCall 의 endCall/failCall/cancelCall/submitFeedback 후 VideoCallRepository.save 하면 이벤트로 자동 반영
+ * - 통계 조회는 t_video_call 대신 집계 버킷 합산 (전체 일은 일별, 경계 구간은 시간별 버킷 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VideoCallStatsService {
+
+    private static final int DEFAULT_PERIOD_DAYS = 7;
+
+    private final VideoCallStatsRollupRepository rollupRepository;
+
+    @Value("${app.memorial-video.stats.rebuild-max-days:31}")
+    private long rebuildMaxDays;
+
+    /**
+     * 종료(완료/실패/취소)된 통화를 집계에 반영
+     */
+    @Transactional
+    public void recordFinishedCall(VideoCall call) {
+        apply(call, VideoCallStatsDelta.ofFinishedCall(call));
+    }
+
+    /**
+     * 종료된 통화의 만족도 평가 등록/변경을 집계에 반영
+     */
+    @Transactional
+    public void recordRatingChange(VideoCall call, Integer previousRating) {
+        apply(call, VideoCallStatsDelta.ofRatingChange(previousRating, call.getSatisfactionRating()));
+    }
+
+    @EventListener
+    @Transactional
+    public void onCallFinished(VideoCallFinishedEvent event) {
+        recordFinishedCall(event.call());
+    }
+
+    @EventListener
+    @Transactional
+    public void onRatingChanged(VideoCallRatingChangedEvent event) {
+        recordRatingChange(event.call(), event.previousRating());
+    }
+
+    /**
+     * 기간 내 버킷을 t_video_call 기준으로 재집계 (증분 누락 보정/최초 적재용)
+     * 한 트랜잭션에서 버킷을 지우고 다시 넣으므로 기간은 rebuild-max-days 이내로 제한 (긴 기간은 나눠서 호출)
+     */
+    @Transactional
+    public int rebuild(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new APIException("재집계 기간이 올바르지 않습니다: " + from + " ~ " + to, ResponseStatus.BAD_REQUEST);
+        }
+        LocalDateTime dayFrom = StatsGranularity.DAY.truncate(from);
+        LocalDateTime dayTo = ceil(to, ChronoUnit.DAYS);
+        if (ChronoUnit.DAYS.between(dayFrom, dayTo) > rebuildMaxDays) {
+            throw new APIException("재집계 기간은 최대 " + rebuildMaxDays + "일입니다.", ResponseStatus.BAD_REQUEST);
+        }
+
+        int inserted = 0;
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            rollupRepository.deleteBuckets(granularity, dayFrom, dayTo);
+            inserted += rollupRepository.rebuildFromVideoCalls(granularity, dayFrom, dayTo);
+        }
+
+        log.info("영상통화 통계 재집계 완료 - 기간: {} ~ {}, 버킷: {}개", dayFrom, dayTo, inserted);
+        return inserted;
+    }
+
+    /**
+     * 기간 통계 요약
+     */
+    public VideoCallStatsSummary getSummary(VideoCallStatsCondition condition) {
+        applyDefaultPeriod(condition);
+        LocalDateTime from = StatsGranularity.HOUR.truncate(condition.getFrom());
+        LocalDateTime to = ceil(condition.getTo(), ChronoUnit.HOURS);
+        LocalDateTime dayFrom = ceil(from, ChronoUnit.DAYS);
+        LocalDateTime dayTo = StatsGranularity.DAY.truncate(to);
+
+        if (!dayFrom.isBefore(dayTo)) {
+            return rollupRepository.summarize(StatsGranularity.HOUR, from, to, condition);
+        }
+
+        return rollupRepository.summarize(StatsGranularity.DAY, dayFrom, dayTo, condition)
+            .merge(rollupRepository.summarize(StatsGranularity.HOUR, from, dayFrom, condition))
+            .merge(rollupRepository.summarize(StatsGranularity.HOUR, dayTo, to, condition));
+    }
+
+    /**
+     * 버킷별 통계 추이
+     */
+    public List<VideoCallStatsSummary> getTimeSeries(VideoCallStatsCondition condition, StatsGranularity granularity) {
+        applyDefaultPeriod(condition);
+        LocalDateTime from = granularity.truncate(condition.getFrom());
+        LocalDateTime to = ceil(condition.getTo(), granularity.getUnit());
+        return rollupRepository.timeSeries(granularity, from, to, condition);
+    }
+
+    private void apply(VideoCall call, VideoCallStatsDelta delta) {
+        LocalDateTime bucketTime = call.getCallStartedAt() != null ? call.getCallStartedAt() : call.getCreatedAt();
+        String deviceType = call.getDeviceType() != null
+            ? call.getDeviceType().name() : VideoCallStatsRollup.UNKNOWN_DEVICE;
+
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            rollupRepository.upsert(granularity, granularity.truncate(bucketTime),
+                call.getMemorial().getId(), call.getCaller().getId(),
+                call.getCallType(), deviceType, delta);
+        }
+    }
+
+    // 기간 미지정 시 최근 7일
+    private void applyDefaultPeriod(VideoCallStatsCondition condition) {
+        if (condition.getTo() == null) {
+            condition.setTo(LocalDateTime.now());
+        }
+        if (condition.getFrom() == null) {
+            condition.setFrom(condition.getTo().minusDays(DEFAULT_PERIOD_DAYS));
+        }
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+        LocalDateTime truncated = time.truncatedTo(unit);
+        return truncated.equals(time) ? time : truncated.plus(1, unit);
+    }
+}
@@ -0,0 +1,94 @@
+package com.tomato.remember.application.wsvideo.service;
+
+import com.tomato.remember.application.wsvideo.code.WebSocketMessageType;
+import com.tomato.remember.application.wsvideo.config.MemorialVideoSessionManager;
+import com.tomato.remember.application.wsvideo.config.VideoSessionTransport;
+import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 영상통화 세션 알림 코어 (전송 계층 무관)
+ * - WebSocket/SSE 전송 계층 모두에 메시지 전달 (이 노드에 연결된 쪽만 실제 전송)
+ * - 하트비트(Redis 세션 TTL 갱신 포함)와 만료 세션 정리를 전송 계층 공통 스케줄 하나로 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoSessionNotifier {
+
+    private final List<VideoSessionTransport> transports;
+    private final MemorialVideoSessionManager sessionManager;
+
+    /**
+     * 세션에 메시지 전송
+     *
+     * @return 이 노드의 연결로 전송되었는지 여부
+     */
+    public boolean notify(String sessionKey, Map<String, Object> message) {
+        boolean delivered = false;
+        for (VideoSessionTransport transport : transports) {
+            delivered |= transport.deliver(sessionKey, message);
+        }
+        return delivered;
+    }
+
+    /**
+     * 연결된 세션 하트비트 - Redis 세션 TTL 갱신 후 전송, 세션이 사라졌으면 연결 종료
+     */
+    @Scheduled(fixedDelayString = "${app.memorial-video.maintenance.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        int sent = 0;
+        int disconnected = 0;
+
+        for (VideoSessionTransport transport : transports) {
+            for (String sessionKey : transport.getConnectedSessionKeys()) {
+                if (!sessionManager.touchSessionTtl(sessionKey)) {
+                    transport.disconnect(sessionKey);
+                    disconnected++;
+                    continue;
+                }
+
+                if (transport.deliver(sessionKey, createHeartbeat(sessionKey))) {
+                    sent++;
+                }
+            }
+        }
+
+        if (sent > 0 || disconnected > 0) {
+            log.debug("💓 하트비트 전송 완료 - 전송: {}, 정리된 연결: {}", sent, disconnected);
+        }
+    }
+
+    /**
+     * 만료 세션 정리 및 연결 상태 모니터링
+     */
+    @Scheduled(fixedDelayString = "${app.memorial-video.maintenance.cleanup-interval-ms:600000}")
+    public void cleanupExpiredSessions() {
+        int cleaned = sessionManager.cleanupExpiredSessions();
+
+        Map<String, Integer> connections = new HashMap<>();
+        for (VideoSessionTransport transport : transports) {
+            connections.put(transport.getName(), transport.getConnectedSessionKeys().size());
+        }
+
+        log.info("📊 영상통화 연결 상태 - 연결: {}, 정리된 만료 세션: {}", connections, cleaned);
+    }
+
+    private Map<String, Object> createHeartbeat(String sessionKey) {
+        Map<String, Object> heartbeat = new HashMap<>();
+        heartbeat.put("type", WebSocketMessageType.HEARTBEAT.name());
+        heartbeat.put("sessionKey", sessionKey);
+        heartbeat.put("message", "connection_alive");
+        heartbeat.put("timestamp", System.currentTimeMillis());
+        heartbeat.put("serverTime", LocalDateTime.now().toString());
+        heartbeat.put("ttlSeconds", MemorialVideoSession.getTtlSeconds());
+        return heartbeat;
+    }
+}
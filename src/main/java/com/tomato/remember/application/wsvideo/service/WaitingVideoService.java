@@ -1,11 +1,16 @@
 package com.tomato.remember.application.wsvideo.service;
 
 import com.tomato.remember.application.wsvideo.code.DeviceType;
+import com.tomato.remember.application.wsvideo.dto.VideoPrefetchManifest;
+import com.tomato.remember.application.wsvideo.dto.VideoPrefetchManifest.PrefetchAsset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,9 +24,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class WaitingVideoService {
 
+    private final WebClient webClient;
+
     @Value("${app.video.base-url:https://remember.newstomato.com/static/}")
     private String baseVideoUrl;
 
+    @Value("${app.memorial-video.prefetch.asset-version:v1}")
+    private String assetVersion;
+
+    @Value("${app.memorial-video.prefetch.size-probe-timeout-seconds:3}")
+    private int sizeProbeTimeoutSeconds;
 
     // 연락처별 대기영상 매핑
     private static final Map<String, ContactVideoInfo> CONTACT_VIDEOS = Map.of(
@@ -41,6 +53,10 @@ public class WaitingVideoService {
     // 재생 상태 캐시
     private final Map<String, WaitingVideoStatus> playingStatus = new ConcurrentHashMap<>();
 
+    // 자산 URL별 파일 크기 캐시 (HEAD 요청으로 1회 확인)
+    private final Map<String, Long> assetSizes = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> sizeProbesInFlight = new ConcurrentHashMap<>();
+
     /**
      * 디바이스별 최적화된 대기영상 URL 반환
      */
@@ -107,6 +123,95 @@ public class WaitingVideoService {
         );
     }
 
+    /**
+     * 디바이스별 프리페치 목록 생성
+     * 대기영상 → 대체 대기영상 → 폴백 영상 순으로, 해상도/크기/캐시 키 포함
+     */
+    public VideoPrefetchManifest buildPrefetchManifest(String contactKey, DeviceType deviceType) {
+        DeviceType targetDevice = deviceType != null ? deviceType : DeviceType.WEB;
+        String resolvedContactKey = CONTACT_VIDEOS.containsKey(contactKey) ? contactKey : "default";
+        ContactVideoInfo contactInfo = CONTACT_VIDEOS.get(resolvedContactKey);
+        VideoFormat format = DEVICE_FORMATS.get(targetDevice);
+
+        List<PrefetchAsset> assets = new ArrayList<>();
+        assets.add(toPrefetchAsset("WAITING", getWaitingVideoUrl(resolvedContactKey, targetDevice),
+            contactInfo.getVideoPrefix(), format, 1));
+        assets.add(toPrefetchAsset("WAITING_ALT", getAlternativeVideoUrl(contactInfo, format, "alt1"),
+            contactInfo.getVideoPrefix() + "_alt1", format, 2));
+        assets.add(toPrefetchAsset("WAITING_ALT", getAlternativeVideoUrl(contactInfo, format, "alt2"),
+            contactInfo.getVideoPrefix() + "_alt2", format, 3));
+        assets.add(toPrefetchAsset("FALLBACK", getFallbackVideoUrl(targetDevice),
+            "default_fallback", format, 9));
+
+        log.debug("📦 프리페치 목록 생성 - 연락처: {}, 디바이스: {}, 자산: {}개",
+                resolvedContactKey, targetDevice, assets.size());
+
+        return VideoPrefetchManifest.builder()
+            .contactKey(resolvedContactKey)
+            .deviceType(targetDevice)
+            .assetVersion(assetVersion)
+            .assets(assets)
+            .build();
+    }
+
+    /**
+     * 응답영상 프리페치 자산 생성 (AI 백엔드가 URL 을 먼저 알려준 경우)
+     */
+    public PrefetchAsset buildResponsePrefetchAsset(String sessionKey, String videoUrl, DeviceType deviceType,
+                                                    Long sizeBytes) {
+        VideoFormat format = DEVICE_FORMATS.get(deviceType != null ? deviceType : DeviceType.WEB);
+        return PrefetchAsset.builder()
+            .role("RESPONSE")
+            .url(videoUrl)
+            .cacheKey("response:" + sessionKey + ":" + Integer.toHexString(videoUrl.hashCode()))
+            .resolution(format.getResolution())
+            .quality(format.getQuality())
+            .sizeBytes(sizeBytes)
+            .priority(0)
+            .build();
+    }
+
+    private PrefetchAsset toPrefetchAsset(String role, String url, String assetName, VideoFormat format, int priority) {
+        return PrefetchAsset.builder()
+            .role(role)
+            .url(url)
+            .cacheKey(String.format("waiting:%s:%s:%s:%s", assetVersion, assetName, format.getResolution(),
+                format.getQuality()))
+            .resolution(format.getResolution())
+            .quality(format.getQuality())
+            .sizeBytes(resolveAssetSize(url))
+            .priority(priority)
+            .build();
+    }
+
+    /**
+     * 자산 크기 조회 - 캐시에 없으면 null 반환 후 HEAD 요청으로 비동기 확인 (다음 목록부터 포함)
+     */
+    private Long resolveAssetSize(String url) {
+        Long cached = assetSizes.get(url);
+        if (cached != null) {
+            return cached >= 0 ? cached : null; // 음수는 확인 불가로 기록된 자산
+        }
+        if (sizeProbesInFlight.putIfAbsent(url, Boolean.TRUE) != null) {
+            return null;
+        }
+
+        webClient.head()
+            .uri(url)
+            .retrieve()
+            .toBodilessEntity()
+            .timeout(Duration.ofSeconds(sizeProbeTimeoutSeconds))
+            .doFinally(signal -> sizeProbesInFlight.remove(url))
+            .subscribe(
+                response -> assetSizes.put(url, response.getHeaders().getContentLength()),
+                error -> {
+                    assetSizes.put(url, -1L);
+                    log.debug("⚠️ 자산 크기 확인 실패 - URL: {}, 사유: {}", url, error.getMessage());
+                }
+            );
+        return null;
+    }
+
     /**
      * 대기영상 재생 상태 조회
      */
@@ -30,6 +30,7 @@ public enum ResponseStatus {
     CANNOT_GRANT_SUPER_ADMIN("ER_1009", "슈퍼 관리자는 3명까지만 부여 가능합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     CANNOT_GRANT_UPLOADER("ER_1010", "콘텐츠 관리자는 10명까지만 부여 가능합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     CANNOT_GRANT_OPERATOR("ER_1011", "운영진은 10명까지만 부여 가능합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    LOGIN_BUSY("ER_1012", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     CANNOT_FIND_MEMORIAL("ER_2001", "메모리얼을 찾을 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     CANNOT_ACCESS_MEMORIAL("ER_2002", "메모리얼에 접근할 권한이 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -82,6 +83,10 @@ public enum ResponseStatus {
     USER_IMAGE_LIMIT_EXCEEDED("ER_F010", "사용자 이미지는 1개만 업로드 가능합니다.", HttpStatus.BAD_REQUEST),
     FILE_EMPTY("ER_F011", "파일이 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     FILE_TYPE_NOT_SUPPORTED("ER_F012", "지원하지 않는 파일 타입입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    UPLOAD_SESSION_NOT_FOUND("ER_F013", "업로드 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    UPLOAD_CHUNK_INVALID("ER_F014", "업로드 조각이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_CHUNK_CHECKSUM_MISMATCH("ER_F015", "업로드 조각 체크섬이 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_SESSION_CLOSED("ER_F016", "이미 완료되었거나 종료된 업로드입니다.", HttpStatus.CONFLICT),
 
     // 권한 관련 에러 코드
     MEMORIAL_ACCESS_DENIED("ER_A001", "메모리얼에 접근할 권한이 없습니다.", HttpStatus.FORBIDDEN),
@@ -0,0 +1,66 @@
+package com.tomato.remember.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공용 로컬 캐시 구성 (Caffeine)
+ * - app.cache.specs 에 캐시 이름별 Caffeine 스펙(크기/TTL)을 선언, 미선언 캐시는 default-spec 사용
+ * - 모든 캐시는 recordStats 로 생성되어 cache.gets / cache.evictions 등 Micrometer 지표로 노출
+ * - refreshAfterWrite 가 있는 캐시는 로더가 필요하므로 여기서 만들지 않고 LoadingCacheRegistrar 로 등록
+ *   (만료 전 첫 조회는 기존 값을 즉시 반환하고 백그라운드에서 1회만 갱신 - stale-while-revalidate)
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TOMATO_GROUP = "tomato-group";
+
+    @Bean
+    @ConfigurationProperties("app.cache")
+    public CacheSpecs cacheSpecs() {
+        return new CacheSpecs();
+    }
+
+    @Bean
+    public CaffeineCacheManager cacheManager(CacheSpecs cacheSpecs) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(cacheSpecs.getDefaultSpec()).recordStats());
+        cacheManager.setAllowNullValues(false);
+
+        cacheSpecs.getSpecs().forEach((name, spec) -> {
+            if (cacheSpecs.isRefreshing(name)) {
+                return;
+            }
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+            log.info("캐시 등록 - {}: {}", name, spec);
+        });
+        return cacheManager;
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpecs {
+
+        private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m";
+        private Map<String, String> specs = new LinkedHashMap<>();
+
+        public String specOf(String name) {
+            return specs.getOrDefault(name, defaultSpec);
+        }
+
+        public boolean isRefreshing(String name) {
+            return specOf(name).contains("refreshAfterWrite");
+        }
+    }
+}
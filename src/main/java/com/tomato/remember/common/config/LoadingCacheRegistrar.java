@@ -0,0 +1,61 @@
+package com.tomato.remember.common.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tomato.remember.common.config.CacheConfig.CacheSpecs;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로더 기반 캐시 등록기
+ * - 동일 키 동시 조회 시 로더는 1회만 실행 (single-flight), 나머지 요청은 그 결과를 기다림
+ * - refreshAfterWrite 경과 후 조회는 기존 값을 바로 반환하고 갱신은 별도 가상 스레드에서 1회만 수행
+ * - 갱신 실패 시 기존 값이 유지되므로 외부 API 장애가 사용자 응답으로 번지지 않음
+ * - 등록된 캐시는 CacheManager 에도 추가되어 @Cacheable / 관리 API 에서 같은 이름으로 접근 가능
+ */
+@Slf4j
+@Component
+public class LoadingCacheRegistrar {
+
+    private final CaffeineCacheManager cacheManager;
+    private final CacheSpecs cacheSpecs;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ExecutorService refreshExecutor;
+
+    public LoadingCacheRegistrar(CaffeineCacheManager cacheManager, CacheSpecs cacheSpecs,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.cacheManager = cacheManager;
+        this.cacheSpecs = cacheSpecs;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.refreshExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refresh-", 0).factory());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <K, V> LoadingCache<K, V> register(String name, CacheLoader<K, V> loader) {
+        String spec = cacheSpecs.specOf(name);
+        LoadingCache<K, V> cache = Caffeine.from(spec)
+            .recordStats()
+            .executor(refreshExecutor)
+            .build(loader);
+
+        cacheManager.registerCustomCache(name, (Cache) cache);
+        meterRegistryProvider.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+        log.info("로더 캐시 등록 - {}: {}", name, spec);
+        return cache;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,40 @@
+package com.tomato.remember.common.config;
+
+import java.util.Map;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Read Replica 사용 시 open-in-view 강제 비활성화
+ * - open-in-view 는 요청 전체에서 EntityManager 하나를 열어 두고 첫 SQL 시점에 잡은 커넥션을 뷰 렌더링까지 유지함
+ * - 그 뒤의 @Transactional 은 readOnly 여부와 관계없이 같은 커넥션을 재사용하므로
+ *   먼저 실행된 트랜잭션이 요청 전체를 reader 또는 writer 에 고정시킴 (reader 로 쓰기가 가는 문제)
+ * - app.datasource.replica.enabled=true 이면 JPA_OPEN_IN_VIEW 설정과 관계없이 false 로 덮어씀
+ */
+public class ReplicaOpenInViewEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String REPLICA_ENABLED = "app.datasource.replica.enabled";
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    private final Log log;
+
+    public ReplicaOpenInViewEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ReplicaOpenInViewEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(REPLICA_ENABLED, Boolean.class, false)) {
+            return;
+        }
+        if (environment.getProperty(OPEN_IN_VIEW, Boolean.class, true)) {
+            log.warn("Replica 라우팅 사용 중에는 open-in-view 를 쓸 수 없어 비활성화합니다 (" + OPEN_IN_VIEW + "=false)");
+        }
+        environment.getPropertySources()
+            .addFirst(new MapPropertySource("replicaOpenInView", Map.of(OPEN_IN_VIEW, false)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.tomato.remember.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Writer / Read-Replica DataSource 구성
+ * - writer: 기존 spring.datasource.* 설정 그대로 사용
+ * - reader: app.datasource.replica.* 설정 (별도 커넥션 풀 → 읽기 트래픽을 쓰기와 독립적으로 확장)
+ * - 기본 DataSource 는 LazyConnectionDataSourceProxy(라우팅) 로 실제 SQL 실행 시점까지 커넥션 획득을 미룸
+ *   → readOnly 트랜잭션은 reader 로, 쓰기 트랜잭션은 writer 로 전달되고, SQL 이 없는 요청은 커넥션을 잡지 않음
+ * - app.datasource.replica.enabled=true 일 때만 적용 (미설정 시 Spring Boot 기본 DataSource 사용)
+ * - 라우팅은 물리 커넥션을 잡는 시점에 한 번 결정되므로 open-in-view 와 함께 쓸 수 없음
+ *   (ReplicaOpenInViewEnvironmentPostProcessor 가 끄고, 그래도 켜져 있으면 기동 실패)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writerDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource readerDataSource(
+        DataSourceProperties properties,
+        @Value("${app.datasource.replica.url}") String url,
+        @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+        @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writerDataSource,
+                                 @Qualifier("readerDataSource") DataSource readerDataSource,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                "app.datasource.replica.enabled=true 에서는 spring.jpa.open-in-view=false 여야 합니다 "
+                    + "(요청 전체가 첫 트랜잭션의 커넥션에 고정되어 readOnly 라우팅이 깨짐)");
+        }
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+            ReplicationRoutingDataSource.WRITER, writerDataSource,
+            ReplicationRoutingDataSource.READER, readerDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(writerDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("Replica 라우팅 DataSource 활성화 - readOnly 트랜잭션은 reader 풀로 전달");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
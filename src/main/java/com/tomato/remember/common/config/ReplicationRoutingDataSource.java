@@ -0,0 +1,21 @@
+package com.tomato.remember.common.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 readOnly 여부에 따른 Writer / Reader(Replica) 라우팅
+ * - @Transactional(readOnly = true) → READER, 그 외 → WRITER
+ * - 트랜잭션 동기화 정보가 설정된 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * - open-in-view 처럼 트랜잭션 밖에서 커넥션을 잡아 두면 이후 트랜잭션도 같은 커넥션을 쓰므로 open-in-view 는 꺼야 함
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String WRITER = "writer";
+    public static final String READER = "reader";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER : WRITER;
+    }
+}
@@ -0,0 +1,53 @@
+package com.tomato.remember.common.config;
+
+import com.tomato.remember.common.metrics.SqlMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운영용 SQL 관측 레이어
+ * - log4jdbc DriverSpy 대신 원본 MariaDB 드라이버를 사용하고, DataSource 만 datasource-proxy 로 감싸서 실행 시간 측정
+ * - Repository 메서드별 분포는 Spring Data 기본 지표(spring.data.repository.invocations)로 수집
+ * - app.sql-metrics.enabled=true 일 때만 적용
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-metrics", name = "enabled", havingValue = "true")
+public class SqlMetricsConfig {
+
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${app.sql-metrics.slow-query-threshold-ms:500}") long slowQueryThresholdMs,
+        @Value("${app.sql-metrics.slow-query-sample-rate:1.0}") double slowQuerySampleRate) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 기본 DataSource 만 감쌈 (replica 구성 시 writer/reader 풀은 라우팅 DataSource 뒤에 있으므로 중복 측정 방지)
+                if (!PRIMARY_DATA_SOURCE.equals(beanName)
+                    || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                log.info("SQL 지표 수집 DataSource 프록시 적용: {} (느린 쿼리 기준 {}ms, 샘플링 {})",
+                    beanName, slowQueryThresholdMs, slowQuerySampleRate);
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlMetricsListener(meterRegistry,
+                        slowQueryThresholdMs, slowQuerySampleRate))
+                    .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.tomato.remember.common.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 버전 없는 정적 자산 요청의 캐시 정책 보정
+ * - /assets/**, /bootstrap/** 핸들러는 immutable 장기 캐시를 내려주지만, 이는 내용 해시가 붙은 URL 에서만 안전
+ * - 해시 없이 요청된 경우(하드코딩 경로, JS 동적 로드 등) Cache-Control 을 no-cache 로 바꿔 매번 재검증(304)하도록 함
+ */
+@Component
+public class StaticAssetCacheFilter extends OncePerRequestFilter {
+
+    // VersionResourceResolver 내용 전략 파일명: name-{md5 32자}.ext
+    private static final Pattern VERSIONED_PATH = Pattern.compile(".*-[0-9a-f]{32}\\.[^/]+$");
+    private static final String REVALIDATE = "no-cache";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        boolean asset = uri.startsWith("/assets/") || uri.startsWith("/bootstrap/");
+        return !asset || VERSIONED_PATH.matcher(uri).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, new RevalidatingResponse(response));
+    }
+
+    private static final class RevalidatingResponse extends HttpServletResponseWrapper {
+
+        private RevalidatingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            super.setHeader(name, HttpHeaders.CACHE_CONTROL.equalsIgnoreCase(name) ? REVALIDATE : value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CACHE_CONTROL.equalsIgnoreCase(name)) {
+                super.setHeader(name, REVALIDATE);
+                return;
+            }
+            super.addHeader(name, value);
+        }
+    }
+}
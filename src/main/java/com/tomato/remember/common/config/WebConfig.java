@@ -3,18 +3,27 @@ package com.tomato.remember.common.config;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Spring MVC 설정 - 정적 리소스 핸들링 (수정됨)
+ * - /assets/**, /bootstrap/** 는 내용 해시 버전 URL 로 제공하고 1년 immutable 캐시
+ * - 빌드 시 생성한 .br/.gz 사전 압축본을 Accept-Encoding 에 맞춰 그대로 전송
  */
 @Slf4j
 @Configuration
@@ -23,6 +32,18 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.file.upload-dir:./uploads/local}")
     private String uploadDir;
 
+    @Value("${app.static-assets.cache-resources:true}")
+    private boolean cacheResources;
+
+    @Value("${app.static-assets.asset-cache-days:365}")
+    private long assetCacheDays;
+
+    @Value("${app.static-assets.image-cache-days:7}")
+    private long imageCacheDays;
+
+    @Value("${app.static-assets.upload-cache-days:30}")
+    private long uploadCacheDays;
+
     @PostConstruct
     public void init() {
         // 업로드 디렉토리 생성
@@ -51,24 +72,44 @@ public class WebConfig implements WebMvcConfigurer {
         String absoluteUploadDir = getAbsoluteUploadDir();
         String resourceLocation = getResourceLocation(absoluteUploadDir);
 
-        // /uploads/** → ./uploads/local/** 매핑
+        // /uploads/** → ./uploads/local/** 매핑 (업로드 파일명은 UUID 라 내용이 바뀌지 않음)
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(resourceLocation)
-                .setCachePeriod(0); // 캐시 비활성화 (개발용)
+                .setCacheControl(CacheControl.maxAge(uploadCacheDays, TimeUnit.DAYS).cachePrivate());
 
         log.info("정적 리소스 핸들러 등록:");
         log.info("  - URL 패턴: /uploads/**");
         log.info("  - 리소스 위치: {}", resourceLocation);
         log.info("  - OS: {}", System.getProperty("os.name"));
 
-        // 기본 정적 리소스
+        // 기본 정적 리소스 (버전 없는 URL 이므로 짧게 캐시 후 재검증)
         registry.addResourceHandler("/images/**")
-                .addResourceLocations("classpath:/static/images/");
+                .addResourceLocations("classpath:/static/images/")
+                .setCacheControl(CacheControl.maxAge(imageCacheDays, TimeUnit.DAYS).cachePublic());
+
+        // JS/CSS 자산: 내용 해시 버전 URL + 사전 압축본(.br/.gz) + immutable 장기 캐시
+        // 버전 없는 URL 로 들어온 요청은 StaticAssetCacheFilter 가 no-cache 로 낮춤
+        registerVersionedAssets(registry, "/assets/**", "classpath:/static/assets/");
+        registerVersionedAssets(registry, "/bootstrap/**", "classpath:/static/bootstrap/");
+    }
+
+    private void registerVersionedAssets(ResourceHandlerRegistry registry, String pattern, String location) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(assetCacheDays, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(cacheResources)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new CssLinkResourceTransformer());
+    }
 
-        registry.addResourceHandler("/assets/**")
-                .addResourceLocations("classpath:/static/assets/")
-                .setCachePeriod(0)
-                .resourceChain(false);
+    /**
+     * 템플릿의 @{/assets/...} 링크를 내용 해시 버전 URL 로 바꿔 주는 필터
+     * (리소스 체인을 직접 구성했으므로 Boot 자동 등록 대신 명시적으로 등록)
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
     }
 
     /**
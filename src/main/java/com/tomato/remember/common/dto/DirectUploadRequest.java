@@ -0,0 +1,20 @@
+package com.tomato.remember.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사전 서명 직접 업로드 요청 (원본 파일명 + 업로드할 크기)
+ */
+@Data
+@NoArgsConstructor
+public class DirectUploadRequest {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    private String fileName;
+
+    @Positive(message = "파일 크기가 올바르지 않습니다")
+    private long size;
+}
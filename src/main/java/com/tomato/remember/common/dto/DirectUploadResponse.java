@@ -0,0 +1,39 @@
+package com.tomato.remember.common.dto;
+
+import com.tomato.remember.common.storage.PresignedUpload;
+import java.time.Instant;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 사전 서명 직접 업로드 응답
+ * - direct=false 면 스토리지가 직접 업로드를 지원하지 않으므로 기존 multipart 업로드 사용
+ * - direct=true 면 uploadUrl 로 method 요청 (headers 포함, 본문은 파일 그대로) 후 key 로 완료 통지
+ */
+@Data
+@Builder
+public class DirectUploadResponse {
+
+    private final boolean direct;
+    private final String key;
+    private final String uploadUrl;
+    private final String method;
+    private final Map<String, String> headers;
+    private final Instant expiresAt;
+
+    public static DirectUploadResponse unsupported() {
+        return DirectUploadResponse.builder().direct(false).build();
+    }
+
+    public static DirectUploadResponse of(String key, PresignedUpload upload) {
+        return DirectUploadResponse.builder()
+            .direct(true)
+            .key(key)
+            .uploadUrl(upload.url())
+            .method(upload.method())
+            .headers(upload.headers())
+            .expiresAt(upload.expiresAt())
+            .build();
+    }
+}
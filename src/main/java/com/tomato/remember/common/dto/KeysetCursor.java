@@ -0,0 +1,53 @@
+package com.tomato.remember.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Keyset(seek) 페이지네이션 커서
+ * - 마지막으로 조회한 행의 정렬 키(createdAt, id)를 URL-safe 문자열로 인코딩
+ * - 다음 페이지는 offset 대신 "이 키 이후" 조건으로 조회하므로 깊은 페이지도 인덱스 범위 스캔으로 끝남
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서는 첫 페이지 요청으로 취급 (null 반환)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                return null;
+            }
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, idx)),
+                Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
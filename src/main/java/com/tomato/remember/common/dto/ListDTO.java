@@ -4,6 +4,7 @@ import com.querydsl.jpa.impl.JPAQuery;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
@@ -24,6 +25,9 @@ public class ListDTO<T> {
   @Schema(description = "조회 데이터")
   private List<T> data;
 
+  @Schema(description = "다음 페이지 커서 (keyset 페이징, 마지막 페이지면 null)")
+  private String nextCursor;
+
   /**
      * JPAQuery<Long> countQuery : 전체 데이터 건수를 조회할 count 쿼리
      * List<T> content        : 요청한 페이지만큼 조회된 데이터
@@ -37,7 +41,15 @@ public class ListDTO<T> {
         if (fetched != null) {
             total = fetched;
         }
+        return of(total, content, pageable);
+    }
 
+    /**
+     * 전체 건수를 이미 알고 있는 경우 (CountCache 등에서 조회한 값)
+     */
+    public static <T> ListDTO<T> of(long total,
+                                    List<T> content,
+                                    Pageable pageable) {
         int pageSize = pageable.getPageSize();
         // Spring Data Pageable pageIndex는 0-based, 화면에서는 1-based
         int currentPage = pageable.isPaged() ? pageable.getPageNumber() + 1 : 1;
@@ -49,6 +61,27 @@ public class ListDTO<T> {
         return new ListDTO<>(content, pg);
     }
 
+    /**
+     * Keyset(seek) 페이징 결과 변환
+     * List<T> fetched : pageSize + 1 건까지 조회된 데이터 (초과분은 다음 페이지 존재 표시)
+     * long total      : 근사 전체 건수 (CountCache)
+     * cursorOf        : 행에서 정렬 키(createdAt, id)를 추출하는 함수
+     */
+    public static <T> ListDTO<T> ofKeyset(List<T> fetched,
+                                          long total,
+                                          Pageable pageable,
+                                          Function<T, KeysetCursor> cursorOf) {
+        int pageSize = pageable.getPageSize();
+        boolean hasNext = fetched.size() > pageSize;
+        List<T> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        ListDTO<T> result = of(total, content, pageable);
+        if (hasNext && !content.isEmpty()) {
+            result.nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        }
+        return result;
+    }
+
     /**
      * Spring Data Page<T> 를 바로 변환
      */
@@ -0,0 +1,58 @@
+package com.tomato.remember.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청별 로그 MDC 설정
+ * - requestId: 요청 단위 로그 추적용 짧은 ID
+ * - debugSampled: 샘플링된 요청 표시 → SampledDebugTurboFilter 가 해당 요청의 DEBUG 로그만 출력
+ *   (샘플링 비율 또는 X-Debug-Log 헤더로 지정, 헤더는 설정으로 허용한 환경에서만)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LogSamplingFilter extends OncePerRequestFilter {
+
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_DEBUG_SAMPLED = "debugSampled";
+    private static final String DEBUG_HEADER = "X-Debug-Log";
+
+    @Value("${app.logging.debug-sample-rate:0.0}")
+    private double debugSampleRate;
+
+    @Value("${app.logging.debug-header-enabled:false}")
+    private boolean debugHeaderEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        MDC.put(MDC_REQUEST_ID, Integer.toHexString(ThreadLocalRandom.current().nextInt()));
+        if (isSampled(request)) {
+            MDC.put(MDC_DEBUG_SAMPLED, "true");
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_DEBUG_SAMPLED);
+        }
+    }
+
+    private boolean isSampled(HttpServletRequest request) {
+        if (debugHeaderEnabled && "true".equalsIgnoreCase(request.getHeader(DEBUG_HEADER))) {
+            return true;
+        }
+        return debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate;
+    }
+}
@@ -0,0 +1,34 @@
+package com.tomato.remember.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 요청 단위 샘플링 DEBUG 로그 (logback TurboFilter)
+ * - 평소에는 com.tomato 로거를 INFO 로 두고, LogSamplingFilter 가 MDC 에 표시한 요청만 DEBUG/TRACE 를 통과시킴
+ * - logback-spring.xml 의 turboFilter 로 등록 (Spring Bean 아님)
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.tomato";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (MDC.get(LogSamplingFilter.MDC_DEBUG_SAMPLED) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        return logger.getName().startsWith(loggerPrefix) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
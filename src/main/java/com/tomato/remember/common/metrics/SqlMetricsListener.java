@@ -0,0 +1,81 @@
+package com.tomato.remember.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * SQL 실행 시간 측정 리스너 (datasource-proxy)
+ * - 모든 쿼리 실행 시간을 Micrometer Timer(sql.query)로 기록 (type: SELECT/INSERT/..., batch, success)
+ * - 임계값을 넘는 느린 쿼리만 샘플링 비율에 따라 WARN 로그로 남김
+ * - log4jdbc 처럼 Statement/ResultSet 을 문자열로 덤프하지 않으므로 운영 오버헤드가 작음
+ */
+@Slf4j
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    private static final String METRIC_NAME = "sql.query";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long slowQueryThresholdMs;
+    private final double slowQuerySampleRate;
+
+    // DataSource 가 MeterRegistry 보다 먼저 생성되므로 첫 쿼리 시점에 조회
+    private volatile MeterRegistry meterRegistry;
+
+    public SqlMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                              long slowQueryThresholdMs, double slowQuerySampleRate) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+        this.slowQuerySampleRate = slowQuerySampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 전 처리 없음
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        String queryType = queryInfoList.isEmpty()
+            ? "OTHER"
+            : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name();
+
+        Timer.builder(METRIC_NAME)
+            .description("JDBC 쿼리 실행 시간")
+            .tag("type", queryType)
+            .tag("batch", String.valueOf(execInfo.isBatch()))
+            .tag("success", String.valueOf(execInfo.isSuccess()))
+            .publishPercentileHistogram()
+            .register(meterRegistry())
+            .record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        if (elapsedMs >= slowQueryThresholdMs && isSampled()) {
+            log.warn("느린 쿼리 감지 - {}ms, type: {}, batchSize: {}, query: {}",
+                elapsedMs, queryType, execInfo.getBatchSize(),
+                queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+        }
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getObject();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private boolean isSampled() {
+        return slowQuerySampleRate >= 1.0
+            || ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate;
+    }
+}
@@ -0,0 +1,206 @@
+package com.tomato.remember.common.metrics;
+
+import com.tomato.remember.application.wsvideo.code.VideoCallFlowState;
+import com.tomato.remember.application.wsvideo.dto.MemorialVideoSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * 영상통화 파이프라인 Micrometer 지표 (/actuator/prometheus 로 수집)
+ * - video.call.state.duration: 이전 상태에 머문 시간 (from/to 전환별)
+ * - video.call.e2e: 녹화 업로드 → 외부 API 콜백 → RESPONSE_PLAYING 구간 지연 (세션 메타데이터의 시각 기준)
+ * - video.call.connections: 이 노드의 WebSocket/SSE 연결 수
+ * - video.ffmpeg.duration / video.external.api / video.session.redis: 변환, 외부 API, Redis 세션 저장소 소요 시간
+ * - 모든 Timer 는 percentile histogram 을 내보내므로 분위수는 Prometheus 에서 노드 합산 후 계산
+ */
+@Slf4j
+@Component
+public class VideoCallMetrics {
+
+    // 세션 메타데이터 키 (Redis 세션에 함께 저장되어 노드가 달라도 구간 측정 가능)
+    private static final String UPLOADED_AT = "metrics.uploadedAt";
+    private static final String CALLBACK_AT = "metrics.callbackAt";
+
+    private final MeterRegistry meterRegistry;
+
+    public VideoCallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 전송 계층 연결 수 게이지 등록 (websocket / sse)
+     */
+    public void registerConnections(String transport, Map<?, ?> connections) {
+        Gauge.builder("video.call.connections", connections, Map::size)
+            .description("이 노드의 영상통화 실시간 연결 수")
+            .tag("transport", transport)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 상태 전환 기록 - 세션 저장 전에 호출해야 구간 측정용 메타데이터 정리가 함께 저장됨
+     *
+     * @param previousChange 이전 상태로 들어온 시각 (전환 전 lastStateChange)
+     */
+    public void recordStateTransition(MemorialVideoSession session, VideoCallFlowState previousState,
+                                      LocalDateTime previousChange, boolean forced) {
+        VideoCallFlowState newState = session.getFlowState();
+
+        if (previousChange != null) {
+            Timer.builder("video.call.state.duration")
+                .description("상태 전환 전 이전 상태에 머문 시간")
+                .tag("from", String.valueOf(previousState))
+                .tag("to", String.valueOf(newState))
+                .tag("forced", String.valueOf(forced))
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(meterRegistry)
+                .record(Duration.between(previousChange, LocalDateTime.now()));
+        }
+
+        if (newState == VideoCallFlowState.RESPONSE_PLAYING) {
+            long now = System.currentTimeMillis();
+            Long uploadedAt = epochMillis(session, UPLOADED_AT);
+            Long callbackAt = epochMillis(session, CALLBACK_AT);
+            if (callbackAt != null) {
+                recordStage("callback_to_playing", now - callbackAt);
+            }
+            if (uploadedAt != null) {
+                recordStage("upload_to_playing", now - uploadedAt);
+            }
+            clearMarks(session);
+        } else if (newState == VideoCallFlowState.ERROR) {
+            clearMarks(session);
+        }
+    }
+
+    /**
+     * 녹화 업로드 완료 시각 기록 (이전 턴의 콜백 시각은 초기화)
+     */
+    public void markUploaded(MemorialVideoSession session) {
+        session.addMetadata(UPLOADED_AT, System.currentTimeMillis());
+        session.removeMetadata(CALLBACK_AT);
+    }
+
+    /**
+     * 외부 API 응답 콜백 수신 시각 기록 + 업로드 → 콜백 구간 측정
+     */
+    public void markCallbackReceived(MemorialVideoSession session) {
+        long now = System.currentTimeMillis();
+        Long uploadedAt = epochMillis(session, UPLOADED_AT);
+        if (uploadedAt != null) {
+            recordStage("upload_to_callback", now - uploadedAt);
+        }
+        session.addMetadata(CALLBACK_AT, now);
+    }
+
+    /**
+     * FFmpeg/ffprobe 실행 시간
+     */
+    public void recordFfmpeg(String task, long startNanos, boolean success) {
+        Timer.builder("video.ffmpeg.duration")
+            .description("FFmpeg 프로세스 실행 시간")
+            .tag("task", task)
+            .tag("success", String.valueOf(success))
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofMinutes(10))
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 외부 API 호출 시간/오류 측정 - 구독(재시도 포함)마다 한 번씩 기록
+     */
+    public <T> Mono<T> timeExternalApi(String api, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call
+                .doOnSuccess(result -> recordExternalApi(api, startNanos, null))
+                .doOnError(error -> recordExternalApi(api, startNanos, error));
+        });
+    }
+
+    /**
+     * Redis 세션 저장소 작업 시간
+     */
+    public void recordRedis(String op, long startNanos, boolean success) {
+        Timer.builder("video.session.redis")
+            .description("영상통화 세션 Redis 작업 시간")
+            .tag("op", op)
+            .tag("success", String.valueOf(success))
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofSeconds(5))
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordExternalApi(String api, long startNanos, Throwable error) {
+        String outcome = outcomeOf(error);
+
+        Timer.builder("video.external.api")
+            .description("외부 API 호출 시간")
+            .tag("api", api)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofMinutes(1))
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (error != null) {
+            Counter.builder("video.external.api.errors")
+                .description("외부 API 호출 오류 수")
+                .tag("api", api)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    private void recordStage(String stage, long elapsedMs) {
+        if (elapsedMs < 0) {
+            // 노드 간 시계 차이로 음수가 나오면 버림
+            log.debug("영상통화 구간 측정 생략 - stage: {}, elapsed: {}ms", stage, elapsedMs);
+            return;
+        }
+        Timer.builder("video.call.e2e")
+            .description("녹화 업로드부터 응답 영상 재생까지 구간별 지연")
+            .tag("stage", stage)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofMinutes(10))
+            .register(meterRegistry)
+            .record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof WebClientResponseException responseError) {
+            return responseError.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        return "error";
+    }
+
+    private static Long epochMillis(MemorialVideoSession session, String key) {
+        return session.getMetadata(key) instanceof Number value ? value.longValue() : null;
+    }
+
+    private static void clearMarks(MemorialVideoSession session) {
+        session.removeMetadata(UPLOADED_AT);
+        session.removeMetadata(CALLBACK_AT);
+    }
+}
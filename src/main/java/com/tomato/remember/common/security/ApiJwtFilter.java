@@ -5,6 +5,7 @@ import com.tomato.remember.application.security.MemberUserDetails;
 import com.tomato.remember.application.security.MemberUserDetailsService;
 import com.tomato.remember.common.code.MemberRole;
 import com.tomato.remember.common.code.MemberStatus;
+import com.tomato.remember.common.util.CookieUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -29,6 +30,7 @@ public class ApiJwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final MemberUserDetailsService memberUserDetailsService;
+    private final CookieUtil cookieUtil;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,7 +41,8 @@ public class ApiJwtFilter extends OncePerRequestFilter {
         log.debug("ApiJwtFilter processing: {}", requestURI);
 
         try {
-            String token = tokenProvider.extractBearerToken(request);
+            // Authorization 헤더는 요청 단위 토큰 컨텍스트에서 한 번만 파싱
+            String token = cookieUtil.getTokenContext(request).getBearerToken();
 
             if (token == null) {
                 log.debug("No Bearer token found in API request: {}", requestURI);
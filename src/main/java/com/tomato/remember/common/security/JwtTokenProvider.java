@@ -147,35 +147,30 @@ public class JwtTokenProvider {
      * 회원 토큰 검증
      */
     public boolean validateMemberToken(String token) {
-        log.debug("Validating member token...");
-
         if (token == null || token.trim().isEmpty()) {
             log.warn("❌ Token is null or empty");
             return false;
         }
 
         try {
-            log.debug("Parsing token with member key...");
             Claims claims = Jwts.parserBuilder()
                     .setSigningKey(memberKey)
                     .build()
                     .parseClaimsJws(token)
                     .getBody();
 
-            log.debug("📋 Token claims: {}", claims);
-            log.debug("👤 Token subject: {}", claims.getSubject());
-            log.debug("⏰ Token expiration: {}", claims.getExpiration());
-            log.debug("🕐 Token issued at: {}", claims.getIssuedAt());
-
             String tokenType = (String) claims.get("type");
-            log.debug("🏷️ Token type: {}", tokenType);
+            if (log.isDebugEnabled()) {
+                log.debug("📋 Token subject: {}, type: {}, issuedAt: {}, expiration: {}",
+                        claims.getSubject(), tokenType, claims.getIssuedAt(), claims.getExpiration());
+            }
 
             boolean isValidType = tokenType != null && (
                     tokenType.equals(TokenType.MEMBER_ACCESS.getValue()) ||
                             tokenType.equals(TokenType.MEMBER_REFRESH.getValue())
             );
 
-            log.info("✅ Member token validation result: {} (type: {})", isValidType, tokenType);
+            log.debug("✅ Member token validation result: {} (type: {})", isValidType, tokenType);
             return isValidType;
 
         } catch (ExpiredJwtException e) {
@@ -11,7 +11,6 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +22,6 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Map;
 
 @Slf4j
@@ -62,12 +60,12 @@ public class MobileJwtFilter extends OncePerRequestFilter {
         boolean isAuthRequired = isAuthRequiredPath(requestURI);
         log.debug("Auth required for {}: {}", requestURI, isAuthRequired);
 
-        // 현재 쿠키 상태 로깅
-        logCurrentCookieState(request);
+        // 쿠키/헤더는 요청당 한 번만 파싱 (이후 CookieUtil 조회는 같은 결과 재사용)
+        RequestTokenContext tokenContext = cookieUtil.getTokenContext(request);
+        logCurrentCookieState(tokenContext);
 
         try {
-            String accessToken = cookieUtil.getMemberAccessToken(request);
-            log.debug("Access token from cookie: {}", accessToken != null ? "PRESENT (length=" + accessToken.length() + ")" : "NULL");
+            String accessToken = tokenContext.getMemberAccessToken();
 
             if (accessToken == null) {
                 log.info("No access token found in cookies for request: {}", requestURI);
@@ -108,25 +106,16 @@ public class MobileJwtFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 현재 쿠키 상태 로깅
+     * 현재 쿠키 상태 로깅 (DEBUG 비활성 시 아무 계산도 하지 않음)
      */
-    private void logCurrentCookieState(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            log.debug("Current cookies count: {}", cookies.length);
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().startsWith("MEMBER_")) {
-                    log.debug("Cookie found: name={}, value_length={}, maxAge={}, secure={}, httpOnly={}",
-                            cookie.getName(),
-                            cookie.getValue() != null ? cookie.getValue().length() : 0,
-                            cookie.getMaxAge(),
-                            cookie.getSecure(),
-                            cookie.isHttpOnly());
-                }
-            }
-        } else {
-            log.debug("No cookies found in request");
+    private void logCurrentCookieState(RequestTokenContext tokenContext) {
+        if (!log.isDebugEnabled()) {
+            return;
         }
+        log.debug("Current cookies count: {}, access token: {}, refresh token: {}",
+                tokenContext.getCookieCount(),
+                tokenContext.hasAccessToken() ? "PRESENT (length=" + tokenContext.getMemberAccessToken().length() + ")" : "NULL",
+                tokenContext.hasRefreshToken() ? "PRESENT" : "NULL");
     }
 
     /**
@@ -216,7 +205,7 @@ public class MobileJwtFilter extends OncePerRequestFilter {
         log.info("Handling invalid token for: {}, clearing all cookies", requestURI);
 
         // 쿠키 정리 전 상태 로깅
-        logCurrentCookieState(request);
+        logCurrentCookieState(cookieUtil.getTokenContext(request));
 
         cookieUtil.clearMemberTokenCookies(response);
         log.info("Member token cookies cleared for request: {}", requestURI);
@@ -262,7 +251,7 @@ public class MobileJwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        log.debug("Refresh token found (length={}), attempting validation", refreshToken.length());
+        log.debug("Refresh token found, attempting validation");
 
         try {
             // RefreshToken 검증
@@ -0,0 +1,47 @@
+package com.tomato.remember.common.security;
+
+import com.tomato.remember.common.dto.TokenStateInfo;
+import lombok.Getter;
+
+/**
+ * 요청 단위 토큰 파싱 결과
+ * - 쿠키 배열과 Authorization 헤더를 요청당 한 번만 읽어 요청 속성에 보관 (CookieUtil.getTokenContext)
+ * - MobileJwtFilter / ApiJwtFilter 가 같은 결과를 공유
+ * - 필터에서 토큰을 재발급해도 이 객체는 갱신하지 않음 (요청에 실려 온 원본 토큰 기준)
+ */
+@Getter
+public final class RequestTokenContext {
+
+    public static final String ATTRIBUTE = RequestTokenContext.class.getName();
+
+    private final String memberAccessToken;   // MEMBER_ACCESS_TOKEN 쿠키
+    private final String memberRefreshToken;  // MEMBER_REFRESH_TOKEN 쿠키
+    private final String bearerToken;         // Authorization: Bearer 헤더
+    private final int cookieCount;            // 요청 쿠키 수 (진단용)
+
+    public RequestTokenContext(String memberAccessToken, String memberRefreshToken,
+                               String bearerToken, int cookieCount) {
+        this.memberAccessToken = memberAccessToken;
+        this.memberRefreshToken = memberRefreshToken;
+        this.bearerToken = bearerToken;
+        this.cookieCount = cookieCount;
+    }
+
+    public boolean hasAccessToken() {
+        return memberAccessToken != null && !memberAccessToken.isBlank();
+    }
+
+    public boolean hasRefreshToken() {
+        return memberRefreshToken != null && !memberRefreshToken.isBlank();
+    }
+
+    public TokenStateInfo toTokenState() {
+        boolean hasAccess = hasAccessToken();
+        boolean hasRefresh = hasRefreshToken();
+        return TokenStateInfo.builder()
+            .hasAccessToken(hasAccess)
+            .hasRefreshToken(hasRefresh)
+            .isPartiallyBroken(hasAccess != hasRefresh)
+            .build();
+    }
+}
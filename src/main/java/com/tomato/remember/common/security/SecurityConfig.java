@@ -53,7 +53,8 @@ public class SecurityConfig {
     public WebSecurityCustomizer webSecurityCustomizer() {
         return web -> web.ignoring()
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
-                .requestMatchers("/uploads/**", "/css/**", "/js/**", "/images/**", "/favicon.ico");
+                .requestMatchers("/uploads/**", "/css/**", "/js/**", "/images/**", "/favicon.ico")
+                .requestMatchers("/assets/**", "/bootstrap/**");
     }
 
     /**
@@ -108,6 +109,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/admin/api/auth/login", "/admin/api/auth/refresh").permitAll()
+                        // 통계 재집계는 집계 테이블을 지우고 다시 쓰므로 최고 관리자만
+                        .requestMatchers("/admin/api/stats/*/rebuild").hasRole("SUPER_ADMIN")
                         .requestMatchers("/admin/api/**").hasAnyRole("SUPER_ADMIN", "OPERATOR", "UPLOADER")
                 )
                 .addFilterBefore(new AdminApiJwtFilter(jwtTokenProvider, adminUserDetailsService), UsernamePasswordAuthenticationFilter.class)
@@ -188,7 +191,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
-                .addFilterBefore(new ApiJwtFilter(jwtTokenProvider, memberUserDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new ApiJwtFilter(jwtTokenProvider, memberUserDetailsService, cookieUtil), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                         .accessDeniedHandler((req, res, denied) ->
@@ -0,0 +1,145 @@
+package com.tomato.remember.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 스토리지 (기본값)
+ * - app.file.upload-dir 아래에 키 경로 그대로 저장, /uploads/** 정적 핸들러(WebConfig)로 서빙
+ * - 사전 서명 업로드는 지원하지 않음 → 클라이언트는 기존 multipart 업로드로 폴백
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalDiskStorage implements ObjectStorage {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalDiskStorage(@Value("${app.file.upload-dir:/uploads}") String uploadDir,
+                            @Value("${app.file.base-url:http://localhost:8080}") String baseUrl) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        log.info("로컬 디스크 스토리지 사용 - 루트: {}", root);
+    }
+
+    @Override
+    public String getType() {
+        return "local";
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void download(String key, Path target) throws IOException {
+        Files.copy(resolve(key), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredObject(key, Files.size(path), Files.probeContentType(path)));
+        } catch (IOException e) {
+            log.warn("파일 정보 조회 실패 - 키: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Path path = resolve(key);
+        try {
+            if (!Files.deleteIfExists(path)) {
+                return false;
+            }
+            cleanupEmptyDirectories(path.getParent());
+            return true;
+        } catch (IOException e) {
+            log.error("파일 삭제 실패 - 경로: {}", path, e);
+            return false;
+        }
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return baseUrl + UPLOADS_PREFIX + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        int index = url.indexOf(UPLOADS_PREFIX);
+        return index == -1 ? null : url.substring(index + UPLOADS_PREFIX.length());
+    }
+
+    @Override
+    public boolean supportsPresignedUpload() {
+        return false;
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        throw new UnsupportedOperationException("로컬 디스크 스토리지는 사전 서명 업로드를 지원하지 않습니다.");
+    }
+
+    /**
+     * 키를 루트 아래 경로로 변환 (../ 로 루트 밖을 가리키는 키 차단)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("올바르지 않은 파일 키입니다: " + key);
+        }
+        return path;
+    }
+
+    /**
+     * 빈 디렉토리 정리 (상위 디렉토리까지 재귀적으로, 업로드 루트는 유지)
+     */
+    private void cleanupEmptyDirectories(Path directory) {
+        try {
+            while (directory != null && !directory.equals(root) && directory.startsWith(root)
+                && Files.isDirectory(directory) && isDirEmpty(directory)) {
+                Files.delete(directory);
+                log.debug("빈 디렉토리 삭제: {}", directory);
+                directory = directory.getParent();
+            }
+        } catch (IOException e) {
+            log.debug("디렉토리 정리 중 오류 (무시됨): {}", e.getMessage());
+        }
+    }
+
+    private boolean isDirEmpty(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            return !stream.iterator().hasNext();
+        }
+    }
+}
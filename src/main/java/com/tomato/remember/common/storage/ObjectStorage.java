@@ -0,0 +1,68 @@
+package com.tomato.remember.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 오브젝트 스토리지 SPI
+ * - 키는 업로드 루트 기준 상대 경로 (예: memorial/2024/01/123/uuid.mp4) - DB 에 저장되는 상대 경로와 동일
+ * - 구현체는 app.storage.type 으로 선택 (local: 로컬 디스크, s3: S3 호환 스토리지 / MinIO)
+ * - 사전 서명 업로드를 지원하는 구현체는 클라이언트가 스토리지로 직접 PUT 하고, 앱은 완료 통지만 받음
+ */
+public interface ObjectStorage {
+
+    /**
+     * 구현체 이름 (로그/진단용)
+     */
+    String getType();
+
+    /**
+     * 스트림 저장 (size 를 모르면 -1)
+     */
+    void put(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    /**
+     * 로컬 파일 저장 (변환 결과 등 크기를 아는 파일)
+     */
+    void put(String key, Path file, String contentType) throws IOException;
+
+    /**
+     * 객체를 로컬 파일로 내려받기 (FFmpeg 변환처럼 파일 경로가 필요한 후처리용)
+     */
+    void download(String key, Path target) throws IOException;
+
+    /**
+     * 객체 메타데이터 조회 - 없으면 empty
+     */
+    Optional<StoredObject> stat(String key);
+
+    /**
+     * 객체 삭제 - 삭제했으면 true, 원래 없었으면 false
+     */
+    boolean delete(String key);
+
+    /**
+     * 클라이언트가 접근할 절대 URL
+     */
+    String publicUrl(String key);
+
+    /**
+     * 키 추출 (publicUrl 의 역변환) - 이 스토리지의 URL 이 아니면 null
+     */
+    String keyOf(String url);
+
+    /**
+     * 사전 서명 PUT 업로드 지원 여부
+     */
+    boolean supportsPresignedUpload();
+
+    /**
+     * 사전 서명 PUT URL 발급
+     *
+     * @param contentLength 업로드할 크기 (서명에 포함되어 다른 크기로는 업로드 불가)
+     */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl);
+}
@@ -0,0 +1,11 @@
+package com.tomato.remember.common.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 사전 서명 업로드 정보 - 클라이언트는 url 로 method 요청을 보내면서 headers 를 그대로 실어야 함
+ */
+public record PresignedUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+
+}
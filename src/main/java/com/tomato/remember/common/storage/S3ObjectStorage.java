@@ -0,0 +1,220 @@
+package com.tomato.remember.common.storage;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * S3 호환 오브젝트 스토리지 (AWS S3, MinIO 등)
+ * - endpoint 를 지정하면 해당 주소로 요청 (MinIO 는 path-style: true 필요)
+ * - access-key 가 비어 있으면 기본 자격 증명 체인 사용 (환경 변수, 인스턴스 프로파일 등)
+ * - 공개 URL 은 public-base-url(CDN 등) 기준, 없으면 엔드포인트/버킷 주소로 생성
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final String publicBaseUrl;
+
+    public S3ObjectStorage(@Value("${app.storage.s3.endpoint:}") String endpoint,
+                           @Value("${app.storage.s3.region:ap-northeast-2}") String region,
+                           @Value("${app.storage.s3.bucket}") String bucket,
+                           @Value("${app.storage.s3.access-key:}") String accessKey,
+                           @Value("${app.storage.s3.secret-key:}") String secretKey,
+                           @Value("${app.storage.s3.path-style:false}") boolean pathStyle,
+                           @Value("${app.storage.s3.public-base-url:}") String publicBaseUrl) {
+        AwsCredentialsProvider credentials = StringUtils.hasText(accessKey)
+            ? StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+            : DefaultCredentialsProvider.create();
+        S3Configuration serviceConfig = S3Configuration.builder()
+            .pathStyleAccessEnabled(pathStyle)
+            .build();
+
+        var clientBuilder = S3Client.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfig);
+        var presignerBuilder = S3Presigner.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credentials)
+            .serviceConfiguration(serviceConfig);
+        if (StringUtils.hasText(endpoint)) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        this.s3Client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        this.bucket = bucket;
+        this.publicBaseUrl = trimSlash(StringUtils.hasText(publicBaseUrl) ? publicBaseUrl
+            : StringUtils.hasText(endpoint) ? trimSlash(endpoint) + "/" + bucket
+            : "https://" + bucket + ".s3." + region + ".amazonaws.com");
+
+        log.info("S3 오브젝트 스토리지 사용 - 엔드포인트: {}, 버킷: {}, path-style: {}, 공개 URL: {}",
+            StringUtils.hasText(endpoint) ? endpoint : "AWS", bucket, pathStyle, this.publicBaseUrl);
+    }
+
+    @Override
+    public String getType() {
+        return "s3";
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        if (size < 0) {
+            // 크기를 모르는 스트림은 임시 파일로 받아 Content-Length 를 확정한 뒤 업로드
+            Path temp = Files.createTempFile("s3-put-", ".tmp");
+            try {
+                Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+                put(key, temp, contentType);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return;
+        }
+
+        try {
+            s3Client.putObject(putRequest(key, contentType, size), RequestBody.fromInputStream(inputStream, size));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패 - 키: " + key, e);
+        }
+    }
+
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        try {
+            s3Client.putObject(putRequest(key, contentType, Files.size(file)), RequestBody.fromFile(file));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패 - 키: " + key, e);
+        }
+    }
+
+    @Override
+    public void download(String key, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build(),
+                ResponseTransformer.toFile(target));
+        } catch (SdkException e) {
+            throw new IOException("S3 다운로드 실패 - 키: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(
+                HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StoredObject(key, head.contentLength(), head.contentType()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            if (stat(key).isEmpty()) {
+                return false;
+            }
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (SdkException e) {
+            log.error("S3 객체 삭제 실패 - 키: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String prefix = publicBaseUrl + "/";
+        return url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+
+    @Override
+    public boolean supportsPresignedUpload() {
+        return true;
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+            .signatureDuration(ttl)
+            .putObjectRequest(putRequest(key, contentType, contentLength))
+            .build());
+
+        // Host / Content-Length 는 클라이언트(브라우저)가 직접 채우므로 안내 헤더에서 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUpload(presigned.url().toString(), presigned.httpRequest().method().name(),
+            headers, presigned.expiration());
+    }
+
+    @PreDestroy
+    public void close() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType, long contentLength) {
+        return PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .build();
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,8 @@
+package com.tomato.remember.common.storage;
+
+/**
+ * 저장된 객체 메타데이터
+ */
+public record StoredObject(String key, long size, String contentType) {
+
+}
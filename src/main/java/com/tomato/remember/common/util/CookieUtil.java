@@ -2,6 +2,7 @@ package com.tomato.remember.common.util;
 
 import com.tomato.remember.common.dto.TokenStateInfo;
 import com.tomato.remember.common.dto.TokenUpdateResult;
+import com.tomato.remember.common.security.RequestTokenContext;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,6 +43,8 @@ public class CookieUtil {
     // 쿠키 이름 상수
     private static final String MEMBER_ACCESS_TOKEN_COOKIE = "MEMBER_ACCESS_TOKEN";
     private static final String MEMBER_REFRESH_TOKEN_COOKIE = "MEMBER_REFRESH_TOKEN";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
 
     @PostConstruct
     public void validateCookieConfiguration() {
@@ -204,39 +207,57 @@ public class CookieUtil {
     }
 
     /**
-     * 요청에서 Access Token 추출
+     * 요청 단위 토큰 파싱 결과 (쿠키/헤더는 요청당 한 번만 읽고 요청 속성에 보관)
      */
-    public String getMemberAccessToken(HttpServletRequest request) {
-        String token = getCookieValue(request, MEMBER_ACCESS_TOKEN_COOKIE);
-        log.debug("Access token retrieval: {}", token != null ? "found (length=" + token.length() + ")" : "not found");
-        return token;
+    public RequestTokenContext getTokenContext(HttpServletRequest request) {
+        Object cached = request.getAttribute(RequestTokenContext.ATTRIBUTE);
+        if (cached instanceof RequestTokenContext context) {
+            return context;
+        }
+
+        String accessToken = null;
+        String refreshToken = null;
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                String name = cookie.getName();
+                if (accessToken == null && MEMBER_ACCESS_TOKEN_COOKIE.equals(name)) {
+                    accessToken = cookie.getValue();
+                } else if (refreshToken == null && MEMBER_REFRESH_TOKEN_COOKIE.equals(name)) {
+                    refreshToken = cookie.getValue();
+                }
+            }
+        }
+
+        String bearerToken = null;
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            bearerToken = authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+
+        RequestTokenContext context = new RequestTokenContext(
+                accessToken, refreshToken, bearerToken, cookies != null ? cookies.length : 0);
+        request.setAttribute(RequestTokenContext.ATTRIBUTE, context);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Token context parsed: cookies={}, access={}, refresh={}, bearer={}",
+                    context.getCookieCount(), context.hasAccessToken(), context.hasRefreshToken(), bearerToken != null);
+        }
+        return context;
     }
 
     /**
-     * 요청에서 Refresh Token 추출
+     * 요청에서 Access Token 추출
      */
-    public String getMemberRefreshToken(HttpServletRequest request) {
-        String token = getCookieValue(request, MEMBER_REFRESH_TOKEN_COOKIE);
-        log.debug("Refresh token retrieval: {}", token != null ? "found (length=" + token.length() + ")" : "not found");
-        return token;
+    public String getMemberAccessToken(HttpServletRequest request) {
+        return getTokenContext(request).getMemberAccessToken();
     }
 
     /**
-     * 쿠키값 추출 유틸리티
+     * 요청에서 Refresh Token 추출
      */
-    private String getCookieValue(HttpServletRequest request, String cookieName) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (cookieName.equals(cookie.getName())) {
-                    log.debug("Cookie found: name={}, value_length={}", cookieName,
-                            cookie.getValue() != null ? cookie.getValue().length() : 0);
-                    return cookie.getValue();
-                }
-            }
-        }
-        log.debug("Cookie not found: {}", cookieName);
-        return null;
+    public String getMemberRefreshToken(HttpServletRequest request) {
+        return getTokenContext(request).getMemberRefreshToken();
     }
 
     /**
@@ -292,26 +313,13 @@ public class CookieUtil {
     }
 
     /**
-     * 토큰 상태 진단
+     * 토큰 상태 진단 (요청 단위 파싱 결과 재사용)
      */
     public TokenStateInfo diagnoseTokenState(HttpServletRequest request) {
-        log.debug("Diagnosing token state");
-
-        String accessToken = getMemberAccessToken(request);
-        String refreshToken = getMemberRefreshToken(request);
-
-        boolean hasAccess = accessToken != null && !accessToken.trim().isEmpty();
-        boolean hasRefresh = refreshToken != null && !refreshToken.trim().isEmpty();
-        boolean isPartiallyBroken = (hasAccess && !hasRefresh) || (!hasAccess && hasRefresh);
-
+        TokenStateInfo state = getTokenContext(request).toTokenState();
         log.debug("Token state: hasAccess={}, hasRefresh={}, isPartiallyBroken={}",
-                hasAccess, hasRefresh, isPartiallyBroken);
-
-        return TokenStateInfo.builder()
-                .hasAccessToken(hasAccess)
-                .hasRefreshToken(hasRefresh)
-                .isPartiallyBroken(isPartiallyBroken)
-                .build();
+                state.isHasAccessToken(), state.isHasRefreshToken(), state.isPartiallyBroken());
+        return state;
     }
 
     /**
@@ -324,8 +332,10 @@ public class CookieUtil {
         request.setAttribute("newRefreshToken", newRefreshToken);
         request.setAttribute("tokenRefreshedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
 
-        log.debug("Token refresh attributes set: accessToken_length={}, refreshToken_length={}",
-                newAccessToken.length(), newRefreshToken.length());
+        if (log.isDebugEnabled()) {
+            log.debug("Token refresh attributes set: accessToken_length={}, refreshToken_length={}",
+                    newAccessToken.length(), newRefreshToken.length());
+        }
     }
 
     /**
@@ -337,18 +347,22 @@ public class CookieUtil {
     }
 
     /**
-     * 현재 쿠키 상태 로깅 (디버깅용)
+     * 현재 쿠키 상태 로깅 (디버깅용, DEBUG 비활성 시 쿠키 순회/포맷팅 없음)
      */
     public void logCookieStatus(HttpServletRequest request) {
-        log.info("=== Cookie Status Debug ===");
-        log.info("Configuration: {}", getCookieConfigInfo());
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
+        log.debug("=== Cookie Status Debug ===");
+        log.debug("Configuration: {}", getCookieConfigInfo());
 
         Cookie[] cookies = request.getCookies();
         if (cookies != null) {
-            log.info("Total cookies: {}", cookies.length);
+            log.debug("Total cookies: {}", cookies.length);
             for (Cookie cookie : cookies) {
                 if (cookie.getName().startsWith("MEMBER_")) {
-                    log.info("Member cookie: name={}, value_length={}, maxAge={}, secure={}, httpOnly={}, path={}",
+                    log.debug("Member cookie: name={}, value_length={}, maxAge={}, secure={}, httpOnly={}, path={}",
                             cookie.getName(),
                             cookie.getValue() != null ? cookie.getValue().length() : 0,
                             cookie.getMaxAge(),
@@ -358,8 +372,8 @@ public class CookieUtil {
                 }
             }
         } else {
-            log.info("No cookies found in request");
+            log.debug("No cookies found in request");
         }
-        log.info("=== End Cookie Status ===");
+        log.debug("=== End Cookie Status ===");
     }
-}
\ No newline at end of file
+}
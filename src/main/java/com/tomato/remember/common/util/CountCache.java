@@ -0,0 +1,86 @@
+package com.tomato.remember.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 화면 전체 건수(count) 단기 캐시
+ * - 페이지 이동마다 count(*) 를 다시 실행하지 않도록 검색 조건별 결과를 짧은 TTL 동안 재사용
+ * - 관리자 목록의 "전체 N건" 표시용이므로 TTL 만큼의 오차는 허용 (근사치)
+ * - 관리자 화면/가입 등 건수를 바꾸는 쓰기 경로는 evict 로 즉시 무효화하지만 캐시는 노드별이므로
+ *   다른 노드의 캐시와 evict 를 거치지 않는 변경은 TTL 이 지나야 반영됨
+ */
+@Slf4j
+@Component
+public class CountCache {
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.pagination.count-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${app.pagination.count-cache.max-entries:1000}")
+    private int maxEntries;
+
+    public long get(String key, Supplier<Long> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.value;
+        }
+
+        Long loaded = loader.get();
+        long value = loaded != null ? loaded : 0L;
+
+        if (cache.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        if (cache.size() < maxEntries) {
+            cache.put(key, new Entry(value, now + ttlSeconds * 1000));
+        }
+        return value;
+    }
+
+    /**
+     * 데이터 변경으로 건수가 확실히 바뀐 경우 prefix 단위로 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지움 (커밋 전 다른 요청이 이전 건수를 다시 캐시하지 않도록)
+     */
+    public void evict(String keyPrefix) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(keyPrefix);
+                }
+            });
+        } else {
+            evictNow(keyPrefix);
+        }
+    }
+
+    private void evictNow(String keyPrefix) {
+        cache.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+        log.debug("count 캐시 만료 항목 정리 - 남은 항목: {}", cache.size());
+    }
+
+    private static class Entry {
+
+        private final long value;
+        private final long expiresAt;
+
+        private Entry(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
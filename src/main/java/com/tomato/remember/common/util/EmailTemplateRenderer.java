@@ -0,0 +1,139 @@
+package com.tomato.remember.common.util;
+
+import jakarta.annotation.PostConstruct;
+import java.io.Writer;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * 이메일 템플릿 전용 렌더러
+ * - 화면 템플릿 캐시 설정(spring.thymeleaf.cache)과 무관하게 메일 템플릿은 항상 캐시 (파싱 1회)
+ * - 기동 시 app.mail.template.preload 목록을 미리 파싱해 첫 발송부터 캐시된 모델로 렌더링
+ * - 스레드별 StringBuilder 를 재사용해 대량 발송 시 버퍼 재할당을 줄임
+ * - 화면용 templateEngine 빈을 대체하지 않도록 빈으로 노출하지 않고 내부에서만 생성
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    private static final String PREFIX = "templates/email/";
+    private static final String SUFFIX = ".html";
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<StringBuilderWriter> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilderWriter(INITIAL_BUFFER_SIZE));
+
+    private final SpringTemplateEngine templateEngine;
+
+    @Value("${app.mail.template.preload:}")
+    private List<String> preloadTemplates;
+
+    public EmailTemplateRenderer(@Value("${app.mail.template.cache:true}") boolean cacheable) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix(PREFIX);
+        resolver.setSuffix(SUFFIX);
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cacheable);
+        // TTL 미지정 - 캐시된 템플릿은 재기동 전까지 유지
+
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(50);
+
+        this.templateEngine = new SpringTemplateEngine();
+        this.templateEngine.setTemplateResolver(resolver);
+        this.templateEngine.setCacheManager(cacheManager);
+        this.templateEngine.setEnableSpringELCompiler(true);
+    }
+
+    @PostConstruct
+    public void preload() {
+        for (String template : preloadTemplates) {
+            if (StringUtil.isEmpty(template)) {
+                continue;
+            }
+            try {
+                // 파싱 결과는 처리 전에 캐시되므로 빈 변수로 인한 렌더링 오류는 무시해도 됨
+                render(template.trim(), new Context());
+            } catch (Exception e) {
+                log.debug("이메일 템플릿 사전 렌더링 중 오류 (파싱 캐시는 유지): {} - {}", template, e.getMessage());
+            }
+        }
+        log.info("이메일 템플릿 사전 로딩 완료: {}", preloadTemplates);
+    }
+
+    /**
+     * 이메일 템플릿 렌더링 (템플릿 이름은 templates/email/ 기준, 확장자 제외)
+     */
+    public String render(String template, Context context) {
+        StringBuilderWriter writer = BUFFER.get();
+        try {
+            templateEngine.process(template, context, writer);
+            return writer.toString();
+        } finally {
+            writer.reset();
+        }
+    }
+
+    /**
+     * 동기화 없는 StringBuilder 기반 Writer (StringWriter 는 StringBuffer 사용)
+     */
+    private static class StringBuilderWriter extends Writer {
+
+        private StringBuilder builder;
+
+        private StringBuilderWriter(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str) {
+            builder.append(str);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+
+        private void reset() {
+            // 비정상적으로 커진 버퍼는 스레드에 붙잡아 두지 않음
+            if (builder.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                builder = new StringBuilder(INITIAL_BUFFER_SIZE);
+            } else {
+                builder.setLength(0);
+            }
+        }
+    }
+}
@@ -2,18 +2,25 @@ package com.tomato.remember.common.util;
 
 import com.tomato.remember.common.code.ResponseStatus;
 import com.tomato.remember.common.code.StorageCategory;
+import com.tomato.remember.common.dto.DirectUploadResponse;
 import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import com.tomato.remember.common.storage.ObjectStorage;
+import com.tomato.remember.common.storage.PresignedUpload;
+import com.tomato.remember.common.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -22,17 +29,24 @@ import java.util.List;
 import java.util.UUID;
 
 /**
- * 파일 저장 서비스 (로컬 파일 시스템) - 단순화 버전 - 프로필 이미지, 동영상, Base64 이미지 등 모든 파일 타입 지원 - 환경별 local/dev 경로 제거로 단순화
+ * 파일 저장 서비스 - 프로필 이미지, 동영상, Base64 이미지 등 모든 파일 타입 지원
+ * - 실제 저장은 ObjectStorage 구현체에 위임 (app.storage.type: local 디스크 / s3 호환 스토리지)
+ * - 반환하는 상대 경로는 스토리지 키와 동일하므로 저장소를 바꿔도 DB 값 형식은 그대로 유지
+ * - 사전 서명 직접 업로드: presign*Upload 로 URL 발급 → 클라이언트가 스토리지에 직접 PUT → complete* 로 검증/변환
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileStorageService {
 
-    @Value("${app.file.upload-dir:/uploads}")
-    private String uploadRoot;
+    private final ObjectStorage objectStorage;
+    private final VideoCallMetrics videoCallMetrics;
 
-    @Value("${app.file.base-url:http://localhost:8080}")
-    private String baseUrl;
+    @Value("${app.storage.presign-ttl-seconds:900}")
+    private long presignTtlSeconds;
+
+    @Value("${app.storage.max-direct-upload-bytes:524288000}")
+    private long maxDirectUploadBytes;
 
     // 허용된 이미지 확장자
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS = Arrays.asList(
@@ -44,9 +58,15 @@ public class FileStorageService {
         "mp4", "mov", "avi", "wmv", "mkv", "webm", "flv", "mpg", "mpeg", "m4v"
     );
 
+    // 영상통화에서 지원하는 확장자
+    private static final List<String> VIDEO_CALL_EXTENSIONS = Arrays.asList("webm", "mp4", "mov", "avi");
+
     // 최대 파일 크기 (10MB)
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    // 영상통화 녹화 최대 크기 (50MB)
+    private static final long MAX_VIDEO_CALL_FILE_SIZE = 50 * 1024 * 1024;
+
     // ===== 프로필 이미지 업로드 =====
 
     /**
@@ -63,28 +83,23 @@ public class FileStorageService {
 
         validateImageFile(file);
 
-        // 프로필 이미지 전용 경로 생성 (단순화)
+        // 프로필 이미지 전용 경로 + 파일명 생성
         String subDirectory = createProfileImagePath(memberId);
-        Path uploadPath = Paths.get(uploadRoot, subDirectory);
-        createDirectoryIfNotExists(uploadPath);
-
-        // 파일명 생성
         String fileName = generateProfileImageFileName(memberId, sortOrder, file.getOriginalFilename());
-        Path filePath = uploadPath.resolve(fileName);
+        String key = subDirectory + "/" + fileName;
 
-        try {
+        try (InputStream inputStream = file.getInputStream()) {
             // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            objectStorage.put(key, inputStream, file.getSize(), contentTypeOf(fileName));
 
-            // URL 생성 (단순화)
-            String fileUrl = generateFileUrl(subDirectory, fileName);
+            String fileUrl = objectStorage.publicUrl(key);
 
-            log.info("프로필 이미지 저장 완료 - 경로: {}, URL: {}", filePath, fileUrl);
+            log.info("프로필 이미지 저장 완료 - 키: {}, URL: {}", key, fileUrl);
 
             return fileUrl;
 
         } catch (IOException e) {
-            log.error("프로필 이미지 저장 실패 - 경로: {}", filePath, e);
+            log.error("프로필 이미지 저장 실패 - 키: {}", key, e);
             throw new APIException("파일 저장에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
         }
     }
@@ -105,7 +120,7 @@ public class FileStorageService {
         String ext = getFileExtension(file.getOriginalFilename());
         String filename = UUID.randomUUID() + "." + ext;
 
-        return storeFile(category, postId, filename, () -> file.getInputStream());
+        return storeFile(category, postId, filename, file.getSize(), () -> file.getInputStream());
     }
 
     /**
@@ -144,26 +159,62 @@ public class FileStorageService {
             throw new APIException("임시 파일 생성에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
         }
 
+        try {
+            return storeVideo(tempFile, ext, category, postId);
+        } finally {
+            // 임시 파일 정리
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * 분할 업로드로 조립된 비디오 저장 (uploadVideo 와 같은 검증/변환, 원본 파일은 호출자가 정리)
+     *
+     * @param videoFile        조립된 비디오 파일
+     * @param originalFilename 원본 파일명 (확장자 판단)
+     * @return 저장된 파일의 상대 경로
+     */
+    public String storeUploadedVideo(Path videoFile, String originalFilename, StorageCategory category, Long postId) {
+        validateVideoFileName(originalFilename);
+        return storeVideo(videoFile.toFile(), getFileExtension(originalFilename), category, postId);
+    }
+
+    /**
+     * 비디오 확장자 검증 (분할 업로드 시작 시 먼저 확인)
+     */
+    public void validateVideoFileName(String originalFilename) {
+        if (! ALLOWED_VIDEO_EXTENSIONS.contains(getFileExtension(originalFilename))) {
+            throw new APIException("지원하지 않는 비디오 형식입니다. 지원 형식: " + String.join(", ", ALLOWED_VIDEO_EXTENSIONS),
+                ResponseStatus.INVALID_FILE_TYPE);
+        }
+    }
+
+    /**
+     * 비디오 저장 - MP4 가 아니면 FFmpeg 로 변환 후 저장
+     */
+    private String storeVideo(File sourceFile, String ext, StorageCategory category, Long postId) {
         try {
             // MP4가 아닌 경우 FFmpeg로 변환
-            File finalFile;
             boolean needsConversion = ! "mp4".equals(ext);
+            String filename = UUID.randomUUID() + ".mp4";
 
             if (needsConversion) {
-                finalFile = convertToMp4(tempFile, ext);
-                String filename = UUID.randomUUID() + ".mp4";
-                String result = storeFile(category, postId, filename,
-                    () -> Files.newInputStream(finalFile.toPath()));
-
-                // 변환된 파일 정리
-                finalFile.delete();
-                log.info("비디오 변환 및 업로드 완료 - 원본: {}, 결과: {}", ext, result);
-                return result;
+                File finalFile = convertToMp4(sourceFile, ext);
+                try {
+                    String result = storeFile(category, postId, filename, finalFile.length(),
+                        () -> Files.newInputStream(finalFile.toPath()));
+                    log.info("비디오 변환 및 업로드 완료 - 원본: {}, 결과: {}", ext, result);
+                    return result;
+                } finally {
+                    // 변환된 파일 정리
+                    finalFile.delete();
+                }
             } else {
                 // MP4는 바로 업로드
-                String filename = UUID.randomUUID() + ".mp4";
-                String result = storeFile(category, postId, filename,
-                    () -> Files.newInputStream(tempFile.toPath()));
+                String result = storeFile(category, postId, filename, sourceFile.length(),
+                    () -> Files.newInputStream(sourceFile.toPath()));
 
                 log.info("비디오 업로드 완료 - 파일: {}", result);
                 return result;
@@ -171,11 +222,6 @@ public class FileStorageService {
         } catch (Exception e) {
             log.error("비디오 파일 처리 실패", e);
             throw new APIException("비디오 파일 처리에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
-        } finally {
-            // 임시 파일 정리
-            if (tempFile.exists()) {
-                tempFile.delete();
-            }
         }
     }
 
@@ -240,7 +286,8 @@ public class FileStorageService {
         }
 
         String filename = UUID.randomUUID() + "." + ext;
-        String result = storeFile(category, postId, filename, () -> new ByteArrayInputStream(decoded));
+        String result = storeFile(category, postId, filename, decoded.length,
+            () -> new ByteArrayInputStream(decoded));
 
         log.info("Base64 이미지 업로드 완료 - 파일: {}", result);
         return result;
@@ -261,22 +308,14 @@ public class FileStorageService {
         }
 
         try {
-            // URL에서 파일 경로 추출 (단순화)
-            String relativePath = extractRelativePathFromUrl(fileUrl);
-            Path filePath = Paths.get(uploadRoot, relativePath);
-
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-                log.info("파일 삭제 완료 - 경로: {}", filePath);
-
-                // 빈 디렉토리 정리 시도
-                cleanupEmptyDirectories(filePath.getParent());
-                return true;
-            } else {
-                log.warn("삭제할 파일이 존재하지 않습니다 - 경로: {}", filePath);
-                return false;
+            // URL에서 스토리지 키 추출
+            String relativePath = objectStorage.keyOf(fileUrl);
+            if (relativePath == null) {
+                throw new IllegalArgumentException("올바르지 않은 파일 URL입니다: " + fileUrl);
             }
 
+            return delete(relativePath);
+
         } catch (Exception e) {
             log.error("파일 삭제 실패 - URL: {}", fileUrl, e);
             return false;
@@ -296,17 +335,11 @@ public class FileStorageService {
         }
 
         try {
-            Path filePath = Paths.get(uploadRoot, relativePath);
-
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-                log.info("파일 삭제 완료 - 경로: {}", filePath);
-
-                // 빈 디렉토리 정리 시도
-                cleanupEmptyDirectories(filePath.getParent());
+            if (objectStorage.delete(relativePath)) {
+                log.info("파일 삭제 완료 - 경로: {}", relativePath);
                 return true;
             } else {
-                log.warn("삭제할 파일이 존재하지 않습니다 - 경로: {}", filePath);
+                log.warn("삭제할 파일이 존재하지 않습니다 - 경로: {}", relativePath);
                 return false;
             }
 
@@ -321,23 +354,17 @@ public class FileStorageService {
     /**
      * 범용 파일 저장 로직
      */
-    private String storeFile(StorageCategory category, Long postId, String filename, StreamSupplier supplier) {
+    private String storeFile(StorageCategory category, Long postId, String filename, long size,
+                             StreamSupplier supplier) {
         try {
-            // 저장 경로 생성
-            String subDirectory = createDirectoryPath(category, postId);
-            Path uploadPath = Paths.get(uploadRoot, subDirectory);
-            createDirectoryIfNotExists(uploadPath);
+            // 저장 경로(키) 생성 - 상대 경로 그대로 반환 (URL 생성용)
+            String relativePath = createDirectoryPath(category, postId) + "/" + filename;
 
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
             try (InputStream inputStream = supplier.get()) {
-                Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+                objectStorage.put(relativePath, inputStream, size, contentTypeOf(filename));
             }
 
-            // 상대 경로 반환 (URL 생성용)
-            String relativePath = subDirectory + "/" + filename;
-
-            log.info("파일 저장 완료 - 경로: {}, 상대경로: {}", filePath, relativePath);
+            log.info("파일 저장 완료 - 스토리지: {}, 상대경로: {}", objectStorage.getType(), relativePath);
             return relativePath;
 
         } catch (IOException e) {
@@ -434,80 +461,23 @@ public class FileStorageService {
     }
 
     /**
-     * 디렉토리 생성
+     * 파일명 기준 Content-Type (스토리지 메타데이터용)
      */
-    private void createDirectoryIfNotExists(Path path) throws IOException {
-        if (! Files.exists(path)) {
-            Files.createDirectories(path);
-            log.debug("디렉토리 생성: {}", path);
-        }
+    private String contentTypeOf(String filename) {
+        return MediaTypeFactory.getMediaType(filename)
+            .map(MediaType::toString)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
     }
 
     /**
-     * 파일 URL 생성 (단순화)
-     */
-    private String generateFileUrl(String subDirectory, String fileName) {
-        return String.format("%s/uploads/%s/%s", baseUrl, subDirectory, fileName);
-    }
-
-    /**
-     * 상대 경로를 절대 URL로 변환 (단순화)
+     * 상대 경로를 절대 URL로 변환 (스토리지 공개 URL)
      */
     public String toAbsoluteUrl(String relativePath) {
         if (relativePath == null || relativePath.trim().isEmpty()) {
             return null;
         }
 
-        return String.format("%s/uploads/%s", baseUrl, relativePath);
-    }
-
-    /**
-     * URL에서 상대 경로 추출 (단순화)
-     */
-    private String extractRelativePathFromUrl(String fileUrl) {
-        String uploadsPrefix = "/uploads/";
-        int index = fileUrl.indexOf(uploadsPrefix);
-
-        if (index == - 1) {
-            throw new IllegalArgumentException("올바르지 않은 파일 URL입니다: " + fileUrl);
-        }
-
-        return fileUrl.substring(index + uploadsPrefix.length());
-    }
-
-    /**
-     * 빈 디렉토리 정리 (상위 디렉토리까지 재귀적으로)
-     */
-    private void cleanupEmptyDirectories(Path directory) {
-        try {
-            if (directory == null || ! Files.exists(directory)) {
-                return;
-            }
-
-            // 디렉토리가 비어있고, 업로드 루트가 아닌 경우 삭제
-            Path uploadRootPath = Paths.get(uploadRoot);
-            if (Files.isDirectory(directory) &&
-                isDirEmpty(directory) &&
-                ! directory.equals(uploadRootPath)) {
-
-                Files.delete(directory);
-                log.debug("빈 디렉토리 삭제: {}", directory);
-
-                // 상위 디렉토리도 확인
-                cleanupEmptyDirectories(directory.getParent());
-            }
-        } catch (IOException e) {
-            log.debug("디렉토리 정리 중 오류 (무시됨): {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 디렉토리가 비어있는지 확인
-     */
-    private boolean isDirEmpty(Path directory) throws IOException {
-        try (var stream = Files.list(directory)) {
-            return ! stream.findAny().isPresent();
-        }
+        return objectStorage.publicUrl(relativePath);
     }
 
     /**
@@ -617,29 +587,221 @@ public class FileStorageService {
         }
 
         try {
-            // 저장 경로 생성 (영상통화 전용)
-            String subDirectory = createVideoCallPath(sessionId);
-            Path uploadPath = Paths.get(uploadRoot, subDirectory);
-            createDirectoryIfNotExists(uploadPath);
+            return storeVideoCallRecording(tempFile, sourceExt, sessionId);
+        } finally {
+            // 임시 파일 정리
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    // ===== 사전 서명 직접 업로드 =====
+
+    /**
+     * 직접 업로드 지원 여부 (스토리지가 사전 서명 PUT 을 지원할 때만 true)
+     */
+    public boolean supportsDirectUpload() {
+        return objectStorage.supportsPresignedUpload();
+    }
+
+    /**
+     * 비디오 직접 업로드 URL 발급 (스토리지가 지원하지 않으면 direct=false → multipart 업로드로 폴백)
+     *
+     * @param category 파일 카테고리
+     * @param postId   게시물 ID (메모리얼은 회원 ID)
+     * @param fileName 원본 파일명 (확장자 검증)
+     * @param size     업로드할 크기 (서명에 포함)
+     */
+    public DirectUploadResponse presignVideoUpload(StorageCategory category, Long postId, String fileName, long size) {
+        if (! supportsDirectUpload()) {
+            return DirectUploadResponse.unsupported();
+        }
+
+        String ext = getFileExtension(fileName);
+        if (! ALLOWED_VIDEO_EXTENSIONS.contains(ext)) {
+            throw new APIException("지원하지 않는 비디오 형식입니다. 지원 형식: " + String.join(", ", ALLOWED_VIDEO_EXTENSIONS),
+                ResponseStatus.INVALID_FILE_TYPE);
+        }
+        if (size > maxDirectUploadBytes) {
+            throw new APIException("파일 크기는 " + formatFileSize(maxDirectUploadBytes) + " 이하여야 합니다.",
+                ResponseStatus.FILE_SIZE_EXCEEDED);
+        }
+
+        String key = newUploadKey(category, postId, fileName);
+        log.info("비디오 직접 업로드 URL 발급 - 키: {}, 크기: {}", key, formatFileSize(size));
+        return DirectUploadResponse.of(key, presignUpload(key, size));
+    }
+
+    /**
+     * 영상통화 녹화 직접 업로드 URL 발급 (검증 기준은 multipart 녹화 업로드와 동일)
+     */
+    public DirectUploadResponse presignVideoCallUpload(String sessionId, String fileName, long size) {
+        if (! supportsDirectUpload()) {
+            return DirectUploadResponse.unsupported();
+        }
+
+        validateVideoCallUpload(size, getFileExtension(fileName));
+
+        String key = newVideoCallUploadKey(sessionId, fileName);
+        log.info("영상통화 녹화 직접 업로드 URL 발급 - 세션: {}, 키: {}", sessionId, key);
+        return DirectUploadResponse.of(key, presignUpload(key, size));
+    }
+
+    /**
+     * 직접 업로드용 키 생성 (카테고리별 경로 규칙은 multipart 업로드와 동일)
+     */
+    private String newUploadKey(StorageCategory category, Long postId, String originalFilename) {
+        return createDirectoryPath(category, postId) + "/" + UUID.randomUUID() + "." + getFileExtension(originalFilename);
+    }
+
+    /**
+     * 영상통화 녹화 원본 직접 업로드용 키 생성 (변환 전 원본, 완료 처리 후 삭제)
+     */
+    private String newVideoCallUploadKey(String sessionId, String originalFilename) {
+        return createVideoCallPath(sessionId) + "/upload_" + UUID.randomUUID() + "." + getFileExtension(originalFilename);
+    }
+
+    /**
+     * 완료 통지로 받은 키가 해당 카테고리/게시물용으로 발급된 키인지 확인 (category/yyyy/MM/{postId}/파일)
+     */
+    public boolean isUploadKeyOf(String key, StorageCategory category, Long postId) {
+        String[] parts = key == null || key.contains("..") ? new String[0] : key.split("/");
+        return parts.length == 5 && parts[0].equals(category.getFolder()) && parts[3].equals(String.valueOf(postId));
+    }
+
+    /**
+     * 완료 통지로 받은 키가 해당 세션의 녹화 원본 키인지 확인 (videocall/yyyy/MM/dd/{sessionId}/upload_*)
+     */
+    public boolean isVideoCallUploadKeyOf(String key, String sessionId) {
+        String[] parts = key == null || key.contains("..") ? new String[0] : key.split("/");
+        return parts.length == 6 && parts[0].equals(StorageCategory.VIDEO_CALL.getFolder())
+            && parts[4].equals(sessionId) && parts[5].startsWith("upload_");
+    }
+
+    /**
+     * 사전 서명 PUT URL 발급
+     */
+    private PresignedUpload presignUpload(String key, long size) {
+        return objectStorage.presignPut(key, contentTypeOf(key), size, Duration.ofSeconds(presignTtlSeconds));
+    }
+
+    /**
+     * 직접 업로드된 객체 조회 - 업로드가 끝나지 않았으면 FILE_NOT_FOUND
+     */
+    public StoredObject getUploadedObject(String key) {
+        return objectStorage.stat(key)
+            .orElseThrow(() -> new APIException("업로드된 파일을 찾을 수 없습니다.", ResponseStatus.FILE_NOT_FOUND));
+    }
+
+    /**
+     * 직접 업로드된 비디오 완료 처리 - MP4 는 그대로 사용, 그 외 형식은 MP4 로 변환 후 원본 삭제
+     *
+     * @param key 직접 업로드된 객체 키
+     * @return 최종 파일의 상대 경로
+     */
+    public String completeVideoUpload(String key) {
+        StoredObject uploaded = getUploadedObject(key);
+        String ext = getFileExtension(key);
+        if (! ALLOWED_VIDEO_EXTENSIONS.contains(ext)) {
+            throw new APIException("지원하지 않는 비디오 형식입니다. 지원 형식: " + String.join(", ", ALLOWED_VIDEO_EXTENSIONS),
+                ResponseStatus.INVALID_FILE_TYPE);
+        }
+        if ("mp4".equals(ext)) {
+            log.info("비디오 직접 업로드 완료 - 파일: {} ({})", key, formatFileSize(uploaded.size()));
+            return key;
+        }
+
+        File tempFile = null;
+        File converted = null;
+        try {
+            tempFile = File.createTempFile("upload-", "." + ext);
+            objectStorage.download(key, tempFile.toPath());
+            converted = convertToMp4(tempFile, ext);
+
+            String relativePath = key.substring(0, key.lastIndexOf('/') + 1) + UUID.randomUUID() + ".mp4";
+            objectStorage.put(relativePath, converted.toPath(), contentTypeOf(relativePath));
+            objectStorage.delete(key);
+
+            log.info("비디오 직접 업로드 변환 완료 - 원본: {}, 결과: {}", key, relativePath);
+            return relativePath;
+        } catch (IOException e) {
+            log.error("직접 업로드 비디오 처리 실패 - 키: {}", key, e);
+            throw new APIException("비디오 파일 처리에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
+        } finally {
+            deleteQuietly(tempFile);
+            deleteQuietly(converted);
+        }
+    }
+
+    /**
+     * 직접 업로드된 영상통화 녹화 원본 완료 처리 (multipart 업로드와 같은 검증/변환 후 원본 삭제)
+     *
+     * @param key       직접 업로드된 원본 객체 키
+     * @param sessionId 세션 ID
+     * @return 변환된 파일의 상대 경로
+     */
+    public String completeVideoCallRecording(String key, String sessionId) {
+        StoredObject uploaded = getUploadedObject(key);
+        String sourceExt = getFileExtension(key);
+        validateVideoCallUpload(uploaded.size(), sourceExt);
+
+        File tempFile;
+        try {
+            tempFile = File.createTempFile("videocall-", "." + sourceExt);
+            objectStorage.download(key, tempFile.toPath());
+        } catch (IOException e) {
+            log.error("녹화 원본 다운로드 실패 - 키: {}", key, e);
+            throw new APIException("임시 파일 생성에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
+        }
+
+        try {
+            String relativePath = storeVideoCallRecording(tempFile, sourceExt, sessionId);
+            objectStorage.delete(key);
+            return relativePath;
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * 분할 업로드로 조립된 영상통화 녹화 파일 변환 및 저장 (원본 파일은 호출자가 정리)
+     */
+    public String storeVideoCallRecording(Path recordingFile, String originalFilename, String sessionId) {
+        return storeVideoCallRecording(recordingFile.toFile(), getFileExtension(originalFilename), sessionId);
+    }
 
-            // 파일명 생성
-            String outputFileName = generateVideoCallFileName(sessionId);
-            Path finalPath = uploadPath.resolve(outputFileName);
+    /**
+     * 영상통화 녹화 업로드 시작 전 검증 (분할 업로드 시작 시 크기/형식을 먼저 확인)
+     */
+    public void validateVideoCallRecording(long size, String originalFilename) {
+        validateVideoCallUpload(size, getFileExtension(originalFilename));
+    }
+
+    /**
+     * 영상통화 녹화 파일 변환 및 저장 (WebM 은 FPS 보정, 그 외 형식은 MP4 변환, MP4 는 그대로)
+     */
+    private String storeVideoCallRecording(File sourceFile, String sourceExt, String sessionId) {
+        File converted = null;
+        try {
+            // 저장 경로(키) 생성 (영상통화 전용)
+            String relativePath = createVideoCallPath(sessionId) + "/" + generateVideoCallFileName(sessionId);
 
             // 변환 처리
+            File finalFile = sourceFile;
             if ("webm".equals(sourceExt)) {
                 // WebM -> MP4 (FPS 보정 포함)
-                convertWebMToMp4WithFpsCorrection(tempFile, finalPath.toFile());
+                converted = File.createTempFile("videocall-", ".mp4");
+                convertWebMToMp4WithFpsCorrection(sourceFile, converted);
+                finalFile = converted;
             } else if (! "mp4".equals(sourceExt)) {
                 // 기타 형식 -> MP4
-                convertVideoToMp4(tempFile, finalPath.toFile());
-            } else {
-                // MP4는 그대로 복사
-                Files.copy(tempFile.toPath(), finalPath, StandardCopyOption.REPLACE_EXISTING);
+                converted = File.createTempFile("videocall-", ".mp4");
+                convertVideoToMp4(sourceFile, converted);
+                finalFile = converted;
             }
 
-            // 상대 경로 반환
-            String relativePath = subDirectory + "/" + outputFileName;
+            objectStorage.put(relativePath, finalFile.toPath(), contentTypeOf(relativePath));
             log.info("영상통화 녹화 파일 변환 완료 - 결과: {}", relativePath);
 
             return relativePath;
@@ -648,10 +810,13 @@ public class FileStorageService {
             log.error("영상통화 비디오 처리 실패", e);
             throw new APIException("비디오 파일 처리에 실패했습니다.", ResponseStatus.FILE_UPLOAD_FAILED);
         } finally {
-            // 임시 파일 정리
-            if (tempFile.exists()) {
-                tempFile.delete();
-            }
+            deleteQuietly(converted);
+        }
+    }
+
+    private void deleteQuietly(File file) {
+        if (file != null && file.exists()) {
+            file.delete();
         }
     }
 
@@ -681,7 +846,7 @@ public class FileStorageService {
                 outputFile.getAbsolutePath()
             );
 
-            executeFFmpegProcess(pb, "WebM to MP4 변환");
+            executeFFmpegProcess(pb, "WebM to MP4 변환", "webm_to_mp4");
 
         } catch (Exception e) {
             log.error("WebM 변환 실패", e);
@@ -704,7 +869,7 @@ public class FileStorageService {
                 outputFile.getAbsolutePath()
             );
 
-            executeFFmpegProcess(pb, "비디오 to MP4 변환");
+            executeFFmpegProcess(pb, "비디오 to MP4 변환", "video_to_mp4");
 
         } catch (Exception e) {
             log.error("비디오 변환 실패", e);
@@ -716,6 +881,8 @@ public class FileStorageService {
      * 비디오 파일의 FPS 감지
      */
     private double detectVideoFps(File videoFile) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
         try {
             ProcessBuilder pb = new ProcessBuilder(
                 "ffprobe", "-v", "quiet",
@@ -740,6 +907,7 @@ public class FileStorageService {
                 log.warn("FPS 감지 실패, 기본값 사용");
                 return 30.0; // 기본값
             }
+            success = true;
 
             String fpsString = output.toString().trim();
             if (fpsString.contains("/")) {
@@ -755,6 +923,8 @@ public class FileStorageService {
         } catch (Exception e) {
             log.warn("FPS 감지 중 오류, 기본값 사용: {}", e.getMessage());
             return 30.0; // 기본값
+        } finally {
+            videoCallMetrics.recordFfmpeg("probe_fps", startNanos, success);
         }
     }
 
@@ -778,8 +948,22 @@ public class FileStorageService {
 
     /**
      * FFmpeg 프로세스 실행 공통 로직
+     *
+     * @param metricTask 실행 시간 지표(video.ffmpeg.duration) task 태그
      */
-    private void executeFFmpegProcess(ProcessBuilder pb, String taskName) throws IOException, InterruptedException {
+    private void executeFFmpegProcess(ProcessBuilder pb, String taskName, String metricTask)
+        throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            runFFmpegProcess(pb, taskName);
+            success = true;
+        } finally {
+            videoCallMetrics.recordFfmpeg(metricTask, startNanos, success);
+        }
+    }
+
+    private void runFFmpegProcess(ProcessBuilder pb, String taskName) throws IOException, InterruptedException {
         Process process = pb.redirectErrorStream(true).start();
 
         // FFmpeg 출력 로깅 (에러 디버깅용)
@@ -810,24 +994,27 @@ public class FileStorageService {
             throw new APIException("녹화 파일을 선택해주세요.", ResponseStatus.FILE_EMPTY);
         }
 
-        // 영상통화 파일 크기 제한 (50MB)
-        long maxSize = 50 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
-            throw new APIException("녹화 파일 크기는 50MB 이하여야 합니다.", ResponseStatus.FILE_SIZE_EXCEEDED);
-        }
-
         String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new APIException("올바르지 않은 파일명입니다.", ResponseStatus.BAD_REQUEST);
         }
 
-        // 영상통화에서 지원하는 확장자 (WebM, MP4, MOV 등)
-        String ext = getFileExtension(originalFilename);
-        List<String> allowedExts = Arrays.asList("webm", "mp4", "mov", "avi");
+        validateVideoCallUpload(file.getSize(), getFileExtension(originalFilename));
+    }
 
-        if (! allowedExts.contains(ext)) {
+    /**
+     * 영상통화 녹화 크기/형식 검증 (multipart 업로드와 직접 업로드 공통)
+     */
+    private void validateVideoCallUpload(long size, String ext) {
+        // 영상통화 파일 크기 제한 (50MB)
+        if (size > MAX_VIDEO_CALL_FILE_SIZE) {
+            throw new APIException("녹화 파일 크기는 50MB 이하여야 합니다.", ResponseStatus.FILE_SIZE_EXCEEDED);
+        }
+
+        // 영상통화에서 지원하는 확장자 (WebM, MP4, MOV 등)
+        if (! VIDEO_CALL_EXTENSIONS.contains(ext)) {
             throw new APIException("지원하지 않는 비디오 형식입니다. 지원 형식: " +
-                String.join(", ", allowedExts), ResponseStatus.INVALID_FILE_TYPE);
+                String.join(", ", VIDEO_CALL_EXTENSIONS), ResponseStatus.INVALID_FILE_TYPE);
         }
     }
 
@@ -0,0 +1,280 @@
+package com.tomato.remember.common.util;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+/**
+ * SSR 화면 렌더링 결과 캐시
+ * - 페이지 캐시: 비로그인 요청은 렌더링된 HTML 전체를 재사용 (모델 구성/템플릿 처리 생략, ETag 로 304 응답)
+ * - 프래그먼트 캐시: 로그인 화면은 사용자별 영역만 매번 렌더링하고 정적 영역은 템플릿에서
+ *   {@code th:utext="${@pageRenderCache.fragment('fragments/...', 'name')}"} 로 캐시된 HTML 을 삽입
+ * - 캐시 키: 템플릿 버전 + 로케일 + 뷰(프래그먼트) 이름 (+ 페이지는 요청 경로)
+ * - 무효화는 명시적으로만 수행 (배포 시 템플릿 버전 변경, 관리자 API, 콘텐츠 변경 시 evict 호출). TTL 은 안전장치
+ */
+@Slf4j
+@Component
+public class PageRenderCache {
+
+    // CookieUtil 이 토큰 재발급 시 설정하는 요청 속성 - 응답마다 값이 다르므로 캐시하면 안 됨
+    private static final String NEW_ACCESS_TOKEN_ATTRIBUTE = "newAccessToken";
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final ThymeleafViewResolver viewResolver;
+    private final SpringTemplateEngine templateEngine;
+    private final JakartaServletWebApplication webApplication;
+
+    private final Map<String, CachedPage> pages = new ConcurrentHashMap<>();
+    private final Map<String, CachedFragment> fragments = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.render-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.render-cache.template-version:dev}")
+    private String templateVersion;
+
+    @Value("${app.render-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${app.render-cache.max-entries:500}")
+    private int maxEntries;
+
+    public PageRenderCache(ThymeleafViewResolver viewResolver,
+                           SpringTemplateEngine templateEngine,
+                           ServletContext servletContext) {
+        this.viewResolver = viewResolver;
+        this.templateEngine = templateEngine;
+        this.webApplication = JakartaServletWebApplication.buildApplication(servletContext);
+    }
+
+    /**
+     * 페이지 렌더링 뷰 생성
+     *
+     * @param viewName     템플릿 이름
+     * @param locale       요청 로케일
+     * @param cacheable    전체 페이지 캐시 여부 (비로그인 요청만 true)
+     * @param modelBuilder 모델 구성 - 캐시 적중 시 호출되지 않음
+     */
+    public View page(String viewName, Locale locale, boolean cacheable, Consumer<Model> modelBuilder) {
+        return new CachedPageView(viewName, locale, cacheable, modelBuilder);
+    }
+
+    /**
+     * 정적 프래그먼트 렌더링 결과 (템플릿에서 th:utext 로 사용)
+     * 프래그먼트는 모델 변수 없이 렌더링되므로 사용자별 값이 들어가면 안 됨
+     */
+    public String fragment(String template, String selector) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String key = key(template + "::" + selector, locale);
+        long now = System.currentTimeMillis();
+
+        CachedFragment cached = enabled ? fragments.get(key) : null;
+        if (cached != null && cached.expiresAt > now) {
+            return cached.html;
+        }
+
+        long renderGeneration = generation.get();
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        WebContext context = new WebContext(
+            webApplication.buildExchange(attributes.getRequest(), attributes.getResponse()), locale);
+        String html = templateEngine.process(template, Set.of(selector), context);
+
+        if (enabled) {
+            store(fragments, key, new CachedFragment(html, now + ttlSeconds * 1000), renderGeneration);
+        }
+        return html;
+    }
+
+    /**
+     * 특정 뷰의 캐시 무효화 (해당 뷰 이름으로 시작하는 페이지/프래그먼트 전체)
+     */
+    public int evict(String viewNamePrefix) {
+        int before = pages.size() + fragments.size();
+        generation.incrementAndGet();
+        pages.keySet().removeIf(key -> viewName(key).startsWith(viewNamePrefix));
+        fragments.keySet().removeIf(key -> viewName(key).startsWith(viewNamePrefix));
+        int evicted = before - (pages.size() + fragments.size());
+        log.info("렌더링 캐시 무효화 - prefix: {}, 제거: {}", viewNamePrefix, evicted);
+        return evicted;
+    }
+
+    /**
+     * 렌더링 캐시 전체 무효화
+     */
+    public int evictAll() {
+        int evicted = pages.size() + fragments.size();
+        generation.incrementAndGet();
+        pages.clear();
+        fragments.clear();
+        log.info("렌더링 캐시 전체 무효화 - 제거: {}", evicted);
+        return evicted;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("templateVersion", templateVersion);
+        stats.put("pages", pages.size());
+        stats.put("fragments", fragments.size());
+        stats.put("generation", generation.get());
+        return stats;
+    }
+
+    private String key(String viewName, Locale locale) {
+        return templateVersion + "|" + locale.toLanguageTag() + "|" + viewName;
+    }
+
+    private static String viewName(String key) {
+        return key.substring(key.indexOf('|', key.indexOf('|') + 1) + 1);
+    }
+
+    /**
+     * 렌더링 도중 무효화가 일어났으면 저장하지 않음 (무효화 이전 내용이 다시 캐시되는 것 방지)
+     */
+    private <V> void store(Map<String, V> cache, String key, V value, long renderGeneration) {
+        if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+            log.debug("렌더링 캐시 최대 항목 수 도달 - 저장 생략: {}", key);
+            return;
+        }
+        if (renderGeneration == generation.get()) {
+            cache.put(key, value);
+        }
+    }
+
+    private final class CachedPageView implements View {
+
+        private final String viewName;
+        private final Locale locale;
+        private final boolean cacheable;
+        private final Consumer<Model> modelBuilder;
+
+        private CachedPageView(String viewName, Locale locale, boolean cacheable, Consumer<Model> modelBuilder) {
+            this.viewName = viewName;
+            this.locale = locale;
+            this.cacheable = cacheable;
+            this.modelBuilder = modelBuilder;
+        }
+
+        @Override
+        public String getContentType() {
+            return viewResolver.getContentType();
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response)
+            throws Exception {
+            if (!enabled || !cacheable || request.getAttribute(NEW_ACCESS_TOKEN_ATTRIBUTE) != null) {
+                renderLive(model, request, response);
+                return;
+            }
+
+            // 같은 템플릿을 다른 제목으로 쓰는 경로가 있어 요청 경로까지 키에 포함
+            String key = key(viewName + "@" + request.getRequestURI(), locale);
+            long now = System.currentTimeMillis();
+            CachedPage cached = pages.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                write(cached, request, response);
+                return;
+            }
+
+            long renderGeneration = generation.get();
+            ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+            renderLive(model, request, buffer);
+
+            if (buffer.getStatus() != HttpStatus.OK.value()) {
+                buffer.copyBodyToResponse();
+                return;
+            }
+
+            byte[] body = buffer.getContentAsByteArray();
+            CachedPage page = new CachedPage(body, buffer.getContentType(),
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"", now + ttlSeconds * 1000);
+            store(pages, key, page, renderGeneration);
+            log.debug("페이지 렌더링 캐시 저장 - {} ({} bytes)", key, body.length);
+
+            // 버퍼에 쌓인 본문은 버리고 캐시 항목 기준으로 응답 (ETag/Cache-Control 일관성)
+            buffer.resetBuffer();
+            write(page, request, response);
+        }
+
+        private void renderLive(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response)
+            throws Exception {
+            Model pageModel = new ExtendedModelMap();
+            if (model != null) {
+                pageModel.addAllAttributes(model);
+            }
+            modelBuilder.accept(pageModel);
+
+            View view = viewResolver.resolveViewName(viewName, locale);
+            if (view == null) {
+                throw new IllegalStateException("Thymeleaf 뷰를 찾을 수 없습니다: " + viewName);
+            }
+            view.render(pageModel.asMap(), request, response);
+        }
+
+        private void write(CachedPage page, HttpServletRequest request, HttpServletResponse response)
+            throws Exception {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            if (new ServletWebRequest(request, response).checkNotModified(page.etag)) {
+                return;
+            }
+            if (page.contentType != null) {
+                response.setContentType(page.contentType);
+            }
+            response.setContentLength(page.body.length);
+            response.getOutputStream().write(page.body);
+        }
+    }
+
+    private static class CachedPage {
+
+        private final byte[] body;
+        private final String contentType;
+        private final String etag;
+        private final long expiresAt;
+
+        private CachedPage(byte[] body, String contentType, String etag, long expiresAt) {
+            this.body = body;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CachedFragment {
+
+        private final String html;
+        private final long expiresAt;
+
+        private CachedFragment(String html, long expiresAt) {
+            this.html = html;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
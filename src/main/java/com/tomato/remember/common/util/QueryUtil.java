@@ -2,8 +2,12 @@ package com.tomato.remember.common.util;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
+import com.tomato.remember.common.dto.KeysetCursor;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -53,6 +57,42 @@ public class QueryUtil {
     return paging(jpaQuery, pageable).orderBy(convertOrders(pageable.getSort(), jpaQuery.getType()));
   }
 
+  /**
+   * Keyset(seek) 페이징: 커서 이후의 행만 조회하는 조건
+   * (createdAt, id) 복합 정렬 기준으로 동일 createdAt 행은 id 로 구분
+   * 커서가 없으면 첫 페이지이므로 null (where 절에서 무시됨)
+   */
+  public static BooleanExpression keysetAfter(DateTimePath<LocalDateTime> createdAt,
+      NumberPath<Long> id, Order direction, KeysetCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    if (direction == Order.ASC) {
+      return createdAt.gt(cursor.getCreatedAt())
+          .or(createdAt.eq(cursor.getCreatedAt()).and(id.gt(cursor.getId())));
+    }
+    return createdAt.lt(cursor.getCreatedAt())
+        .or(createdAt.eq(cursor.getCreatedAt()).and(id.lt(cursor.getId())));
+  }
+
+  /**
+   * Keyset 페이징용 정렬: 커서 조건과 동일한 (createdAt, id) 순서
+   */
+  public static OrderSpecifier<?>[] keysetOrders(DateTimePath<LocalDateTime> createdAt,
+      NumberPath<Long> id, Order direction) {
+    return new OrderSpecifier<?>[]{
+        new OrderSpecifier<>(direction, createdAt),
+        new OrderSpecifier<>(direction, id)
+    };
+  }
+
+  /**
+   * Keyset 페이징: 다음 페이지 존재 여부 확인을 위해 pageSize + 1 건 조회
+   */
+  public static <T> JPAQuery<T> keysetLimit(JPAQuery<T> jpaQuery, Pageable pageable) {
+    return jpaQuery.limit(pageable.getPageSize() + 1L);
+  }
+
   /**
    *
    * Spring Data Sort → QueryDSL OrderSpecifier 변환
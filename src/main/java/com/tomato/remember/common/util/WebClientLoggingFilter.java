@@ -1,66 +1,148 @@
 // src/main/java/com/tomato/naraclub/common/util/WebClientLoggingFilter.java
 package com.tomato.remember.common.util;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.reactive.function.client.ClientResponse;
+import org.slf4j.MDC;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * WebClient 요청/응답 로깅 필터
+ * - DEBUG 가 꺼져 있으면 요청을 그대로 통과시키고 응답 바디도 건드리지 않음 (버퍼링/복사 없음)
+ * - DEBUG 여부는 호출 시점에 판단하므로 SampledDebugTurboFilter 로 샘플링된 요청도 함께 기록됨
+ * - 응답 바디는 통째로 읽지 않고 흘러가는 버퍼에서 앞부분만 잘라 미리보기로 기록
+ */
 public class WebClientLoggingFilter {
 
     private static final Logger log = LoggerFactory.getLogger(WebClientLoggingFilter.class);
 
+    private static final int DEFAULT_MAX_PREVIEW_BYTES = 2048;
+
+    /**
+     * 조건부 교환 로깅 (요청 메타데이터 + 응답 상태/헤더 + 크기 제한 바디 미리보기)
+     *
+     * @param sampleRate      DEBUG 가 켜진 상태에서 기록할 비율 (0.0 ~ 1.0)
+     * @param maxPreviewBytes 응답 바디 미리보기 최대 바이트 (0 이하면 바디는 기록하지 않음)
+     */
+    public static ExchangeFilterFunction logExchange(double sampleRate, int maxPreviewBytes) {
+        return (request, next) -> {
+            if (!log.isDebugEnabled() || !isSampled(sampleRate)) {
+                return next.exchange(request);
+            }
+
+            // 응답 콜백은 다른 스레드에서 실행되므로 요청 시점 MDC 를 들고 감
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            long startNanos = System.nanoTime();
+            logRequestMetadata(request);
+
+            return next.exchange(request).map(response -> {
+                long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+                withMdc(mdc, () -> log.debug("[WebClient][Response] {} {} -> {} ({}ms)",
+                    request.method(), request.url(), response.statusCode().value(), elapsedMs));
+
+                if (maxPreviewBytes <= 0) {
+                    return response;
+                }
+                return response.mutate()
+                    .body(body -> previewBody(body, maxPreviewBytes, request, mdc))
+                    .build();
+            });
+        };
+    }
+
     /** 요청(Request) 메타데이터(메서드·URL·헤더) 로깅 */
     public static ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(request -> {
-            log.debug("[WebClient][Request] {} {}", request.method(), request.url());
-            request.headers()
-                   .forEach((name, values) ->
-                       values.forEach(v -> log.debug("[WebClient][Request] {}={}", name, v))
-                   );
+            if (log.isDebugEnabled()) {
+                logRequestMetadata(request);
+            }
             return Mono.just(request);
         });
     }
 
-    /** 응답(Response) 메타데이터(상태·헤더) 로깅 */
+    /**
+     * 응답(Response) 바디 로깅 - 기본 크기 제한 미리보기
+     *
+     * @deprecated {@link #logExchange(double, int)} 사용
+     */
+    @Deprecated
     public static ExchangeFilterFunction logResponseBody() {
-        return ExchangeFilterFunction.ofResponseProcessor(response ->
-            response.bodyToMono(String.class)
-                    .defaultIfEmpty("")                   // 빈 바디도 대비
-                    .flatMap(body -> {
-                        log.debug("[WebClient][Response][Body] {}", body);
-
-                        // 바디를 재사용할 수 있도록, 새로운 ClientResponse 생성
-                        ClientResponse copy = ClientResponse.create(response.statusCode())
-                            .headers(headers -> headers.addAll(response.headers().asHttpHeaders()))
-                            .body(body)
-                            .build();
-
-                        return Mono.just(copy);
-                    })
-        );
+        return (request, next) -> {
+            if (!log.isDebugEnabled()) {
+                return next.exchange(request);
+            }
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return next.exchange(request).map(response -> response.mutate()
+                .body(body -> previewBody(body, DEFAULT_MAX_PREVIEW_BYTES, request, mdc))
+                .build());
+        };
+    }
+
+    private static void logRequestMetadata(ClientRequest request) {
+        log.debug("[WebClient][Request] {} {}", request.method(), request.url());
+        request.headers()
+               .forEach((name, values) ->
+                   values.forEach(v -> log.debug("[WebClient][Request] {}={}", name, v))
+               );
     }
 
     /**
-     * (선택) 응답 바디까지 보고 싶다면 주석 해제하고 사용하세요.
-     * 주의: 바디를 읽으면 스트림이 소모되므로, 이후 다시 읽을 수 있도록
-     * 새 ClientResponse를 만들어야 합니다.
+     * 바디 스트림을 그대로 흘려보내면서 앞부분만 복사 (읽기 위치를 바꾸지 않으므로 다운스트림은 원본을 그대로 소비)
      */
-    /*
-    public static ExchangeFilterFunction logResponseBody() {
-        return ExchangeFilterFunction.ofResponseProcessor(resp -> 
-            resp.bodyToMono(String.class)
-                .flatMap(body -> {
-                    log.debug("[WebClient][Response][Body] {}", body);
-                    return Mono.just(
-                        ClientResponse.create(resp.statusCode())
-                                      .headers(h -> h.addAll(resp.headers().asHttpHeaders()))
-                                      .body(body)
-                                      .build()
-                    );
-                })
-        );
+    private static Flux<DataBuffer> previewBody(Flux<DataBuffer> body, int maxPreviewBytes,
+                                                ClientRequest request, Map<String, String> mdc) {
+        ByteArrayOutputStream preview = new ByteArrayOutputStream(Math.min(maxPreviewBytes, 512));
+        AtomicLong totalBytes = new AtomicLong();
+
+        return body
+            .doOnNext(buffer -> {
+                int readable = buffer.readableByteCount();
+                totalBytes.addAndGet(readable);
+
+                int remaining = maxPreviewBytes - preview.size();
+                int start = buffer.readPosition();
+                for (int i = 0; i < Math.min(remaining, readable); i++) {
+                    preview.write(buffer.getByte(start + i));
+                }
+            })
+            .doOnComplete(() -> withMdc(mdc, () -> {
+                long total = totalBytes.get();
+                String text = preview.toString(StandardCharsets.UTF_8);
+                if (total > preview.size()) {
+                    log.debug("[WebClient][Response][Body] {} {} (truncated, {} of {} bytes)",
+                        request.url(), text, preview.size(), total);
+                } else {
+                    log.debug("[WebClient][Response][Body] {} {}", request.url(), text);
+                }
+            }));
+    }
+
+    private static boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static void withMdc(Map<String, String> mdc, Runnable logging) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            logging.run();
+        } finally {
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
+        }
     }
-    */
 }
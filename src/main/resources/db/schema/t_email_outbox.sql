@@ -0,0 +1,25 @@
+-- =======================================================
+-- 이메일 발송 대기열 (EmailOutbox)
+-- 운영(ddl-auto: validate)은 스키마를 만들지 않으므로 배포 전 적용
+-- =======================================================
+CREATE TABLE IF NOT EXISTS t_email_outbox (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    created_by      BIGINT        NULL COMMENT '등록자',
+    created_at      DATETIME(6)   NULL COMMENT '등록일시',
+    updated_by      BIGINT        NULL COMMENT '수정자',
+    updated_at      DATETIME(6)   NULL COMMENT '수정일시',
+    mail_type       VARCHAR(30)   NOT NULL COMMENT '메일 유형 (예: FAMILY_INVITE)',
+    reference_id    BIGINT        NULL COMMENT '연관 데이터 식별자 (예: 초대 토큰 ID)',
+    recipient       VARCHAR(100)  NOT NULL COMMENT '수신자 이메일',
+    subject         VARCHAR(300)  NOT NULL COMMENT '메일 제목',
+    html_content    LONGTEXT      NOT NULL COMMENT '메일 본문 (HTML)',
+    status          VARCHAR(20)   NOT NULL COMMENT '발송 상태',
+    attempts        INT           NOT NULL COMMENT '발송 시도 횟수',
+    next_attempt_at DATETIME(6)   NOT NULL COMMENT '다음 발송 시도 가능 시각',
+    claim_token     VARCHAR(40)   NULL COMMENT '발송 선점 토큰 (다중 인스턴스 중복 발송 방지)',
+    last_error      VARCHAR(500)  NULL COMMENT '마지막 오류 메시지',
+    sent_at         DATETIME(6)   NULL COMMENT '발송 완료 일시',
+    PRIMARY KEY (id),
+    KEY idx01_t_email_outbox (status, next_attempt_at),
+    KEY idx02_t_email_outbox (claim_token)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,11 @@
+-- =======================================================
+-- 회원 AI 프로필 이미지 - 얼굴 인식 결과 반영 일시 (FaceDetectionService 누락 작업 재등록 기준)
+-- 운영(ddl-auto: validate)은 스키마를 만들지 않으므로 배포 전 적용
+-- =======================================================
+ALTER TABLE t_member_ai_profile_image
+    ADD COLUMN face_checked_at DATETIME(6) NULL COMMENT '얼굴 인식 결과 반영 일시 (NULL 이면 아직 인식 전 - 누락 작업 재등록 기준)';
+
+CREATE INDEX idx03_t_member_ai_profile_image ON t_member_ai_profile_image (face_checked_at, created_at);
+
+-- 기존 행은 처리 여부를 알 수 없으므로 반영된 것으로 간주 (배포 직후 전체 재인식 요청 폭주 방지)
+UPDATE t_member_ai_profile_image SET face_checked_at = COALESCE(updated_at, created_at, NOW(6)) WHERE face_checked_at IS NULL;
@@ -0,0 +1,44 @@
+-- =======================================================
+-- 영상통화 사전 집계 (VideoCallStatsRollup)
+-- 운영(ddl-auto: validate)은 스키마를 만들지 않으므로 배포 전 적용
+-- uk01 은 증분 upsert(ON DUPLICATE KEY UPDATE)의 충돌 키이므로 반드시 함께 생성
+-- 최초 적재: POST /admin/api/stats/video-calls/rebuild
+-- =======================================================
+CREATE TABLE IF NOT EXISTS t_video_call_stats_rollup (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    created_by             BIGINT       NULL COMMENT '등록자',
+    created_at             DATETIME(6)  NULL COMMENT '등록일시',
+    updated_by             BIGINT       NULL COMMENT '수정자',
+    updated_at             DATETIME(6)  NULL COMMENT '수정일시',
+    granularity            VARCHAR(10)  NOT NULL COMMENT '집계 단위',
+    bucket_start           DATETIME(6)  NOT NULL COMMENT '버킷 시작 시각',
+    memorial_id            BIGINT       NOT NULL COMMENT '메모리얼 ID',
+    caller_id              BIGINT       NOT NULL COMMENT '발신자 ID',
+    call_type              VARCHAR(20)  NOT NULL COMMENT '통화 유형',
+    device_type            VARCHAR(20)  NOT NULL COMMENT '디바이스 유형 (없으면 UNKNOWN)',
+    total_calls            BIGINT       NOT NULL COMMENT '전체 통화 수',
+    completed_calls        BIGINT       NOT NULL COMMENT '완료 통화 수',
+    failed_calls           BIGINT       NOT NULL COMMENT '실패 통화 수',
+    cancelled_calls        BIGINT       NOT NULL COMMENT '취소 통화 수',
+    duration_sum_seconds   BIGINT       NOT NULL COMMENT '통화 시간 합계 (초)',
+    duration_count         BIGINT       NOT NULL COMMENT '통화 시간 집계 건수',
+    long_calls             BIGINT       NOT NULL COMMENT '5분 이상 통화 수',
+    short_calls            BIGINT       NOT NULL COMMENT '30초 미만 통화 수',
+    ai_processing_sum_ms   BIGINT       NOT NULL COMMENT 'AI 처리 시간 합계 (밀리초)',
+    ai_processing_count    BIGINT       NOT NULL COMMENT 'AI 처리 시간 집계 건수',
+    network_quality_sum    BIGINT       NOT NULL COMMENT '네트워크 품질 점수 합계',
+    network_quality_count  BIGINT       NOT NULL COMMENT '네트워크 품질 집계 건수',
+    voice_quality_sum      BIGINT       NOT NULL COMMENT '음성 품질 점수 합계',
+    voice_quality_count    BIGINT       NOT NULL COMMENT '음성 품질 집계 건수',
+    high_quality_calls     BIGINT       NOT NULL COMMENT '고품질 통화 수',
+    positive_emotion_calls BIGINT       NOT NULL COMMENT '긍정 감정 통화 수',
+    negative_emotion_calls BIGINT       NOT NULL COMMENT '부정 감정 통화 수',
+    satisfaction_sum       BIGINT       NOT NULL COMMENT '만족도 합계',
+    satisfaction_count     BIGINT       NOT NULL COMMENT '만족도 집계 건수',
+    high_satisfaction_calls BIGINT      NOT NULL COMMENT '만족도 4점 이상 통화 수',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk01_t_video_call_stats_rollup (granularity, bucket_start, memorial_id, caller_id, call_type, device_type),
+    KEY idx01_t_video_call_stats_rollup (granularity, bucket_start),
+    KEY idx02_t_video_call_stats_rollup (memorial_id, granularity, bucket_start),
+    KEY idx03_t_video_call_stats_rollup (caller_id, granularity, bucket_start)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
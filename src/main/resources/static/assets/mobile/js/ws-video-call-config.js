@@ -206,6 +206,8 @@ window.WS_MESSAGE_TYPES = {
     START_RECORDING: 'START_RECORDING',
     PLAY_RESPONSE_VIDEO: 'PLAY_RESPONSE_VIDEO',
     RESPONSE_VIDEO: 'RESPONSE_VIDEO',
+    PREFETCH_MANIFEST: 'PREFETCH_MANIFEST',
+    RESPONSE_VIDEO_PREFETCH: 'RESPONSE_VIDEO_PREFETCH',
 
     // === 간소화된 영상 이벤트 (클라이언트 → 서버) ===
     WAITING_VIDEO_EVENT: 'WAITING_VIDEO_EVENT', // eventType: "started" | "error"
@@ -14,10 +14,28 @@ class WSVideoWebSocketClient {
         this.messageHandlers = new Map();
         this.lastStateChangeTime = 0;
         this.stateChangeThrottle = 1000;
+        this.prefetchedCacheKeys = new Set();
 
         this.setupMessageHandlers();
     }
 
+    // ========== 영상 프리페치 ==========
+    prefetchVideoAsset(asset) {
+        if (!asset || !asset.url || this.prefetchedCacheKeys.has(asset.cacheKey)) {
+            return;
+        }
+        this.prefetchedCacheKeys.add(asset.cacheKey);
+
+        // 브라우저 HTTP 캐시에 미리 적재 (응답영상은 높은 우선순위)
+        const link = document.createElement('link');
+        link.rel = 'prefetch';
+        link.href = asset.url;
+        link.setAttribute('fetchpriority', asset.role === 'RESPONSE' ? 'high' : 'low');
+        document.head.appendChild(link);
+
+        WS_VIDEO_LOGGER.debug('📦 영상 프리페치:', asset.role, asset.url, asset.sizeBytes);
+    }
+
     // ========== 완성된 메시지 핸들러 ==========
     setupMessageHandlers() {
         // 1. 인증 성공
@@ -127,6 +145,18 @@ class WSVideoWebSocketClient {
         //     }
         // });
 
+        // 5-1. 프리페치 목록 (WAITING 진입 시)
+        this.messageHandlers.set('PREFETCH_MANIFEST', (message) => {
+            const assets = (message.assets || []).slice().sort((a, b) => a.priority - b.priority);
+            assets.forEach(asset => this.prefetchVideoAsset(asset));
+        });
+
+        // 5-2. 응답영상 사전 알림 (PROCESSING 중)
+        this.messageHandlers.set('RESPONSE_VIDEO_PREFETCH', (message) => {
+            WS_VIDEO_LOGGER.info('📦 응답영상 사전 알림 수신:', message.asset && message.asset.url);
+            this.prefetchVideoAsset(message.asset);
+        });
+
         // 6. 하트비트
         this.messageHandlers.set('HEARTBEAT', (message) => {
             WS_VIDEO_STATE.lastHeartbeat = Date.now();
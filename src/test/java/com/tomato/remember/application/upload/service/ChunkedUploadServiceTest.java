@@ -0,0 +1,401 @@
+package com.tomato.remember.application.upload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tomato.remember.application.upload.code.ChunkedUploadState;
+import com.tomato.remember.application.upload.dto.ChunkedUploadStatusResponse;
+import com.tomato.remember.common.code.ResponseStatus;
+import com.tomato.remember.common.exception.APIException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ChunkedUploadService - 조각 순서/병렬 수신, 체크섬/길이 검증, 취소, 회원별 동시 업로드 제한, 후처리 제한 시간
+ */
+class ChunkedUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final Long OWNER = 1L;
+
+    @TempDir
+    Path workDir;
+
+    private ChunkedUploadService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void outOfOrderChunksAssembleOriginalFile() throws Exception {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        AtomicReference<byte[]> assembled = new AtomicReference<>();
+
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> {
+            assembled.set(Files.readAllBytes(file));
+            return "result/video.mp4";
+        });
+        assertThat(started.getTotalChunks()).isEqualTo(3);
+        assertThat(started.getMissingChunks()).containsExactly(0, 1, 2);
+
+        write(started.getUploadId(), content, 2);
+        ChunkedUploadStatusResponse partial = write(started.getUploadId(), content, 0);
+        assertThat(partial.getState()).isEqualTo(ChunkedUploadState.UPLOADING);
+        assertThat(partial.getMissingChunks()).containsExactly(1);
+
+        write(started.getUploadId(), content, 1);
+
+        ChunkedUploadStatusResponse done = awaitFinished(started.getUploadId());
+        assertThat(done.getState()).isEqualTo(ChunkedUploadState.COMPLETED);
+        assertThat(done.getResultKey()).isEqualTo("result/video.mp4");
+        assertThat(assembled.get()).isEqualTo(content);
+    }
+
+    @Test
+    void parallelAndDuplicatedChunksCompleteExactlyOnce() throws Exception {
+        service = newService(1024, 3, 30);
+        byte[] content = new byte[64 * 1024 - 100];
+        new Random(42).nextBytes(content);
+        AtomicInteger completions = new AtomicInteger();
+        AtomicReference<byte[]> assembled = new AtomicReference<>();
+
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> {
+            completions.incrementAndGet();
+            assembled.set(Files.readAllBytes(file));
+            return "result";
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int round = 0; round < 2; round++) {
+                for (int index = 0; index < started.getTotalChunks(); index++) {
+                    int chunk = index;
+                    futures.add(pool.submit(() -> writeChunk(started.getUploadId(), content, chunk, 1024)));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ChunkedUploadStatusResponse done = awaitFinished(started.getUploadId());
+        assertThat(done.getState()).isEqualTo(ChunkedUploadState.COMPLETED);
+        assertThat(done.getReceivedChunks()).isEqualTo(started.getTotalChunks());
+        assertThat(completions).hasValue(1);
+        assertThat(assembled.get()).isEqualTo(content);
+    }
+
+    @Test
+    void resentChunkIsAcknowledgedWithoutReadingBody() {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> "result");
+
+        write(started.getUploadId(), content, 0);
+
+        InputStream unreadable = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("재전송된 조각의 본문은 읽지 않아야 함");
+            }
+        };
+        ChunkedUploadStatusResponse status = service.writeChunk(started.getUploadId(), OWNER, 0,
+            sha256(chunk(content, 0, CHUNK_SIZE)), unreadable);
+        assertThat(status.getMissingChunks()).containsExactly(1, 2);
+    }
+
+    @Test
+    void checksumMismatchLeavesChunkMissingUntilResent() throws Exception {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> "result");
+
+        assertThatThrownBy(() -> service.writeChunk(started.getUploadId(), OWNER, 1,
+            sha256("other".getBytes()), new ByteArrayInputStream(chunk(content, 1, CHUNK_SIZE))))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_CHUNK_CHECKSUM_MISMATCH));
+        assertThat(service.getStatus(started.getUploadId(), OWNER).getMissingChunks()).containsExactly(0, 1, 2);
+
+        write(started.getUploadId(), content, 0);
+        write(started.getUploadId(), content, 1);
+        write(started.getUploadId(), content, 2);
+        assertThat(awaitFinished(started.getUploadId()).getState()).isEqualTo(ChunkedUploadState.COMPLETED);
+    }
+
+    @Test
+    void chunkWithWrongLengthIsRejected() {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> "result");
+
+        byte[] shortChunk = "012".getBytes();
+        assertThatThrownBy(() -> service.writeChunk(started.getUploadId(), OWNER, 0, sha256(shortChunk),
+            new ByteArrayInputStream(shortChunk)))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_CHUNK_INVALID));
+
+        // 마지막 조각은 남은 2바이트만 허용
+        byte[] longLastChunk = "89X".getBytes();
+        assertThatThrownBy(() -> service.writeChunk(started.getUploadId(), OWNER, 2, sha256(longLastChunk),
+            new ByteArrayInputStream(longLastChunk)))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_CHUNK_INVALID));
+
+        assertThatThrownBy(() -> service.writeChunk(started.getUploadId(), OWNER, 3, sha256(shortChunk),
+            new ByteArrayInputStream(shortChunk)))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_CHUNK_INVALID));
+
+        assertThat(service.getStatus(started.getUploadId(), OWNER).getMissingChunks()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void otherOwnerCannotSeeOrWriteUpload() {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> "result");
+
+        assertThatThrownBy(() -> service.getStatus(started.getUploadId(), 2L))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_SESSION_NOT_FOUND));
+        assertThatThrownBy(() -> service.writeChunk(started.getUploadId(), 2L, 0,
+            sha256(chunk(content, 0, CHUNK_SIZE)), new ByteArrayInputStream(chunk(content, 0, CHUNK_SIZE))))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    @Test
+    void abortDeletesWorkFileAndFreesSlot() throws Exception {
+        service = newService(CHUNK_SIZE, 1, 30);
+        byte[] content = "0123456789".getBytes();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> "result");
+        write(started.getUploadId(), content, 0);
+
+        service.abort(started.getUploadId(), OWNER);
+
+        assertThatThrownBy(() -> service.getStatus(started.getUploadId(), OWNER))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_SESSION_NOT_FOUND));
+        try (var files = Files.list(workDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(service.start(OWNER, "next.mp4", content.length, file -> "result").getUploadId()).isNotBlank();
+    }
+
+    @Test
+    void abortDuringChunkWriteClosesSession() throws Exception {
+        service = newService(CHUNK_SIZE, 3, 30);
+        byte[] content = "0123456789".getBytes();
+        AtomicInteger completions = new AtomicInteger();
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> {
+            completions.incrementAndGet();
+            return "result";
+        });
+
+        CountDownLatch firstPartRead = new CountDownLatch(1);
+        CountDownLatch aborted = new CountDownLatch(1);
+        byte[] chunk = chunk(content, 0, CHUNK_SIZE);
+        InputStream slowBody = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == 2) {
+                    firstPartRead.countDown();
+                    try {
+                        aborted.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return position < chunk.length ? chunk[position++] & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                // 한 번에 1바이트씩 내려서 중간에 채널이 닫히도록 함
+                int value = read();
+                if (value == -1) {
+                    return -1;
+                }
+                buffer[offset] = (byte) value;
+                return 1;
+            }
+        };
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<ChunkedUploadStatusResponse> write = writer.submit(() ->
+                service.writeChunk(started.getUploadId(), OWNER, 0, sha256(chunk), slowBody));
+
+            assertThat(firstPartRead.await(5, TimeUnit.SECONDS)).isTrue();
+            service.abort(started.getUploadId(), OWNER);
+            aborted.countDown();
+
+            assertThatThrownBy(() -> write.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(APIException.class)
+                .satisfies(e -> assertThat(((APIException) e.getCause()).getStatus())
+                    .isEqualTo(ResponseStatus.UPLOAD_SESSION_CLOSED));
+        } finally {
+            writer.shutdownNow();
+        }
+
+        assertThat(completions).hasValue(0);
+        try (var files = Files.list(workDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void activeUploadLimitPerOwnerHoldsUnderConcurrentStarts() throws Exception {
+        int limit = 3;
+        service = newService(CHUNK_SIZE, limit, 30);
+        int attempts = 16;
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.await();
+                    try {
+                        service.start(OWNER, "video.mp4", 10, file -> "result");
+                        accepted.incrementAndGet();
+                    } catch (APIException e) {
+                        assertThat(e.getStatus()).isEqualTo(ResponseStatus.TOO_MANY_FILES);
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            ready.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(accepted).hasValue(limit);
+        assertThat(rejected).hasValue(attempts - limit);
+        // 다른 회원은 영향 없음
+        assertThat(service.start(2L, "video.mp4", 10, file -> "result").getUploadId()).isNotBlank();
+    }
+
+    @Test
+    void finishedUploadReleasesSlot() throws Exception {
+        service = newService(CHUNK_SIZE, 1, 30);
+        byte[] content = "0123".getBytes();
+        ChunkedUploadStatusResponse first = service.start(OWNER, "video.mp4", content.length, file -> "result");
+
+        assertThatThrownBy(() -> service.start(OWNER, "second.mp4", content.length, file -> "result"))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.TOO_MANY_FILES));
+
+        write(first.getUploadId(), content, 0);
+        awaitFinished(first.getUploadId());
+
+        assertThat(service.start(OWNER, "second.mp4", content.length, file -> "result").getUploadId()).isNotBlank();
+    }
+
+    @Test
+    void hungCompletionHandlerIsStoppedAfterProcessingTimeout() throws Exception {
+        service = newService(CHUNK_SIZE, 3, 0);
+        byte[] content = "0123".getBytes();
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerInterrupted = new CountDownLatch(1);
+
+        ChunkedUploadStatusResponse started = service.start(OWNER, "video.mp4", content.length, file -> {
+            handlerStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                handlerInterrupted.countDown();
+                throw e;
+            }
+            return "never";
+        });
+        write(started.getUploadId(), content, 0);
+        assertThat(handlerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.getStatus(started.getUploadId(), OWNER).getState()).isEqualTo(ChunkedUploadState.PROCESSING);
+
+        Thread.sleep(5);
+        service.cleanupExpired();
+
+        assertThat(handlerInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> service.getStatus(started.getUploadId(), OWNER))
+            .isInstanceOfSatisfying(APIException.class,
+                e -> assertThat(e.getStatus()).isEqualTo(ResponseStatus.UPLOAD_SESSION_NOT_FOUND));
+    }
+
+    private ChunkedUploadService newService(int chunkSize, int maxActivePerOwner, long processingTimeoutMinutes) {
+        try {
+            return new ChunkedUploadService(workDir.toString(), chunkSize, 1024L * 1024, 60,
+                maxActivePerOwner, processingTimeoutMinutes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ChunkedUploadStatusResponse write(String uploadId, byte[] content, int index) {
+        return writeChunk(uploadId, content, index, CHUNK_SIZE);
+    }
+
+    private ChunkedUploadStatusResponse writeChunk(String uploadId, byte[] content, int index, int chunkSize) {
+        byte[] chunk = chunk(content, index, chunkSize);
+        return service.writeChunk(uploadId, OWNER, index, sha256(chunk), new ByteArrayInputStream(chunk));
+    }
+
+    private ChunkedUploadStatusResponse awaitFinished(String uploadId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ChunkedUploadStatusResponse status = service.getStatus(uploadId, OWNER);
+        while (status.getState() == ChunkedUploadState.PROCESSING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = service.getStatus(uploadId, OWNER);
+        }
+        return status;
+    }
+
+    private static byte[] chunk(byte[] content, int index, int chunkSize) {
+        int from = index * chunkSize;
+        return Arrays.copyOfRange(content, from, Math.min(content.length, from + chunkSize));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.tomato.remember.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tomato.remember.common.code.StorageCategory;
+import com.tomato.remember.common.dto.DirectUploadResponse;
+import com.tomato.remember.common.exception.APIException;
+import com.tomato.remember.common.metrics.VideoCallMetrics;
+import com.tomato.remember.common.util.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+/**
+ * S3ObjectStorage / 직접 업로드 키 검증 - MinIO 컨테이너 대상 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ObjectStorageMinioTest {
+
+    private static final String BUCKET = "remember-test";
+    private static final String REGION = "us-east-1";
+
+    @Container
+    private static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3ObjectStorage storage;
+    private static FileStorageService fileStorageService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        try (S3Client admin = S3Client.builder()
+            .endpointOverride(URI.create(MINIO.getS3URL()))
+            .region(Region.of(REGION))
+            .credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            .build()) {
+            admin.createBucket(builder -> builder.bucket(BUCKET));
+        }
+
+        storage = new S3ObjectStorage(MINIO.getS3URL(), REGION, BUCKET,
+            MINIO.getUserName(), MINIO.getPassword(), true, "");
+
+        fileStorageService = new FileStorageService(storage, new VideoCallMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(fileStorageService, "presignTtlSeconds", 300L);
+        ReflectionTestUtils.setField(fileStorageService, "maxDirectUploadBytes", 10L * 1024 * 1024);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void putStreamThenStatAndDelete() throws Exception {
+        byte[] body = "hello minio".getBytes(StandardCharsets.UTF_8);
+
+        storage.put("test/stream.txt", new ByteArrayInputStream(body), body.length, "text/plain");
+
+        StoredObject stored = storage.stat("test/stream.txt").orElseThrow();
+        assertThat(stored.size()).isEqualTo(body.length);
+        assertThat(stored.contentType()).isEqualTo("text/plain");
+
+        assertThat(storage.delete("test/stream.txt")).isTrue();
+        assertThat(storage.stat("test/stream.txt")).isEmpty();
+        assertThat(storage.delete("test/stream.txt")).isFalse();
+    }
+
+    @Test
+    void putUnknownSizeStreamAndFileThenDownload() throws Exception {
+        byte[] body = "unknown size".getBytes(StandardCharsets.UTF_8);
+        storage.put("test/unknown.txt", new ByteArrayInputStream(body), -1, "text/plain");
+        assertThat(storage.stat("test/unknown.txt").orElseThrow().size()).isEqualTo(body.length);
+
+        Path source = Files.write(tempDir.resolve("source.bin"), new byte[]{1, 2, 3, 4, 5});
+        storage.put("test/file.bin", source, "application/octet-stream");
+
+        Path downloaded = tempDir.resolve("downloaded.bin");
+        storage.download("test/file.bin", downloaded);
+        assertThat(Files.readAllBytes(downloaded)).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void statOfMissingKeyIsEmpty() {
+        assertThat(storage.stat("test/missing.txt")).isEmpty();
+    }
+
+    @Test
+    void publicUrlRoundTripsToKey() {
+        String url = storage.publicUrl("memorial/2026/10/1/a.mp4");
+        assertThat(storage.keyOf(url)).isEqualTo("memorial/2026/10/1/a.mp4");
+        assertThat(storage.keyOf("https://elsewhere.example.com/memorial/a.mp4")).isNull();
+    }
+
+    @Test
+    void presignedPutUploadsDirectlyToBucket() throws Exception {
+        byte[] body = "presigned upload".getBytes(StandardCharsets.UTF_8);
+
+        PresignedUpload upload = storage.presignPut("test/presigned.txt", "text/plain", body.length,
+            Duration.ofMinutes(5));
+
+        assertThat(upload.method()).isEqualTo("PUT");
+        assertThat(upload.expiresAt()).isAfter(Instant.now());
+        assertThat(upload.headers()).doesNotContainKeys("host", "Host", "content-length", "Content-Length");
+
+        assertThat(put(upload, body)).isEqualTo(200);
+        assertThat(storage.stat("test/presigned.txt").orElseThrow().size()).isEqualTo(body.length);
+    }
+
+    @Test
+    void presignedVideoCallUploadKeyBelongsOnlyToItsSession() throws Exception {
+        byte[] body = new byte[1024];
+
+        DirectUploadResponse response = fileStorageService.presignVideoCallUpload("MVC_A", "record.webm", body.length);
+
+        assertThat(response.isDirect()).isTrue();
+        String key = response.getKey();
+        assertThat(fileStorageService.isVideoCallUploadKeyOf(key, "MVC_A")).isTrue();
+        assertThat(fileStorageService.isVideoCallUploadKeyOf(key, "MVC_B")).isFalse();
+
+        assertThat(put(new PresignedUpload(response.getUploadUrl(), response.getMethod(),
+            response.getHeaders(), response.getExpiresAt()), body)).isEqualTo(200);
+        assertThat(fileStorageService.getUploadedObject(key).size()).isEqualTo(body.length);
+    }
+
+    @Test
+    void videoCallUploadKeyRejectsForeignOrCraftedKeys() {
+        assertThat(fileStorageService.isVideoCallUploadKeyOf(null, "MVC_A")).isFalse();
+        // 변환 결과 파일(upload_ 접두사 없음)은 완료 통지 대상이 아님
+        assertThat(fileStorageService.isVideoCallUploadKeyOf("videocall/2026/10/19/MVC_A/result.mp4", "MVC_A")).isFalse();
+        assertThat(fileStorageService.isVideoCallUploadKeyOf("videocall/2026/10/19/MVC_A/../MVC_B/upload_x.webm", "MVC_A")).isFalse();
+        assertThat(fileStorageService.isVideoCallUploadKeyOf("memorial/2026/10/19/MVC_A/upload_x.webm", "MVC_A")).isFalse();
+        assertThat(fileStorageService.isVideoCallUploadKeyOf("videocall/2026/10/MVC_A/upload_x.webm", "MVC_A")).isFalse();
+    }
+
+    @Test
+    void presignedMemorialUploadKeyBelongsOnlyToItsPost() {
+        DirectUploadResponse response = fileStorageService.presignVideoUpload(StorageCategory.MEMORIAL, 42L, "video.mp4", 2048);
+
+        String key = response.getKey();
+        assertThat(fileStorageService.isUploadKeyOf(key, StorageCategory.MEMORIAL, 42L)).isTrue();
+        assertThat(fileStorageService.isUploadKeyOf(key, StorageCategory.MEMORIAL, 43L)).isFalse();
+        assertThat(fileStorageService.isUploadKeyOf(key, StorageCategory.VIDEO_CALL, 42L)).isFalse();
+        assertThat(fileStorageService.isUploadKeyOf("memorial/2026/10/42/../x.mp4", StorageCategory.MEMORIAL, 42L)).isFalse();
+        assertThat(fileStorageService.isUploadKeyOf(null, StorageCategory.MEMORIAL, 42L)).isFalse();
+    }
+
+    @Test
+    void presignRejectsOversizedOrUnsupportedVideo() {
+        assertThatThrownBy(() -> fileStorageService.presignVideoUpload(StorageCategory.MEMORIAL, 1L, "a.exe", 10))
+            .isInstanceOf(APIException.class);
+        assertThatThrownBy(() -> fileStorageService.presignVideoUpload(StorageCategory.MEMORIAL, 1L, "a.mp4", 11L * 1024 * 1024))
+            .isInstanceOf(APIException.class);
+        assertThatThrownBy(() -> fileStorageService.presignVideoCallUpload("MVC_A", "a.webm", 51L * 1024 * 1024))
+            .isInstanceOf(APIException.class);
+    }
+
+    @Test
+    void uploadedObjectMustExist() {
+        assertThatThrownBy(() -> fileStorageService.getUploadedObject("videocall/2026/10/19/MVC_A/upload_missing.webm"))
+            .isInstanceOf(APIException.class);
+    }
+
+    private static int put(PresignedUpload upload, byte[] body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.url()))
+            .method(upload.method(), HttpRequest.BodyPublishers.ofByteArray(body));
+        upload.headers().forEach(request::header);
+        return HttpClient.newHttpClient()
+            .send(request.build(), HttpResponse.BodyHandlers.discarding())
+            .statusCode();
+    }
+}